@@ -0,0 +1,193 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.benchmark;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import com.ibm.watson.developer_cloud.dialog.v1.model.ConversationData;
+import com.ibm.watson.developer_cloud.dialog.v1.model.HitNode;
+import com.ibm.watson.developer_cloud.dialog.v1.model.Message;
+import com.ibm.watson.developer_cloud.dialog.v1.model.NameValue;
+import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationModel;
+import com.ibm.watson.developer_cloud.personality_insights.v2.model.Content;
+import com.ibm.watson.developer_cloud.personality_insights.v2.model.ContentItem;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechAlternative;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechResults;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechTimestamp;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.Transcript;
+
+/**
+ * Representative models used by the benchmarks.
+ */
+final class BenchmarkData {
+
+	/** The UTF-8 charset. */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/**
+	 * Private constructor.
+	 */
+	private BenchmarkData() {
+	}
+
+	/**
+	 * Returns the UTF-8 bytes of a string.
+	 *
+	 * @param text the text
+	 * @return the bytes
+	 */
+	static byte[] toBytes(String text) {
+		return text.getBytes(UTF_8);
+	}
+
+	/**
+	 * Creates a translation model.
+	 *
+	 * @param modelId the model id
+	 * @return the translation model
+	 */
+	static TranslationModel translationModel(String modelId) {
+		TranslationModel model = new TranslationModel();
+		model.setModelId(modelId);
+		model.setBaseModelId(modelId);
+		model.setName(modelId);
+		model.setSource("en");
+		model.setTarget("es");
+		model.setDomain("news");
+		model.setOwner("benchmark");
+		model.setStatus("available");
+		model.setCustomizable(true);
+		model.setDefaultModel(true);
+		return model;
+	}
+
+	/**
+	 * Creates a list of translation models.
+	 *
+	 * @param count the number of models
+	 * @return the translation models
+	 */
+	static List<TranslationModel> translationModels(int count) {
+		List<TranslationModel> models = new ArrayList<TranslationModel>(count);
+		for (int i = 0; i < count; i++)
+			models.add(translationModel("model-" + i));
+		return models;
+	}
+
+	/**
+	 * Creates a conversation with a few messages.
+	 *
+	 * @param conversationId the conversation id
+	 * @return the conversation data
+	 */
+	static ConversationData conversation(int conversationId) {
+		List<Message> messages = new ArrayList<Message>();
+		for (int i = 0; i < 4; i++) {
+			Message message = new Message();
+			message.setText("Message " + i + " of the conversation " + conversationId);
+			message.setDateTime(new Date(1420070400000L + i * 1000L));
+			message.setFromClient(String.valueOf(i % 2 == 0));
+			messages.add(message);
+		}
+
+		List<HitNode> hitNodes = new ArrayList<HitNode>();
+		HitNode node = new HitNode();
+		node.setNodeId(conversationId);
+		node.setLabel("node");
+		node.setType("output");
+		node.setDetails("details");
+		hitNodes.add(node);
+
+		List<NameValue> profile = new ArrayList<NameValue>();
+		profile.add(new NameValue("size", "large"));
+		profile.add(new NameValue("toppings", "onions, pepperoni, cheese"));
+
+		ConversationData conversation = new ConversationData();
+		conversation.setConversationId(conversationId);
+		conversation.setClientId(Integer.valueOf(conversationId));
+		conversation.setMessages(messages);
+		conversation.setHitNodes(hitNodes);
+		conversation.setProfile(profile);
+		return conversation;
+	}
+
+	/**
+	 * Creates a list of conversations.
+	 *
+	 * @param count the number of conversations
+	 * @return the conversations
+	 */
+	static List<ConversationData> conversations(int count) {
+		List<ConversationData> conversations = new ArrayList<ConversationData>(count);
+		for (int i = 0; i < count; i++)
+			conversations.add(conversation(i));
+		return conversations;
+	}
+
+	/**
+	 * Creates the content of a personality insights request.
+	 *
+	 * @param count the number of content items
+	 * @return the content
+	 */
+	static Content content(int count) {
+		Content content = new Content();
+		for (int i = 0; i < count; i++) {
+			ContentItem item = new ContentItem();
+			item.setId("item-" + i);
+			item.setUserid("benchmark");
+			item.setContenttype("text/plain");
+			item.setLanguage("en");
+			item.setCreated(new Date(1420070400000L + i * 1000L));
+			item.setContent("Content item " + i + " written by a benchmark to measure how requests are serialized.");
+			content.addContentItem(item);
+		}
+		return content;
+	}
+
+	/**
+	 * Creates the results of a recognition with word timestamps.
+	 *
+	 * @param count the number of transcripts
+	 * @return the speech results
+	 */
+	static SpeechResults speechResults(int count) {
+		List<Transcript> transcripts = new ArrayList<Transcript>(count);
+		String[] words = { "several", "tornadoes", "touched", "down", "as", "a", "line", "of", "storms" };
+		for (int i = 0; i < count; i++) {
+			List<SpeechTimestamp> timestamps = new ArrayList<SpeechTimestamp>(words.length);
+			for (int w = 0; w < words.length; w++)
+				timestamps.add(new SpeechTimestamp(words[w], i * 5 + w * 0.5, i * 5 + w * 0.5 + 0.4));
+			SpeechAlternative alternative = new SpeechAlternative();
+			alternative.setTranscript("several tornadoes touched down as a line of storms ");
+			alternative.setConfidence(0.9);
+			alternative.setTimestamps(timestamps);
+
+			Transcript transcript = new Transcript();
+			transcript.setFinal(true);
+			transcript.setAlternatives(Collections.singletonList(alternative));
+			transcripts.add(transcript);
+		}
+		SpeechResults results = new SpeechResults();
+		results.setResults(transcripts);
+		return results;
+	}
+
+}
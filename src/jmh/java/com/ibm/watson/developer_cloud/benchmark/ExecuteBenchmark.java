@@ -0,0 +1,157 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.benchmark;
+
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Header;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.language_translation.v2.LanguageTranslation;
+import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationModel;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
+import com.ibm.watson.developer_cloud.util.MediaType;
+
+/**
+ * Benchmarks the end-to-end throughput of a service call (request creation,
+ * execution, and response parsing) against a local MockServer at several
+ * concurrency levels. All the threads share the same service, and therefore
+ * the same connection pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecuteBenchmark {
+
+	/** The mock server. */
+	private ClientAndServer mockServer;
+
+	/** The service. */
+	private LanguageTranslation service;
+
+	/**
+	 * Starts the mock server and configures the service.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Setup
+	public void setup() throws IOException {
+		final int port = getFreePort();
+		mockServer = startClientAndServer(port);
+
+		JsonObject models = new JsonObject();
+		models.add("models", GsonSingleton.getGson().toJsonTree(BenchmarkData.translationModels(20)));
+		mockServer.when(request().withMethod("GET").withPath("/v2/models")).respond(
+				response().withHeaders(new Header("Content-Type", MediaType.APPLICATION_JSON))
+						.withBody(models.toString()));
+
+		service = new LanguageTranslation();
+		service.setUsernameAndPassword("username", "password");
+		service.setEndPoint("http://localhost:" + port);
+	}
+
+	/**
+	 * Stops the mock server and releases the connections.
+	 */
+	@TearDown
+	public void tearDown() {
+		service.close();
+		mockServer.stop();
+	}
+
+	/**
+	 * Returns a port that is not in use.
+	 *
+	 * @return the port
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private static int getFreePort() throws IOException {
+		ServerSocket socket = new ServerSocket(0);
+		try {
+			return socket.getLocalPort();
+		} finally {
+			socket.close();
+		}
+	}
+
+	/**
+	 * Executes a call from a single thread.
+	 *
+	 * @return the models
+	 */
+	@Benchmark
+	@Threads(1)
+	public List<TranslationModel> execute1() {
+		return service.getModels();
+	}
+
+	/**
+	 * Executes calls from 4 threads.
+	 *
+	 * @return the models
+	 */
+	@Benchmark
+	@Threads(4)
+	public List<TranslationModel> execute4() {
+		return service.getModels();
+	}
+
+	/**
+	 * Executes calls from 16 threads.
+	 *
+	 * @return the models
+	 */
+	@Benchmark
+	@Threads(16)
+	public List<TranslationModel> execute16() {
+		return service.getModels();
+	}
+
+	/**
+	 * Executes calls from 64 threads.
+	 *
+	 * @return the models
+	 */
+	@Benchmark
+	@Threads(64)
+	public List<TranslationModel> execute64() {
+		return service.getModels();
+	}
+
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.benchmark;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.ibm.watson.developer_cloud.dialog.v1.model.ConversationData;
+import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationModel;
+import com.ibm.watson.developer_cloud.service.model.GenericModel;
+
+/**
+ * Benchmarks {@link GenericModel#equals(Object)} and
+ * {@link GenericModel#hashCode()} for a flat model and a nested one. The
+ * <code>*Json</code> benchmarks compare the same models by rendering them to
+ * pretty printed JSON, which is how models used to be compared.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenericModelBenchmark {
+
+	/** The Constant PRETTY_GSON, configured like the models used to be rendered. */
+	private static final Gson PRETTY_GSON = new GsonBuilder().setPrettyPrinting()
+			.setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+
+	/** The model. */
+	private TranslationModel model;
+
+	/** A model equal to {@link #model}. */
+	private TranslationModel sameModel;
+
+	/** The conversation. */
+	private ConversationData conversation;
+
+	/** A conversation equal to {@link #conversation}. */
+	private ConversationData sameConversation;
+
+	/** A set of conversations. */
+	private Set<ConversationData> conversations;
+
+	/**
+	 * Creates the models.
+	 */
+	@Setup
+	public void setup() {
+		model = BenchmarkData.translationModel("en-es");
+		sameModel = BenchmarkData.translationModel("en-es");
+		conversation = BenchmarkData.conversation(1);
+		sameConversation = BenchmarkData.conversation(1);
+		conversations = new HashSet<ConversationData>(BenchmarkData.conversations(64));
+	}
+
+	/**
+	 * Compares two flat models.
+	 *
+	 * @return true if the models are equal
+	 */
+	@Benchmark
+	public boolean equalsFlat() {
+		return model.equals(sameModel);
+	}
+
+	/**
+	 * Hashes a flat model.
+	 *
+	 * @return the hash code
+	 */
+	@Benchmark
+	public int hashCodeFlat() {
+		return model.hashCode();
+	}
+
+	/**
+	 * Compares two nested models.
+	 *
+	 * @return true if the models are equal
+	 */
+	@Benchmark
+	public boolean equalsNested() {
+		return conversation.equals(sameConversation);
+	}
+
+	/**
+	 * Hashes a nested model.
+	 *
+	 * @return the hash code
+	 */
+	@Benchmark
+	public int hashCodeNested() {
+		return conversation.hashCode();
+	}
+
+	/**
+	 * Looks up a nested model in a hash set.
+	 *
+	 * @return true if the set contains the model
+	 */
+	@Benchmark
+	public boolean hashSetContains() {
+		return conversations.contains(sameConversation);
+	}
+
+	/**
+	 * Compares two flat models by their JSON.
+	 *
+	 * @return true if the models are equal
+	 */
+	@Benchmark
+	public boolean equalsFlatJson() {
+		return toJson(model).equals(toJson(sameModel));
+	}
+
+	/**
+	 * Hashes a flat model by its JSON.
+	 *
+	 * @return the hash code
+	 */
+	@Benchmark
+	public int hashCodeFlatJson() {
+		return toJson(model).hashCode();
+	}
+
+	/**
+	 * Compares two nested models by their JSON.
+	 *
+	 * @return true if the models are equal
+	 */
+	@Benchmark
+	public boolean equalsNestedJson() {
+		return toJson(conversation).equals(toJson(sameConversation));
+	}
+
+	/**
+	 * Hashes a nested model by its JSON.
+	 *
+	 * @return the hash code
+	 */
+	@Benchmark
+	public int hashCodeNestedJson() {
+		return toJson(conversation).hashCode();
+	}
+
+	/**
+	 * Renders a model to pretty printed JSON.
+	 *
+	 * @param model the model
+	 * @return the JSON
+	 */
+	private static String toJson(GenericModel model) {
+		return PRETTY_GSON.toJson(model);
+	}
+
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.ibm.watson.developer_cloud.personality_insights.v2.model.Content;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechResults;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
+
+/**
+ * Benchmarks the shared {@link Gson} of {@link GsonSingleton}. The
+ * <code>pretty</code> benchmarks use the pretty printing configuration the
+ * shared instance used to have; {@link #setup()} prints the size of the
+ * request body written by both, since the white space was sent on the wire.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GsonBenchmark {
+
+	/** The Constant PRETTY_GSON, configured like the shared gson used to be. */
+	private static final Gson PRETTY_GSON = new GsonBuilder().setPrettyPrinting()
+			.setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+
+	/** The content of a personality insights request. */
+	private Content content;
+
+	/** The JSON of speech results with timestamps. */
+	private String speechResultsJson;
+
+	/**
+	 * Creates the models.
+	 */
+	@Setup
+	public void setup() {
+		content = BenchmarkData.content(50);
+		speechResultsJson = GsonSingleton.getGson().toJson(BenchmarkData.speechResults(20));
+		System.out.println("content: " + BenchmarkData.toBytes(toJson()).length + " bytes, pretty printed: "
+				+ BenchmarkData.toBytes(toJsonPretty()).length + " bytes");
+	}
+
+	/**
+	 * Serializes a request body with the shared gson.
+	 *
+	 * @return the JSON
+	 */
+	@Benchmark
+	public String toJson() {
+		return GsonSingleton.getGson().toJson(content);
+	}
+
+	/**
+	 * Serializes a request body with pretty printing.
+	 *
+	 * @return the JSON
+	 */
+	@Benchmark
+	public String toJsonPretty() {
+		return PRETTY_GSON.toJson(content);
+	}
+
+	/**
+	 * Parses speech results, with the streaming transcript adapter.
+	 *
+	 * @return the speech results
+	 */
+	@Benchmark
+	public SpeechResults fromJsonSpeechResults() {
+		return GsonSingleton.getGson().fromJson(speechResultsJson, SpeechResults.class);
+	}
+
+}
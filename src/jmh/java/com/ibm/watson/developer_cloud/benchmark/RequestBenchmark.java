@@ -0,0 +1,223 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.benchmark;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.NameValuePair;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.message.BasicNameValuePair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.alchemy.v1.AlchemyLanguage;
+import com.ibm.watson.developer_cloud.service.Request;
+import com.ibm.watson.developer_cloud.util.RequestUtil;
+
+/**
+ * Benchmarks the creation of HTTP requests: {@link Request#build()},
+ * {@link RequestUtil#formatQueryString(List, String)} and the Alchemy api key.
+ * The *URLEncoder and *Concat variants reproduce the previous implementations
+ * to compare with. Run with the GC profiler to see the bytes allocated per
+ * request (gc.alloc.rate.norm):
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="RequestBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBenchmark {
+
+	/** The query parameters. */
+	private List<NameValuePair> query;
+
+	/** The JSON content. */
+	private JsonObject content;
+
+	/** The Alchemy api key. */
+	private String apiKey;
+
+	/** The Alchemy service. */
+	private AuthenticatedAlchemy alchemy;
+
+	/**
+	 * Exposes the authentication of an Alchemy service.
+	 */
+	private static class AuthenticatedAlchemy extends AlchemyLanguage {
+
+		/**
+		 * Adds the end point and the api key to a request.
+		 *
+		 * @param request the request
+		 * @return the request
+		 */
+		HttpRequestBase authenticate(HttpRequestBase request) {
+			setAuthentication(request);
+			return request;
+		}
+	}
+
+	/**
+	 * Creates the request parameters.
+	 */
+	@Setup
+	public void setup() {
+		query = new ArrayList<NameValuePair>();
+		query.add(new BasicNameValuePair("model_id", "en-es"));
+		query.add(new BasicNameValuePair("text", "Hello world, how are you today?"));
+		query.add(new BasicNameValuePair("source", "en"));
+		query.add(new BasicNameValuePair("target", "es"));
+		query.add(new BasicNameValuePair("default", "true"));
+
+		content = new JsonObject();
+		content.addProperty("model_id", "en-es");
+		content.addProperty("text", "Hello world, how are you today?");
+
+		apiKey = "0123456789abcdef0123456789abcdef01234567";
+		alchemy = new AuthenticatedAlchemy();
+		alchemy.setApiKey(apiKey);
+	}
+
+	/**
+	 * Builds a GET request with query parameters.
+	 *
+	 * @return the request
+	 */
+	@Benchmark
+	public HttpRequestBase buildGet() {
+		return Request.Get("/v2/models")
+				.withQuery("source", "en", "target", "es", "default", true)
+				.build();
+	}
+
+	/**
+	 * Builds a GET request with a formatted path.
+	 *
+	 * @return the request
+	 */
+	@Benchmark
+	public HttpRequestBase buildGetWithPathArgs() {
+		return Request.Get("/v1/dialogs/%s/conversation", "4b8e8e52-9a4f-4d38-b4b1-0a0bf0a1e1f3")
+				.withQuery("date_from", "2015-01-01 00:00:00", "date_to", "2015-01-31 00:00:00")
+				.build();
+	}
+
+	/**
+	 * Builds a POST request with JSON content.
+	 *
+	 * @return the request
+	 */
+	@Benchmark
+	public HttpRequestBase buildPost() {
+		return Request.Post("/v2/translate")
+				.withContent(content)
+				.build();
+	}
+
+	/**
+	 * Formats a query string.
+	 *
+	 * @return the query string
+	 */
+	@Benchmark
+	public String formatQueryString() {
+		return RequestUtil.formatQueryString(query, "UTF-8");
+	}
+
+	/**
+	 * Formats a query string with {@link URLEncoder}, resolving the charset of
+	 * every name and value.
+	 *
+	 * @return the query string
+	 * @throws UnsupportedEncodingException the unsupported encoding exception
+	 */
+	@Benchmark
+	public String formatQueryStringURLEncoder() throws UnsupportedEncodingException {
+		final StringBuilder result = new StringBuilder();
+		for (final NameValuePair parameter : query) {
+			final String encodedName = URLEncoder.encode(parameter.getName(), "UTF-8");
+			final String value = parameter.getValue();
+			final String encodedValue = value != null ? URLEncoder.encode(value, "UTF-8") : "";
+			if (result.length() > 0)
+				result.append("&");
+			result.append(encodedName);
+			if (value != null)
+				result.append("=").append(encodedValue);
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Builds a POST request with form parameters.
+	 *
+	 * @return the request
+	 */
+	@Benchmark
+	public HttpRequestBase buildPostForm() {
+		return Request.Post("/text/TextGetRankedKeywords")
+				.withForm("text", "Hello world, how are you today?", "maxRetrieve", 10, "outputMode", "json")
+				.build();
+	}
+
+	/**
+	 * Builds an Alchemy request and adds the end point and the api key to its
+	 * URI.
+	 *
+	 * @return the request
+	 */
+	@Benchmark
+	public HttpRequestBase alchemyAuthentication() {
+		return alchemy.authenticate(Request.Post("/text/TextGetRankedKeywords").build());
+	}
+
+	/**
+	 * Builds an Alchemy request and adds the api key and then the end point,
+	 * creating the URI after each step.
+	 *
+	 * @return the request
+	 */
+	@Benchmark
+	public HttpRequestBase alchemyAuthenticationConcat() {
+		final HttpRequestBase request = Request.Post("/text/TextGetRankedKeywords").build();
+		final String apiKeyParam = new StringBuilder().append("apikey").append("=").append(apiKey).toString();
+		final String query = request.getURI().getQuery();
+		if (query == null || query.length() == 0)
+			request.setURI(URI.create(request.getURI() + "?" + apiKeyParam));
+		else
+			request.setURI(URI.create(request.getURI() + "&" + apiKeyParam));
+		request.setURI(URI.create(alchemy.getEndPoint() + request.getURI()));
+		return request;
+	}
+
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.benchmark;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.message.BasicHttpResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import com.ibm.watson.developer_cloud.dialog.v1.model.ConversationData;
+import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationModel;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
+import com.ibm.watson.developer_cloud.util.ResponseUtil;
+
+/**
+ * Benchmarks the parsing of service responses with
+ * {@link ResponseUtil#getObject(HttpResponse, Class)}. The <code>buffered</code>
+ * benchmarks parse the responses the way the client did before responses were
+ * streamed, reading the body into a {@link String} first. Run with
+ * <code>-prof gc</code> to compare the allocation rate of both approaches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseUtilBenchmark {
+
+	/** The list conversation data type. */
+	private static final Type listConversationDataType = new TypeToken<List<ConversationData>>() {}.getType();
+
+	/** The number of records in each response. */
+	@Param({ "10", "1000" })
+	private int records;
+
+	/** The conversations response. */
+	private byte[] conversations;
+
+	/** The translation model response. */
+	private byte[] model;
+
+	/**
+	 * Creates the response bodies.
+	 */
+	@Setup
+	public void setup() {
+		JsonObject json = new JsonObject();
+		json.add("conversations", GsonSingleton.getGson().toJsonTree(BenchmarkData.conversations(records)));
+		conversations = BenchmarkData.toBytes(json.toString());
+		model = BenchmarkData.toBytes(GsonSingleton.getGson().toJson(BenchmarkData.translationModel("en-es")));
+	}
+
+	/**
+	 * Creates a response with a JSON body.
+	 *
+	 * @param body the body
+	 * @return the http response
+	 */
+	private static HttpResponse response(byte[] body) {
+		HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+		response.setEntity(new ByteArrayEntity(body, ContentType.APPLICATION_JSON));
+		return response;
+	}
+
+	/**
+	 * Parses a single model.
+	 *
+	 * @return the translation model
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public TranslationModel getObject() throws IOException {
+		return ResponseUtil.getObject(response(model), TranslationModel.class);
+	}
+
+	/**
+	 * Parses a single model reading the body into a String first.
+	 *
+	 * @return the translation model
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public TranslationModel getObjectBuffered() throws IOException {
+		String json = ResponseUtil.getString(response(model));
+		return GsonSingleton.getGson().fromJson(json, TranslationModel.class);
+	}
+
+	/**
+	 * Parses the list of conversations.
+	 *
+	 * @return the conversations
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public List<ConversationData> getConversations() throws IOException {
+		return ResponseUtil.getObject(response(conversations), "conversations", listConversationDataType);
+	}
+
+	/**
+	 * Parses the list of conversations reading the body into a String and a
+	 * JSON tree first.
+	 *
+	 * @return the conversations
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Benchmark
+	public List<ConversationData> getConversationsBuffered() throws IOException {
+		String json = ResponseUtil.getString(response(conversations));
+		JsonObject jsonObject = new JsonParser().parse(json).getAsJsonObject();
+		return GsonSingleton.getGson().fromJson(jsonObject.get("conversations"), listConversationDataType);
+	}
+
+}
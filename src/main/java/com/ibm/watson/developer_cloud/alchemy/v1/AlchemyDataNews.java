@@ -15,17 +15,18 @@
  */
 package com.ibm.watson.developer_cloud.alchemy.v1;
 
-import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 
-import org.apache.http.HttpResponse;
-import org.apache.http.client.methods.HttpRequestBase;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Document;
+import com.ibm.watson.developer_cloud.alchemy.v1.model.Documents;
 import com.ibm.watson.developer_cloud.alchemy.v1.model.DocumentsResult;
 import com.ibm.watson.developer_cloud.alchemy.v1.model.VolumeResult;
 import com.ibm.watson.developer_cloud.service.AlchemyService;
+import com.ibm.watson.developer_cloud.service.PagedIterator;
 import com.ibm.watson.developer_cloud.service.Request;
-import com.ibm.watson.developer_cloud.util.ResponseUtil;
 import com.ibm.watson.developer_cloud.util.Validate;
 
 /**
@@ -68,6 +69,11 @@ public class AlchemyDataNews extends AlchemyService {
 	/** The Constant NEWS_END_POINT. */
 	private static final String NEWS_END_POINT = "/data/GetNews";
 
+	/**
+	 * The Constant NEXT. the token of the next page of results
+	 */
+	public static final String NEXT = "next";
+
 	/** The Constant RETURN. */
 	public static final String RETURN = "return";
 
@@ -92,6 +98,27 @@ public class AlchemyDataNews extends AlchemyService {
 	 * @return the news documents
 	 */
 	public DocumentsResult getNewsDocuments(Map<String, Object> parameters) {
+		return executeRequest(buildNewsDocumentsRequest(parameters), DocumentsResult.class);
+	}
+
+	/**
+	 * Gets the news documents without blocking the calling thread.
+	 *
+	 * @param parameters the parameters
+	 * @return the future news documents
+	 * @see #getNewsDocuments(Map)
+	 */
+	public ListenableFuture<DocumentsResult> getNewsDocumentsAsync(Map<String, Object> parameters) {
+		return executeRequestAsync(buildNewsDocumentsRequest(parameters), DocumentsResult.class);
+	}
+
+	/**
+	 * Builds the news documents request.
+	 *
+	 * @param parameters the parameters
+	 * @return the request
+	 */
+	private Request buildNewsDocumentsRequest(Map<String, Object> parameters) {
 		Validate.notNull(parameters.get(START), "start time can't be null");
 		Validate.notNull(parameters.get(END), "end time can't be null");
 		Validate.notNull(parameters.get(RETURN), "return can't be null");
@@ -106,14 +133,38 @@ public class AlchemyDataNews extends AlchemyService {
 		for (String param : parameters.keySet()) {
 			request.withQuery(param, parameters.get(param));
 		}
+		return request;
+	}
 
-		HttpRequestBase requestBase = request.build();
-		try {
-			HttpResponse response = execute(requestBase);
-			return ResponseUtil.getObject(response, DocumentsResult.class);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+	/**
+	 * Returns a lazy iterator over the news documents. The pages of results are
+	 * requested as the iterator advances using the {@link #NEXT} token, and
+	 * the next page is requested in the background while the current one is
+	 * consumed.
+	 *
+	 * @param parameters the parameters, same as {@link #getNewsDocuments(Map)}
+	 * @return an iterator of news documents
+	 * @see PagedIterator
+	 */
+	public PagedIterator<Document> getNewsDocumentIterator(final Map<String, Object> parameters) {
+		Validate.notNull(parameters.get(START), "start time can't be null");
+		Validate.notNull(parameters.get(END), "end time can't be null");
+		Validate.notNull(parameters.get(RETURN), "return can't be null");
+
+		final Map<String, Object> params = new HashMap<String, Object>(parameters);
+		return new PagedIterator<Document>() {
+			@Override
+			protected Page<Document> getPage(String cursor) {
+				final Map<String, Object> pageParams = new HashMap<String, Object>(params);
+				if (cursor != null)
+					pageParams.put(NEXT, cursor);
+
+				final Documents documents = getNewsDocuments(pageParams).getDocuments();
+				if (documents == null)
+					return new Page<Document>(null, null);
+				return new Page<Document>(documents.getDocs(), documents.getNext());
+			}
+		};
 	}
 
 	/**
@@ -125,6 +176,32 @@ public class AlchemyDataNews extends AlchemyService {
 	 * @return {@link VolumeResult}
 	 */
 	public VolumeResult getVolume(final String start, final String end, final String timeSlice) {
+		return executeRequest(buildVolumeRequest(start, end, timeSlice), VolumeResult.class);
+	}
+
+	/**
+	 * Get a handle on how many documents are relevant for your query without
+	 * blocking the calling thread.
+	 *
+	 * @param start            String the time (in UTC seconds) of the beginning of the query duration,
+	 * @param end            String the time (in UTC seconds) of the end of the query duration.
+	 * @param timeSlice            String the duration (in seconds) of each time slice.
+	 * @return the future {@link VolumeResult}
+	 * @see #getVolume(String, String, String)
+	 */
+	public ListenableFuture<VolumeResult> getVolumeAsync(final String start, final String end, final String timeSlice) {
+		return executeRequestAsync(buildVolumeRequest(start, end, timeSlice), VolumeResult.class);
+	}
+
+	/**
+	 * Builds the volume request.
+	 *
+	 * @param start the start time
+	 * @param end the end time
+	 * @param timeSlice the time slice
+	 * @return the request
+	 */
+	private Request buildVolumeRequest(final String start, final String end, final String timeSlice) {
 		Validate.notNull(start, "start time can't be null");
 		Validate.notNull(end, "end time can't be null");
 
@@ -135,14 +212,7 @@ public class AlchemyDataNews extends AlchemyService {
 		request.withQuery(OUTPUT_MODE, "json");
 		if (timeSlice != null)
 			request.withQuery(TIME_SLICE, timeSlice);
-
-		HttpRequestBase requestBase = request.build();
-		try {
-			HttpResponse response = execute(requestBase);
-			return ResponseUtil.getObject(response, VolumeResult.class);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		return request;
 	}
 
 }
@@ -16,12 +16,12 @@
 
 package com.ibm.watson.developer_cloud.alchemy.v1;
 
-import java.io.IOException;
 import java.util.Map;
 
-import org.apache.http.HttpResponse;
-import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.ibm.watson.developer_cloud.alchemy.v1.model.CombinedResults;
 import com.ibm.watson.developer_cloud.alchemy.v1.model.DocumentAuthors;
 import com.ibm.watson.developer_cloud.alchemy.v1.model.DocumentSentiment;
@@ -38,7 +38,7 @@ import com.ibm.watson.developer_cloud.service.AlchemyService;
 import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.util.AlchemyEndPoints;
 import com.ibm.watson.developer_cloud.util.AlchemyEndPoints.AlchemyAPI;
-import com.ibm.watson.developer_cloud.util.ResponseUtil;
+import com.ibm.watson.developer_cloud.util.MediaType;
 
 /**
  * The Alchemy Language service uses offers 12 text analysis services, each of which uses
@@ -136,44 +136,59 @@ public class AlchemyLanguage extends AlchemyService {
 	public static final String XPATH = "xpath";
 
 	/**
-	 * Execute the request and return the POJO that represent the response.
+	 * Builds the request of an operation.
 	 * 
-	 * @param <T>
-	 *            The POJO that represents the response object
 	 * @param params
 	 *            the request parameters
 	 * @param operation
 	 *            the alchemy operation
-	 * @param returnType
-	 *            the POJO class to be parsed from the response
 	 * @param acceptedFormats
 	 *            the accepted input formats e.g. "html", "text"...
-	 * @return the POJO object that represent the response
+	 * @return the request
 	 */
-	private <T> T executeRequest(Map<String, Object> params, AlchemyAPI operation, Class<T> returnType,
-			String... acceptedFormats) {
+	private Request buildRequest(Map<String, Object> params, AlchemyAPI operation, String... acceptedFormats) {
 		// Get the input format and check for missing parameters
 		String format = getInputFormat(params, acceptedFormats);
 		// Get the path that represent this operation based on the operation and format
 		String path = AlchemyEndPoints.getPath(operation, format);
 
-		// Return json
-		params.put(OUTPUT_MODE, "json");
-
-		// Prevent jsonp to be returned
-		params.remove(JSONP);
-
+		// The caller's map is not modified: jsonp is skipped and json is always returned
 		Request request = Request.Post(path);
-		for (String param : params.keySet()) {
-			request.withForm(param, params.get(param));
-		}
-		HttpRequestBase requestBase = request.build();
-		try {
-			HttpResponse response = execute(requestBase);
-			return ResponseUtil.getObject(response, returnType);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
+		for (Map.Entry<String, Object> param : params.entrySet()) {
+			if (!OUTPUT_MODE.equals(param.getKey()) && !JSONP.equals(param.getKey()))
+				request.withForm(param.getKey(), param.getValue());
 		}
+		request.withForm(OUTPUT_MODE, "json");
+		return request;
+	}
+
+	/**
+	 * Builds the request of an operation with prebuilt options. Only the content is
+	 * encoded, the options were encoded when they were built.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze
+	 * @param options
+	 *            the options
+	 * @param operation
+	 *            the alchemy operation
+	 * @param acceptedFormats
+	 *            the accepted input formats e.g. "html", "text"...
+	 * @return the request
+	 */
+	private Request buildRequest(String content, AlchemyLanguageOptions options, AlchemyAPI operation,
+			String... acceptedFormats) {
+		if (options == null)
+			throw new IllegalArgumentException("options were not specified");
+		if (!ArrayUtils.contains(acceptedFormats, options.getInputFormat()))
+			throw new IllegalArgumentException(StringUtils.join(acceptedFormats, ",") + " should be specified");
+		if (content == null)
+			throw new IllegalArgumentException(options.getInputFormat() + " should be specified");
+
+		String path = AlchemyEndPoints.getPath(operation, options.getInputFormat());
+		Request request = Request.Post(path).withContent(options.encode(content),
+				MediaType.APPLICATION_FORM_URLENCODED);
+		return request;
 	}
 
 	/**
@@ -185,7 +200,50 @@ public class AlchemyLanguage extends AlchemyService {
 	 * @return {@link DocumentAuthors}
 	 */
 	public DocumentAuthors getAuthors(Map<String, Object> params) {
-		return executeRequest(params, AlchemyAPI.authors, DocumentAuthors.class, "html", "url");
+		return executeRequest(buildRequest(params, AlchemyAPI.authors, "html", "url"), DocumentAuthors.class);
+	}
+
+	/**
+	 * Extracts the authors from a URL or HTML without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            The parameters to be used in the service call, html or url should be
+	 *            specified.
+	 * @return the future {@link DocumentAuthors}
+	 * @see #getAuthors(Map)
+	 */
+	public ListenableFuture<DocumentAuthors> getAuthorsAsync(Map<String, Object> params) {
+		return executeRequestAsync(buildRequest(params, AlchemyAPI.authors, "html", "url"),
+				DocumentAuthors.class);
+	}
+
+	/**
+	 * Extracts the authors from a URL or HTML.
+	 * 
+	 * @param content
+	 *            the html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return {@link DocumentAuthors}
+	 */
+	public DocumentAuthors getAuthors(String content, AlchemyLanguageOptions options) {
+		return executeRequest(buildRequest(content, options, AlchemyAPI.authors, "html", "url"),
+				DocumentAuthors.class);
+	}
+
+	/**
+	 * Extracts the authors from a URL or HTML without blocking the calling thread.
+	 * 
+	 * @param content
+	 *            the html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return the future {@link DocumentAuthors}
+	 * @see #getAuthors(String, AlchemyLanguageOptions)
+	 */
+	public ListenableFuture<DocumentAuthors> getAuthorsAsync(String content, AlchemyLanguageOptions options) {
+		return executeRequestAsync(buildRequest(content, options, AlchemyAPI.authors, "html", "url"),
+				DocumentAuthors.class);
 	}
 
 	/**
@@ -197,7 +255,53 @@ public class AlchemyLanguage extends AlchemyService {
 	 * @return {@link Taxonomies}
 	 */
 	public Taxonomies geTaxonomy(Map<String, Object> params) {
-		return executeRequest(params, AlchemyAPI.taxonomy, Taxonomies.class, "text", "html", "url");
+		return executeRequest(buildRequest(params, AlchemyAPI.taxonomy, "text", "html", "url"),
+				Taxonomies.class);
+	}
+
+	/**
+	 * Categorized through the taxonomy call for text, HTML, or a URLL
+	 * without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            The parameters to be used in the service call, text, html or url should
+	 *            be specified.
+	 * @return the future {@link Taxonomies}
+	 * @see #geTaxonomy(Map)
+	 */
+	public ListenableFuture<Taxonomies> geTaxonomyAsync(Map<String, Object> params) {
+		return executeRequestAsync(buildRequest(params, AlchemyAPI.taxonomy, "text", "html", "url"),
+				Taxonomies.class);
+	}
+
+	/**
+	 * Categorized through the taxonomy call for text, HTML, or a URLL.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return {@link Taxonomies}
+	 */
+	public Taxonomies geTaxonomy(String content, AlchemyLanguageOptions options) {
+		return executeRequest(buildRequest(content, options, AlchemyAPI.taxonomy, "text", "html", "url"),
+				Taxonomies.class);
+	}
+
+	/**
+	 * Categorized through the taxonomy call for text, HTML, or a URLL
+	 * without blocking the calling thread.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return the future {@link Taxonomies}
+	 * @see #geTaxonomy(String, AlchemyLanguageOptions)
+	 */
+	public ListenableFuture<Taxonomies> geTaxonomyAsync(String content, AlchemyLanguageOptions options) {
+		return executeRequestAsync(buildRequest(content, options, AlchemyAPI.taxonomy, "text", "html", "url"),
+				Taxonomies.class);
 	}
 
 	/**
@@ -210,7 +314,54 @@ public class AlchemyLanguage extends AlchemyService {
 	 * @return {@link Microformats}
 	 */
 	public CombinedResults getCombinedResults(Map<String, Object> params) {
-		return executeRequest(params, AlchemyAPI.combined, CombinedResults.class, "text", "html", "url");
+		return executeRequest(buildRequest(params, AlchemyAPI.combined, "text", "html", "url"),
+				CombinedResults.class);
+	}
+
+	/**
+	 * Automatically perform analysis using multiple features on any web page or posted
+	 * (uploaded) HTML/text file without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            The parameters to be used in the service call, text, html or url should
+	 *            be specified.
+	 * @return the future {@link CombinedResults}
+	 * @see #getCombinedResults(Map)
+	 */
+	public ListenableFuture<CombinedResults> getCombinedResultsAsync(Map<String, Object> params) {
+		return executeRequestAsync(buildRequest(params, AlchemyAPI.combined, "text", "html", "url"),
+				CombinedResults.class);
+	}
+
+	/**
+	 * Automatically perform analysis using multiple features on any web page or posted
+	 * (uploaded) HTML/text file.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return {@link CombinedResults}
+	 */
+	public CombinedResults getCombinedResults(String content, AlchemyLanguageOptions options) {
+		return executeRequest(buildRequest(content, options, AlchemyAPI.combined, "text", "html", "url"),
+				CombinedResults.class);
+	}
+
+	/**
+	 * Automatically perform analysis using multiple features on any web page or posted
+	 * (uploaded) HTML/text file without blocking the calling thread.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return the future {@link CombinedResults}
+	 * @see #getCombinedResults(String, AlchemyLanguageOptions)
+	 */
+	public ListenableFuture<CombinedResults> getCombinedResultsAsync(String content, AlchemyLanguageOptions options) {
+		return executeRequestAsync(buildRequest(content, options, AlchemyAPI.combined, "text", "html", "url"),
+				CombinedResults.class);
 	}
 
 	/**
@@ -223,7 +374,54 @@ public class AlchemyLanguage extends AlchemyService {
 	 * @return {@link Entities}
 	 */
 	public Entities getEntities(Map<String, Object> params) {
-		return executeRequest(params, AlchemyAPI.entities, Entities.class, "text", "html", "url");
+		return executeRequest(buildRequest(params, AlchemyAPI.entities, "text", "html", "url"),
+				Entities.class);
+	}
+
+	/**
+	 * Extracts a grouped, ranked list of named entities (people, companies,
+	 * organizations, etc.) from text, a URL or HTML without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            The parameters to be used in the service call, text, html or url should
+	 *            be specified.
+	 * @return the future {@link Entities}
+	 * @see #getEntities(Map)
+	 */
+	public ListenableFuture<Entities> getEntitiesAsync(Map<String, Object> params) {
+		return executeRequestAsync(buildRequest(params, AlchemyAPI.entities, "text", "html", "url"),
+				Entities.class);
+	}
+
+	/**
+	 * Extracts a grouped, ranked list of named entities (people, companies,
+	 * organizations, etc.) from text, a URL or HTML.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return {@link Entities}
+	 */
+	public Entities getEntities(String content, AlchemyLanguageOptions options) {
+		return executeRequest(buildRequest(content, options, AlchemyAPI.entities, "text", "html", "url"),
+				Entities.class);
+	}
+
+	/**
+	 * Extracts a grouped, ranked list of named entities (people, companies,
+	 * organizations, etc.) from text, a URL or HTML without blocking the calling thread.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return the future {@link Entities}
+	 * @see #getEntities(String, AlchemyLanguageOptions)
+	 */
+	public ListenableFuture<Entities> getEntitiesAsync(String content, AlchemyLanguageOptions options) {
+		return executeRequestAsync(buildRequest(content, options, AlchemyAPI.entities, "text", "html", "url"),
+				Entities.class);
 	}
 
 	/**
@@ -235,7 +433,48 @@ public class AlchemyLanguage extends AlchemyService {
 	 * @return {@link Feeds}
 	 */
 	public Feeds getFeeds(Map<String, Object> params) {
-		return executeRequest(params, AlchemyAPI.feeds, Feeds.class, "html", "url");
+		return executeRequest(buildRequest(params, AlchemyAPI.feeds, "html", "url"), Feeds.class);
+	}
+
+	/**
+	 * Detects the RSS/ATOM feeds for a URL or HTML without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            The parameters to be used in the service call, html or url should be
+	 *            specified.
+	 * @return the future {@link Feeds}
+	 * @see #getFeeds(Map)
+	 */
+	public ListenableFuture<Feeds> getFeedsAsync(Map<String, Object> params) {
+		return executeRequestAsync(buildRequest(params, AlchemyAPI.feeds, "html", "url"), Feeds.class);
+	}
+
+	/**
+	 * Detects the RSS/ATOM feeds for a URL or HTML.
+	 * 
+	 * @param content
+	 *            the html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return {@link Feeds}
+	 */
+	public Feeds getFeeds(String content, AlchemyLanguageOptions options) {
+		return executeRequest(buildRequest(content, options, AlchemyAPI.feeds, "html", "url"), Feeds.class);
+	}
+
+	/**
+	 * Detects the RSS/ATOM feeds for a URL or HTML without blocking the calling thread.
+	 * 
+	 * @param content
+	 *            the html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return the future {@link Feeds}
+	 * @see #getFeeds(String, AlchemyLanguageOptions)
+	 */
+	public ListenableFuture<Feeds> getFeedsAsync(String content, AlchemyLanguageOptions options) {
+		return executeRequestAsync(buildRequest(content, options, AlchemyAPI.feeds, "html", "url"),
+				Feeds.class);
 	}
 
 	/**
@@ -247,7 +486,51 @@ public class AlchemyLanguage extends AlchemyService {
 	 * @return {@link Keywords}
 	 */
 	public Keywords getKeywords(Map<String, Object> params) {
-		return executeRequest(params, AlchemyAPI.keywords, Keywords.class, "text", "html", "url");
+		return executeRequest(buildRequest(params, AlchemyAPI.keywords, "text", "html", "url"),
+				Keywords.class);
+	}
+
+	/**
+	 * Extracts the keywords from text, a URL or HTML without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            The parameters to be used in the service call, text, html or url should
+	 *            be specified.
+	 * @return the future {@link Keywords}
+	 * @see #getKeywords(Map)
+	 */
+	public ListenableFuture<Keywords> getKeywordsAsync(Map<String, Object> params) {
+		return executeRequestAsync(buildRequest(params, AlchemyAPI.keywords, "text", "html", "url"),
+				Keywords.class);
+	}
+
+	/**
+	 * Extracts the keywords from text, a URL or HTML.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return {@link Keywords}
+	 */
+	public Keywords getKeywords(String content, AlchemyLanguageOptions options) {
+		return executeRequest(buildRequest(content, options, AlchemyAPI.keywords, "text", "html", "url"),
+				Keywords.class);
+	}
+
+	/**
+	 * Extracts the keywords from text, a URL or HTML without blocking the calling thread.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return the future {@link Keywords}
+	 * @see #getKeywords(String, AlchemyLanguageOptions)
+	 */
+	public ListenableFuture<Keywords> getKeywordsAsync(String content, AlchemyLanguageOptions options) {
+		return executeRequestAsync(buildRequest(content, options, AlchemyAPI.keywords, "text", "html", "url"),
+				Keywords.class);
 	}
 
 	/**
@@ -259,7 +542,51 @@ public class AlchemyLanguage extends AlchemyService {
 	 * @return {@link Language}
 	 */
 	public Language getLanguage(Map<String, Object> params) {
-		return executeRequest(params, AlchemyAPI.language, Language.class, "text", "html", "url");
+		return executeRequest(buildRequest(params, AlchemyAPI.language, "text", "html", "url"),
+				Language.class);
+	}
+
+	/**
+	 * Detects the language for text, a URL or HTML without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            The parameters to be used in the service call, text, html or url should
+	 *            be specified.
+	 * @return the future {@link Language}
+	 * @see #getLanguage(Map)
+	 */
+	public ListenableFuture<Language> getLanguageAsync(Map<String, Object> params) {
+		return executeRequestAsync(buildRequest(params, AlchemyAPI.language, "text", "html", "url"),
+				Language.class);
+	}
+
+	/**
+	 * Detects the language for text, a URL or HTML.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return {@link Language}
+	 */
+	public Language getLanguage(String content, AlchemyLanguageOptions options) {
+		return executeRequest(buildRequest(content, options, AlchemyAPI.language, "text", "html", "url"),
+				Language.class);
+	}
+
+	/**
+	 * Detects the language for text, a URL or HTML without blocking the calling thread.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return the future {@link Language}
+	 * @see #getLanguage(String, AlchemyLanguageOptions)
+	 */
+	public ListenableFuture<Language> getLanguageAsync(String content, AlchemyLanguageOptions options) {
+		return executeRequestAsync(buildRequest(content, options, AlchemyAPI.language, "text", "html", "url"),
+				Language.class);
 	}
 
 	/**
@@ -271,7 +598,53 @@ public class AlchemyLanguage extends AlchemyService {
 	 * @return {@link Microformats}
 	 */
 	public Microformats getMicroformats(Map<String, Object> params) {
-		return executeRequest(params, AlchemyAPI.microformats, Microformats.class, "html", "url");
+		return executeRequest(buildRequest(params, AlchemyAPI.microformats, "html", "url"),
+				Microformats.class);
+	}
+
+	/**
+	 * Parses the {@link Microformats} for a URL or HTML
+	 * without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            The parameters to be used in the service call, html or url should be
+	 *            specified
+	 * @return the future {@link Microformats}
+	 * @see #getMicroformats(Map)
+	 */
+	public ListenableFuture<Microformats> getMicroformatsAsync(Map<String, Object> params) {
+		return executeRequestAsync(buildRequest(params, AlchemyAPI.microformats, "html", "url"),
+				Microformats.class);
+	}
+
+	/**
+	 * Parses the {@link Microformats} for a URL or HTML.
+	 * 
+	 * @param content
+	 *            the html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return {@link Microformats}
+	 */
+	public Microformats getMicroformats(String content, AlchemyLanguageOptions options) {
+		return executeRequest(buildRequest(content, options, AlchemyAPI.microformats, "html", "url"),
+				Microformats.class);
+	}
+
+	/**
+	 * Parses the {@link Microformats} for a URL or HTML
+	 * without blocking the calling thread.
+	 * 
+	 * @param content
+	 *            the html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return the future {@link Microformats}
+	 * @see #getMicroformats(String, AlchemyLanguageOptions)
+	 */
+	public ListenableFuture<Microformats> getMicroformatsAsync(String content, AlchemyLanguageOptions options) {
+		return executeRequestAsync(buildRequest(content, options, AlchemyAPI.microformats, "html", "url"),
+				Microformats.class);
 	}
 
 	/**
@@ -283,7 +656,53 @@ public class AlchemyLanguage extends AlchemyService {
 	 * @return {@link SAORelations}
 	 */
 	public SAORelations getRelations(Map<String, Object> params) {
-		return executeRequest(params, AlchemyAPI.relations, SAORelations.class, "text", "html", "url");
+		return executeRequest(buildRequest(params, AlchemyAPI.relations, "text", "html", "url"),
+				SAORelations.class);
+	}
+
+	/**
+	 * Extracts Subject-Action-Object(SAO) relations from text, a URL or HTML
+	 * without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            The parameters to be used in the service call, text, html or url should
+	 *            be specified.
+	 * @return the future {@link SAORelations}
+	 * @see #getRelations(Map)
+	 */
+	public ListenableFuture<SAORelations> getRelationsAsync(Map<String, Object> params) {
+		return executeRequestAsync(buildRequest(params, AlchemyAPI.relations, "text", "html", "url"),
+				SAORelations.class);
+	}
+
+	/**
+	 * Extracts Subject-Action-Object(SAO) relations from text, a URL or HTML.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return {@link SAORelations}
+	 */
+	public SAORelations getRelations(String content, AlchemyLanguageOptions options) {
+		return executeRequest(buildRequest(content, options, AlchemyAPI.relations, "text", "html", "url"),
+				SAORelations.class);
+	}
+
+	/**
+	 * Extracts Subject-Action-Object(SAO) relations from text, a URL or HTML
+	 * without blocking the calling thread.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return the future {@link SAORelations}
+	 * @see #getRelations(String, AlchemyLanguageOptions)
+	 */
+	public ListenableFuture<SAORelations> getRelationsAsync(String content, AlchemyLanguageOptions options) {
+		return executeRequestAsync(buildRequest(content, options, AlchemyAPI.relations, "text", "html", "url"),
+				SAORelations.class);
 	}
 
 	/**
@@ -299,7 +718,63 @@ public class AlchemyLanguage extends AlchemyService {
 		if (params.get(TARGET) != null)
 			operation = AlchemyAPI.sentiment_targeted;
 
-		return executeRequest(params, operation, DocumentSentiment.class, "text", "html", "url");
+		return executeRequest(buildRequest(params, operation, "text", "html", "url"),
+				DocumentSentiment.class);
+	}
+
+	/**
+	 * Calculates the sentiment for text, a URL or HTML
+	 * without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            The parameters to be used in the service call, text, html or url should
+	 *            be specified.
+	 * @return the future {@link DocumentSentiment}
+	 * @see #getSentiment(Map)
+	 */
+	public ListenableFuture<DocumentSentiment> getSentimentAsync(Map<String, Object> params) {
+		AlchemyAPI operation = AlchemyAPI.sentiment;
+		if (params.get(TARGET) != null)
+			operation = AlchemyAPI.sentiment_targeted;
+
+		return executeRequestAsync(buildRequest(params, operation, "text", "html", "url"),
+				DocumentSentiment.class);
+	}
+
+	/**
+	 * Calculates the sentiment for text, a URL or HTML.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return {@link DocumentSentiment}
+	 */
+	public DocumentSentiment getSentiment(String content, AlchemyLanguageOptions options) {
+		if (options == null)
+			throw new IllegalArgumentException("options were not specified");
+		AlchemyAPI operation = options.isTargeted() ? AlchemyAPI.sentiment_targeted : AlchemyAPI.sentiment;
+		return executeRequest(buildRequest(content, options, operation, "text", "html", "url"),
+				DocumentSentiment.class);
+	}
+
+	/**
+	 * Calculates the sentiment for text, a URL or HTML
+	 * without blocking the calling thread.
+	 * 
+	 * @param content
+	 *            the text, html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return the future {@link DocumentSentiment}
+	 * @see #getSentiment(String, AlchemyLanguageOptions)
+	 */
+	public ListenableFuture<DocumentSentiment> getSentimentAsync(String content, AlchemyLanguageOptions options) {
+		if (options == null)
+			throw new IllegalArgumentException("options were not specified");
+		AlchemyAPI operation = options.isTargeted() ? AlchemyAPI.sentiment_targeted : AlchemyAPI.sentiment;
+		return executeRequestAsync(buildRequest(content, options, operation, "text", "html", "url"),
+				DocumentSentiment.class);
 	}
 
 	/**
@@ -316,7 +791,63 @@ public class AlchemyLanguage extends AlchemyService {
 		if (params.get(RAW) != null)
 			operation = AlchemyAPI.text_raw;
 
-		return executeRequest(params, operation, DocumentText.class, "html", "url");
+		return executeRequest(buildRequest(params, operation, "html", "url"), DocumentText.class);
+	}
+
+	/**
+	 * Extracts the cleaned text (removes ads, navigation, etc.) for a URL or HTML. if raw
+	 * is true, extracts the cleaned text (removes ads, navigation, etc.)
+	 * without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            The parameters to be used in the service call, html or url should be
+	 *            specified.
+	 * @return the future {@link DocumentText}
+	 * @see #getText(Map)
+	 */
+	public ListenableFuture<DocumentText> getTextAsync(Map<String, Object> params) {
+		AlchemyAPI operation = AlchemyAPI.text;
+		if (params.get(RAW) != null)
+			operation = AlchemyAPI.text_raw;
+
+		return executeRequestAsync(buildRequest(params, operation, "html", "url"), DocumentText.class);
+	}
+
+	/**
+	 * Extracts the cleaned text (removes ads, navigation, etc.) for a URL or HTML. if raw
+	 * is true, extracts the cleaned text (removes ads, navigation, etc.).
+	 * 
+	 * @param content
+	 *            the html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return {@link DocumentText}
+	 */
+	public DocumentText getText(String content, AlchemyLanguageOptions options) {
+		if (options == null)
+			throw new IllegalArgumentException("options were not specified");
+		AlchemyAPI operation = options.isRaw() ? AlchemyAPI.text_raw : AlchemyAPI.text;
+		return executeRequest(buildRequest(content, options, operation, "html", "url"), DocumentText.class);
+	}
+
+	/**
+	 * Extracts the cleaned text (removes ads, navigation, etc.) for a URL or HTML. if raw
+	 * is true, extracts the cleaned text (removes ads, navigation, etc.)
+	 * without blocking the calling thread.
+	 * 
+	 * @param content
+	 *            the html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return the future {@link DocumentText}
+	 * @see #getText(String, AlchemyLanguageOptions)
+	 */
+	public ListenableFuture<DocumentText> getTextAsync(String content, AlchemyLanguageOptions options) {
+		if (options == null)
+			throw new IllegalArgumentException("options were not specified");
+		AlchemyAPI operation = options.isRaw() ? AlchemyAPI.text_raw : AlchemyAPI.text;
+		return executeRequestAsync(buildRequest(content, options, operation, "html", "url"),
+				DocumentText.class);
 	}
 
 	/**
@@ -328,6 +859,49 @@ public class AlchemyLanguage extends AlchemyService {
 	 * @return {@link DocumentTitle}
 	 */
 	public DocumentTitle getTitle(Map<String, Object> params) {
-		return executeRequest(params, AlchemyAPI.title, DocumentTitle.class, "html", "url");
+		return executeRequest(buildRequest(params, AlchemyAPI.title, "html", "url"), DocumentTitle.class);
+	}
+
+	/**
+	 * Extracts the title for a URL or HTML without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            The parameters to be used in the service call, html or url should be
+	 *            specified.
+	 * @return the future {@link DocumentTitle}
+	 * @see #getTitle(Map)
+	 */
+	public ListenableFuture<DocumentTitle> getTitleAsync(Map<String, Object> params) {
+		return executeRequestAsync(buildRequest(params, AlchemyAPI.title, "html", "url"),
+				DocumentTitle.class);
+	}
+
+	/**
+	 * Extracts the title for a URL or HTML.
+	 * 
+	 * @param content
+	 *            the html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return {@link DocumentTitle}
+	 */
+	public DocumentTitle getTitle(String content, AlchemyLanguageOptions options) {
+		return executeRequest(buildRequest(content, options, AlchemyAPI.title, "html", "url"),
+				DocumentTitle.class);
+	}
+
+	/**
+	 * Extracts the title for a URL or HTML without blocking the calling thread.
+	 * 
+	 * @param content
+	 *            the html or url to analyze, in the input format of the options
+	 * @param options
+	 *            the options
+	 * @return the future {@link DocumentTitle}
+	 * @see #getTitle(String, AlchemyLanguageOptions)
+	 */
+	public ListenableFuture<DocumentTitle> getTitleAsync(String content, AlchemyLanguageOptions options) {
+		return executeRequestAsync(buildRequest(content, options, AlchemyAPI.title, "html", "url"),
+				DocumentTitle.class);
 	}
 }
@@ -0,0 +1,507 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.alchemy.v1;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.NameValuePair;
+import org.apache.http.message.BasicNameValuePair;
+
+import com.ibm.watson.developer_cloud.util.RequestUtil;
+
+/**
+ * Immutable options of an {@link AlchemyLanguage} call. The options are
+ * validated and form encoded once, when they are built, so the same instance
+ * can be shared by any number of threads and reused for every call that
+ * analyzes a different content with the same parameters: <pre>
+ * {@code
+ *  AlchemyLanguageOptions options = new AlchemyLanguageOptions.Builder(AlchemyLanguage.TEXT)
+ *     .withMaxRetrieve(10)
+ *     .withSentiment(true)
+ *     .build();
+ *
+ *  for (String text : texts)
+ *    Keywords keywords = service.getKeywords(text, options);
+ * }</pre>
+ * 
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ * @see AlchemyLanguage
+ */
+public final class AlchemyLanguageOptions {
+
+	/**
+	 * Builds {@link AlchemyLanguageOptions}. Every value is checked when it
+	 * is set, and the combination of values when the options are built.
+	 */
+	public static class Builder {
+
+		/** The input format. */
+		private final String inputFormat;
+
+		/** The parameters, in the order they were set. */
+		private final Map<String, String> parameters = new LinkedHashMap<String, String>();
+
+		/** Whether the raw text is extracted. */
+		private boolean raw;
+
+		/**
+		 * Instantiates a new builder.
+		 * 
+		 * @param inputFormat
+		 *            the format of the content that will be analyzed:
+		 *            {@link AlchemyLanguage#TEXT}, {@link AlchemyLanguage#HTML}
+		 *            or {@link AlchemyLanguage#URL}
+		 */
+		public Builder(String inputFormat) {
+			if (!ArrayUtils.contains(INPUT_FORMATS, inputFormat))
+				throw new IllegalArgumentException("inputFormat should be one of "
+						+ StringUtils.join(INPUT_FORMATS, ","));
+			this.inputFormat = inputFormat;
+		}
+
+		/**
+		 * Instantiates a new builder with the values of existing options.
+		 * 
+		 * @param options
+		 *            the options
+		 */
+		private Builder(AlchemyLanguageOptions options) {
+			inputFormat = options.inputFormat;
+			parameters.putAll(options.parameters);
+			raw = options.raw;
+		}
+
+		/**
+		 * Builds the options.
+		 * 
+		 * @return the options
+		 */
+		public AlchemyLanguageOptions build() {
+			final String sourceText = parameters.get(AlchemyLanguage.SOURCE_TEXT);
+			if ("cquery".equals(sourceText) && !parameters.containsKey(AlchemyLanguage.CQUERY))
+				throw new IllegalArgumentException("cquery should be specified when sourceText is cquery");
+			if (sourceText != null && sourceText.contains("xpath")
+					&& !parameters.containsKey(AlchemyLanguage.XPATH))
+				throw new IllegalArgumentException("xpath should be specified when sourceText is " + sourceText);
+			return new AlchemyLanguageOptions(this);
+		}
+
+		/**
+		 * Sets a parameter that does not have a typed method.
+		 * 
+		 * @param name
+		 *            the parameter name
+		 * @param value
+		 *            the parameter value, booleans are sent as 1 or 0
+		 * @return the builder
+		 */
+		public Builder withParameter(String name, Object value) {
+			if (name == null || name.isEmpty())
+				throw new IllegalArgumentException("name was not specified");
+			if (ArrayUtils.contains(RESERVED, name))
+				throw new IllegalArgumentException(name + " can not be set as an option");
+			if (value == null)
+				throw new IllegalArgumentException(name + " was null");
+
+			if (value instanceof Boolean)
+				parameters.put(name, (Boolean) value ? "1" : "0");
+			else
+				parameters.put(name, value.toString());
+			return this;
+		}
+
+		/**
+		 * Sets the base URL used to resolve the relative links of a HTML
+		 * content.
+		 * 
+		 * @param baseUrl
+		 *            the base URL
+		 * @return the builder
+		 */
+		public Builder withBaseUrl(String baseUrl) {
+			return withParameter(AlchemyLanguage.BASE_URL, baseUrl);
+		}
+
+		/**
+		 * Sets whether pronouns are resolved to the entities they refer to.
+		 * 
+		 * @param coreference
+		 *            the coreference
+		 * @return the builder
+		 */
+		public Builder withCoreference(boolean coreference) {
+			return withParameter(AlchemyLanguage.COREFERENCE, coreference);
+		}
+
+		/**
+		 * Sets the CSS selector query used to extract the source text.
+		 * 
+		 * @param cquery
+		 *            the cquery
+		 * @return the builder
+		 */
+		public Builder withCquery(String cquery) {
+			return withParameter(AlchemyLanguage.CQUERY, cquery);
+		}
+
+		/**
+		 * Sets whether the entities are disambiguated.
+		 * 
+		 * @param disambiguate
+		 *            the disambiguate
+		 * @return the builder
+		 */
+		public Builder withDisambiguate(boolean disambiguate) {
+			return withParameter(AlchemyLanguage.DISAMBIGUTE, disambiguate);
+		}
+
+		/**
+		 * Sets the features extracted by the combined call, e.g.
+		 * "entities,keywords".
+		 * 
+		 * @param extract
+		 *            the comma separated list of features
+		 * @return the builder
+		 */
+		public Builder withExtract(String extract) {
+			return withParameter(AlchemyLanguage.EXTRACT, extract);
+		}
+
+		/**
+		 * Sets whether the hyperlinks are included in the extracted text.
+		 * 
+		 * @param extractLinks
+		 *            the extract links
+		 * @return the builder
+		 */
+		public Builder withExtractLinks(boolean extractLinks) {
+			return withParameter(AlchemyLanguage.EXTRACT_LINK, extractLinks);
+		}
+
+		/**
+		 * Sets the keyword extraction mode.
+		 * 
+		 * @param keywordExtractMode
+		 *            "normal" or "strict"
+		 * @return the builder
+		 */
+		public Builder withKeywordExtractMode(String keywordExtractMode) {
+			if (!"normal".equals(keywordExtractMode) && !"strict".equals(keywordExtractMode))
+				throw new IllegalArgumentException("keywordExtractMode should be normal or strict");
+			return withParameter(AlchemyLanguage.KEYWORD_EXTRACT_MODE, keywordExtractMode);
+		}
+
+		/**
+		 * Sets whether the knowledge graph of the results is included.
+		 * 
+		 * @param knowledgeGraph
+		 *            the knowledge graph
+		 * @return the builder
+		 */
+		public Builder withKnowledgeGraph(boolean knowledgeGraph) {
+			return withParameter(AlchemyLanguage.KNOWLEDGE_GRAPH, knowledgeGraph);
+		}
+
+		/**
+		 * Sets whether the links to linked data sources are included.
+		 * 
+		 * @param linkedData
+		 *            the linked data
+		 * @return the builder
+		 */
+		public Builder withLinkedData(boolean linkedData) {
+			return withParameter(AlchemyLanguage.LINKED_DATA, linkedData);
+		}
+
+		/**
+		 * Sets the maximum number of results.
+		 * 
+		 * @param maxRetrieve
+		 *            the max retrieve, greater than 0
+		 * @return the builder
+		 */
+		public Builder withMaxRetrieve(int maxRetrieve) {
+			if (maxRetrieve < 1)
+				throw new IllegalArgumentException("maxRetrieve should be greater than 0");
+			return withParameter(AlchemyLanguage.MAX_RETRIEVE, maxRetrieve);
+		}
+
+		/**
+		 * Sets whether the quotations are extracted.
+		 * 
+		 * @param quotations
+		 *            the quotations
+		 * @return the builder
+		 */
+		public Builder withQuotations(boolean quotations) {
+			return withParameter(AlchemyLanguage.QUOTATIONS, quotations);
+		}
+
+		/**
+		 * Sets whether {@link AlchemyLanguage#getText(String, AlchemyLanguageOptions)}
+		 * extracts the raw text instead of the cleaned text.
+		 * 
+		 * @param raw
+		 *            the raw
+		 * @return the builder
+		 */
+		public Builder withRaw(boolean raw) {
+			this.raw = raw;
+			return this;
+		}
+
+		/**
+		 * Sets whether only the relations with entities are returned.
+		 * 
+		 * @param requireEntities
+		 *            the require entities
+		 * @return the builder
+		 */
+		public Builder withRequireEntities(boolean requireEntities) {
+			return withParameter(AlchemyLanguage.REQUIRED_ENTITIES, requireEntities);
+		}
+
+		/**
+		 * Sets whether the sentiment of every result is calculated.
+		 * 
+		 * @param sentiment
+		 *            the sentiment
+		 * @return the builder
+		 */
+		public Builder withSentiment(boolean sentiment) {
+			return withParameter(AlchemyLanguage.SENTIMENT, sentiment);
+		}
+
+		/**
+		 * Sets whether the entities are excluded from the sentiment of the
+		 * relations.
+		 * 
+		 * @param sentimentExcludeEntities
+		 *            the sentiment exclude entities
+		 * @return the builder
+		 */
+		public Builder withSentimentExcludeEntities(boolean sentimentExcludeEntities) {
+			return withParameter(AlchemyLanguage.SENTIMENT_EXCLUDE_ENTITIES, sentimentExcludeEntities);
+		}
+
+		/**
+		 * Sets whether the source text is included in the results.
+		 * 
+		 * @param showSourceText
+		 *            the show source text
+		 * @return the builder
+		 */
+		public Builder withShowSourceText(boolean showSourceText) {
+			return withParameter(AlchemyLanguage.SHOW_SOURCE_TEXT, showSourceText);
+		}
+
+		/**
+		 * Sets how the source text is obtained from a HTML content or a URL.
+		 * 
+		 * @param sourceText
+		 *            one of "cleaned_or_raw", "cleaned", "raw", "cquery",
+		 *            "xpath", "xpath_or_raw" or "cleaned_and_xpath"
+		 * @return the builder
+		 */
+		public Builder withSourceText(String sourceText) {
+			if (!ArrayUtils.contains(SOURCE_TEXTS, sourceText))
+				throw new IllegalArgumentException("sourceText should be one of "
+						+ StringUtils.join(SOURCE_TEXTS, ","));
+			return withParameter(AlchemyLanguage.SOURCE_TEXT, sourceText);
+		}
+
+		/**
+		 * Sets whether structured entities, like quantities and emails, are
+		 * extracted.
+		 * 
+		 * @param structuredEntities
+		 *            the structured entities
+		 * @return the builder
+		 */
+		public Builder withStructuredEntities(boolean structuredEntities) {
+			return withParameter(AlchemyLanguage.STRUCTURED_ENTITIES, structuredEntities);
+		}
+
+		/**
+		 * Sets the phrase whose sentiment is calculated, which makes
+		 * {@link AlchemyLanguage#getSentiment(String, AlchemyLanguageOptions)} a
+		 * targeted sentiment call.
+		 * 
+		 * @param target
+		 *            the target
+		 * @return the builder
+		 */
+		public Builder withTarget(String target) {
+			if (target == null || target.isEmpty())
+				throw new IllegalArgumentException("target was not specified");
+			return withParameter(AlchemyLanguage.TARGET, target);
+		}
+
+		/**
+		 * Sets whether the metadata of a HTML content or a URL is used.
+		 * 
+		 * @param useMetadata
+		 *            the use metadata
+		 * @return the builder
+		 */
+		public Builder withUseMetadata(boolean useMetadata) {
+			return withParameter(AlchemyLanguage.USE_METADATA, useMetadata);
+		}
+
+		/**
+		 * Sets the XPath query used to extract the source text.
+		 * 
+		 * @param xpath
+		 *            the xpath
+		 * @return the builder
+		 */
+		public Builder withXPath(String xpath) {
+			return withParameter(AlchemyLanguage.XPATH, xpath);
+		}
+	}
+
+	/** The input formats. */
+	private static final String[] INPUT_FORMATS = { AlchemyLanguage.TEXT, AlchemyLanguage.HTML, AlchemyLanguage.URL };
+
+	/** The Constant OUTPUT_MODE. */
+	private static final String OUTPUT_MODE = "outputMode";
+
+	/** The parameters set by the service or by the content. */
+	private static final String[] RESERVED = { AlchemyLanguage.TEXT, AlchemyLanguage.HTML, AlchemyLanguage.URL,
+			AlchemyLanguage.RAW, OUTPUT_MODE, "jsonp" };
+
+	/** The source texts. */
+	private static final String[] SOURCE_TEXTS = { "cleaned_or_raw", "cleaned", "raw", "cquery", "xpath",
+			"xpath_or_raw", "cleaned_and_xpath" };
+
+	/** The Constant UTF_8. */
+	private static final String UTF_8 = "UTF-8";
+
+	/** The input format. */
+	private final String inputFormat;
+
+	/** The parameters. */
+	private final Map<String, String> parameters;
+
+	/** Whether the raw text is extracted. */
+	private final boolean raw;
+
+	/**
+	 * The form encoded parameters followed by the name of the content, e.g.
+	 * "maxRetrieve=10&outputMode=json&text=".
+	 */
+	private final String form;
+
+	/**
+	 * Instantiates new options.
+	 * 
+	 * @param builder
+	 *            the builder
+	 */
+	private AlchemyLanguageOptions(Builder builder) {
+		inputFormat = builder.inputFormat;
+		parameters = Collections.unmodifiableMap(new LinkedHashMap<String, String>(builder.parameters));
+		raw = builder.raw;
+
+		final List<NameValuePair> pairs = new ArrayList<NameValuePair>(parameters.size() + 1);
+		for (Map.Entry<String, String> parameter : parameters.entrySet())
+			pairs.add(new BasicNameValuePair(parameter.getKey(), parameter.getValue()));
+		pairs.add(new BasicNameValuePair(OUTPUT_MODE, "json"));
+		form = RequestUtil.formatQueryString(pairs, UTF_8) + "&" + inputFormat + "=";
+	}
+
+	/**
+	 * Gets the input format.
+	 * 
+	 * @return the input format
+	 */
+	public String getInputFormat() {
+		return inputFormat;
+	}
+
+	/**
+	 * Gets the parameters, without the content and the output mode.
+	 * 
+	 * @return the unmodifiable parameters
+	 */
+	public Map<String, String> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * Checks if the raw text is extracted.
+	 * 
+	 * @return true, if is raw
+	 */
+	public boolean isRaw() {
+		return raw;
+	}
+
+	/**
+	 * Checks if a sentiment target was set.
+	 * 
+	 * @return true, if is targeted
+	 */
+	public boolean isTargeted() {
+		return parameters.containsKey(AlchemyLanguage.TARGET);
+	}
+
+	/**
+	 * Creates a builder initialized with these options, to derive new
+	 * options from them.
+	 * 
+	 * @return the builder
+	 */
+	public Builder newBuilder() {
+		return new Builder(this);
+	}
+
+	/**
+	 * Form encodes a content with these options. Only the content is encoded,
+	 * the rest of the form was encoded when the options were built.
+	 * 
+	 * @param content
+	 *            the text, HTML or URL to analyze
+	 * @return the application/x-www-form-urlencoded form
+	 */
+	String encode(String content) {
+		try {
+			final String encoded = URLEncoder.encode(content, UTF_8);
+			return new StringBuilder(form.length() + encoded.length()).append(form).append(encoded).toString();
+		} catch (UnsupportedEncodingException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "AlchemyLanguageOptions [inputFormat=" + inputFormat + ", parameters=" + parameters + ", raw="
+				+ raw + "]";
+	}
+}
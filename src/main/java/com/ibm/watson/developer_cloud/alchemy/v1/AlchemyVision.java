@@ -16,13 +16,12 @@
 package com.ibm.watson.developer_cloud.alchemy.v1;
 
 import java.io.File;
-import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 
-import org.apache.http.HttpResponse;
-import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.entity.FileEntity;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.ibm.watson.developer_cloud.alchemy.v1.model.ImageFaces;
 import com.ibm.watson.developer_cloud.alchemy.v1.model.ImageKeywords;
 import com.ibm.watson.developer_cloud.alchemy.v1.model.ImageLink;
@@ -31,7 +30,6 @@ import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.util.AlchemyEndPoints;
 import com.ibm.watson.developer_cloud.util.AlchemyEndPoints.AlchemyAPI;
 import com.ibm.watson.developer_cloud.util.MediaType;
-import com.ibm.watson.developer_cloud.util.ResponseUtil;
 
 /**
  * The Alchemy Vision service uses deep learning innovations to understand a picture’s
@@ -85,24 +83,41 @@ public class AlchemyVision extends AlchemyService {
      * @return {@link ImageLink}
      */
     public ImageLink getImageLink(Map<String, Object> params) {
+        return executeRequest(buildImageLinkRequest(params), ImageLink.class);
+    }
+
+    /**
+     * Extract main image link from html or a URL without blocking the calling
+     * thread.
+     *
+     * @param params The parameters to be used in the service call, html or url should
+     *               be specified.
+     * @return the future {@link ImageLink}
+     * @see #getImageLink(Map)
+     */
+    public ListenableFuture<ImageLink> getImageLinkAsync(Map<String, Object> params) {
+        return executeRequestAsync(buildImageLinkRequest(params), ImageLink.class);
+    }
+
+    /**
+     * Builds the image link request.
+     *
+     * @param params the request parameters
+     * @return the request
+     */
+    private Request buildImageLinkRequest(Map<String, Object> params) {
         String inputType = getInputFormat(params, "html", "url");
         String path = AlchemyEndPoints.getPath(AlchemyAPI.image_link, inputType);
-        
-        // Return json
+
+        // Return json, without modifying the caller's map
+        params = new HashMap<String, Object>(params);
         params.put(OUTPUT_MODE, "json");
 
         Request request = Request.Post(path);
         for (String param : params.keySet()) {
             request.withForm(param, params.get(param));
         }
-
-        HttpRequestBase requestBase = request.build();
-        try {
-            HttpResponse response = execute(requestBase);
-            return ResponseUtil.getObject(response, ImageLink.class);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return request;
     }
 
     /**
@@ -113,7 +128,19 @@ public class AlchemyVision extends AlchemyService {
      * @return {@link ImageKeywords}
      */
     public ImageKeywords getImageKeywords(Map<String, Object> params) {
-        return executeRequest(params, AlchemyAPI.image_keywords, ImageKeywords.class);
+        return executeRequest(buildRequest(params, AlchemyAPI.image_keywords), ImageKeywords.class);
+    }
+
+    /**
+     * Extract keywords from an image or url without blocking the calling thread.
+     *
+     * @param params The parameters to be used in the service call, image or url should
+     *               be specified.
+     * @return the future {@link ImageKeywords}
+     * @see #getImageKeywords(Map)
+     */
+    public ListenableFuture<ImageKeywords> getImageKeywordsAsync(Map<String, Object> params) {
+        return executeRequestAsync(buildRequest(params, AlchemyAPI.image_keywords), ImageKeywords.class);
     }
 
     /**
@@ -131,22 +158,35 @@ public class AlchemyVision extends AlchemyService {
      * @return {@link ImageFaces}
      */
     public ImageFaces recognizeFaces(Map<String, Object> params) {
-        return executeRequest(params, AlchemyAPI.image_recognition, ImageFaces.class);
+        return executeRequest(buildRequest(params, AlchemyAPI.image_recognition), ImageFaces.class);
+    }
+
+    /**
+     * Recognize faces from an image or url without blocking the calling thread.
+     *
+     * @param params The parameters to be used in the service call, image or url should
+     *               be specified.
+     * @return the future {@link ImageFaces}
+     * @see #recognizeFaces(Map)
+     */
+    public ListenableFuture<ImageFaces> recognizeFacesAsync(Map<String, Object> params) {
+        return executeRequestAsync(buildRequest(params, AlchemyAPI.image_recognition), ImageFaces.class);
     }
 
     /**
-     * Execute the request and return the POJO that represent the response.
+     * Builds the request of an image operation.
      *
-     * @param <T>        The POJO that represents the response object
      * @param params     the request parameters
      * @param operation  the alchemy operation
-     * @param returnType the POJO class to be parsed from the response
-     * @return the POJO object that represent the response
+     * @return the request
      */
-    private <T> T executeRequest(Map<String, Object> params, AlchemyAPI operation, Class<T> returnType) {
+    private Request buildRequest(Map<String, Object> params, AlchemyAPI operation) {
         String inputType = getInputFormat(params, "image", "url");
         String path = AlchemyEndPoints.getPath(operation, inputType);
 
+        // the parameters are changed below, the caller's map is not modified
+        params = new HashMap<String, Object>(params);
+
         Request request = Request.Post(path);
         if (inputType == IMAGE) {
             if (params.get(IMAGE) instanceof String) {
@@ -175,13 +215,6 @@ public class AlchemyVision extends AlchemyService {
                request.withForm(param, params.get(param));
             }
         }
-
-        HttpRequestBase requestBase = request.build();
-        try {
-            HttpResponse response = execute(requestBase);
-            return ResponseUtil.getObject(response, returnType);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return request;
     }
 }
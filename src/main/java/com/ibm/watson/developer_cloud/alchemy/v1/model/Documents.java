@@ -35,6 +35,15 @@ public class Documents extends GenericModel{
     /** The next. */
     private String next;
 
+    /**
+     * Gets the docs.
+     *
+     * @return The docs
+     */
+    public List<Document> getDocs() {
+        return documents;
+    }
+
     /**
      * Gets the next.
      *
@@ -16,9 +16,7 @@
 package com.ibm.watson.developer_cloud.alchemy.v1.util;
 
 import java.io.IOException;
-import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -27,14 +25,15 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import com.ibm.watson.developer_cloud.alchemy.v1.model.PublicationDate;
+import com.ibm.watson.developer_cloud.util.DateCodec;
 
 /**
  * The Class PublicationDateTypeAdapter.
  */
 public class PublicationDateTypeAdapter extends TypeAdapter<PublicationDate> {
 	
-	/** The df. */
-	private final DateFormat df = new SimpleDateFormat("yyyyMMdd'T'HHmmss");
+	/** The Constant DATE, the format of the publication dates. */
+	private static final DateCodec DATE = new DateCodec("yyyyMMdd'T'HHmmss");
 	
 	/** The Constant log. */
 	private static final Logger log = Logger.getLogger(PublicationDateTypeAdapter.class.getName());
@@ -63,7 +62,7 @@ public class PublicationDateTypeAdapter extends TypeAdapter<PublicationDate> {
 				String dateAsString = reader.nextString();
 				if (dateAsString != null && !dateAsString.isEmpty())
 					try {
-						publicationDate.setDate(df.parse(dateAsString));
+						publicationDate.setDate(DATE.parse(dateAsString));
 					} catch (ParseException e) {
 						log.log(Level.SEVERE, "Error parsing: " + dateAsString, e);
 					}
@@ -88,7 +87,7 @@ public class PublicationDateTypeAdapter extends TypeAdapter<PublicationDate> {
 		writer.beginObject();
 
 		if (value.getDate() != null)
-			writer.name("date").value(df.format(value.getDate()));
+			writer.name("date").value(DATE.format(value.getDate()));
 		if (value.getConfident() != null)
 			writer.name("confident").value(value.getConfident());
 
@@ -24,6 +24,9 @@ import java.util.Map;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -35,7 +38,6 @@ import com.ibm.watson.developer_cloud.concept_expansion.v1.model.Job;
 import com.ibm.watson.developer_cloud.concept_expansion.v1.model.Job.Status;
 import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.service.WatsonService;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
 
 /**
@@ -121,6 +123,34 @@ public class ConceptExpansion extends WatsonService {
 	 * @return the JSON object
 	 */
 	public Job createJob(final String label, final String[] seeds) {
+		return executeRequest(buildCreateJobRequest(label, seeds), Job.class);
+	}
+
+	/**
+	 * Creates a job without blocking the calling thread.
+	 * 
+	 * @param label
+	 *            A conceptual classification of the seed terms.
+	 * @param seeds
+	 *            List of terms to seed the concept expansion
+	 * 
+	 * @return the future job
+	 * @see #createJob(String, String[])
+	 */
+	public ListenableFuture<Job> createJobAsync(final String label, final String[] seeds) {
+		return executeRequestAsync(buildCreateJobRequest(label, seeds), Job.class);
+	}
+
+	/**
+	 * Builds the create job request.
+	 * 
+	 * @param label
+	 *            A conceptual classification of the seed terms.
+	 * @param seeds
+	 *            List of terms to seed the concept expansion
+	 * @return the request
+	 */
+	private Request buildCreateJobRequest(final String label, final String[] seeds) {
 		if (dataset == null)
 			throw new IllegalArgumentException("dataset can not be null or empty");
 		if (label == null)
@@ -128,26 +158,17 @@ public class ConceptExpansion extends WatsonService {
 		if (seeds == null || seeds.length == 0)
 			throw new IllegalArgumentException("seeds can not be null or empty");
 
-		try {
-			JsonArray seedJsonArray = new JsonArray();
-			for (String seed : seeds) {
-				seedJsonArray.add(new JsonPrimitive(seed));
-			}
-
-			JsonObject payload = new JsonObject();
-			payload.addProperty(LABEL, label);
-			payload.addProperty(DATASET, dataset.getId());
-			payload.add(SEEDS,seedJsonArray);
+		JsonArray seedJsonArray = new JsonArray();
+		for (String seed : seeds) {
+			seedJsonArray.add(new JsonPrimitive(seed));
+		}
 
-			HttpRequestBase request = Request.Post("/v1/upload")
-					.withContent(payload).build();
+		JsonObject payload = new JsonObject();
+		payload.addProperty(LABEL, label);
+		payload.addProperty(DATASET, dataset.getId());
+		payload.add(SEEDS,seedJsonArray);
 
-			HttpResponse response = execute(request);
-			String jsonJob = ResponseUtil.getString(response);
-			return GsonSingleton.getGson().fromJson(jsonJob,Job.class);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		return Request.Post("/v1/upload").withContent(payload);
 	}
 
 	/**
@@ -219,53 +240,143 @@ public class ConceptExpansion extends WatsonService {
 	 * @see Job
 	 */
 	public List<Concept> getJobResult(final Job job) {
-		if (job == null)
-			throw new IllegalArgumentException("job can not be null");
-		if (job.getId() == null)
-			throw new IllegalArgumentException("job.id can not be null");
-
+		HttpRequestBase request = buildJobResultRequest(job);
 		try {
-			JsonObject payload = new JsonObject();
-			payload.addProperty(PARAM_JOBID, job.getId());
-
-			HttpRequestBase request = Request.Put("/v1/result")
-					.withContent(payload).build();
-
 			HttpResponse response = execute(request);
-			String encodedResult = ResponseUtil.getString(response);
-			JsonParser parser = new JsonParser();
-			return formatConcepts(parser.parse(decodeResult(encodedResult)).getAsJsonObject());
+			return toConcepts(response);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
 	/**
-	 * Gets the job status.
+	 * Gets the job result without blocking the calling thread.
 	 * 
 	 * @param job
 	 *            the job
 	 * 
-	 * @return the job status
+	 * @return the future list of concepts
+	 * @see #getJobResult(Job)
 	 */
-	public Status getJobStatus(final Job job) {
+	public ListenableFuture<List<Concept>> getJobResultAsync(final Job job) {
+		return Futures.transform(executeAsync(buildJobResultRequest(job)),
+				new Function<HttpResponse, List<Concept>>() {
+					@Override
+					public List<Concept> apply(HttpResponse response) {
+						try {
+							return toConcepts(response);
+						} catch (IOException e) {
+							throw new RuntimeException(e);
+						}
+					}
+				});
+	}
+
+	/**
+	 * Builds the job result request.
+	 * 
+	 * @param job
+	 *            the job
+	 * @return the request
+	 */
+	private HttpRequestBase buildJobResultRequest(final Job job) {
 		if (job == null)
 			throw new IllegalArgumentException("job can not be null");
 		if (job.getId() == null)
 			throw new IllegalArgumentException("job.id can not be null");
 
-		HttpRequestBase request = Request.Get("/v1/status")
-				.withQuery(PARAM_JOBID, job.getId()).build();
+		JsonObject payload = new JsonObject();
+		payload.addProperty(PARAM_JOBID, job.getId());
+
+		return Request.Put("/v1/result").withContent(payload).build();
+	}
+
+	/**
+	 * Reads and decodes the concepts from the job result response.
+	 * 
+	 * @param response
+	 *            the response
+	 * @return the list of concepts
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private List<Concept> toConcepts(HttpResponse response) throws IOException {
+		String encodedResult = ResponseUtil.getString(response);
+		JsonParser parser = new JsonParser();
+		return formatConcepts(parser.parse(decodeResult(encodedResult)).getAsJsonObject());
+	}
+
+	/**
+	 * Gets the job status.
+	 * 
+	 * @param job
+	 *            the job
+	 * 
+	 * @return the job status
+	 */
+	public Status getJobStatus(final Job job) {
+		HttpRequestBase request = buildJobStatusRequest(job);
 
 		try {
 			HttpResponse response = execute(request);
-			JsonObject jsonObject = ResponseUtil.getJsonObject(response);
-			return Status.fromString(jsonObject.get(PARAM_STATE).getAsString());
+			return toStatus(response);
 		} catch (final IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Gets the job status without blocking the calling thread.
+	 * 
+	 * @param job
+	 *            the job
+	 * 
+	 * @return the future job status
+	 * @see #getJobStatus(Job)
+	 */
+	public ListenableFuture<Status> getJobStatusAsync(final Job job) {
+		return Futures.transform(executeAsync(buildJobStatusRequest(job)), new Function<HttpResponse, Status>() {
+			@Override
+			public Status apply(HttpResponse response) {
+				try {
+					return toStatus(response);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Builds the job status request.
+	 * 
+	 * @param job
+	 *            the job
+	 * @return the request
+	 */
+	private HttpRequestBase buildJobStatusRequest(final Job job) {
+		if (job == null)
+			throw new IllegalArgumentException("job can not be null");
+		if (job.getId() == null)
+			throw new IllegalArgumentException("job.id can not be null");
+
+		return Request.Get("/v1/status").withQuery(PARAM_JOBID, job.getId()).build();
+	}
+
+	/**
+	 * Reads the job status from the response.
+	 * 
+	 * @param response
+	 *            the response
+	 * @return the job status
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static Status toStatus(HttpResponse response) throws IOException {
+		JsonObject jsonObject = ResponseUtil.getJsonObject(response);
+		return Status.fromString(jsonObject.get(PARAM_STATE).getAsString());
+	}
+
 	/**
 	 * Sets the Dataset to run against.
 	 * 
@@ -15,6 +15,7 @@
  */
 package com.ibm.watson.developer_cloud.concept_insights.v2;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
@@ -23,10 +24,6 @@ import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.util.*;
 
-import org.apache.http.HttpResponse;
-import org.apache.http.client.methods.HttpRequestBase;
-
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -255,23 +252,35 @@ public class ConceptInsights extends WatsonService {
      * @return {@link Annotations}
      */
     public Annotations annotateText(Map<String, Object> parameters) {
+        return executeRequest(buildAnnotateTextRequest(parameters), Annotations.class);
+    }
+
+    /**
+     * Identifies concepts in a piece of text without blocking the calling thread.
+     *
+     * @param parameters The parameters of {@link #annotateText(Map)}
+     * @return the future {@link Annotations}
+     * @see #annotateText(Map)
+     */
+    public ListenableFuture<Annotations> annotateTextAsync(Map<String, Object> parameters) {
+        return executeRequestAsync(buildAnnotateTextRequest(parameters), Annotations.class);
+    }
+
+    /**
+     * Builds the request of {@link #annotateText(Map)}.
+     *
+     * @param parameters The parameters to be used in the service call
+     * @return the request
+     */
+    private Request buildAnnotateTextRequest(Map<String, Object> parameters) {
         Validate.notNull(parameters.get(ACCOUNT_ID), "account_id can't be null");
         Validate.notNull(parameters.get(GRAPH), "graph can't be null");
         Validate.notNull(parameters.get(TEXT), "text can't be null");
         String graphId = createGraphIdPath((String) parameters.get(ACCOUNT_ID), (String) parameters.get(GRAPH));
 
-        HttpRequestBase request = Request.Post(graphId + ANNOTATE_TEXT_PATH)
+        return Request.Post(graphId + ANNOTATE_TEXT_PATH)
                 .withContent((String) parameters.get(TEXT), MediaType.TEXT_PLAIN)
-                .withHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON).build();
-
-        try {
-            HttpResponse response = execute(request);
-            Annotations annotations = GsonSingleton.getGson().fromJson(
-                    ResponseUtil.getString(response), Annotations.class);
-            return annotations;
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+                .withHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
     }
 
     /**
@@ -292,6 +301,27 @@ public class ConceptInsights extends WatsonService {
      * @return {@link QueryConcepts}
      */
     public QueryConcepts conceptualSearch(Map<String, Object> parameters) {
+        return executeRequest(buildConceptualSearchRequest(parameters), QueryConcepts.class);
+    }
+
+    /**
+     * Performs a conceptual search within a corpus without blocking the calling thread.
+     *
+     * @param parameters The parameters of {@link #conceptualSearch(Map)}
+     * @return the future {@link QueryConcepts}
+     * @see #conceptualSearch(Map)
+     */
+    public ListenableFuture<QueryConcepts> conceptualSearchAsync(Map<String, Object> parameters) {
+        return executeRequestAsync(buildConceptualSearchRequest(parameters), QueryConcepts.class);
+    }
+
+    /**
+     * Builds the request of {@link #conceptualSearch(Map)}.
+     *
+     * @param parameters The parameters to be used in the service call
+     * @return the request
+     */
+    private Request buildConceptualSearchRequest(Map<String, Object> parameters) {
         Validate.notNull(parameters.get(ACCOUNT_ID), "account_id can't be null");
         Validate.notNull(parameters.get(CORPUS), "corpus can't be null");
         Validate.notNull(parameters.get(IDS), "ids can't be null");
@@ -326,7 +356,7 @@ public class ConceptInsights extends WatsonService {
                 queryParams.put(DOCUMENT_FIELDS, fields.toString());
         }
 
-        return executeRequest(corpusId + CONCEPTUAL_SEARCH_PATH,queryParams,QueryConcepts.class);
+        return createGetRequest(corpusId + CONCEPTUAL_SEARCH_PATH,queryParams);
     }
 
     /**
@@ -336,13 +366,35 @@ public class ConceptInsights extends WatsonService {
      * @param corpus    String the corpus name.
      */
     public void createCorpus(final String accountId, final Corpus corpus) {
+        executeWithoutResponse(buildCreateCorpusRequest(accountId, corpus).build());
+    }
+
+    /**
+     * Creates an empty corpus without blocking the calling thread.
+     *
+     * @param accountId String the Account identifier,
+     * @param corpus String the corpus name.
+     * @return the future completed when the request was executed
+     * @see #createCorpus(String, Corpus)
+     */
+    public ListenableFuture<Void> createCorpusAsync(final String accountId, final Corpus corpus) {
+        return executeWithoutResponseAsync(buildCreateCorpusRequest(accountId, corpus));
+    }
+
+    /**
+     * Builds the request of {@link #createCorpus(String, Corpus)}.
+     *
+     * @param accountId String the Account identifier,
+     * @param corpus String the corpus name.
+     * @return the request
+     */
+    private Request buildCreateCorpusRequest(final String accountId, final Corpus corpus) {
         Validate.notNull(accountId, "account_id can't be null");
         Validate.notNull(corpus, "corpus can't be null");
         Validate.notNull(corpus.getId(), "corpus.id can't be null");
 
-        HttpRequestBase request = Request.Put(createCorpusIdPath(accountId, corpus.getId()))
-                .withContent(GsonSingleton.getGson().toJson(corpus), MediaType.APPLICATION_JSON).build();
-        executeWithoutResponse(request);
+        return Request.Put(createCorpusIdPath(accountId, corpus.getId()))
+                .withContent(GsonSingleton.getGson().toJson(corpus), MediaType.APPLICATION_JSON);
     }
 
     /**
@@ -353,17 +405,39 @@ public class ConceptInsights extends WatsonService {
      * @param document   {@link Document} The document to create.
      */
     public void createDocument(final String accountId, final String corpusName, final Document document) {
+        executeWithoutResponse(buildCreateDocumentRequest(accountId, corpusName, document).build());
+    }
+
+    /**
+     * Creates a document in a given corpus without blocking the calling thread.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name.
+     * @param document {@link Document} The document to create.
+     * @return the future completed when the request was executed
+     * @see #createDocument(String, String, Document)
+     */
+    public ListenableFuture<Void> createDocumentAsync(final String accountId, final String corpusName, final Document document) {
+        return executeWithoutResponseAsync(buildCreateDocumentRequest(accountId, corpusName, document));
+    }
+
+    /**
+     * Builds the request of {@link #createDocument(String, String, Document)}.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name.
+     * @param document {@link Document} The document to create.
+     * @return the request
+     */
+    private Request buildCreateDocumentRequest(final String accountId, final String corpusName, final Document document) {
         Validate.notNull(accountId, "accountId can't be null");
         Validate.notNull(corpusName, "corpusName can't be null");
         Validate.notNull(document, "document can't be null");
         Validate.notNull(document.getId(), "document.id can't be null");
 
-        HttpRequestBase request = Request
+        return Request
                 .Put(createDocumentIdPath(accountId, corpusName, document.getId()))
-                .withContent(GsonSingleton.getGson().toJson(document), MediaType.APPLICATION_JSON)
-                .build();
-
-        executeWithoutResponse(request);
+                .withContent(GsonSingleton.getGson().toJson(document), MediaType.APPLICATION_JSON);
     }
 
     /**
@@ -373,10 +447,32 @@ public class ConceptInsights extends WatsonService {
      * @param corpusName String the corpus name.
      */
     public void deleteCorpus(final String accountId, final String corpusName) {
+        executeWithoutResponse(buildDeleteCorpusRequest(accountId, corpusName).build());
+    }
+
+    /**
+     * Deletes a corpus by ID without blocking the calling thread.
+     *
+     * @param accountId String the Account identifier.
+     * @param corpusName String the corpus name.
+     * @return the future completed when the request was executed
+     * @see #deleteCorpus(String, String)
+     */
+    public ListenableFuture<Void> deleteCorpusAsync(final String accountId, final String corpusName) {
+        return executeWithoutResponseAsync(buildDeleteCorpusRequest(accountId, corpusName));
+    }
+
+    /**
+     * Builds the request of {@link #deleteCorpus(String, String)}.
+     *
+     * @param accountId String the Account identifier.
+     * @param corpusName String the corpus name.
+     * @return the request
+     */
+    private Request buildDeleteCorpusRequest(final String accountId, final String corpusName) {
         Validate.notNull(accountId, "accountId can't be null");
         Validate.notNull(corpusName, "corpusName can't be null");
-        HttpRequestBase request = Request.Delete(createCorpusIdPath(accountId, corpusName)).build();
-        executeWithoutResponse(request);
+        return Request.Delete(createCorpusIdPath(accountId, corpusName));
     }
 
     /**
@@ -388,12 +484,35 @@ public class ConceptInsights extends WatsonService {
      */
 
     public void deleteDocument(final String accountId, final String corpusName, final String documentName) {
+        executeWithoutResponse(buildDeleteDocumentRequest(accountId, corpusName, documentName).build());
+    }
+
+    /**
+     * Deletes a document in a given corpus without blocking the calling thread.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name.
+     * @param documentName String the document name.
+     * @return the future completed when the request was executed
+     * @see #deleteDocument(String, String, String)
+     */
+    public ListenableFuture<Void> deleteDocumentAsync(final String accountId, final String corpusName, final String documentName) {
+        return executeWithoutResponseAsync(buildDeleteDocumentRequest(accountId, corpusName, documentName));
+    }
+
+    /**
+     * Builds the request of {@link #deleteDocument(String, String, String)}.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name.
+     * @param documentName String the document name.
+     * @return the request
+     */
+    private Request buildDeleteDocumentRequest(final String accountId, final String corpusName, final String documentName) {
         Validate.notNull(accountId, "accountId can't be null");
         Validate.notNull(corpusName, "corpusName can't be null");
         Validate.notNull(documentName, "documentName can't be null");
-        HttpRequestBase request = Request.Delete(createDocumentIdPath(accountId, corpusName, documentName))
-                .build();
-        executeWithoutResponse(request);
+        return Request.Delete(createDocumentIdPath(accountId, corpusName, documentName));
     }
 
     /**
@@ -402,7 +521,17 @@ public class ConceptInsights extends WatsonService {
      * @return the {@link Accounts}
      */
     public Accounts getAccountsInfo() {
-       return executeRequest(ACCOUNTS_PATH,null,Accounts.class);
+        return executeRequest(createGetRequest(ACCOUNTS_PATH,null), Accounts.class);
+    }
+
+    /**
+     * Retrieves the account identifiers without blocking the calling thread.
+     *
+     * @return the future {@link Accounts}
+     * @see #getAccountsInfo()
+     */
+    public ListenableFuture<Accounts> getAccountsInfoAsync() {
+        return executeRequestAsync(createGetRequest(ACCOUNTS_PATH,null), Accounts.class);
     }
 
     /**
@@ -418,11 +547,32 @@ public class ConceptInsights extends WatsonService {
      * @return {@link ConceptMetadata}
      */
     public ConceptMetadata getConcept(Map<String, Object> parameters) {
+        return executeRequest(buildGetConceptRequest(parameters), ConceptMetadata.class);
+    }
+
+    /**
+     * Returns information for a specific concept node in a graph without blocking the calling thread.
+     *
+     * @param parameters The parameters of {@link #getConcept(Map)}
+     * @return the future {@link ConceptMetadata}
+     * @see #getConcept(Map)
+     */
+    public ListenableFuture<ConceptMetadata> getConceptAsync(Map<String, Object> parameters) {
+        return executeRequestAsync(buildGetConceptRequest(parameters), ConceptMetadata.class);
+    }
+
+    /**
+     * Builds the request of {@link #getConcept(Map)}.
+     *
+     * @param parameters The parameters to be used in the service call
+     * @return the request
+     */
+    private Request buildGetConceptRequest(Map<String, Object> parameters) {
         Validate.notNull(parameters.get(ACCOUNT_ID), "account_id can't be null");
         Validate.notNull(parameters.get(GRAPH), "graph can't be null");
         Validate.notNull(parameters.get(CONCEPT), "concept can't be null");
         String conceptId = createConceptIdPath((String) parameters.get(ACCOUNT_ID), (String) parameters.get(GRAPH), (String) parameters.get(CONCEPT));
-        return executeRequest(conceptId,null,ConceptMetadata.class);
+        return createGetRequest(conceptId,null);
     }
 
     /**
@@ -433,9 +583,32 @@ public class ConceptInsights extends WatsonService {
      * @return the Corpus
      */
     public Corpus getCorpus(final String accountId, final String corpusName) {
+        return executeRequest(buildGetCorpusRequest(accountId, corpusName), Corpus.class);
+    }
+
+    /**
+     * Retrieves corpus object to a list of individual concepts without blocking the calling thread.
+     *
+     * @param accountId String the Account identifier.
+     * @param corpusName String the corpus name.
+     * @return the future {@link Corpus}
+     * @see #getCorpus(String, String)
+     */
+    public ListenableFuture<Corpus> getCorpusAsync(final String accountId, final String corpusName) {
+        return executeRequestAsync(buildGetCorpusRequest(accountId, corpusName), Corpus.class);
+    }
+
+    /**
+     * Builds the request of {@link #getCorpus(String, String)}.
+     *
+     * @param accountId String the Account identifier.
+     * @param corpusName String the corpus name.
+     * @return the request
+     */
+    private Request buildGetCorpusRequest(final String accountId, final String corpusName) {
         Validate.notNull(accountId, "accountId can't be null");
         Validate.notNull(corpusName, "corpusName can't be null");
-        return executeRequest(createCorpusIdPath(accountId, corpusName),null,Corpus.class);
+        return createGetRequest(createCorpusIdPath(accountId, corpusName),null);
     }
 
     /**
@@ -446,9 +619,32 @@ public class ConceptInsights extends WatsonService {
      * @return {@link CorpusProcessingState} The processing state of a given corpus.
      */
     public CorpusProcessingState getCorpusProcessingState(final String accountId, final String corpusName) {
+        return executeRequest(buildGetCorpusProcessingStateRequest(accountId, corpusName), CorpusProcessingState.class);
+    }
+
+    /**
+     * Gets processing state of a Corpus without blocking the calling thread.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name.
+     * @return the future {@link CorpusProcessingState}
+     * @see #getCorpusProcessingState(String, String)
+     */
+    public ListenableFuture<CorpusProcessingState> getCorpusProcessingStateAsync(final String accountId, final String corpusName) {
+        return executeRequestAsync(buildGetCorpusProcessingStateRequest(accountId, corpusName), CorpusProcessingState.class);
+    }
+
+    /**
+     * Builds the request of {@link #getCorpusProcessingState(String, String)}.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name.
+     * @return the request
+     */
+    private Request buildGetCorpusProcessingStateRequest(final String accountId, final String corpusName) {
         Validate.notNull(accountId, "accountId can't be null");
         Validate.notNull(corpusName, "corpusName can't be null");
-        return executeRequest(createCorpusIdPath(accountId, corpusName) + PROCESSING_STATE_PATH,null,CorpusProcessingState.class);
+        return createGetRequest(createCorpusIdPath(accountId, corpusName) + PROCESSING_STATE_PATH,null);
     }
 
     /**
@@ -467,6 +663,27 @@ public class ConceptInsights extends WatsonService {
      * @return {@link Concepts}
      */
     public Concepts getCorpusRelatedConcepts(Map<String, Object> parameters) {
+        return executeRequest(buildGetCorpusRelatedConceptsRequest(parameters), Concepts.class);
+    }
+
+    /**
+     * Retrieves concepts that are related to an entire corpus without blocking the calling thread.
+     *
+     * @param parameters The parameters of {@link #getCorpusRelatedConcepts(Map)}
+     * @return the future {@link Concepts}
+     * @see #getCorpusRelatedConcepts(Map)
+     */
+    public ListenableFuture<Concepts> getCorpusRelatedConceptsAsync(Map<String, Object> parameters) {
+        return executeRequestAsync(buildGetCorpusRelatedConceptsRequest(parameters), Concepts.class);
+    }
+
+    /**
+     * Builds the request of {@link #getCorpusRelatedConcepts(Map)}.
+     *
+     * @param parameters The parameters to be used in the service call
+     * @return the request
+     */
+    private Request buildGetCorpusRelatedConceptsRequest(Map<String, Object> parameters) {
         Validate.notNull(parameters.get(ACCOUNT_ID), "account_id can't be null");
         Validate.notNull(parameters.get(CORPUS), "corpus can't be null");
 
@@ -483,7 +700,7 @@ public class ConceptInsights extends WatsonService {
             if (fields != null && fields.getFields() != null && !fields.getFields().isEmpty())
                 queryParameters.put(CONCEPT_FIELDS, fields.toString());
         }
-        return executeRequest(corpusId + RELATED_CONCEPTS_PATH, queryParameters, Concepts.class);
+        return createGetRequest(corpusId + RELATED_CONCEPTS_PATH, queryParameters);
     }
 
     /**
@@ -500,6 +717,27 @@ public class ConceptInsights extends WatsonService {
      * @return {@link Scores}
      */
     public Scores getCorpusRelationScores(Map<String, Object> parameters) {
+        return executeRequest(buildGetCorpusRelationScoresRequest(parameters), Scores.class);
+    }
+
+    /**
+     * Returns a list of scores that denotes how related an entire corpus is to a list of individual concepts without blocking the calling thread.
+     *
+     * @param parameters The parameters of {@link #getCorpusRelationScores(Map)}
+     * @return the future {@link Scores}
+     * @see #getCorpusRelationScores(Map)
+     */
+    public ListenableFuture<Scores> getCorpusRelationScoresAsync(Map<String, Object> parameters) {
+        return executeRequestAsync(buildGetCorpusRelationScoresRequest(parameters), Scores.class);
+    }
+
+    /**
+     * Builds the request of {@link #getCorpusRelationScores(Map)}.
+     *
+     * @param parameters The parameters to be used in the service call
+     * @return the request
+     */
+    private Request buildGetCorpusRelationScoresRequest(Map<String, Object> parameters) {
         Validate.notNull(parameters.get(ACCOUNT_ID), "account_id can't be null");
         Validate.notNull(parameters.get(CORPUS), "corpus can't be null");
         Validate.notNull(parameters.get(CONCEPTS), "concepts can't be null");
@@ -516,7 +754,7 @@ public class ConceptInsights extends WatsonService {
         }
         contentJson.add(CONCEPTS, conceptsJson);
         queryParameters.put(CONCEPTS, conceptsJson.toString());
-        return executeRequest(corpusId + RELATION_SCORES_PATH, queryParameters, Scores.class);
+        return createGetRequest(corpusId + RELATION_SCORES_PATH, queryParameters);
     }
 
     /**
@@ -527,9 +765,32 @@ public class ConceptInsights extends WatsonService {
      * @return the {@link CorpusStats}
      */
     public CorpusStats getCorpusStats(final String accountId, final String corpusName) {
+        return executeRequest(buildGetCorpusStatsRequest(accountId, corpusName), CorpusStats.class);
+    }
+
+    /**
+     * Gets processing state of a Corpus without blocking the calling thread.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name.
+     * @return the future {@link CorpusStats}
+     * @see #getCorpusStats(String, String)
+     */
+    public ListenableFuture<CorpusStats> getCorpusStatsAsync(final String accountId, final String corpusName) {
+        return executeRequestAsync(buildGetCorpusStatsRequest(accountId, corpusName), CorpusStats.class);
+    }
+
+    /**
+     * Builds the request of {@link #getCorpusStats(String, String)}.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name.
+     * @return the request
+     */
+    private Request buildGetCorpusStatsRequest(final String accountId, final String corpusName) {
         Validate.notNull(accountId, "accountId can't be null");
         Validate.notNull(corpusName, "corpusName can't be null");
-        return executeRequest(createCorpusIdPath(accountId, corpusName) + STATS_PATH,null,CorpusStats.class);
+        return createGetRequest(createCorpusIdPath(accountId, corpusName) + STATS_PATH,null);
     }
 
     /**
@@ -541,11 +802,36 @@ public class ConceptInsights extends WatsonService {
      * @return {@link Document}
      */
     public Document getDocument(final String accountId, final String corpusName, final String documentName) {
+        return executeRequest(buildGetDocumentRequest(accountId, corpusName, documentName), Document.class);
+    }
+
+    /**
+     * Retrieves a document from a corpus without blocking the calling thread.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name.
+     * @param documentName String the document name.
+     * @return the future {@link Document}
+     * @see #getDocument(String, String, String)
+     */
+    public ListenableFuture<Document> getDocumentAsync(final String accountId, final String corpusName, final String documentName) {
+        return executeRequestAsync(buildGetDocumentRequest(accountId, corpusName, documentName), Document.class);
+    }
+
+    /**
+     * Builds the request of {@link #getDocument(String, String, String)}.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name.
+     * @param documentName String the document name.
+     * @return the request
+     */
+    private Request buildGetDocumentRequest(final String accountId, final String corpusName, final String documentName) {
         Validate.notNull(accountId, "accountId can't be null");
         Validate.notNull(corpusName, "corpusName can't be null");
         Validate.notNull(documentName, "documentName can't be null");
 
-        return executeRequest(createDocumentIdPath(accountId, corpusName, documentName),null,Document.class);
+        return createGetRequest(createDocumentIdPath(accountId, corpusName, documentName),null);
     }
 
     /**
@@ -557,12 +843,37 @@ public class ConceptInsights extends WatsonService {
      * @return {@link DocumentAnnotations}
      */
     public DocumentAnnotations getDocumentAnnotations(final String accountId, final String corpusName, final String documentName) {
+        return executeRequest(buildGetDocumentAnnotationsRequest(accountId, corpusName, documentName), DocumentAnnotations.class);
+    }
+
+    /**
+     * Retrieves conceptual view of document (including annotations) without blocking the calling thread.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name,
+     * @param documentName String the document name.
+     * @return the future {@link DocumentAnnotations}
+     * @see #getDocumentAnnotations(String, String, String)
+     */
+    public ListenableFuture<DocumentAnnotations> getDocumentAnnotationsAsync(final String accountId, final String corpusName, final String documentName) {
+        return executeRequestAsync(buildGetDocumentAnnotationsRequest(accountId, corpusName, documentName), DocumentAnnotations.class);
+    }
+
+    /**
+     * Builds the request of {@link #getDocumentAnnotations(String, String, String)}.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name,
+     * @param documentName String the document name.
+     * @return the request
+     */
+    private Request buildGetDocumentAnnotationsRequest(final String accountId, final String corpusName, final String documentName) {
         Validate.notNull(accountId, "accountId can't be null");
         Validate.notNull(corpusName, "corpusName can't be null");
         Validate.notNull(documentName, "documentName can't be null");
 
         String documentId = createDocumentIdPath(accountId, corpusName, documentName);
-        return executeRequest(documentId + ANNOTATIONS_PATH,null,DocumentAnnotations.class);
+        return createGetRequest(documentId + ANNOTATIONS_PATH,null);
     }
 
     /**
@@ -574,12 +885,37 @@ public class ConceptInsights extends WatsonService {
      * @return {@link DocumentProcessingStatus}
      */
     public DocumentProcessingStatus getDocumentProcessingState(final String accountId, final String corpusName, final String documentName) {
+        return executeRequest(buildGetDocumentProcessingStateRequest(accountId, corpusName, documentName), DocumentProcessingStatus.class);
+    }
+
+    /**
+     * Retrieves processing state of document without blocking the calling thread.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name,
+     * @param documentName String the document name.
+     * @return the future {@link DocumentProcessingStatus}
+     * @see #getDocumentProcessingState(String, String, String)
+     */
+    public ListenableFuture<DocumentProcessingStatus> getDocumentProcessingStateAsync(final String accountId, final String corpusName, final String documentName) {
+        return executeRequestAsync(buildGetDocumentProcessingStateRequest(accountId, corpusName, documentName), DocumentProcessingStatus.class);
+    }
+
+    /**
+     * Builds the request of {@link #getDocumentProcessingState(String, String, String)}.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name,
+     * @param documentName String the document name.
+     * @return the request
+     */
+    private Request buildGetDocumentProcessingStateRequest(final String accountId, final String corpusName, final String documentName) {
         Validate.notNull(accountId, "accountId can't be null");
         Validate.notNull(corpusName, "corpusName can't be null");
         Validate.notNull(documentName, "documentName can't be null");
 
         String documentId = createDocumentIdPath(accountId, corpusName, documentName);
-        return executeRequest(documentId + PROCESSING_STATE_PATH,null,DocumentProcessingStatus.class);
+        return createGetRequest(documentId + PROCESSING_STATE_PATH,null);
     }
 
     /**
@@ -599,6 +935,27 @@ public class ConceptInsights extends WatsonService {
      * @return {@link Concepts}
      */
     public Concepts getDocumentRelatedConcepts(Map<String, Object> parameters) {
+        return executeRequest(buildGetDocumentRelatedConceptsRequest(parameters), Concepts.class);
+    }
+
+    /**
+     * Retrieves concepts that are related (in conceptual sense) to a given document without blocking the calling thread.
+     *
+     * @param parameters The parameters of {@link #getDocumentRelatedConcepts(Map)}
+     * @return the future {@link Concepts}
+     * @see #getDocumentRelatedConcepts(Map)
+     */
+    public ListenableFuture<Concepts> getDocumentRelatedConceptsAsync(Map<String, Object> parameters) {
+        return executeRequestAsync(buildGetDocumentRelatedConceptsRequest(parameters), Concepts.class);
+    }
+
+    /**
+     * Builds the request of {@link #getDocumentRelatedConcepts(Map)}.
+     *
+     * @param parameters The parameters to be used in the service call
+     * @return the request
+     */
+    private Request buildGetDocumentRelatedConceptsRequest(Map<String, Object> parameters) {
         Validate.notNull(parameters.get(ACCOUNT_ID), "account_id can't be null");
         Validate.notNull(parameters.get(CORPUS), "corpus can't be null");
         Validate.notNull(parameters.get(DOCUMENT), "document can't be null");
@@ -616,7 +973,7 @@ public class ConceptInsights extends WatsonService {
             if (fields != null && fields.getFields() != null && !fields.getFields().isEmpty())
                 queryParams.put(CONCEPT_FIELDS, fields.toString());
         }
-        return executeRequest(documentId + RELATED_CONCEPTS_PATH, queryParams, Concepts.class);
+        return createGetRequest(documentId + RELATED_CONCEPTS_PATH, queryParams);
     }
 
     /**
@@ -634,6 +991,27 @@ public class ConceptInsights extends WatsonService {
      * @return {@link Scores}
      */
     public Scores getDocumentRelationScores(Map<String, Object> parameters) {
+        return executeRequest(buildGetDocumentRelationScoresRequest(parameters), Scores.class);
+    }
+
+    /**
+     * Retrieves concepts that are related (in conceptual sense) to a given document without blocking the calling thread.
+     *
+     * @param parameters The parameters of {@link #getDocumentRelationScores(Map)}
+     * @return the future {@link Scores}
+     * @see #getDocumentRelationScores(Map)
+     */
+    public ListenableFuture<Scores> getDocumentRelationScoresAsync(Map<String, Object> parameters) {
+        return executeRequestAsync(buildGetDocumentRelationScoresRequest(parameters), Scores.class);
+    }
+
+    /**
+     * Builds the request of {@link #getDocumentRelationScores(Map)}.
+     *
+     * @param parameters The parameters to be used in the service call
+     * @return the request
+     */
+    private Request buildGetDocumentRelationScoresRequest(Map<String, Object> parameters) {
         Validate.notNull(parameters.get(ACCOUNT_ID), "account_id can't be null");
         Validate.notNull(parameters.get(CORPUS), "corpus can't be null");
         Validate.notNull(parameters.get(DOCUMENT), "document can't be null");
@@ -651,7 +1029,7 @@ public class ConceptInsights extends WatsonService {
         }
         contentJson.add(CONCEPTS, conceptsJson);
         queryParams.put(CONCEPTS, conceptsJson.toString());
-        return executeRequest(documentId + RELATION_SCORES_PATH, queryParams, Scores.class);
+        return createGetRequest(documentId + RELATION_SCORES_PATH, queryParams);
     }
 
     /**
@@ -670,6 +1048,27 @@ public class ConceptInsights extends WatsonService {
      * @return {@link Concepts}
      */
     public Concepts getGraphsRelatedConcepts(Map<String, Object> parameters) {
+        return executeRequest(buildGetGraphsRelatedConceptsRequest(parameters), Concepts.class);
+    }
+
+    /**
+     * Searches for graph concepts by using partial matches without blocking the calling thread.
+     *
+     * @param parameters The parameters of {@link #getGraphsRelatedConcepts(Map)}
+     * @return the future {@link Concepts}
+     * @see #getGraphsRelatedConcepts(Map)
+     */
+    public ListenableFuture<Concepts> getGraphsRelatedConceptsAsync(Map<String, Object> parameters) {
+        return executeRequestAsync(buildGetGraphsRelatedConceptsRequest(parameters), Concepts.class);
+    }
+
+    /**
+     * Builds the request of {@link #getGraphsRelatedConcepts(Map)}.
+     *
+     * @param parameters The parameters to be used in the service call
+     * @return the request
+     */
+    private Request buildGetGraphsRelatedConceptsRequest(Map<String, Object> parameters) {
         //TODO: we may need to divide this into 2 methods
         Validate.notNull(parameters.get(ACCOUNT_ID), "account_id can't be null");
         Validate.notNull(parameters.get(GRAPH), "graph can't be null");
@@ -698,10 +1097,10 @@ public class ConceptInsights extends WatsonService {
             }
             contentJson.add(CONCEPTS, conceptsJson);
             queryParameters.put(CONCEPTS, conceptsJson.toString());
-            return executeRequest(graphId + RELATED_CONCEPTS_PATH, queryParameters, Concepts.class);
+            return createGetRequest(graphId + RELATED_CONCEPTS_PATH, queryParameters);
         } else {
             String conceptId = createConceptIdPath((String) parameters.get(ACCOUNT_ID), (String) parameters.get(GRAPH), (String) parameters.get(CONCEPT));
-            return executeRequest(conceptId + RELATED_CONCEPTS_PATH, queryParameters, Concepts.class);
+            return createGetRequest(conceptId + RELATED_CONCEPTS_PATH, queryParameters);
         }
     }
 
@@ -721,6 +1120,27 @@ public class ConceptInsights extends WatsonService {
      * @return {@link Scores}
      */
     public Scores getGraphsRelationScores(Map<String, Object> parameters) {
+        return executeRequest(buildGetGraphsRelationScoresRequest(parameters), Scores.class);
+    }
+
+    /**
+     * Returns a list of scores that denotes how related a source concept is to a list of individual concepts without blocking the calling thread.
+     *
+     * @param parameters The parameters of {@link #getGraphsRelationScores(Map)}
+     * @return the future {@link Scores}
+     * @see #getGraphsRelationScores(Map)
+     */
+    public ListenableFuture<Scores> getGraphsRelationScoresAsync(Map<String, Object> parameters) {
+        return executeRequestAsync(buildGetGraphsRelationScoresRequest(parameters), Scores.class);
+    }
+
+    /**
+     * Builds the request of {@link #getGraphsRelationScores(Map)}.
+     *
+     * @param parameters The parameters to be used in the service call
+     * @return the request
+     */
+    private Request buildGetGraphsRelationScoresRequest(Map<String, Object> parameters) {
         Validate.notNull(parameters.get(ACCOUNT_ID), "account_id can't be null");
         Validate.notNull(parameters.get(GRAPH), "graph can't be null");
         Validate.notNull(parameters.get(CONCEPT), "concept can't be null");
@@ -739,7 +1159,7 @@ public class ConceptInsights extends WatsonService {
         contentJson.add(CONCEPTS, conceptsJson);
         queryParameters.put(CONCEPTS, conceptsJson.toString());
 
-        return executeRequest(conceptId + RELATION_SCORES_PATH, queryParameters, Scores.class);
+        return createGetRequest(conceptId + RELATION_SCORES_PATH, queryParameters);
     }
 
     /**
@@ -748,7 +1168,17 @@ public class ConceptInsights extends WatsonService {
      * @return {@link Corpora}
      */
     public Corpora listCorpora() {
-        return executeRequest(CORPORA_PATH,null,Corpora.class);
+        return executeRequest(createGetRequest(CORPORA_PATH,null),Corpora.class);
+    }
+
+    /**
+     * Retrieves the available corpus objects without blocking the calling thread.
+     *
+     * @return the future {@link Corpora}
+     * @see #listCorpora()
+     */
+    public ListenableFuture<Corpora> listCorporaAsync() {
+        return executeRequestAsync(createGetRequest(CORPORA_PATH,null),Corpora.class);
     }
 
     /**
@@ -759,7 +1189,20 @@ public class ConceptInsights extends WatsonService {
      */
     public Corpora listCorpora(String accountId) {
         Validate.notNull(accountId, "account_id can't be null");
-        return executeRequest(CORPORA_PATH + FORWARD_SLASH + accountId,null,Corpora.class);
+        return executeRequest(createGetRequest(CORPORA_PATH + FORWARD_SLASH + accountId,null),Corpora.class);
+    }
+
+    /**
+     * Retrieves the available corpus objects associated with an account identifier
+     * without blocking the calling thread.
+     *
+     * @param accountId The account identifier.
+     * @return the future {@link Corpora}
+     * @see #listCorpora(String)
+     */
+    public ListenableFuture<Corpora> listCorporaAsync(String accountId) {
+        Validate.notNull(accountId, "account_id can't be null");
+        return executeRequestAsync(createGetRequest(CORPORA_PATH + FORWARD_SLASH + accountId,null),Corpora.class);
     }
 
     /**
@@ -782,6 +1225,27 @@ public class ConceptInsights extends WatsonService {
      * @return {@link Documents}
      */
     public Documents listDocuments(Map<String, Object> parameters) {
+        return executeRequest(buildListDocumentsRequest(parameters), Documents.class);
+    }
+
+    /**
+     * Retrieves the document ids of a corpus without blocking the calling thread.
+     *
+     * @param parameters The parameters of {@link #listDocuments(Map)}
+     * @return the future {@link Documents}
+     * @see #listDocuments(Map)
+     */
+    public ListenableFuture<Documents> listDocumentsAsync(Map<String, Object> parameters) {
+        return executeRequestAsync(buildListDocumentsRequest(parameters), Documents.class);
+    }
+
+    /**
+     * Builds the request of {@link #listDocuments(Map)}.
+     *
+     * @param parameters The parameters to be used in the service call
+     * @return the request
+     */
+    private Request buildListDocumentsRequest(Map<String, Object> parameters) {
         Validate.notNull(parameters.get(ACCOUNT_ID), "account_id can't be null");
         Validate.notNull(parameters.get(CORPUS), "corpus can't be null");
         Map<String, Object> queryParameters = new HashMap<String, Object>();
@@ -797,8 +1261,8 @@ public class ConceptInsights extends WatsonService {
             queryParameters.put(QUERY, parameters.get(QUERY));
         }
 
-        return executeRequest(createCorpusIdPath((String) parameters.get(ACCOUNT_ID),
-                (String) parameters.get(CORPUS)) + DOCUMENTS,queryParameters,Documents.class);
+        return createGetRequest(createCorpusIdPath((String) parameters.get(ACCOUNT_ID),
+                (String) parameters.get(CORPUS)) + DOCUMENTS,queryParameters);
     }
 
     /**
@@ -807,7 +1271,17 @@ public class ConceptInsights extends WatsonService {
      * @return the {@link Graphs}
      */
     public Graphs listGraphs() {
-        return executeRequest(GRAPHS_PATH,null,Graphs.class);
+        return executeRequest(createGetRequest(GRAPHS_PATH,null), Graphs.class);
+    }
+
+    /**
+     * Retrieves the available {@link Graphs} without blocking the calling thread.
+     *
+     * @return the future {@link Graphs}
+     * @see #listGraphs()
+     */
+    public ListenableFuture<Graphs> listGraphsAsync() {
+        return executeRequestAsync(createGetRequest(GRAPHS_PATH,null), Graphs.class);
     }
 
     /**
@@ -829,6 +1303,27 @@ public class ConceptInsights extends WatsonService {
      * @return {@link Matches}
      */
     public Matches searchCorpusByLabel(Map<String, Object> parameters) {
+        return executeRequest(buildSearchCorpusByLabelRequest(parameters), Matches.class);
+    }
+
+    /**
+     * Searches for documents and concepts by using partial matches on the label(s) fields without blocking the calling thread.
+     *
+     * @param parameters The parameters of {@link #searchCorpusByLabel(Map)}
+     * @return the future {@link Matches}
+     * @see #searchCorpusByLabel(Map)
+     */
+    public ListenableFuture<Matches> searchCorpusByLabelAsync(Map<String, Object> parameters) {
+        return executeRequestAsync(buildSearchCorpusByLabelRequest(parameters), Matches.class);
+    }
+
+    /**
+     * Builds the request of {@link #searchCorpusByLabel(Map)}.
+     *
+     * @param parameters The parameters to be used in the service call
+     * @return the request
+     */
+    private Request buildSearchCorpusByLabelRequest(Map<String, Object> parameters) {
         Validate.notNull(parameters.get(ACCOUNT_ID), "account_id can't be null");
         Validate.notNull(parameters.get(CORPUS), "corpus can't be null");
         Validate.notNull(parameters.get(QUERY), "query can't be null");
@@ -853,7 +1348,7 @@ public class ConceptInsights extends WatsonService {
             if (fields != null && fields.getFields() != null && !fields.getFields().isEmpty())
                 queryParameters.put(DOCUMENT_FIELDS, fields.toString());
         }
-        return executeRequest(corpusId + LABEL_SEARCH_PATH, queryParameters, Matches.class);
+        return createGetRequest(corpusId + LABEL_SEARCH_PATH, queryParameters);
     }
 
     /**
@@ -872,6 +1367,27 @@ public class ConceptInsights extends WatsonService {
 	 * @return {@link Matches}
 	 */
     public Matches searchGraphsConceptByLabel(Map<String, Object> parameters) {
+        return executeRequest(buildSearchGraphsConceptByLabelRequest(parameters), Matches.class);
+    }
+
+    /**
+     * Searches for graph concepts by using partial matches without blocking the calling thread.
+     *
+     * @param parameters The parameters of {@link #searchGraphsConceptByLabel(Map)}
+     * @return the future {@link Matches}
+     * @see #searchGraphsConceptByLabel(Map)
+     */
+    public ListenableFuture<Matches> searchGraphsConceptByLabelAsync(Map<String, Object> parameters) {
+        return executeRequestAsync(buildSearchGraphsConceptByLabelRequest(parameters), Matches.class);
+    }
+
+    /**
+     * Builds the request of {@link #searchGraphsConceptByLabel(Map)}.
+     *
+     * @param parameters The parameters to be used in the service call
+     * @return the request
+     */
+    private Request buildSearchGraphsConceptByLabelRequest(Map<String, Object> parameters) {
         Validate.notNull(parameters.get(ACCOUNT_ID), "account_id can't be null");
         Validate.notNull(parameters.get(GRAPH), "graph can't be null");
         Validate.notNull(parameters.get(QUERY), "query can't be null");
@@ -890,7 +1406,7 @@ public class ConceptInsights extends WatsonService {
             if (fields != null && fields.getFields() != null && !fields.getFields().isEmpty())
                 queryParameters.put(CONCEPT_FIELDS, fields.toString());
         }
-        return executeRequest(graph_id + LABEL_SEARCH_PATH, queryParameters, Matches.class);
+        return createGetRequest(graph_id + LABEL_SEARCH_PATH, queryParameters);
     }
 
     /**
@@ -900,13 +1416,35 @@ public class ConceptInsights extends WatsonService {
      * @param corpus    {@link Corpus} the corpus to update.
      */
     public void updateCorpus(final String accountId, final Corpus corpus) {
+        executeWithoutResponse(buildUpdateCorpusRequest(accountId, corpus).build());
+    }
+
+    /**
+     * Updates existing corpus meta-data (access and permissions) without blocking the calling thread.
+     *
+     * @param accountId String the Account identifier.
+     * @param corpus {@link Corpus} the corpus to update.
+     * @return the future completed when the request was executed
+     * @see #updateCorpus(String, Corpus)
+     */
+    public ListenableFuture<Void> updateCorpusAsync(final String accountId, final Corpus corpus) {
+        return executeWithoutResponseAsync(buildUpdateCorpusRequest(accountId, corpus));
+    }
+
+    /**
+     * Builds the request of {@link #updateCorpus(String, Corpus)}.
+     *
+     * @param accountId String the Account identifier.
+     * @param corpus {@link Corpus} the corpus to update.
+     * @return the request
+     */
+    private Request buildUpdateCorpusRequest(final String accountId, final Corpus corpus) {
         Validate.notNull(accountId, "account_id can't be null");
         Validate.notNull(corpus, "corpus can't be null");
         Validate.notNull(corpus.getId(), "corpus.id can't be null");
 
-        HttpRequestBase request = Request.Post(createCorpusIdPath(accountId, corpus.getId()))
-                .withContent(GsonSingleton.getGson().toJson(corpus), MediaType.APPLICATION_JSON).build();
-        executeWithoutResponse(request);
+        return Request.Post(createCorpusIdPath(accountId, corpus.getId()))
+                .withContent(GsonSingleton.getGson().toJson(corpus), MediaType.APPLICATION_JSON);
     }
 
     /**
@@ -917,39 +1455,54 @@ public class ConceptInsights extends WatsonService {
      * @param document   {@link Document} The document to update.
      */
     public void updateDocument(final String accountId, final String corpusName, final Document document) {
+        executeWithoutResponse(buildUpdateDocumentRequest(accountId, corpusName, document).build());
+    }
+
+    /**
+     * Updates a document in a given corpus without blocking the calling thread.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name.
+     * @param document {@link Document} The document to update.
+     * @return the future completed when the request was executed
+     * @see #updateDocument(String, String, Document)
+     */
+    public ListenableFuture<Void> updateDocumentAsync(final String accountId, final String corpusName, final Document document) {
+        return executeWithoutResponseAsync(buildUpdateDocumentRequest(accountId, corpusName, document));
+    }
+
+    /**
+     * Builds the request of {@link #updateDocument(String, String, Document)}.
+     *
+     * @param accountId String the account identifier,
+     * @param corpusName String the corpus name.
+     * @param document {@link Document} The document to update.
+     * @return the request
+     */
+    private Request buildUpdateDocumentRequest(final String accountId, final String corpusName, final Document document) {
         Validate.notNull(accountId, "accountId can't be null");
         Validate.notNull(corpusName, "corpusName can't be null");
         Validate.notNull(document, "document can't be null");
         Validate.notNull(document.getId(), "document.id can't be null");
 
-        HttpRequestBase request = Request.Post(createDocumentIdPath(accountId, corpusName, document.getId()))
-                .withContent(GsonSingleton.getGson().toJson(document), MediaType.APPLICATION_JSON)
-                .build();
-        executeWithoutResponse(request);
+        return Request.Post(createDocumentIdPath(accountId, corpusName, document.getId()))
+                .withContent(GsonSingleton.getGson().toJson(document), MediaType.APPLICATION_JSON);
     }
 
     /**
-     * Execute the request and return the POJO that represent the response.
+     * Creates a GET request with the given query parameters.
      *
-     * @param <T>             The POJO that represents the response object
      * @param resourcePath    the resource path
      * @param params          the request parameters
-     * @param returnType      the POJO class to be parsed from the response
-     * @return the POJO object that represent the response
+     * @return the request
      */
-    private <T> T executeRequest(String resourcePath, Map<String, Object> params,  Class<T> returnType) {
+    private static Request createGetRequest(String resourcePath, Map<String, Object> params) {
         Request request = Request.Get(resourcePath);
         if(params!=null && !params.isEmpty()) {
             for (Map.Entry<String, Object> entry : params.entrySet()) {
                 request.withQuery(entry.getKey(), entry.getValue());
             }
         }
-        HttpRequestBase requestBase = request.build();
-        try {
-            HttpResponse response = execute(requestBase);
-            return ResponseUtil.getObject(response, returnType);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return request;
     }
 }
@@ -19,7 +19,6 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +31,9 @@ import org.apache.http.entity.mime.MultipartEntity;
 import org.apache.http.entity.mime.content.FileBody;
 import org.apache.http.entity.mime.content.StringBody;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import com.ibm.watson.developer_cloud.dialog.v1.model.Conversation;
@@ -39,8 +41,10 @@ import com.ibm.watson.developer_cloud.dialog.v1.model.ConversationData;
 import com.ibm.watson.developer_cloud.dialog.v1.model.Dialog;
 import com.ibm.watson.developer_cloud.dialog.v1.model.DialogContent;
 import com.ibm.watson.developer_cloud.dialog.v1.model.NameValue;
+import com.ibm.watson.developer_cloud.service.PagedIterator;
 import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.service.WatsonService;
+import com.ibm.watson.developer_cloud.util.DateCodec;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
 
@@ -81,6 +85,9 @@ public class DialogService extends WatsonService {
 	/** The Constant LIMIT. */
 	public static final String LIMIT = "limit";
 	
+	/** The default number of conversations per page. */
+	public static final int DEFAULT_LIMIT = 100;
+
 	/** The Constant OFFSET. */
 	public static final String OFFSET = "offset";
 	
@@ -103,8 +110,8 @@ public class DialogService extends WatsonService {
 	/** The Constant log. */
 	private static final Logger log = Logger.getLogger(DialogService.class.getName());
 
-	/** The Constant sdfDate. */
-	private static final SimpleDateFormat sdfDate = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+	/** The Constant DATE, the format of the conversation date range. */
+	private static final DateCodec DATE = new DateCodec("yyyy-MM-dd HH:mm:ss");
 
 	/** The Constant URL. */
 	private static final String URL = "https://gateway.watsonplatform.net/dialog-beta/api";
@@ -124,6 +131,27 @@ public class DialogService extends WatsonService {
 	 * @return the {@link Conversation} with the response
 	 */
 	public Conversation converse(final Map<String, Object> params) {
+		return executeRequest(buildConverseRequest(params), Conversation.class);
+	}
+
+	/**
+	 * Starts or continue conversations without blocking the calling thread.
+	 *
+	 * @param params the params
+	 * @return the future {@link Conversation} with the response
+	 * @see #converse(Map)
+	 */
+	public ListenableFuture<Conversation> converseAsync(final Map<String, Object> params) {
+		return executeRequestAsync(buildConverseRequest(params), Conversation.class);
+	}
+
+	/**
+	 * Builds the conversation request.
+	 *
+	 * @param params the params
+	 * @return the request
+	 */
+	private Request buildConverseRequest(final Map<String, Object> params) {
 		
 		final String dialogId = (String) params.get(DIALOG_ID);
 		final String input = (String) params.get(INPUT);
@@ -142,20 +170,12 @@ public class DialogService extends WatsonService {
 
 		String path = String.format("/v1/dialogs/%s/conversation", dialogId);
 
-		HttpRequestBase request = Request
+		return Request
 				.Post(path)
 				.withForm(CONVERSATION_ID, conversationId,
 						CLIENT_ID,clientId,
 						INPUT, input
-				).build();
-
-		try {
-			HttpResponse response = execute(request);
-			Conversation conversation = ResponseUtil.getObject(response, Conversation.class);
-			return conversation;
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+				);
 	}
 
 	/**
@@ -171,6 +191,20 @@ public class DialogService extends WatsonService {
 		return converse(params);
 	}
 
+	/**
+	 * Starts a conversation without blocking the calling thread.
+	 * 
+	 * @param dialogId
+	 *            the dialog identifier
+	 * @return the future new {@link Conversation}
+	 * @see #createConversation(String)
+	 */
+	public ListenableFuture<Conversation> createConversationAsync(final String dialogId) {
+		Map<String, Object> params = new HashMap<String,Object>();
+		params.put(DIALOG_ID, dialogId);
+		return converseAsync(params);
+	}
+
 	/**
 	 * Creates a dialog.
 	 *
@@ -180,6 +214,29 @@ public class DialogService extends WatsonService {
 	 * @see Dialog
 	 */
 	public Dialog createDialog(final String name, final File dialogFile) {
+		return executeRequest(buildCreateDialogRequest(name, dialogFile), Dialog.class);
+	}
+
+	/**
+	 * Creates a dialog without blocking the calling thread.
+	 *
+	 * @param name	The dialog name
+	 * @param dialogFile	The dialog file created by using the Dialog service Applet.
+	 * @return The future created dialog
+	 * @see #createDialog(String, File)
+	 */
+	public ListenableFuture<Dialog> createDialogAsync(final String name, final File dialogFile) {
+		return executeRequestAsync(buildCreateDialogRequest(name, dialogFile), Dialog.class);
+	}
+
+	/**
+	 * Builds the request to create a dialog.
+	 *
+	 * @param name	The dialog name
+	 * @param dialogFile	The dialog file
+	 * @return the request
+	 */
+	private Request buildCreateDialogRequest(final String name, final File dialogFile) {
 		if (name == null || name.isEmpty())
 			throw new IllegalArgumentException("name can not be null or empty");
 
@@ -192,11 +249,7 @@ public class DialogService extends WatsonService {
 			reqEntity.addPart("file", new FileBody(dialogFile));
 			reqEntity.addPart("name", new StringBody(name,Charset.forName("UTF-8")));
 
-			HttpRequestBase request = Request.Post("/v1/dialogs")
-					.withEntity(reqEntity).build();
-
-			HttpResponse response = execute(request);
-			return ResponseUtil.getObject(response, Dialog.class);
+			return Request.Post("/v1/dialogs").withEntity(reqEntity);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
@@ -209,13 +262,32 @@ public class DialogService extends WatsonService {
 	 * @see DialogService
 	 */
 	public void deleteDialog(final String dialogId) {
+		executeWithoutResponse(buildDeleteDialogRequest(dialogId).build());
+	}
+
+	/**
+	 * Deletes a dialog without blocking the calling thread.
+	 *
+	 * @param dialogId The dialog identifier
+	 * @return the future completed when the dialog was deleted
+	 * @see #deleteDialog(String)
+	 */
+	public ListenableFuture<Void> deleteDialogAsync(final String dialogId) {
+		return executeWithoutResponseAsync(buildDeleteDialogRequest(dialogId));
+	}
+
+	/**
+	 * Builds the request to delete a dialog.
+	 *
+	 * @param dialogId The dialog identifier
+	 * @return the request
+	 */
+	private Request buildDeleteDialogRequest(final String dialogId) {
 		if (dialogId == null || dialogId.isEmpty())
 			throw new IllegalArgumentException(
 					"dialogId can not be null or empty");
 
-		HttpRequestBase request = Request.Delete("/v1/dialogs/" + dialogId)
-				.build();
-		executeWithoutResponse(request);
+		return Request.Delete("/v1/dialogs/" + dialogId);
 	}
 
 	/**
@@ -226,24 +298,44 @@ public class DialogService extends WatsonService {
 	 * @return The {@link DialogContent} for nodes
 	 */
 	public List<DialogContent> getContent(final String dialogId) {
-		if (dialogId == null || dialogId.isEmpty())
-			throw new IllegalArgumentException(
-					"dialogId can not be null or empty");
-
-		HttpRequestBase request = Request.Get(
-				"/v1/dialogs/" + dialogId + "/content").build();
+		HttpRequestBase request = buildContentRequest(dialogId).build();
 
 		try {
 			HttpResponse response = execute(request);
-			JsonObject jsonObject = ResponseUtil.getJsonObject(response);
-			List<DialogContent> content = GsonSingleton.getGson().fromJson(
-					jsonObject.get("items"), listDialogContentType);
+			List<DialogContent> content = ResponseUtil.getObject(response, "items", listDialogContentType);
 			return content;
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Gets content for nodes without blocking the calling thread.
+	 * 
+	 * @param dialogId
+	 *            the dialog identifier
+	 * @return The future {@link DialogContent} for nodes
+	 * @see #getContent(String)
+	 */
+	public ListenableFuture<List<DialogContent>> getContentAsync(final String dialogId) {
+		return executeRequestAsync(buildContentRequest(dialogId), "items", listDialogContentType);
+	}
+
+	/**
+	 * Builds the request to get the content for nodes.
+	 * 
+	 * @param dialogId
+	 *            the dialog identifier
+	 * @return the request
+	 */
+	private Request buildContentRequest(final String dialogId) {
+		if (dialogId == null || dialogId.isEmpty())
+			throw new IllegalArgumentException(
+					"dialogId can not be null or empty");
+
+		return Request.Get("/v1/dialogs/" + dialogId + "/content");
+	}
+
 	/**
 	 * Retrieves the list of Dialogs for the user.
 	 *
@@ -254,15 +346,24 @@ public class DialogService extends WatsonService {
 
 		try {
 			HttpResponse response = execute(request);
-			JsonObject jsonObject = ResponseUtil.getJsonObject(response);
-			List<Dialog> dialogs = GsonSingleton.getGson().fromJson(
-					jsonObject.get("dialogs"), listDialogType);
+			List<Dialog> dialogs = ResponseUtil.getObject(response, "dialogs", listDialogType);
 			return dialogs;
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Retrieves the list of Dialogs for the user without blocking the calling
+	 * thread.
+	 *
+	 * @return the future {@link Dialog} list
+	 * @see #getDialogs()
+	 */
+	public ListenableFuture<List<Dialog>> getDialogsAsync() {
+		return executeRequestAsync(Request.Get("/v1/dialogs"), "dialogs", listDialogType);
+	}
+
 	/**
 	 * Returns a list of name-value pars associated with a client id.
 	 *
@@ -272,6 +373,37 @@ public class DialogService extends WatsonService {
 	 * @see NameValue
 	 */
 	public List<NameValue> getProfile(String dialogId, Integer clientId) {
+		HttpRequestBase request = buildProfileRequest(dialogId, clientId).build();
+		try {
+			HttpResponse response = execute(request);
+			List<NameValue> content = ResponseUtil.getObject(response, NAME_VALUES, listNameValueType);
+			return content;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Returns the name-value pars associated with a client id without
+	 * blocking the calling thread.
+	 *
+	 * @param dialogId The dialog identifier
+	 * @param clientId the client id
+	 * @return the future {@link NameValue} list
+	 * @see #getProfile(String, Integer)
+	 */
+	public ListenableFuture<List<NameValue>> getProfileAsync(String dialogId, Integer clientId) {
+		return executeRequestAsync(buildProfileRequest(dialogId, clientId), NAME_VALUES, listNameValueType);
+	}
+
+	/**
+	 * Builds the request to get a profile.
+	 *
+	 * @param dialogId The dialog identifier
+	 * @param clientId the client id
+	 * @return the request
+	 */
+	private Request buildProfileRequest(String dialogId, Integer clientId) {
 		if (dialogId == null || dialogId.isEmpty())
 			throw new IllegalArgumentException(
 					"dialogId can not be null or empty");
@@ -280,28 +412,49 @@ public class DialogService extends WatsonService {
 			throw new IllegalArgumentException(
 					"clientId can not be null");
 
-		HttpRequestBase request = Request.Get(
-				"/v1/dialogs/" + dialogId + "/profile")
-				.withQuery(CLIENT_ID,clientId)
-				.build();
+		return Request.Get("/v1/dialogs/" + dialogId + "/profile")
+				.withQuery(CLIENT_ID,clientId);
+	}
+
+	/**
+	 * Returns chat session data dump for a given date rage.
+	 *
+	 * @param params the params
+	 * @return A list of {@link ConversationData}
+	 */
+	public List<ConversationData> getConversationData(final Map<String, Object> params) {
+		HttpRequestBase request = buildConversationDataRequest(params).build();
+
 		try {
 			HttpResponse response = execute(request);
-			JsonObject jsonObject = ResponseUtil.getJsonObject(response);
-			List<NameValue> content = GsonSingleton.getGson().fromJson(
-					jsonObject.get(NAME_VALUES), listNameValueType);
-			return content;
+			List<ConversationData> conversationDataList = ResponseUtil.getObject(
+					response, "conversations", listConversationDataType);
+			return conversationDataList;
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
 	/**
-	 * Returns chat session data dump for a given date rage.
+	 * Returns chat session data dump for a given date rage without blocking
+	 * the calling thread.
 	 *
 	 * @param params the params
-	 * @return A list of {@link ConversationData}
+	 * @return A future list of {@link ConversationData}
+	 * @see #getConversationData(Map)
 	 */
-	public List<ConversationData> getConversationData(final Map<String, Object> params) {
+	public ListenableFuture<List<ConversationData>> getConversationDataAsync(final Map<String, Object> params) {
+		return executeRequestAsync(buildConversationDataRequest(params), "conversations",
+				listConversationDataType);
+	}
+
+	/**
+	 * Builds the request to get the conversation data.
+	 *
+	 * @param params the params
+	 * @return the request
+	 */
+	private Request buildConversationDataRequest(final Map<String, Object> params) {
 		final String dialogId = (String) params.get(DIALOG_ID);
 		
 		final Date from = (Date) params.get(DATE_FROM);
@@ -322,8 +475,8 @@ public class DialogService extends WatsonService {
 		if (from.after(to))
 			throw new IllegalArgumentException("'"+DATE_FROM+"' is greater than '"+DATE_TO+"'");
 
-		String fromString = sdfDate.format(from);
-		String toString = sdfDate.format(to);
+		String fromString = DATE.format(from);
+		String toString = DATE.format(to);
 
 		String path = String.format("/v1/dialogs/%s/conversation", dialogId);
 
@@ -335,17 +488,44 @@ public class DialogService extends WatsonService {
 		if (limit != null)
 			requestBuilder.withQuery(LIMIT, limit);
 
-		HttpRequestBase request = requestBuilder.build();
+		return requestBuilder;
+	}
 
-		try {
-			HttpResponse response = execute(request);
-			JsonObject jsonObject = ResponseUtil.getJsonObject(response);
-			List<ConversationData> conversationDataList = GsonSingleton.getGson().fromJson(
-					jsonObject.get("conversations"), listConversationDataType);
-			return conversationDataList;
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+	/**
+	 * Returns a lazy iterator over the chat session data for a given date
+	 * range. Pages of {@link #DEFAULT_LIMIT} conversations (or the value of
+	 * {@link #LIMIT} in the params) are requested as the iterator advances,
+	 * and the next page is requested in the background while the current one
+	 * is consumed. The iteration ends with the first empty page, since the
+	 * service may return fewer conversations than the limit before the end of
+	 * the range.
+	 *
+	 * @param params the params, same as {@link #getConversationData(Map)}
+	 * @return an iterator of {@link ConversationData}
+	 * @see PagedIterator
+	 */
+	public PagedIterator<ConversationData> getConversationDataIterator(final Map<String, Object> params) {
+		final Map<String, Object> pageParams = new HashMap<String, Object>(params);
+		final int offset = params.get(OFFSET) != null ? (Integer) params.get(OFFSET) : 0;
+		final int limit = params.get(LIMIT) != null ? (Integer) params.get(LIMIT) : DEFAULT_LIMIT;
+
+		if (limit < 1)
+			throw new IllegalArgumentException(LIMIT + " should be greater than 0");
+
+		return new PagedIterator<ConversationData>() {
+			@Override
+			protected Page<ConversationData> getPage(String cursor) {
+				final int pageOffset = cursor == null ? offset : Integer.parseInt(cursor);
+				final Map<String, Object> query = new HashMap<String, Object>(pageParams);
+				query.put(OFFSET, pageOffset);
+				query.put(LIMIT, limit);
+
+				final List<ConversationData> conversations = getConversationData(query);
+				final int size = conversations == null ? 0 : conversations.size();
+				return new Page<ConversationData>(conversations,
+						size == 0 ? null : String.valueOf(pageOffset + size));
+			}
+		};
 	}
 
 	/*
@@ -371,6 +551,39 @@ public class DialogService extends WatsonService {
 	 * @see Dialog
 	 */
 	public Dialog updateDialog(final String dialogId, final File dialogFile) {
+		HttpRequestBase request = buildUpdateDialogRequest(dialogId, dialogFile).build();
+		
+		executeWithoutResponse(request);
+		Dialog dialog = new Dialog().withDialogId(dialogId);
+		return dialog;
+	}
+
+	/**
+	 * Updates a dialog without blocking the calling thread.
+	 *
+	 * @param dialogId            The dialog identifier
+	 * @param dialogFile            The dialog file
+	 * @return the future updated dialog
+	 * @see #updateDialog(String, File)
+	 */
+	public ListenableFuture<Dialog> updateDialogAsync(final String dialogId, final File dialogFile) {
+		return Futures.transform(executeWithoutResponseAsync(buildUpdateDialogRequest(dialogId, dialogFile)),
+				new Function<Void, Dialog>() {
+					@Override
+					public Dialog apply(Void input) {
+						return new Dialog().withDialogId(dialogId);
+					}
+				});
+	}
+
+	/**
+	 * Builds the request to update a dialog.
+	 *
+	 * @param dialogId            The dialog identifier
+	 * @param dialogFile            The dialog file
+	 * @return the request
+	 */
+	private Request buildUpdateDialogRequest(final String dialogId, final File dialogFile) {
 		if (dialogId == null || dialogId.isEmpty())
 			throw new IllegalArgumentException(
 					"dialogId can not be null or empty");
@@ -382,12 +595,7 @@ public class DialogService extends WatsonService {
 		MultipartEntity reqEntity = new MultipartEntity();
 		reqEntity.addPart("file", new FileBody(dialogFile));
 
-		HttpRequestBase request = Request.Put("/v1/dialogs/" + dialogId)
-				.withEntity(reqEntity).build();
-		
-		executeWithoutResponse(request);
-		Dialog dialog = new Dialog().withDialogId(dialogId);
-		return dialog;
+		return Request.Put("/v1/dialogs/" + dialogId).withEntity(reqEntity);
 	}
 
 	/**
@@ -404,6 +612,39 @@ public class DialogService extends WatsonService {
 	 * @see Dialog
 	 */
 	public void updateProfile(final String dialogId, final Integer clientId, final List<NameValue> nameValues) {
+		executeWithoutResponse(buildUpdateProfileRequest(dialogId, clientId, nameValues).build());
+	}
+
+	/**
+	 * Updates a dialog profile without blocking the calling thread.
+	 * 
+	 * @param dialogId
+	 *            The dialog identifier
+	 * @param clientId
+	 *            the client identifier
+	 * @param nameValues
+	 *            The name value list to update
+	 * @return the future completed when the profile was updated
+	 * @see #updateProfile(String, Integer, List)
+	 */
+	public ListenableFuture<Void> updateProfileAsync(final String dialogId, final Integer clientId,
+			final List<NameValue> nameValues) {
+		return executeWithoutResponseAsync(buildUpdateProfileRequest(dialogId, clientId, nameValues));
+	}
+
+	/**
+	 * Builds the request to update a dialog profile.
+	 * 
+	 * @param dialogId
+	 *            The dialog identifier
+	 * @param clientId
+	 *            the client identifier
+	 * @param nameValues
+	 *            The name value list to update
+	 * @return the request
+	 */
+	private Request buildUpdateProfileRequest(final String dialogId, final Integer clientId,
+			final List<NameValue> nameValues) {
 		if (dialogId == null || dialogId.isEmpty())
 			throw new IllegalArgumentException(
 					"dialogId can not be null or empty");
@@ -421,10 +662,7 @@ public class DialogService extends WatsonService {
 		contentJson.addProperty(CLIENT_ID, clientId);
 		contentJson.add(NAME_VALUES, GsonSingleton.getGson().toJsonTree(nameValues));
 
-		HttpRequestBase request = Request
-				.Put("/v1/dialogs/" + dialogId + "/profile")
-				.withContent(contentJson).build();
-		executeWithoutResponse(request);
+		return Request.Put("/v1/dialogs/" + dialogId + "/profile").withContent(contentJson);
 	}
 
 }
@@ -17,15 +17,18 @@ package com.ibm.watson.developer_cloud.document_conversion.v1;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.document_conversion.v1.helpers.BatchDocumentHelper;
 import com.ibm.watson.developer_cloud.document_conversion.v1.helpers.BatchHelper;
+import com.ibm.watson.developer_cloud.document_conversion.v1.helpers.ConversionUtils;
 import com.ibm.watson.developer_cloud.document_conversion.v1.helpers.ConvertDocumentHelper;
 import com.ibm.watson.developer_cloud.document_conversion.v1.helpers.DocumentHelper;
 import com.ibm.watson.developer_cloud.document_conversion.v1.helpers.JobHelper;
@@ -41,8 +44,10 @@ import com.ibm.watson.developer_cloud.document_conversion.v1.model.DocumentColle
 import com.ibm.watson.developer_cloud.document_conversion.v1.model.Job;
 import com.ibm.watson.developer_cloud.document_conversion.v1.model.JobCollection;
 import com.ibm.watson.developer_cloud.document_conversion.v1.model.JobResponse;
+import com.ibm.watson.developer_cloud.document_conversion.v1.model.Output;
 import com.ibm.watson.developer_cloud.document_conversion.v1.model.OutputCollection;
 import com.ibm.watson.developer_cloud.document_conversion.v1.model.Property;
+import com.ibm.watson.developer_cloud.service.PagedIterator;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 
 /**
@@ -183,6 +188,20 @@ public class DocumentConversion extends WatsonService {
         return convertDocumentHelper.convertDocument(document, conversionTarget);
     }
 
+    /**
+     * Converts a new document without persistence without blocking the
+     * calling thread.
+     *
+     * @param document The file to convert
+     * @param conversionTarget The conversion target to use
+     * @return the future converted document in the specified format
+     * @see #convertDocument(File, ConversionTarget)
+     */
+    public ListenableFuture<InputStream> convertDocumentAsync(final File document,
+                                                              final ConversionTarget conversionTarget) {
+        return convertDocumentHelper.convertDocumentAsync(document, conversionTarget);
+    }
+
     /**
      * Synchronously converts a new document without persistence
      * POST /v1/convert_document.
@@ -196,6 +215,21 @@ public class DocumentConversion extends WatsonService {
         return convertDocumentHelper.convertDocument(document, mediaType, conversionTarget);
     }
 
+    /**
+     * Converts a new document without persistence without blocking the
+     * calling thread.
+     *
+     * @param document The file to convert
+     * @param mediaType Internet media type of the file
+     * @param conversionTarget The conversion target to use
+     * @return the future converted document in the specified format
+     * @see #convertDocument(File, String, ConversionTarget)
+     */
+    public ListenableFuture<InputStream> convertDocumentAsync(final File document, final String mediaType,
+                                                              final ConversionTarget conversionTarget) {
+        return convertDocumentHelper.convertDocumentAsync(document, mediaType, conversionTarget);
+    }
+
     /**
      * Synchronously converts a single previously uploaded document
      * POST /v1/convert_document.
@@ -208,6 +242,20 @@ public class DocumentConversion extends WatsonService {
         return convertDocumentHelper.convertDocument(documentId, conversionTarget);
     }
 
+    /**
+     * Converts a single previously uploaded document without blocking the
+     * calling thread.
+     *
+     * @param documentId The id of the document to convert
+     * @param conversionTarget The conversion target to use
+     * @return the future converted document in the specified format
+     * @see #convertDocument(String, ConversionTarget)
+     */
+    public ListenableFuture<InputStream> convertDocumentAsync(final String documentId,
+                                                              final ConversionTarget conversionTarget) {
+        return convertDocumentHelper.convertDocumentAsync(documentId, conversionTarget);
+    }
+
     /**
      * Synchronously converts a new document without persistence into an Answers object
      * POST /v1/convert_document.
@@ -219,6 +267,18 @@ public class DocumentConversion extends WatsonService {
         return convertDocumentHelper.convertDocumentToAnswer(document);
     }
 
+    /**
+     * Converts a new document without persistence into an Answers object
+     * without blocking the calling thread.
+     *
+     * @param document The file to convert
+     * @return the future converted document as an Answer
+     * @see #convertDocumentToAnswer(File)
+     */
+    public ListenableFuture<Answers> convertDocumentToAnswerAsync(final File document) {
+        return convertDocumentHelper.convertDocumentToAnswerAsync(document);
+    }
+
     /**
      * Synchronously converts a single previously uploaded document into an Answers object
      * POST /v1/convert_document.
@@ -230,6 +290,18 @@ public class DocumentConversion extends WatsonService {
         return convertDocumentHelper.convertDocumentToAnswer(documentId);
     }
 
+    /**
+     * Converts a single previously uploaded document into an Answers object
+     * without blocking the calling thread.
+     *
+     * @param documentId The id of the document to convert
+     * @return the future converted document as an Answer
+     * @see #convertDocumentToAnswer(String)
+     */
+    public ListenableFuture<Answers> convertDocumentToAnswerAsync(final String documentId) {
+        return convertDocumentHelper.convertDocumentToAnswerAsync(documentId);
+    }
+
     /**
      * Creates a new batch with name and properties
      * 
@@ -280,6 +352,14 @@ public class DocumentConversion extends WatsonService {
         return super.execute(request);
     }
 
+    /* (non-Javadoc)
+     * @see com.ibm.watson.developer_cloud.service.WatsonService#executeAsync(org.apache.http.client.methods.HttpRequestBase)
+     */
+    @Override
+    public ListenableFuture<HttpResponse> executeAsync(final HttpRequestBase request) {
+        return super.executeAsync(request);
+    }
+
     /**
      * Gets an existing batch
      * 
@@ -411,6 +491,28 @@ public class DocumentConversion extends WatsonService {
         return documentHelper.getDocumentCollection(docListParams);
     }
 
+    /**
+     * Returns a lazy iterator over the documents in the service. Pages are
+     * requested as the iterator advances, and the next page is requested in
+     * the background while the current one is consumed.
+     *
+     * @param docListParams The parameters to be used in the document list service call,
+     *                      same as {@link #getDocumentCollection(Map)}. Can be null.
+     * @return An iterator of documents
+     * @see PagedIterator
+     */
+    public PagedIterator<Document> getDocumentIterator(final Map<String, Object> docListParams) {
+        final Map<String, Object> params = copyParams(docListParams);
+        return new PagedIterator<Document>() {
+            @Override
+            protected Page<Document> getPage(String cursor) {
+                DocumentCollection page = getDocumentCollection(withToken(params, cursor));
+                return new Page<Document>(page.getDocuments(),
+                        ConversionUtils.getNextPageToken(page.getLinks()));
+            }
+        };
+    }
+
     /**
      * Gets information about a job
      * GET /v1/jobs/{job_id}.
@@ -455,6 +557,28 @@ public class DocumentConversion extends WatsonService {
         return jobHelper.getJobCollection(jobListParams);
     }
 
+    /**
+     * Returns a lazy iterator over the jobs in the service. Pages are
+     * requested as the iterator advances, and the next page is requested in
+     * the background while the current one is consumed.
+     *
+     * @param jobListParams The parameters to be used in the job list service call,
+     *                      same as {@link #getJobCollection(Map)}. Can be null.
+     * @return An iterator of jobs
+     * @see PagedIterator
+     */
+    public PagedIterator<Job> getJobIterator(final Map<String, Object> jobListParams) {
+        final Map<String, Object> params = copyParams(jobListParams);
+        return new PagedIterator<Job>() {
+            @Override
+            protected Page<Job> getPage(String cursor) {
+                JobCollection page = getJobCollection(withToken(params, cursor));
+                return new Page<Job>(page.getJobs(),
+                        ConversionUtils.getNextPageToken(page.getLinks()));
+            }
+        };
+    }
+
     /**
      * Gets the job processing log
      * GET /v1/jobs/{job_id}/log.
@@ -507,6 +631,28 @@ public class DocumentConversion extends WatsonService {
         return outputHelper.getOutputCollection(outputListParams);
     }
 
+    /**
+     * Returns a lazy iterator over the generated outputs. Pages are
+     * requested as the iterator advances, and the next page is requested in
+     * the background while the current one is consumed.
+     *
+     * @param outputListParams The parameters to be used in the output list service call,
+     *                         same as {@link #getOutputCollection(Map)}. Can be null.
+     * @return An iterator of outputs
+     * @see PagedIterator
+     */
+    public PagedIterator<Output> getOutputIterator(final Map<String, Object> outputListParams) {
+        final Map<String, Object> params = copyParams(outputListParams);
+        return new PagedIterator<Output>() {
+            @Override
+            protected Page<Output> getPage(String cursor) {
+                OutputCollection page = getOutputCollection(withToken(params, cursor));
+                return new Page<Output>(page.getOutputs(),
+                        ConversionUtils.getNextPageToken(page.getLinks()));
+            }
+        };
+    }
+
     /**
      * Updates an existing batch with the provided name and properties
      * 
@@ -547,4 +693,30 @@ public class DocumentConversion extends WatsonService {
         return documentHelper.uploadDocument(document, mediaType);
     }
 
+    /**
+     * Copies the list parameters so that the caller can reuse them while
+     * iterating.
+     *
+     * @param listParams the list parameters, can be null
+     * @return the copy
+     */
+    private static Map<String, Object> copyParams(final Map<String, Object> listParams) {
+        return listParams == null ? new HashMap<String, Object>() : new HashMap<String, Object>(listParams);
+    }
+
+    /**
+     * Returns the list parameters to request the page identified by a token.
+     *
+     * @param listParams the list parameters
+     * @param token the page token or null to request the first page
+     * @return the page parameters
+     */
+    private static Map<String, Object> withToken(final Map<String, Object> listParams, final String token) {
+        if (token == null)
+            return listParams;
+
+        Map<String, Object> pageParams = new HashMap<String, Object>(listParams);
+        pageParams.put(TOKEN, token);
+        return pageParams;
+    }
 }
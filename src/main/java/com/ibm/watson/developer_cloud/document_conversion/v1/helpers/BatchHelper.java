@@ -23,7 +23,6 @@ import java.util.Map;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.google.gson.annotations.Expose;
 import com.ibm.watson.developer_cloud.document_conversion.v1.DocumentConversion;
@@ -73,7 +72,7 @@ public class BatchHelper {
         if (name != null && !name.isEmpty())
             contentJson.addProperty("name", name);
         if(properties != null && !properties.isEmpty())
-            contentJson.addProperty("properties", new Gson().toJson(properties));
+            contentJson.addProperty("properties", GsonSingleton.getGson().toJson(properties));
 
         HttpRequestBase request = Request.Post(DocumentConversion.BATCHES_PATH)
                                          .withContent(filterJson(contentJson), MediaType.APPLICATION_JSON).build();
@@ -188,7 +187,7 @@ public class BatchHelper {
         if (name != null && !name.isEmpty())
             contentJson.addProperty("name", name);
         if(properties != null && properties.isEmpty())
-            contentJson.addProperty("properties", new Gson().toJson(properties));
+            contentJson.addProperty("properties", GsonSingleton.getGson().toJson(properties));
         HttpRequestBase request = Request.Put(DocumentConversion.BATCHES_PATH + "/" + batchId)
                                          .withContent(filterJson(contentJson),
                                                       MediaType.APPLICATION_JSON).build();
@@ -18,18 +18,23 @@ package com.ibm.watson.developer_cloud.document_conversion.v1.helpers;
 import java.io.File;
 import java.io.InputStream;
 import java.lang.reflect.Type;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.net.URI;
 import java.util.Date;
+import java.util.List;
 import java.util.TimeZone;
 
+import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URLEncodedUtils;
+
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
 import com.ibm.watson.developer_cloud.document_conversion.v1.DocumentConversion;
+import com.ibm.watson.developer_cloud.document_conversion.v1.model.Link;
+import com.ibm.watson.developer_cloud.util.DateCodec;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.MediaType;
 
 /**
@@ -38,7 +43,17 @@ import com.ibm.watson.developer_cloud.util.MediaType;
  * @see DocumentConversion
  */
 public class ConversionUtils {
-    
+
+    /** The name of the link to the next page of a collection. */
+    private static final String NEXT = "next";
+
+    /** The ISO 8601 dates returned by the service, without a time zone. */
+    private static final DateCodec ISO_8601 = new DateCodec("yyyy-MM-dd'T'HH:mm:ss.SSS");
+
+    /** The ISO 8601 dates sent to the service, in UTC. */
+    private static final DateCodec ISO_8601_UTC = new DateCodec("yyyy-MM-dd'T'HH:mm:ss'Z'",
+            TimeZone.getTimeZone("UTC"));
+
     /**
      * Returns the media type for a given file.
      *
@@ -91,11 +106,28 @@ public class ConversionUtils {
      * @return the date time string for a given date
      */
     public static String convertToISO(Date date) {
-        TimeZone tz = TimeZone.getTimeZone("UTC");
-        DateFormat df = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
-        df.setTimeZone(tz);
-        String dtAsISO = df.format(date);
-        return dtAsISO;
+        return ISO_8601_UTC.format(date);
+    }
+
+    /**
+     * Returns the token of the next page from the links of a collection.
+     *
+     * @param links the links returned with a page of a collection
+     * @return the token or null if there are no more pages
+     */
+    public static String getNextPageToken(final List<Link> links) {
+        if (links == null)
+            return null;
+
+        for (Link link : links) {
+            if (NEXT.equals(link.getName()) && link.getLink() != null) {
+                for (NameValuePair param : URLEncodedUtils.parse(URI.create(link.getLink()), "UTF-8")) {
+                    if (DocumentConversion.TOKEN.equals(param.getName()))
+                        return param.getValue();
+                }
+            }
+        }
+        return null;
     }
 
     /**
@@ -109,24 +141,8 @@ public class ConversionUtils {
         return s.hasNext() ? s.next() : "";
     }
 
-    /**
-     * Gson singleton with an ISO 8601 Date Deserializer.
-     *
-     * @return Gson
-     */
-    public static Gson getGsonWithIso8601DateDeserializer() {
-        if (gsonWithIso8601DateDeserializer == null) {
-            gsonWithIso8601DateDeserializer = new GsonBuilder()
-                    .registerTypeAdapter(Date.class, iso8601DateDeserializer).create();
-        }
-        return gsonWithIso8601DateDeserializer;
-    }
-
-    /** Gson singleton with an ISO 8601 Date Deserializer. */
-    private static Gson gsonWithIso8601DateDeserializer;
-
     /** JSON deserializer for ISO 8601 dates into Java Date objects. */
-    private static JsonDeserializer<Date> iso8601DateDeserializer = new JsonDeserializer<Date>() {
+    private static final JsonDeserializer<Date> iso8601DateDeserializer = new JsonDeserializer<Date>() {
         @Override
         public Date deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
                 throws JsonParseException {
@@ -134,13 +150,26 @@ public class ConversionUtils {
                 return null;
             }
             String date = json.getAsString();
-            SimpleDateFormat iso8601DateTimeFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
             try {
-                return iso8601DateTimeFormat.parse(date);
+                return ISO_8601.parse(date);
             } catch (Exception e) {
                 throw new JsonParseException("Unable to parse date " + date, e);
             }
         }
     };
 
+    /** Gson singleton with an ISO 8601 Date Deserializer. */
+    private static final Gson gsonWithIso8601DateDeserializer = GsonSingleton.createGsonBuilder()
+            .registerTypeAdapter(Date.class, iso8601DateDeserializer).create();
+
+    /**
+     * Gson singleton with an ISO 8601 Date Deserializer. It is configured like
+     * {@link GsonSingleton#getGson()} but for the dates.
+     *
+     * @return Gson
+     */
+    public static Gson getGsonWithIso8601DateDeserializer() {
+        return gsonWithIso8601DateDeserializer;
+    }
+
 }
@@ -26,6 +26,9 @@ import org.apache.http.entity.mime.MultipartEntity;
 import org.apache.http.entity.mime.content.FileBody;
 import org.apache.http.entity.mime.content.StringBody;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.gson.JsonObject;
 import com.google.gson.annotations.Expose;
 import com.ibm.watson.developer_cloud.document_conversion.v1.DocumentConversion;
@@ -67,10 +70,19 @@ public class ConvertDocumentHelper {
      */
     public Answers convertDocumentToAnswer(final File document) {
         InputStream is = convertDocument(document, ConversionTarget.ANSWER_UNITS);
-        String convertedDocument = ConversionUtils.writeInputStreamToString(is);
-        Answers answers = ConversionUtils.getGsonWithIso8601DateDeserializer()
-                .fromJson(convertedDocument, Answers.class);
-        return answers;
+        return toAnswers(is);
+    }
+
+    /**
+     * Converts the provided document to an Answers object without blocking
+     * the calling thread.
+     *
+     * @param document the document
+     * @return the future Answers
+     * @see DocumentConversion#convertDocumentToAnswerAsync(File)
+     */
+    public ListenableFuture<Answers> convertDocumentToAnswerAsync(final File document) {
+        return toAnswers(convertDocumentAsync(document, ConversionTarget.ANSWER_UNITS));
     }
 
     /**
@@ -87,6 +99,21 @@ public class ConvertDocumentHelper {
         return convertDocument(document, mediaType, conversionTarget);
     }
 
+    /**
+     * Converts a new document without persistence without blocking the
+     * calling thread.
+     *
+     * @param document The file to convert
+     * @param conversionTarget The conversion target to use
+     * @return the future converted document in the specified format
+     * @see DocumentConversion#convertDocumentAsync(File, ConversionTarget)
+     */
+    public ListenableFuture<InputStream> convertDocumentAsync(final File document,
+                                                              final ConversionTarget conversionTarget) {
+        String mediaType = ConversionUtils.getMediaTypeFromFile(document);
+        return convertDocumentAsync(document, mediaType, conversionTarget);
+    }
+
     /**
      * Synchronously converts a new document without persistence
      * POST /v1/convert_document.
@@ -98,6 +125,42 @@ public class ConvertDocumentHelper {
      * @see DocumentConversion#convertDocument(File, String, ConversionTarget)
      */
     public InputStream convertDocument(final File document, String mediaType, final ConversionTarget conversionTarget) {
+        HttpRequestBase request = buildConvertDocumentRequest(document, mediaType, conversionTarget);
+        try {
+            HttpResponse response = docConversionService.execute(request);
+            InputStream is = ResponseUtil.getInputStream(response);
+            return is;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Converts a new document without persistence without blocking the
+     * calling thread.
+     *
+     * @param document The file to convert
+     * @param mediaType Internet media type for the file
+     * @param conversionTarget The conversion target to use
+     * @return the future converted document in the specified format
+     * @see DocumentConversion#convertDocumentAsync(File, String, ConversionTarget)
+     */
+    public ListenableFuture<InputStream> convertDocumentAsync(final File document, String mediaType,
+                                                              final ConversionTarget conversionTarget) {
+        HttpRequestBase request = buildConvertDocumentRequest(document, mediaType, conversionTarget);
+        return toInputStream(docConversionService.executeAsync(request));
+    }
+
+    /**
+     * Builds the request to convert a new document.
+     *
+     * @param document The file to convert
+     * @param mediaType Internet media type for the file
+     * @param conversionTarget The conversion target to use
+     * @return the request
+     */
+    private HttpRequestBase buildConvertDocumentRequest(final File document, String mediaType,
+                                                        final ConversionTarget conversionTarget) {
         if (mediaType == null || mediaType.isEmpty())
             throw new IllegalArgumentException("media type cannot be null or empty");
         if(!ConversionUtils.isValidMediaType(mediaType))
@@ -115,12 +178,8 @@ public class ConvertDocumentHelper {
             String json = configRequestJson.toString();
             reqEntity.addPart("config", new StringBody(json, MediaType.APPLICATION_JSON, Charset.forName("UTF-8")));
 
-            HttpRequestBase request = Request.Post(DocumentConversion.CONVERT_DOCUMENT_PATH)
+            return Request.Post(DocumentConversion.CONVERT_DOCUMENT_PATH)
                     .withEntity(reqEntity).build();
-
-            HttpResponse response = docConversionService.execute(request);
-            InputStream is = ResponseUtil.getInputStream(response);
-            return is;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -135,10 +194,19 @@ public class ConvertDocumentHelper {
      */
     public Answers convertDocumentToAnswer(final String documentId) {
         InputStream is = convertDocument(documentId, ConversionTarget.ANSWER_UNITS);
-        String convertedDocument = ConversionUtils.writeInputStreamToString(is);
-        Answers answers = ConversionUtils.getGsonWithIso8601DateDeserializer()
-                .fromJson(convertedDocument, Answers.class);
-        return answers;
+        return toAnswers(is);
+    }
+
+    /**
+     * Converts the specified document to an Answers object without blocking
+     * the calling thread.
+     *
+     * @param documentId the document id
+     * @return the future Answers
+     * @see DocumentConversion#convertDocumentToAnswerAsync(String)
+     */
+    public ListenableFuture<Answers> convertDocumentToAnswerAsync(final String documentId) {
+        return toAnswers(convertDocumentAsync(documentId, ConversionTarget.ANSWER_UNITS));
     }
 
     /**
@@ -151,6 +219,40 @@ public class ConvertDocumentHelper {
      * @see DocumentConversion#convertDocument(String, ConversionTarget)
      */
     public InputStream convertDocument(final String documentId, final ConversionTarget conversionTarget) {
+        HttpRequestBase request = buildConvertDocumentRequest(documentId, conversionTarget);
+        try {
+            HttpResponse response = docConversionService.execute(request);
+            InputStream is = ResponseUtil.getInputStream(response);
+            return is;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Converts a single previously uploaded document without blocking the
+     * calling thread.
+     *
+     * @param documentId The id of the document to convert
+     * @param conversionTarget The conversion target to use
+     * @return the future converted document in the specified format
+     * @see DocumentConversion#convertDocumentAsync(String, ConversionTarget)
+     */
+    public ListenableFuture<InputStream> convertDocumentAsync(final String documentId,
+                                                              final ConversionTarget conversionTarget) {
+        HttpRequestBase request = buildConvertDocumentRequest(documentId, conversionTarget);
+        return toInputStream(docConversionService.executeAsync(request));
+    }
+
+    /**
+     * Builds the request to convert a previously uploaded document.
+     *
+     * @param documentId The id of the document to convert
+     * @param conversionTarget The conversion target to use
+     * @return the request
+     */
+    private HttpRequestBase buildConvertDocumentRequest(final String documentId,
+                                                        final ConversionTarget conversionTarget) {
         if (documentId == null || documentId.isEmpty())
             throw new IllegalArgumentException("document id can not be null or empty");
         if (conversionTarget == null)
@@ -160,15 +262,54 @@ public class ConvertDocumentHelper {
         contentJson.addProperty("document_id", documentId);
         contentJson.addProperty("conversion_target", conversionTarget.toString());
 
-        HttpRequestBase request = Request.Post(DocumentConversion.CONVERT_DOCUMENT_PATH)
+        return Request.Post(DocumentConversion.CONVERT_DOCUMENT_PATH)
                 .withContent(contentJson).build();
+    }
 
-        try {
-            HttpResponse response = docConversionService.execute(request);
-            InputStream is = ResponseUtil.getInputStream(response);
-            return is;
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    /**
+     * Parses a converted document as an Answers object.
+     *
+     * @param is the converted document
+     * @return Answers
+     */
+    private static Answers toAnswers(final InputStream is) {
+        String convertedDocument = ConversionUtils.writeInputStreamToString(is);
+        Answers answers = ConversionUtils.getGsonWithIso8601DateDeserializer()
+                .fromJson(convertedDocument, Answers.class);
+        return answers;
+    }
+
+    /**
+     * Parses a future converted document as an Answers object.
+     *
+     * @param future the future converted document
+     * @return the future Answers
+     */
+    private static ListenableFuture<Answers> toAnswers(final ListenableFuture<InputStream> future) {
+        return Futures.transform(future, new Function<InputStream, Answers>() {
+            @Override
+            public Answers apply(InputStream is) {
+                return toAnswers(is);
+            }
+        });
+    }
+
+    /**
+     * Reads the converted document of a future response.
+     *
+     * @param future the future response
+     * @return the future converted document
+     */
+    private static ListenableFuture<InputStream> toInputStream(final ListenableFuture<HttpResponse> future) {
+        return Futures.transform(future, new Function<HttpResponse, InputStream>() {
+            @Override
+            public InputStream apply(HttpResponse response) {
+                try {
+                    return ResponseUtil.getInputStream(response);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
     }
 }
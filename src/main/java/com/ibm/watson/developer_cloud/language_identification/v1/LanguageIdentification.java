@@ -20,6 +20,9 @@ import java.io.IOException;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.language_identification.v1.model.IdentifiedLanguage;
 import com.ibm.watson.developer_cloud.service.Request;
@@ -59,19 +62,66 @@ public class LanguageIdentification extends WatsonService {
 	 * @return the identified language
 	 */
 	public IdentifiedLanguage identify(final String text) {
-		HttpRequestBase request = Request.Post("/v1/txtlid/0")
-				.withForm("sid", "lid-generic", "rt", "json", "txt", text)
-				.build();
+		HttpRequestBase request = buildIdentifyRequest(text);
 
 		try {
 			HttpResponse response = execute(request);
-			JsonObject jsonObject = ResponseUtil.getJsonObject(response);
-			return new IdentifiedLanguage(jsonObject.get(LANG).getAsString());
+			return toIdentifiedLanguage(response);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Identify language in which text is written without blocking the calling
+	 * thread.
+	 * 
+	 * @param text
+	 *            the text to identify
+	 * @return the future identified language
+	 * @see #identify(String)
+	 */
+	public ListenableFuture<IdentifiedLanguage> identifyAsync(final String text) {
+		return Futures.transform(executeAsync(buildIdentifyRequest(text)),
+				new Function<HttpResponse, IdentifiedLanguage>() {
+					@Override
+					public IdentifiedLanguage apply(HttpResponse response) {
+						try {
+							return toIdentifiedLanguage(response);
+						} catch (IOException e) {
+							throw new RuntimeException(e);
+						}
+					}
+				});
+	}
+
+	/**
+	 * Builds the identify request.
+	 * 
+	 * @param text
+	 *            the text to identify
+	 * @return the request
+	 */
+	private HttpRequestBase buildIdentifyRequest(final String text) {
+		return Request.Post("/v1/txtlid/0")
+				.withForm("sid", "lid-generic", "rt", "json", "txt", text)
+				.build();
+	}
+
+	/**
+	 * Reads the identified language from the response.
+	 * 
+	 * @param response
+	 *            the response
+	 * @return the identified language
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static IdentifiedLanguage toIdentifiedLanguage(HttpResponse response) throws IOException {
+		JsonObject jsonObject = ResponseUtil.getJsonObject(response);
+		return new IdentifiedLanguage(jsonObject.get(LANG).getAsString());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
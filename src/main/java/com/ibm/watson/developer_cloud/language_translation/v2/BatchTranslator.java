@@ -0,0 +1,315 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.language_translation.v2;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.ibm.watson.developer_cloud.language_translation.v2.model.Translation;
+import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationResult;
+
+/**
+ * Translates large sets of paragraphs by packing them into requests of a
+ * bounded size, which are translated concurrently over the transport of the
+ * {@link LanguageTranslation} service. The translations are returned in the
+ * order of the paragraphs: <pre>
+ * {@code
+ *  BatchTranslator translator = new BatchTranslator(service)
+ *    .withMaxBatchBytes(16 * 1024)
+ *    .withConcurrency(8);
+ *  Iterator<Translation> translations = translator.translate(paragraphs, params);
+ *  while (translations.hasNext())
+ *    out.println(translations.next().getTranslation());
+ * }</pre>
+ * The paragraphs are read lazily and only {@link #concurrency} batches are in
+ * flight ahead of the reader, so documents of any size are translated in
+ * bounded memory. A paragraph larger than the budget is sent alone.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public class BatchTranslator {
+
+	/** The Constant DEFAULT_MAX_BATCH_BYTES. (value is 32 KB) */
+	public static final int DEFAULT_MAX_BATCH_BYTES = 32 * 1024;
+
+	/** The Constant DEFAULT_CONCURRENCY. (value is 4) */
+	public static final int DEFAULT_CONCURRENCY = 4;
+
+	/** The size of the JSON body without paragraphs: <code>{"text":[]}</code>. */
+	private static final int BODY_OVERHEAD = 11;
+
+	/** The service. */
+	private final LanguageTranslation service;
+
+	/** The max size of the body of a request. */
+	private int maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+
+	/** The number of batches translated at the same time. */
+	private int concurrency = DEFAULT_CONCURRENCY;
+
+	/**
+	 * Instantiates a new batch translator.
+	 *
+	 * @param service
+	 *            the language translation service
+	 */
+	public BatchTranslator(LanguageTranslation service) {
+		if (service == null)
+			throw new IllegalArgumentException("service can not be null");
+		this.service = service;
+	}
+
+	/**
+	 * Sets the max size of the JSON body of a request.
+	 *
+	 * @param bytes
+	 *            the max batch size in bytes
+	 * @return the batch translator
+	 */
+	public BatchTranslator withMaxBatchBytes(int bytes) {
+		if (bytes <= BODY_OVERHEAD)
+			throw new IllegalArgumentException("maxBatchBytes should be greater than " + BODY_OVERHEAD);
+		maxBatchBytes = bytes;
+		return this;
+	}
+
+	/**
+	 * Sets the number of batches translated at the same time.
+	 *
+	 * @param concurrency
+	 *            the concurrency
+	 * @return the batch translator
+	 */
+	public BatchTranslator withConcurrency(int concurrency) {
+		if (concurrency <= 0)
+			throw new IllegalArgumentException("concurrency should be greater than 0");
+		this.concurrency = concurrency;
+		return this;
+	}
+
+	/**
+	 * Translates the paragraphs of the parameters and joins the results of
+	 * the batches.
+	 *
+	 * @param params
+	 *            the parameters of {@link LanguageTranslation#translate(Map)}
+	 * @return the translation result with the translations in order
+	 */
+	public TranslationResult translate(Map<String, Object> params) {
+		final Object text = params.get(LanguageTranslation.TEXT);
+		if (text == null)
+			throw new IllegalArgumentException("text can not be null");
+		final List<String> paragraphs = text instanceof String ? Collections.singletonList((String) text) : Arrays
+				.asList((String[]) text);
+
+		final TranslationIterator iterator = new TranslationIterator(paragraphs.iterator(), params);
+		final List<Translation> translations = new ArrayList<Translation>(paragraphs.size());
+		while (iterator.hasNext())
+			translations.add(iterator.next());
+
+		final TranslationResult result = new TranslationResult();
+		result.setTranslations(translations);
+		result.setWordCount(iterator.wordCount);
+		result.setCharacterCount(iterator.characterCount);
+		return result;
+	}
+
+	/**
+	 * Translates paragraphs as they are read, returning the translations in
+	 * order as soon as the batch they are in has been translated. The
+	 * iterator stops at the first failed batch by throwing its exception.
+	 *
+	 * @param paragraphs
+	 *            the paragraphs
+	 * @param params
+	 *            the model_id or source and target
+	 * @return the translations
+	 */
+	public Iterator<Translation> translate(Iterable<String> paragraphs, Map<String, Object> params) {
+		if (paragraphs == null)
+			throw new IllegalArgumentException("paragraphs can not be null");
+		return new TranslationIterator(paragraphs.iterator(), params);
+	}
+
+	/**
+	 * Estimates the size of a paragraph in a JSON array: the UTF-8 length of
+	 * the escaped string, its quotes and a comma. The estimate is never lower
+	 * than the real size.
+	 *
+	 * @param paragraph
+	 *            the paragraph
+	 * @return the size in bytes
+	 */
+	static int getSize(String paragraph) {
+		if (paragraph == null)
+			return 5;
+		int size = 3;
+		for (int i = 0; i < paragraph.length(); i++) {
+			final char c = paragraph.charAt(i);
+			if (c == '"' || c == '\\')
+				size += 2;
+			else if (c < 0x20 || c == 0x2028 || c == 0x2029)
+				size += 6;
+			else if (c < 0x80)
+				size += 1;
+			else if (c < 0x800 || Character.isLowSurrogate(c))
+				size += 2;
+			else
+				size += 3;
+		}
+		return size;
+	}
+
+	/**
+	 * Reads paragraphs into batches, translates them and returns the
+	 * translations in order.
+	 */
+	private class TranslationIterator implements Iterator<Translation> {
+
+		/** The paragraphs that were not batched yet. */
+		private final PeekingIterator<String> paragraphs;
+
+		/** The model_id or source and target. */
+		private final Map<String, Object> params;
+
+		/** The batches in flight, in order. */
+		private final ArrayDeque<ListenableFuture<TranslationResult>> pending = new ArrayDeque<ListenableFuture<TranslationResult>>();
+
+		/** The translations of the current batch. */
+		private Iterator<Translation> current = Collections.<Translation> emptyList().iterator();
+
+		/** The words translated so far. */
+		private int wordCount;
+
+		/** The characters translated so far. */
+		private int characterCount;
+
+		/**
+		 * Instantiates a new translation iterator.
+		 *
+		 * @param paragraphs
+		 *            the paragraphs
+		 * @param params
+		 *            the params
+		 */
+		TranslationIterator(Iterator<String> paragraphs, Map<String, Object> params) {
+			this.paragraphs = Iterators.peekingIterator(paragraphs);
+			this.params = params;
+			fill();
+		}
+
+		/**
+		 * Sends batches until {@link BatchTranslator#concurrency} are in
+		 * flight or there are no more paragraphs.
+		 */
+		private void fill() {
+			while (pending.size() < concurrency && paragraphs.hasNext()) {
+				final List<String> batch = new ArrayList<String>();
+				int size = BODY_OVERHEAD;
+				do {
+					batch.add(paragraphs.next());
+					size += getSize(batch.get(batch.size() - 1));
+				} while (paragraphs.hasNext() && size + getSize(paragraphs.peek()) <= maxBatchBytes);
+				pending.add(service.translateAsync(params, batch));
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			while (!current.hasNext()) {
+				final ListenableFuture<TranslationResult> batch = pending.poll();
+				if (batch == null)
+					return false;
+				fill();
+				current = getTranslations(batch).iterator();
+			}
+			return true;
+		}
+
+		/**
+		 * Waits for the translations of a batch.
+		 *
+		 * @param batch
+		 *            the batch
+		 * @return the translations
+		 */
+		private List<Translation> getTranslations(ListenableFuture<TranslationResult> batch) {
+			final TranslationResult result;
+			try {
+				result = batch.get();
+			} catch (InterruptedException e) {
+				cancel();
+				Thread.currentThread().interrupt();
+				throw new RuntimeException(e);
+			} catch (ExecutionException e) {
+				cancel();
+				if (e.getCause() instanceof RuntimeException)
+					throw (RuntimeException) e.getCause();
+				throw new RuntimeException(e.getCause());
+			}
+			wordCount += result.getWordCount();
+			characterCount += result.getCharacterCount();
+			return result.getTranslations() != null ? result.getTranslations() : Collections
+					.<Translation> emptyList();
+		}
+
+		/**
+		 * Cancels the batches in flight.
+		 */
+		private void cancel() {
+			for (ListenableFuture<TranslationResult> batch : pending)
+				batch.cancel(false);
+			pending.clear();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public Translation next() {
+			if (!hasNext())
+				throw new NoSuchElementException();
+			return current.next();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -17,7 +17,10 @@ package com.ibm.watson.developer_cloud.language_translation.v2;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,17 +28,15 @@ import java.util.Map;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonPrimitive;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 import com.ibm.watson.developer_cloud.language_translation.v2.model.IdentifiableLanguage;
 import com.ibm.watson.developer_cloud.language_translation.v2.model.IdentifiedLanguage;
 import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationModel;
 import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationResult;
 import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.service.WatsonService;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.HttpHeaders;
 import com.ibm.watson.developer_cloud.util.MediaType;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
@@ -110,20 +111,36 @@ public class LanguageTranslation extends WatsonService {
 	 * @see TranslationModel
 	 */
 	public List<IdentifiableLanguage> getIdentifiableLanguages() {
-		Request request = Request.Get("/v2/identifiable_languages");
-
-		HttpRequestBase requestBase = request.build();
+		HttpRequestBase requestBase = buildIdentifiableLanguagesRequest().build();
 		try {
 			HttpResponse response = execute(requestBase);
-			JsonObject jsonObject = ResponseUtil.getJsonObject(response);
-			List<IdentifiableLanguage> langs = GsonSingleton.getGson().fromJson(
-					jsonObject.get(LANGUAGES), identifiableLanguagesListType);
+			List<IdentifiableLanguage> langs = ResponseUtil.getObject(response, LANGUAGES, identifiableLanguagesListType);
 			return langs;
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Retrieves the list of identifiable languages without blocking the
+	 * calling thread.
+	 *
+	 * @return the future identifiable languages
+	 * @see #getIdentifiableLanguages()
+	 */
+	public ListenableFuture<List<IdentifiableLanguage>> getIdentifiableLanguagesAsync() {
+		return executeRequestAsync(buildIdentifiableLanguagesRequest(), LANGUAGES, identifiableLanguagesListType);
+	}
+
+	/**
+	 * Builds the request to retrieve the identifiable languages.
+	 *
+	 * @return the request
+	 */
+	private Request buildIdentifiableLanguagesRequest() {
+		return Request.Get("/v2/identifiable_languages");
+	}
+
 	/**
 	 * Retrieves the list of translation models.
 	 *
@@ -134,6 +151,17 @@ public class LanguageTranslation extends WatsonService {
 		return getModels(null, null, null);
 	}
 
+	/**
+	 * Retrieves the list of translation models without blocking the calling
+	 * thread.
+	 *
+	 * @return the future translation models
+	 * @see #getModels()
+	 */
+	public ListenableFuture<List<TranslationModel>> getModelsAsync() {
+		return getModelsAsync(null, null, null);
+	}
+
 	/**
 	 * Retrieves a translation models.
 	 *
@@ -142,32 +170,78 @@ public class LanguageTranslation extends WatsonService {
 	 * @see TranslationModel
 	 */
 	public TranslationModel getModel(String modelId) {
-		if (modelId == null || modelId.isEmpty())
-			throw new IllegalArgumentException("model_id can not be null or empty");
-
-
-		HttpRequestBase request = Request.Get("/v2/models/" + modelId).build();
+		HttpRequestBase request = buildGetModelRequest(modelId).build();
 		try {
 			HttpResponse response = execute(request);
-			String modelAsString = ResponseUtil.getString(response);
-			TranslationModel model = GsonSingleton.getGson().fromJson(modelAsString,TranslationModel.class);
+			TranslationModel model = ResponseUtil.getObject(response, TranslationModel.class);
 			return model;
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Retrieves a translation model without blocking the calling thread.
+	 *
+	 * @param modelId the model identifier
+	 * @return the future translation model
+	 * @see #getModel(String)
+	 */
+	public ListenableFuture<TranslationModel> getModelAsync(String modelId) {
+		return executeRequestAsync(buildGetModelRequest(modelId), TranslationModel.class);
+	}
+
+	/**
+	 * Builds the request to retrieve a translation model.
+	 *
+	 * @param modelId the model identifier
+	 * @return the request
+	 */
+	private Request buildGetModelRequest(String modelId) {
+		validateModelId(modelId);
+		return Request.Get("/v2/models/" + modelId);
+	}
+
 	/**
 	 * Deletes a translation models.
 	 *
  	 * @param modelId the model identifier
 	 */
 	public void deleteModel(String modelId) {
+		HttpRequestBase request = buildDeleteModelRequest(modelId).build();
+		executeWithoutResponse(request);
+	}
+
+	/**
+	 * Deletes a translation model without blocking the calling thread.
+	 *
+	 * @param modelId the model identifier
+	 * @return the future completed when the model was deleted
+	 * @see #deleteModel(String)
+	 */
+	public ListenableFuture<Void> deleteModelAsync(String modelId) {
+		return executeWithoutResponseAsync(buildDeleteModelRequest(modelId));
+	}
+
+	/**
+	 * Builds the request to delete a translation model.
+	 *
+	 * @param modelId the model identifier
+	 * @return the request
+	 */
+	private Request buildDeleteModelRequest(String modelId) {
+		validateModelId(modelId);
+		return Request.Delete("/v2/models/" + modelId);
+	}
+
+	/**
+	 * Validates a model identifier.
+	 *
+	 * @param modelId the model identifier
+	 */
+	private void validateModelId(String modelId) {
 		if (modelId == null || modelId.isEmpty())
 			throw new IllegalArgumentException("model_id can not be null or empty");
-
-		HttpRequestBase request = Request.Delete("/v2/models/" + modelId).build();
-		execute(request);
 	}
 
 	/**
@@ -179,6 +253,34 @@ public class LanguageTranslation extends WatsonService {
 	 * @return the translation model
 	 */
 	public TranslationModel createModel(Map<String,Object> params) {
+		HttpRequestBase requestBase = buildCreateModelRequest(params).build();
+		try {
+			HttpResponse response = execute(requestBase);
+			TranslationModel model = ResponseUtil.getObject(response, TranslationModel.class);
+			return model;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Creates a translation model without blocking the calling thread.
+	 *
+	 * @param params the params
+	 * @return the future translation model
+	 * @see #createModel(Map)
+	 */
+	public ListenableFuture<TranslationModel> createModelAsync(Map<String,Object> params) {
+		return executeRequestAsync(buildCreateModelRequest(params), TranslationModel.class);
+	}
+
+	/**
+	 * Builds the request to create a translation model.
+	 *
+	 * @param params the params
+	 * @return the request
+	 */
+	private Request buildCreateModelRequest(Map<String,Object> params) {
 		// forced_glossary
 		File forcedGlossary  = (File) params.get(FORCED_GLOSSARY);
 		if (forcedGlossary == null || !forcedGlossary.exists() || !forcedGlossary.isFile())
@@ -197,15 +299,8 @@ public class LanguageTranslation extends WatsonService {
 		if (params.containsKey(NAME))
 			request.withForm(NAME, (String)params.get(NAME));
 
-		HttpRequestBase requestBase = request.build();
-		try {
-			HttpResponse response = execute(requestBase);
-			String modelAsString = ResponseUtil.getString(response);
-			TranslationModel model = GsonSingleton.getGson().fromJson(modelAsString, TranslationModel.class);
-			return model;
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}	}
+		return request;
+	}
 
 	/**
 	 * Retrieves the list of models.
@@ -221,6 +316,46 @@ public class LanguageTranslation extends WatsonService {
 	 */
 	public List<TranslationModel> getModels(final Boolean showDefault,
 			final String source, final String target) {
+		HttpRequestBase requestBase = buildGetModelsRequest(showDefault, source, target).build();
+		try {
+			HttpResponse response = execute(requestBase);
+			List<TranslationModel> models = ResponseUtil.getObject(response, "models", modelListType);
+			return models;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Retrieves the list of models without blocking the calling thread.
+	 *
+	 * @param showDefault
+	 *            show default models
+	 * @param source
+	 *            the source
+	 * @param target
+	 *            the target
+	 * @return the future translation models
+	 * @see #getModels(Boolean, String, String)
+	 */
+	public ListenableFuture<List<TranslationModel>> getModelsAsync(final Boolean showDefault,
+			final String source, final String target) {
+		return executeRequestAsync(buildGetModelsRequest(showDefault, source, target), "models", modelListType);
+	}
+
+	/**
+	 * Builds the request to retrieve the list of models.
+	 *
+	 * @param showDefault
+	 *            show default models
+	 * @param source
+	 *            the source
+	 * @param target
+	 *            the target
+	 * @return the request
+	 */
+	private Request buildGetModelsRequest(final Boolean showDefault,
+			final String source, final String target) {
 		Request request = Request.Get("/v2/models");
 
 		if (source != null && !source.isEmpty())
@@ -232,16 +367,7 @@ public class LanguageTranslation extends WatsonService {
 		if (showDefault != null)
 			request.withQuery(DEFAULT, showDefault.booleanValue());
 
-		HttpRequestBase requestBase = request.build();
-		try {
-			HttpResponse response = execute(requestBase);
-			JsonObject jsonObject = ResponseUtil.getJsonObject(response);
-			List<TranslationModel> models = GsonSingleton.getGson().fromJson(
-					jsonObject.get("models"), modelListType);
-			return models;
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		return request;
 	}
 
 	/**
@@ -252,21 +378,44 @@ public class LanguageTranslation extends WatsonService {
 	 * @return the identified language
 	 */
 	public List<IdentifiedLanguage> identify(final String text) {
-		HttpRequestBase request = Request.Post("/v2/identify")
-				.withContent(text, MediaType.TEXT_PLAIN)
-				.withHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON).build();
+		HttpRequestBase request = buildIdentifyRequest(text).build();
 
 		try {
 			HttpResponse response = execute(request);
-			JsonObject jsonObject = ResponseUtil.getJsonObject(response);
-			List<IdentifiedLanguage> identifiedLanguages = GsonSingleton.getGson().fromJson(
-					jsonObject.get(LANGUAGES), translationModelListType);
+			List<IdentifiedLanguage> identifiedLanguages = ResponseUtil.getObject(
+					response, LANGUAGES, translationModelListType);
 			return identifiedLanguages;
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Identify the language in which text is written without blocking the
+	 * calling thread.
+	 *
+	 * @param text
+	 *            the text to identify
+	 * @return the future identified languages
+	 * @see #identify(String)
+	 */
+	public ListenableFuture<List<IdentifiedLanguage>> identifyAsync(final String text) {
+		return executeRequestAsync(buildIdentifyRequest(text), LANGUAGES, translationModelListType);
+	}
+
+	/**
+	 * Builds the request to identify the language of a text.
+	 *
+	 * @param text
+	 *            the text to identify
+	 * @return the request
+	 */
+	private Request buildIdentifyRequest(final String text) {
+		return Request.Post("/v2/identify")
+				.withContent(text, MediaType.TEXT_PLAIN)
+				.withHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -290,19 +439,61 @@ public class LanguageTranslation extends WatsonService {
 	 * @return The {@link TranslationResult}
 	 */
 	public TranslationResult translate(final Map<String, Object> params) {
+		return executeRequest(buildTranslateRequest(params), TranslationResult.class);
+	}
+
+	/**
+	 * Translate paragraphs of text without blocking the calling thread.
+	 *
+	 * @param params the params
+	 * @return the future {@link TranslationResult}
+	 * @see #translate(Map)
+	 */
+	public ListenableFuture<TranslationResult> translateAsync(final Map<String, Object> params) {
+		return executeRequestAsync(buildTranslateRequest(params), TranslationResult.class);
+	}
+
+	/**
+	 * Translate paragraphs of text that were already batched.
+	 *
+	 * @param params the params with the model_id or source and target
+	 * @param paragraphs the paragraphs
+	 * @return the future {@link TranslationResult}
+	 * @see BatchTranslator
+	 */
+	ListenableFuture<TranslationResult> translateAsync(final Map<String, Object> params,
+			final List<String> paragraphs) {
+		return executeRequestAsync(buildTranslateRequest(params, paragraphs), TranslationResult.class);
+	}
+
+	/**
+	 * Builds the translate request.
+	 *
+	 * @param params the params
+	 * @return the request
+	 */
+	private Request buildTranslateRequest(final Map<String, Object> params) {
+		final Object text = params.get(TEXT);
+		if (text == null)
+			throw new IllegalArgumentException("text can not be null");
+		if (text instanceof String)
+			return buildTranslateRequest(params, Collections.singletonList((String) text));
+		return buildTranslateRequest(params, Arrays.asList((String[]) text));
+	}
+
+	/**
+	 * Builds the translate request of some paragraphs. The paragraphs are
+	 * written straight to the JSON body, without building a JSON tree.
+	 *
+	 * @param params the params with the model_id or source and target
+	 * @param paragraphs the paragraphs
+	 * @return the request
+	 */
+	private Request buildTranslateRequest(final Map<String, Object> params, final List<String> paragraphs) {
 
 		final String source = (String) params.get(SOURCE);
 		final String target = (String) params.get(TARGET);
 		final String modelId = (String) params.get(MODEL_ID);
-		final String [] text;
-		if (params.get(TEXT) != null) {
-			if (params.get(TEXT) instanceof String)
-				text = new String[]{(String) params.get(TEXT)};
-			else
-				text = (String[]) params.get(TEXT);
-		} else {
-			text = null;
-		}
 
 		if ((modelId == null || modelId.isEmpty())
 				&& (source == null || source.isEmpty() || target == null || target
@@ -310,20 +501,19 @@ public class LanguageTranslation extends WatsonService {
 			throw new IllegalArgumentException(
 					"model_id or source and target should be specified");
 
-		if (text == null)
-			throw new IllegalArgumentException("text can not be null");
-
-		JsonObject contentJson = new JsonObject();
-
-		// convert the text into a json array
-		JsonArray paragraphs = new JsonArray();
-		for (String paragraph : text) {
-			paragraphs.add(new JsonPrimitive(paragraph));
+		final StringWriter content = new StringWriter();
+		try {
+			final JsonWriter writer = new JsonWriter(content);
+			writer.beginObject().name(TEXT).beginArray();
+			for (String paragraph : paragraphs)
+				writer.value(paragraph);
+			writer.endArray().endObject().close();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
 		}
-		contentJson.add(TEXT, paragraphs);
 
 		Request requestBuilder = Request.Post("/v2/translate")
-				.withContent(contentJson);
+				.withContent(content.toString(), MediaType.APPLICATION_JSON);
 
 		if (source != null && !source.isEmpty())
 			requestBuilder.withQuery(SOURCE, source);
@@ -334,17 +524,7 @@ public class LanguageTranslation extends WatsonService {
 		if (modelId != null && !modelId.isEmpty())
 			requestBuilder.withQuery(MODEL_ID, modelId);
 
-		HttpRequestBase request = requestBuilder.build();
-
-		try {
-			HttpResponse response = execute(request);
-			String translationResult = ResponseUtil.getString(response);
-			TranslationResult translation = GsonSingleton.getGson().fromJson(
-					translationResult, TranslationResult.class);
-			return translation;
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		return requestBuilder;
 	}
 
 
@@ -363,6 +543,20 @@ public class LanguageTranslation extends WatsonService {
 		return translate(params);
 	}
 
+	/**
+	 * Translate text using a model without blocking the calling thread.
+	 *
+	 * @param text            The submitted paragraphs to translate
+	 * @param modelId the model id
+	 * @return the future {@link TranslationResult}
+	 */
+	public ListenableFuture<TranslationResult> translateAsync(final String text, final String modelId) {
+		Map<String, Object> params = new HashMap<String,Object>();
+		params.put(TEXT, text);
+		params.put(MODEL_ID, modelId);
+		return translateAsync(params);
+	}
+
 	/**
 	 * Translate text using source and target languages.
 	 *
@@ -379,4 +573,22 @@ public class LanguageTranslation extends WatsonService {
 		return translate(params);
 	}
 
+	/**
+	 * Translate text using source and target languages without blocking the
+	 * calling thread.
+	 *
+	 * @param text            The submitted paragraphs to translate
+	 * @param source          The source language
+	 * @param target          The target language
+	 * @return the future {@link TranslationResult}
+	 */
+	public ListenableFuture<TranslationResult> translateAsync(final String text, final String source,
+			final String target) {
+		Map<String, Object> params = new HashMap<String,Object>();
+		params.put(TEXT, text);
+		params.put(SOURCE, source);
+		params.put(TARGET, target);
+		return translateAsync(params);
+	}
+
 }
@@ -22,6 +22,9 @@ import java.util.List;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.ibm.watson.developer_cloud.machine_translation.v1.model.Language;
 import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.service.WatsonService;
@@ -88,16 +91,8 @@ public class MachineTranslation extends WatsonService {
 	 * @return the translated result
 	 */
 	public String translate(final String text, final Language from, final Language to) {
-		String sid = createSid(from, to);
-
-		if (!supportedSids.contains(sid))
-			throw new IllegalArgumentException(String.format(
-					"Translation from: %s to: %s is not supported.", from, to));
-
+		HttpRequestBase request = buildTranslateRequest(text, from, to).build();
 		try {
-			HttpRequestBase request = Request.Post("/v1/smt/0")
-					.withForm("sid", sid, "rt", "text", "txt", text).build();
-
 			HttpResponse response = execute(request);
 
 			return ResponseUtil.getString(response);
@@ -105,4 +100,52 @@ public class MachineTranslation extends WatsonService {
 			throw new RuntimeException(e);
 		}
 	}
+
+	/**
+	 * Translate text from one language to another without blocking the
+	 * calling thread.
+	 * 
+	 * @param text
+	 *            the text to translate
+	 * @param from
+	 *            the origin language
+	 * @param to
+	 *            the target language
+	 * @return the future translated result
+	 * @see #translate(String, Language, Language)
+	 */
+	public ListenableFuture<String> translateAsync(final String text, final Language from, final Language to) {
+		HttpRequestBase request = buildTranslateRequest(text, from, to).build();
+		return Futures.transform(executeAsync(request), new Function<HttpResponse, String>() {
+			@Override
+			public String apply(HttpResponse response) {
+				try {
+					return ResponseUtil.getString(response);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Builds the translate request.
+	 * 
+	 * @param text
+	 *            the text to translate
+	 * @param from
+	 *            the origin language
+	 * @param to
+	 *            the target language
+	 * @return the request
+	 */
+	private Request buildTranslateRequest(final String text, final Language from, final Language to) {
+		String sid = createSid(from, to);
+
+		if (!supportedSids.contains(sid))
+			throw new IllegalArgumentException(String.format(
+					"Translation from: %s to: %s is not supported.", from, to));
+
+		return Request.Post("/v1/smt/0").withForm("sid", sid, "rt", "text", "txt", text);
+	}
 }
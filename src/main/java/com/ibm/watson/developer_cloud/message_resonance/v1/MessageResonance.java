@@ -15,20 +15,24 @@
  */
 package com.ibm.watson.developer_cloud.message_resonance.v1;
 
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-
-import org.apache.http.HttpResponse;
-import org.apache.http.client.methods.HttpRequestBase;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 
 import com.ibm.watson.developer_cloud.message_resonance.v1.model.Message;
 import com.ibm.watson.developer_cloud.message_resonance.v1.model.MessageResonanceDataset;
 import com.ibm.watson.developer_cloud.message_resonance.v1.model.Resonance;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.service.WatsonService;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
-import com.ibm.watson.developer_cloud.util.ResponseUtil;
 
 /**
  * The Message Resonance analyzes draft content and scores how well it is likely
@@ -42,12 +46,30 @@ import com.ibm.watson.developer_cloud.util.ResponseUtil;
  */
 public class MessageResonance extends WatsonService {
 
+	/** The Constant DEFAULT_CONCURRENCY used to score the words. (value is 8) */
+	public static final int DEFAULT_CONCURRENCY = 8;
+
+	/** The Constant DEFAULT_WORD_CACHE_SIZE, per dataset. (value is 10000) */
+	public static final int DEFAULT_WORD_CACHE_SIZE = 10000;
+
 	/** The url. */
 	private static final String URL = "https://gateway.watsonplatform.net/message-resonance-beta/api";
 	
 	/** The dataset. */
 	private MessageResonanceDataset dataset;
 
+	/** The maximum number of word scores requested at the same time. */
+	private volatile int concurrency = DEFAULT_CONCURRENCY;
+
+	/** The maximum number of word scores cached per dataset. */
+	private volatile int wordCacheSize = DEFAULT_WORD_CACHE_SIZE;
+
+	/**
+	 * The word scores by dataset id, in access order. The scores being
+	 * requested are cached too, so concurrent messages share the requests.
+	 */
+	private final Map<Integer, LinkedHashMap<String, ListenableFuture<Resonance>>> wordScores = new HashMap<Integer, LinkedHashMap<String, ListenableFuture<Resonance>>>();
+
 	/**
 	 * Instantiates a new message resonance.
 	 * 
@@ -61,12 +83,15 @@ public class MessageResonance extends WatsonService {
 	 * 
 	 * @param text
 	 *            the text
+	 * @param dataset
+	 *            the dataset
 	 * @param resonances
 	 *            the resonances
 	 * 
 	 * @return the message
 	 */
-	private Message formatResponseMessage(final String text,final List<Resonance> resonances) {
+	private Message formatResponseMessage(final String text, final MessageResonanceDataset dataset,
+			final List<Resonance> resonances) {
 		Message message = new Message();
 		message.setText(text);
 		message.setDataset(dataset);
@@ -91,7 +116,10 @@ public class MessageResonance extends WatsonService {
 	}
 
 	/**
-	 * Returns the resonance for the given text.
+	 * Returns the resonance for the given text. Every distinct word is scored
+	 * once, words already scored with the dataset are served from a cache and
+	 * the rest are requested concurrently, up to {@link #setConcurrency(int)}
+	 * at a time.
 	 * 
 	 * @param text
 	 *            the text
@@ -99,6 +127,7 @@ public class MessageResonance extends WatsonService {
 	 * @return A list of JSON objects, each element corresponds to a word
 	 */
 	public Message getResonance(final String text) {
+		final MessageResonanceDataset dataset = this.dataset;
 		if (dataset == null)
 			throw new IllegalArgumentException("dataset can not be null");
 
@@ -108,33 +137,208 @@ public class MessageResonance extends WatsonService {
 		// Split the text to analyze word by word
 		String[] words = text.split("\\s");
 
-		List<Resonance> resonances = new ArrayList<Resonance>();
-		for (String word : words) {
-			Resonance resonance = getResonanceForWord(word);
-			resonances.add(resonance);
+		final Semaphore permits = new Semaphore(concurrency);
+		final Map<String, ListenableFuture<Resonance>> scores = new HashMap<String, ListenableFuture<Resonance>>();
+		try {
+			for (String word : words) {
+				if (!scores.containsKey(word))
+					scores.put(word, getWordScore(dataset, word, permits));
+			}
+
+			List<Resonance> resonances = new ArrayList<Resonance>(words.length);
+			for (String word : words) {
+				// the cached score is shared, the offset is set on a copy
+				resonances.add(copy(scores.get(word).get()));
+			}
+			return formatResponseMessage(text, dataset, resonances);
+		} catch (InterruptedException e) {
+			// the scores may be shared with other messages, so they are not
+			// cancelled
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	/**
+	 * Gets the score of a word from the cache or requests it, waiting for a
+	 * permit first. A placeholder is cached before waiting, so the messages
+	 * that need the word meanwhile share the request. A score that fails is
+	 * removed from the cache so it is requested again by the next message.
+	 * 
+	 * @param dataset
+	 *            the dataset
+	 * @param word
+	 *            the word
+	 * @param permits
+	 *            the permits of the message being scored
+	 * @return the future score
+	 * @throws InterruptedException
+	 *             if the thread is interrupted waiting for a permit
+	 */
+	private ListenableFuture<Resonance> getWordScore(final MessageResonanceDataset dataset, final String word,
+			final Semaphore permits) throws InterruptedException {
+		final LinkedHashMap<String, ListenableFuture<Resonance>> cache = getWordCache(dataset);
+		final SettableFuture<Resonance> placeholder = SettableFuture.create();
+		synchronized (cache) {
+			final ListenableFuture<Resonance> cached = cache.get(word);
+			if (cached != null && !isFailed(cached))
+				return cached;
+			cache.put(word, placeholder);
+		}
+		placeholder.addListener(new Runnable() {
+			@Override
+			public void run() {
+				if (isFailed(placeholder)) {
+					synchronized (cache) {
+						if (cache.get(word) == placeholder)
+							cache.remove(word);
+					}
+				}
+			}
+		}, MoreExecutors.directExecutor());
+
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			placeholder.setException(e);
+			throw e;
+		}
+
+		ListenableFuture<Resonance> score;
+		try {
+			score = getResonanceForWordAsync(dataset, word);
+		} catch (RuntimeException e) {
+			score = Futures.immediateFailedFuture(e);
 		}
+		Futures.addCallback(score, new FutureCallback<Resonance>() {
+			@Override
+			public void onSuccess(Resonance resonance) {
+				permits.release();
+				placeholder.set(resonance);
+			}
 
-		return formatResponseMessage(text, resonances);
+			@Override
+			public void onFailure(Throwable t) {
+				permits.release();
+				placeholder.setException(t);
+			}
+		}, MoreExecutors.directExecutor());
+		return placeholder;
 	}
 
 	/**
-	 * Gets the resonance for a given word and dataset.
+	 * Checks if a score failed or was cancelled.
 	 * 
+	 * @param score
+	 *            the score
+	 * @return true, if the score is done without a resonance
+	 */
+	private static boolean isFailed(final ListenableFuture<Resonance> score) {
+		if (!score.isDone())
+			return false;
+		try {
+			score.get();
+			return false;
+		} catch (Exception e) {
+			return true;
+		}
+	}
+
+	/**
+	 * Gets the word score cache of a dataset.
+	 * 
+	 * @param dataset
+	 *            the dataset
+	 * @return the word score cache
+	 */
+	private LinkedHashMap<String, ListenableFuture<Resonance>> getWordCache(final MessageResonanceDataset dataset) {
+		synchronized (wordScores) {
+			LinkedHashMap<String, ListenableFuture<Resonance>> cache = wordScores.get(dataset.getId());
+			if (cache == null) {
+				cache = new LinkedHashMap<String, ListenableFuture<Resonance>>(16, 0.75f, true) {
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected boolean removeEldestEntry(Map.Entry<String, ListenableFuture<Resonance>> eldest) {
+						return size() > wordCacheSize;
+					}
+				};
+				wordScores.put(dataset.getId(), cache);
+			}
+			return cache;
+		}
+	}
+
+	/**
+	 * Gets the resonance for a given word and dataset without blocking the
+	 * calling thread.
+	 * 
+	 * @param dataset
+	 *            the dataset
 	 * @param word
 	 *            the word
 	 * 
-	 * @return the resonance
+	 * @return the future resonance
 	 */
-	private Resonance getResonanceForWord(final String word) {
-		HttpRequestBase request = Request.Get("/v1/ringscore")
-				.withQuery("text", word, "dataset", dataset).build();
+	ListenableFuture<Resonance> getResonanceForWordAsync(final MessageResonanceDataset dataset, final String word) {
+		Request request = Request.Get("/v1/ringscore").withQuery("text", word, "dataset", dataset);
+		return executeRequestAsync(request, Resonance.class);
+	}
 
-		try {
-			HttpResponse response = execute(request);
-			String resonanceJson = ResponseUtil.getString(response);
-			return GsonSingleton.getGson().fromJson(resonanceJson, Resonance.class);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
+	/**
+	 * Copies a resonance.
+	 * 
+	 * @param resonance
+	 *            the resonance
+	 * @return the copy
+	 */
+	private static Resonance copy(final Resonance resonance) {
+		Resonance copy = new Resonance();
+		copy.setWord(resonance.getWord());
+		copy.setOverall(resonance.getOverall());
+		copy.setPrevalence(resonance.getPrevalence());
+		copy.setVolume(resonance.getVolume());
+		copy.setDuration(resonance.getDuration());
+		return copy;
+	}
+
+	/**
+	 * Sets the maximum number of word scores requested at the same time by
+	 * {@link #getResonance(String)}.
+	 * 
+	 * @param concurrency
+	 *            the concurrency, {@link #DEFAULT_CONCURRENCY} by default
+	 */
+	public void setConcurrency(final int concurrency) {
+		if (concurrency <= 0)
+			throw new IllegalArgumentException("concurrency should be greater than 0");
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Sets the maximum number of word scores cached per dataset. The least
+	 * recently used scores are evicted first.
+	 * 
+	 * @param wordCacheSize
+	 *            the word cache size, {@link #DEFAULT_WORD_CACHE_SIZE} by
+	 *            default, 0 to disable the cache
+	 */
+	public void setWordCacheSize(final int wordCacheSize) {
+		if (wordCacheSize < 0)
+			throw new IllegalArgumentException("wordCacheSize can not be negative");
+		this.wordCacheSize = wordCacheSize;
+	}
+
+	/**
+	 * Removes the cached word scores of all the datasets.
+	 */
+	public void clearWordCache() {
+		synchronized (wordScores) {
+			wordScores.clear();
 		}
 	}
 
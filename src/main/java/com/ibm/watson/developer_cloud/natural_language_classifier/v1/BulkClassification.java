@@ -0,0 +1,270 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.natural_language_classifier.v1;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.watson.developer_cloud.natural_language_classifier.v1.model.Classification;
+
+/**
+ * The results of
+ * {@link NaturalLanguageClassifier#classifyAll(String, Iterable, int)}, in
+ * the order of the texts, with the throughput of the batch. A text that
+ * could not be classified has an error instead of a classification.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public class BulkClassification {
+
+	/**
+	 * The result of a single text.
+	 */
+	public static class Result {
+
+		/** The index of the text. */
+		private final int index;
+
+		/** The text. */
+		private final String text;
+
+		/** The classification, null if the text failed. */
+		private final Classification classification;
+
+		/** The error, null if the text was classified. */
+		private final Exception error;
+
+		/** The latency in nanoseconds. */
+		private final long latency;
+
+		/**
+		 * Instantiates a new result.
+		 *
+		 * @param index
+		 *            the index
+		 * @param text
+		 *            the text
+		 * @param classification
+		 *            the classification
+		 * @param error
+		 *            the error
+		 * @param latency
+		 *            the latency in nanoseconds
+		 */
+		Result(int index, String text, Classification classification, Exception error, long latency) {
+			this.index = index;
+			this.text = text;
+			this.classification = classification;
+			this.error = error;
+			this.latency = latency;
+		}
+
+		/**
+		 * Gets the index of the text in the batch.
+		 *
+		 * @return the index
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		/**
+		 * Gets the text.
+		 *
+		 * @return the text
+		 */
+		public String getText() {
+			return text;
+		}
+
+		/**
+		 * Gets the classification.
+		 *
+		 * @return the classification or null if the text failed
+		 */
+		public Classification getClassification() {
+			return classification;
+		}
+
+		/**
+		 * Gets the error.
+		 *
+		 * @return the error or null if the text was classified
+		 */
+		public Exception getError() {
+			return error;
+		}
+
+		/**
+		 * Checks if the text was classified.
+		 *
+		 * @return true, if successful
+		 */
+		public boolean isSuccessful() {
+			return error == null;
+		}
+
+		/**
+		 * Gets the time from sending the text to receiving its classification.
+		 *
+		 * @param unit
+		 *            the unit
+		 * @return the latency
+		 */
+		public long getLatency(TimeUnit unit) {
+			return unit.convert(latency, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/** The results in the order of the texts. */
+	private final List<Result> results;
+
+	/** The elapsed time in nanoseconds. */
+	private final long elapsed;
+
+	/** The number of failed texts. */
+	private final int failureCount;
+
+	/**
+	 * Instantiates a new bulk classification.
+	 *
+	 * @param results
+	 *            the results in the order of the texts
+	 * @param elapsed
+	 *            the elapsed time in nanoseconds
+	 */
+	BulkClassification(List<Result> results, long elapsed) {
+		this.results = Collections.unmodifiableList(results);
+		this.elapsed = elapsed;
+		int failures = 0;
+		for (Result result : results) {
+			if (!result.isSuccessful())
+				failures++;
+		}
+		failureCount = failures;
+	}
+
+	/**
+	 * Gets the results in the order of the texts.
+	 *
+	 * @return the results
+	 */
+	public List<Result> getResults() {
+		return results;
+	}
+
+	/**
+	 * Gets the results of the texts that could not be classified.
+	 *
+	 * @return the failures
+	 */
+	public List<Result> getFailures() {
+		final List<Result> failures = new ArrayList<Result>(failureCount);
+		for (Result result : results) {
+			if (!result.isSuccessful())
+				failures.add(result);
+		}
+		return failures;
+	}
+
+	/**
+	 * Gets the number of texts.
+	 *
+	 * @return the count
+	 */
+	public int getCount() {
+		return results.size();
+	}
+
+	/**
+	 * Gets the number of texts that could not be classified.
+	 *
+	 * @return the failure count
+	 */
+	public int getFailureCount() {
+		return failureCount;
+	}
+
+	/**
+	 * Gets the time taken to classify the batch.
+	 *
+	 * @param unit
+	 *            the unit
+	 * @return the elapsed time
+	 */
+	public long getElapsedTime(TimeUnit unit) {
+		return unit.convert(elapsed, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Gets the number of texts classified per second.
+	 *
+	 * @return the throughput
+	 */
+	public double getThroughput() {
+		return elapsed == 0 ? 0 : results.size() * 1e9 / elapsed;
+	}
+
+	/**
+	 * Gets the mean latency of the texts.
+	 *
+	 * @param unit
+	 *            the unit
+	 * @return the mean latency
+	 */
+	public long getMeanLatency(TimeUnit unit) {
+		if (results.isEmpty())
+			return 0;
+		long total = 0;
+		for (Result result : results)
+			total += result.latency;
+		return unit.convert(total / results.size(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Gets the highest latency of the texts.
+	 *
+	 * @param unit
+	 *            the unit
+	 * @return the max latency
+	 */
+	public long getMaxLatency(TimeUnit unit) {
+		long max = 0;
+		for (Result result : results)
+			max = Math.max(max, result.latency);
+		return unit.convert(max, TimeUnit.NANOSECONDS);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("BulkClassification [count=").append(getCount());
+		builder.append(", failures=").append(failureCount);
+		builder.append(", elapsedMs=").append(getElapsedTime(TimeUnit.MILLISECONDS));
+		builder.append(", throughput=").append(String.format("%.1f/s", getThroughput()));
+		builder.append(", meanLatencyMs=").append(getMeanLatency(TimeUnit.MILLISECONDS));
+		builder.append(", maxLatencyMs=").append(getMaxLatency(TimeUnit.MILLISECONDS));
+		builder.append("]");
+		return builder.toString();
+	}
+}
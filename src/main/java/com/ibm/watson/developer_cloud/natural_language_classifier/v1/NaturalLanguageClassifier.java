@@ -16,13 +16,20 @@
 package com.ibm.watson.developer_cloud.natural_language_classifier.v1;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.entity.mime.MultipartEntity;
 import org.apache.http.entity.mime.content.StringBody;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.natural_language_classifier.v1.model.Classification;
 import com.ibm.watson.developer_cloud.natural_language_classifier.v1.model.Classifier;
@@ -54,6 +61,9 @@ public class NaturalLanguageClassifier extends WatsonService {
 	 */
 	public static final String LANGUAGE_EN = "en";
 
+	/** The Constant DEFAULT_CONCURRENCY used by classifyAll. (value is 8) */
+	public static final int DEFAULT_CONCURRENCY = 8;
+
 	/** The url. */
 	private static String URL = "https://gateway.watsonplatform.net/natural-language-classifier/api";
 
@@ -74,6 +84,126 @@ public class NaturalLanguageClassifier extends WatsonService {
 	 * @return the classification of a phrase with a given classifier
 	 */
 	public Classification classify(final String classifierId, final String text) {
+		return executeRequest(buildClassifyRequest(classifierId, text), Classification.class);
+	}
+
+	/**
+	 * Returns classification information for a classifier on a phrase without
+	 * blocking the calling thread.
+	 *
+	 * @param classifierId
+	 *            The classifier id
+	 * @param text
+	 *            The submitted phrase to classify
+	 * @return the future classification of a phrase with a given classifier
+	 */
+	public ListenableFuture<Classification> classifyAsync(final String classifierId, final String text) {
+		return executeRequestAsync(buildClassifyRequest(classifierId, text), Classification.class);
+	}
+
+	/**
+	 * Classifies many phrases with the same classifier. Up to
+	 * {@link #DEFAULT_CONCURRENCY} requests are in flight at the same time
+	 * over the pooled transport.
+	 *
+	 * @param classifierId
+	 *            The classifier id
+	 * @param texts
+	 *            The phrases to classify
+	 * @return the classifications in the order of the phrases
+	 * @see #classifyAll(String, Iterable, int)
+	 */
+	public BulkClassification classifyAll(final String classifierId, final Iterable<String> texts) {
+		return classifyAll(classifierId, texts, DEFAULT_CONCURRENCY);
+	}
+
+	/**
+	 * Classifies many phrases with the same classifier, keeping at most
+	 * <code>concurrency</code> requests in flight. A phrase that fails doesn't
+	 * stop the batch: its result has the error instead of a classification.
+	 * The results are kept in memory, so very large inputs should be
+	 * classified in batches.
+	 *
+	 * @param classifierId
+	 *            The classifier id
+	 * @param texts
+	 *            The phrases to classify
+	 * @param concurrency
+	 *            The maximum number of requests in flight
+	 * @return the classifications in the order of the phrases
+	 */
+	public BulkClassification classifyAll(final String classifierId, final Iterable<String> texts,
+			final int concurrency) {
+		if (classifierId == null || classifierId.isEmpty())
+			throw new IllegalArgumentException("classifierId can not be null or empty");
+		if (texts == null)
+			throw new IllegalArgumentException("texts can not be null");
+		if (concurrency <= 0)
+			throw new IllegalArgumentException("concurrency should be greater than 0");
+
+		final long start = System.nanoTime();
+		final Semaphore permits = new Semaphore(concurrency);
+		final List<String> sent = new ArrayList<String>();
+		final List<ListenableFuture<Classification>> futures = new ArrayList<ListenableFuture<Classification>>();
+		final List<SettableFuture<Long>> latencies = new ArrayList<SettableFuture<Long>>();
+
+		try {
+			for (String text : texts) {
+				permits.acquire();
+				final long sentAt = System.nanoTime();
+				final SettableFuture<Long> latency = SettableFuture.create();
+				ListenableFuture<Classification> future;
+				try {
+					future = classifyAsync(classifierId, text);
+				} catch (RuntimeException e) {
+					future = Futures.immediateFailedFuture(e);
+				}
+				future.addListener(new Runnable() {
+					@Override
+					public void run() {
+						latency.set(System.nanoTime() - sentAt);
+						permits.release();
+					}
+				}, MoreExecutors.directExecutor());
+				sent.add(text);
+				futures.add(future);
+				latencies.add(latency);
+			}
+
+			final List<BulkClassification.Result> results = new ArrayList<BulkClassification.Result>(futures.size());
+			for (int i = 0; i < futures.size(); i++) {
+				Classification classification = null;
+				Exception error = null;
+				try {
+					classification = futures.get(i).get();
+				} catch (ExecutionException e) {
+					error = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+				}
+				results.add(new BulkClassification.Result(i, sent.get(i), classification, error, latencies.get(i)
+						.get()));
+			}
+			return new BulkClassification(results, System.nanoTime() - start);
+		} catch (InterruptedException e) {
+			for (ListenableFuture<Classification> future : futures)
+				future.cancel(false);
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			// latencies are never failed
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Builds the classify request.
+	 *
+	 * @param classifierId
+	 *            The classifier id
+	 * @param text
+	 *            The submitted phrase to classify
+	 * @return the request
+	 */
+	private Request buildClassifyRequest(final String classifierId, final String text) {
 		if (classifierId == null || classifierId.isEmpty())
 			throw new IllegalArgumentException("classifierId can not be null or empty");
 
@@ -85,14 +215,7 @@ public class NaturalLanguageClassifier extends WatsonService {
 
 		String path = String.format("/v1/classifiers/%s/classify", classifierId);
 
-		HttpRequestBase request = Request.Post(path).withContent(contentJson).build();
-
-		try {
-			HttpResponse response = execute(request);
-			return ResponseUtil.getObject(response, Classification.class);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		return Request.Post(path).withContent(contentJson);
 	}
 
 	/**
@@ -111,6 +234,48 @@ public class NaturalLanguageClassifier extends WatsonService {
 	 * @see Classifier
 	 */
 	public Classifier createClassifier(final String name, final String language, final List<TrainingData> trainingData) {
+		HttpRequestBase request = buildCreateClassifierRequest(name, language, trainingData).build();
+
+		try {
+			HttpResponse response = execute(request);
+			return ResponseUtil.getObject(response, Classifier.class);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Sends data to create and train a classifier without blocking the calling
+	 * thread.
+	 * 
+	 * @param name
+	 *            the classifier name
+	 * @param language
+	 *            IETF primary language for the classifier
+	 * @param trainingData
+	 *            The set of questions and their "keys" used to adapt a system to a domain
+	 *            (the ground truth)
+	 * @return the future classifier
+	 * @see #createClassifier(String, String, List)
+	 */
+	public ListenableFuture<Classifier> createClassifierAsync(final String name, final String language,
+			final List<TrainingData> trainingData) {
+		return executeRequestAsync(buildCreateClassifierRequest(name, language, trainingData), Classifier.class);
+	}
+
+	/**
+	 * Builds the request to create a classifier.
+	 * 
+	 * @param name
+	 *            the classifier name
+	 * @param language
+	 *            IETF primary language for the classifier
+	 * @param trainingData
+	 *            the training data
+	 * @return the request
+	 */
+	private Request buildCreateClassifierRequest(final String name, final String language,
+			final List<TrainingData> trainingData) {
 		if (trainingData == null || trainingData.isEmpty())
 			throw new IllegalArgumentException("trainingData can not be null or empty");
 
@@ -129,10 +294,7 @@ public class NaturalLanguageClassifier extends WatsonService {
 					new StringBody(TrainingDataUtils.toCSV(trainingData.toArray(new TrainingData[0]))));
 			reqEntity.addPart("training_metadata", new StringBody(contentJson.toString()));
 
-			HttpRequestBase request = Request.Post("/v1/classifiers").withEntity(reqEntity).build();
-
-			HttpResponse response = execute(request);
-			return ResponseUtil.getObject(response, Classifier.class);
+			return Request.Post("/v1/classifiers").withEntity(reqEntity);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
@@ -146,13 +308,22 @@ public class NaturalLanguageClassifier extends WatsonService {
 	 * @see Classifier
 	 */
 	public void deleteClassifier(String classifierId) {
-		if (classifierId == null || classifierId.isEmpty())
-			throw new IllegalArgumentException("classifierId can not be null or empty");
-
-		HttpRequestBase request = Request.Delete("/v1/classifiers/" + classifierId).build();
+		HttpRequestBase request = buildClassifierRequest(classifierId, false).build();
 		executeWithoutResponse(request);
 	}
 
+	/**
+	 * Deletes a classifier without blocking the calling thread.
+	 * 
+	 * @param classifierId
+	 *            the classifier ID
+	 * @return the future completed when the classifier was deleted
+	 * @see #deleteClassifier(String)
+	 */
+	public ListenableFuture<Void> deleteClassifierAsync(String classifierId) {
+		return executeWithoutResponseAsync(buildClassifierRequest(classifierId, false));
+	}
+
 	/**
 	 * Retrieves a classifier.
 	 * 
@@ -162,10 +333,7 @@ public class NaturalLanguageClassifier extends WatsonService {
 	 * @see Classifier
 	 */
 	public Classifier getClassifier(String classifierId) {
-		if (classifierId == null || classifierId.isEmpty())
-			throw new IllegalArgumentException("classifierId can not be null or empty");
-
-		HttpRequestBase request = Request.Get("/v1/classifiers/" + classifierId).build();
+		HttpRequestBase request = buildClassifierRequest(classifierId, true).build();
 
 		try {
 			HttpResponse response = execute(request);
@@ -175,6 +343,35 @@ public class NaturalLanguageClassifier extends WatsonService {
 		}
 	}
 
+	/**
+	 * Retrieves a classifier without blocking the calling thread.
+	 * 
+	 * @param classifierId
+	 *            the classifier ID
+	 * @return the future classifier
+	 * @see #getClassifier(String)
+	 */
+	public ListenableFuture<Classifier> getClassifierAsync(String classifierId) {
+		return executeRequestAsync(buildClassifierRequest(classifierId, true), Classifier.class);
+	}
+
+	/**
+	 * Builds the request to retrieve or delete a classifier.
+	 * 
+	 * @param classifierId
+	 *            the classifier ID
+	 * @param get
+	 *            true to retrieve the classifier, false to delete it
+	 * @return the request
+	 */
+	private Request buildClassifierRequest(String classifierId, boolean get) {
+		if (classifierId == null || classifierId.isEmpty())
+			throw new IllegalArgumentException("classifierId can not be null or empty");
+
+		String path = "/v1/classifiers/" + classifierId;
+		return get ? Request.Get(path) : Request.Delete(path);
+	}
+
 	/**
 	 * Retrieves the list of classifiers for the user.
 	 * 
@@ -192,6 +389,17 @@ public class NaturalLanguageClassifier extends WatsonService {
 		}
 	}
 
+	/**
+	 * Retrieves the list of classifiers for the user without blocking the
+	 * calling thread.
+	 * 
+	 * @return the future classifier list
+	 * @see #getClassifiers()
+	 */
+	public ListenableFuture<Classifiers> getClassifiersAsync() {
+		return executeRequestAsync(Request.Get("/v1/classifiers"), Classifiers.class);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
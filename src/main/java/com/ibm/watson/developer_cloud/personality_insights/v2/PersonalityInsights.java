@@ -15,14 +15,13 @@
  */
 package com.ibm.watson.developer_cloud.personality_insights.v2;
 
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Logger;
 
-import org.apache.http.HttpResponse;
 import org.apache.http.protocol.HTTP;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.ibm.watson.developer_cloud.personality_insights.v2.model.Content;
 import com.ibm.watson.developer_cloud.personality_insights.v2.model.Profile;
 import com.ibm.watson.developer_cloud.service.Request;
@@ -30,7 +29,6 @@ import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.HttpHeaders;
 import com.ibm.watson.developer_cloud.util.MediaType;
-import com.ibm.watson.developer_cloud.util.ResponseUtil;
 
 /**
  * The Watson Personality Insights service uses linguistic analytics to extract
@@ -85,6 +83,30 @@ public class PersonalityInsights extends WatsonService {
 	 * @return The personality profile
 	 */
 	public Profile getProfile(final Map<String, Object> params) {
+		return executeRequest(buildProfileRequest(params), Profile.class);
+	}
+
+	/**
+	 * Generates a {@link Profile} without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            The parameters to generate the profile. Either text or content need
+	 *            to be specified
+	 * @return The future personality profile
+	 * @see #getProfile(Map)
+	 */
+	public ListenableFuture<Profile> getProfileAsync(final Map<String, Object> params) {
+		return executeRequestAsync(buildProfileRequest(params), Profile.class);
+	}
+
+	/**
+	 * Builds the profile request.
+	 * 
+	 * @param params
+	 *            The parameters to generate the profile
+	 * @return the request
+	 */
+	private Request buildProfileRequest(final Map<String, Object> params) {
 		if (!params.containsKey(TEXT) && !params.containsKey(CONTENT))
 			throw new IllegalArgumentException("text or content need to be specified");
 		else if (params.containsKey(TEXT) && params.containsKey(CONTENT))
@@ -109,15 +131,7 @@ public class PersonalityInsights extends WatsonService {
 		if (params.containsKey(ACCEPT_LANGUAGE))
 			request.withHeader(HttpHeaders.ACCEPT_LANGUAGE, params.get(ACCEPT_LANGUAGE));
 
-		HttpResponse response = execute(request.build());
-
-		try {
-			String profileJson = ResponseUtil.getString(response);
-			Profile profile = GsonSingleton.getGson().fromJson(profileJson, Profile.class);
-			return profile;
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		return request;
 	}
 	
 	/**
@@ -138,6 +152,25 @@ public class PersonalityInsights extends WatsonService {
 		return getProfile(params);
 	}
 
+	/**
+	 * Generates a {@link Profile} from text without blocking the calling
+	 * thread.
+	 * 
+	 * @param text
+	 *            Text to analyze
+	 *            
+	 * @return The future personality {@link Profile}
+	 * @see #getProfile(String)
+	 */
+	public ListenableFuture<Profile> getProfileAsync(final String text) {
+		if (text == null || text.isEmpty())
+			throw new IllegalArgumentException("text can not be null or empty");
+		
+		Map<String, Object> params = new HashMap<String,Object>();
+		params.put(TEXT, text);
+		return getProfileAsync(params);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -20,6 +20,9 @@ import java.io.IOException;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.ibm.watson.developer_cloud.question_and_answer.v1.model.Pipeline;
 import com.ibm.watson.developer_cloud.question_and_answer.v1.model.Question;
 import com.ibm.watson.developer_cloud.question_and_answer.v1.model.QuestionAndAnswerDataset;
@@ -72,6 +75,23 @@ public class QuestionAndAnswer extends WatsonService {
 		return ask(q);
 	}
 
+	/**
+	 * Interprets and answers user questions without blocking the calling
+	 * thread.
+	 * 
+	 * @param question
+	 *            the string question
+	 * @return the future answers
+	 * @see #ask(String)
+	 */
+	public ListenableFuture<WatsonAnswer> askAsync(final String question) {
+		if (question == null || question.trim().isEmpty())
+			throw new IllegalArgumentException("question can not be null or empty");
+
+		Question q = new Question().withQuestionText(question);
+		return askAsync(q);
+	}
+
 
 	/**
 	 * Interprets and answers user questions.
@@ -81,15 +101,7 @@ public class QuestionAndAnswer extends WatsonService {
 	 * @return the JSON array
 	 */
 	public WatsonAnswer ask(final Question question) {
-		if (dataset == null)
-			throw new IllegalArgumentException("dataset can not be null");
-
-		if (question == null)
-			throw new IllegalArgumentException("question can not be null");
-
-		HttpRequestBase request = Request.Post("/v1/question/%s", dataset.getId())
-				.withHeader("X-synctimeout", "30")
-				.withContent(GsonSingleton.getGson().toJson(new WatsonQuestion(question)), MediaType.APPLICATION_JSON).build();
+		HttpRequestBase request = buildAskRequest(question).build();
 
 		try {
 			HttpResponse response = execute(request);
@@ -104,6 +116,45 @@ public class QuestionAndAnswer extends WatsonService {
 
 	}
 
+	/**
+	 * Interprets and answers user questions without blocking the calling
+	 * thread.
+	 * 
+	 * @param question
+	 *            the question
+	 * @return the future answers
+	 * @see #ask(Question)
+	 */
+	public ListenableFuture<WatsonAnswer> askAsync(final Question question) {
+		return Futures.transform(executeRequestAsync(buildAskRequest(question), Pipeline[].class),
+				new Function<Pipeline[], WatsonAnswer>() {
+					@Override
+					public WatsonAnswer apply(Pipeline[] pipelines) {
+						// Return the results from the first pipeline
+						return pipelines[0].getWatsonAnswer();
+					}
+				});
+	}
+
+	/**
+	 * Builds the request to ask a question.
+	 * 
+	 * @param question
+	 *            the question
+	 * @return the request
+	 */
+	private Request buildAskRequest(final Question question) {
+		if (dataset == null)
+			throw new IllegalArgumentException("dataset can not be null");
+
+		if (question == null)
+			throw new IllegalArgumentException("question can not be null");
+
+		return Request.Post("/v1/question/%s", dataset.getId())
+				.withHeader("X-synctimeout", "30")
+				.withContent(GsonSingleton.getGson().toJson(new WatsonQuestion(question)), MediaType.APPLICATION_JSON);
+	}
+
 	/**
 	 * Sets the dataset.
 	 * 
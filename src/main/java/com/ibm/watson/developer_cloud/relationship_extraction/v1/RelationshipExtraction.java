@@ -20,6 +20,9 @@ import java.io.IOException;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.ibm.watson.developer_cloud.relationship_extraction.v1.model.RelationshipExtractionDataset;
 import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.service.WatsonService;
@@ -60,13 +63,7 @@ public class RelationshipExtraction extends WatsonService {
 	 * @return the string
 	 */
 	public String extract(final String text) {
-		if (dataset == null)
-			throw new IllegalArgumentException("dataset can not be null");
-		if (text == null)
-			throw new IllegalArgumentException("text can not be null");
-
-		HttpRequestBase request = Request.Post("/v1/sire/0")
-				.withForm("sid", dataset.getId(), "rt", "xml", "txt", text).build();
+		HttpRequestBase request = buildExtractRequest(text).build();
 		String relations = null;
 		try {
 			HttpResponse response = execute(request);
@@ -78,6 +75,44 @@ public class RelationshipExtraction extends WatsonService {
 		return relations;
 	}
 
+	/**
+	 * Extract without blocking the calling thread.
+	 * 
+	 * @param text
+	 *            the text
+	 * @return the future string
+	 * @see #extract(String)
+	 */
+	public ListenableFuture<String> extractAsync(final String text) {
+		HttpRequestBase request = buildExtractRequest(text).build();
+		return Futures.transform(executeAsync(request), new Function<HttpResponse, String>() {
+			@Override
+			public String apply(HttpResponse response) {
+				try {
+					return ResponseUtil.getString(response);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Builds the extract request.
+	 * 
+	 * @param text
+	 *            the text
+	 * @return the request
+	 */
+	private Request buildExtractRequest(final String text) {
+		if (dataset == null)
+			throw new IllegalArgumentException("dataset can not be null");
+		if (text == null)
+			throw new IllegalArgumentException("text can not be null");
+
+		return Request.Post("/v1/sire/0").withForm("sid", dataset.getId(), "rt", "xml", "txt", text);
+	}
+
 	/**
 	 * Gets the dataset.
 	 * 
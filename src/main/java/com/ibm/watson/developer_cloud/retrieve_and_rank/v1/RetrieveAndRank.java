@@ -25,13 +25,13 @@ import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.retrieve_and_rank.v1.models.Ranker;
 import com.ibm.watson.developer_cloud.retrieve_and_rank.v1.models.Rankers;
 import com.ibm.watson.developer_cloud.retrieve_and_rank.v1.models.Ranking;
 import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.service.WatsonService;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
 
 /**
@@ -80,6 +80,41 @@ public class RetrieveAndRank extends WatsonService {
 	 * @see Ranker
 	 */
 	public Ranker createRanker(final String name, final InputStream trainingFile) {
+		try {
+			HttpRequestBase request = buildCreateRankerRequest(name, trainingFile).build();
+		
+			HttpResponse response = execute(request);
+			return ResponseUtil.getObject(response, Ranker.class);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		} 
+	}
+
+	/**
+	 * Sends data to create and train a ranker without blocking the calling
+	 * thread.
+	 * 
+	 * @param name
+	 *            Name of the ranker
+	 * @param trainingFile
+	 *            An InputStream with the training data
+	 * @return the future ranker object
+	 * @see #createRanker(String, InputStream)
+	 */
+	public ListenableFuture<Ranker> createRankerAsync(final String name, final InputStream trainingFile) {
+		return executeRequestAsync(buildCreateRankerRequest(name, trainingFile), Ranker.class);
+	}
+
+	/**
+	 * Builds the request to create a ranker.
+	 * 
+	 * @param name
+	 *            Name of the ranker
+	 * @param trainingFile
+	 *            An InputStream with the training data
+	 * @return the request
+	 */
+	private Request buildCreateRankerRequest(final String name, final InputStream trainingFile) {
 		if (trainingFile == null)
 			throw new IllegalArgumentException("trainingFile is null");
 		
@@ -94,15 +129,7 @@ public class RetrieveAndRank extends WatsonService {
 		builder.addTextBody("training_metadata", contentJson.toString(), ContentType.TEXT_PLAIN);
 		HttpEntity reqEntity = builder.build();
 		
-		try {
-			HttpRequestBase request = Request.Post(CREATE_RANKER_PATH).withEntity(reqEntity).build();
-		
-			HttpResponse response = execute(request);
-			String json = ResponseUtil.getString(response);
-			return GsonSingleton.getGson().fromJson(json, Ranker.class);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		} 
+		return Request.Post(CREATE_RANKER_PATH).withEntity(reqEntity);
 	}
 	
 	/**
@@ -121,6 +148,17 @@ public class RetrieveAndRank extends WatsonService {
 			throw new RuntimeException(e);
 		}
 	}
+
+	/**
+	 * Retrieves the list of rankers for the user without blocking the calling
+	 * thread.
+	 * 
+	 * @return the future ranker list
+	 * @see #getRankers()
+	 */
+	public ListenableFuture<Rankers> getRankersAsync() {
+		return executeRequestAsync(Request.Get(GET_RANKERS_PATH), Rankers.class);
+	}
 	
 	/**
 	 * Retrieves the status of a ranker.
@@ -131,11 +169,8 @@ public class RetrieveAndRank extends WatsonService {
 	 * @see Ranker
 	 */
 	public Ranker getRankerStatus(String rankerID) {
-		if (rankerID == null || rankerID.isEmpty())
-			throw new IllegalArgumentException("rankerID can not be null or empty");
-
 		try {
-			HttpRequestBase request = Request.Get(GET_RANKER_PATH + rankerID).build();
+			HttpRequestBase request = buildRankerRequest(rankerID, true).build();
 			
 			HttpResponse response = execute(request);
 			return ResponseUtil.getObject(response, Ranker.class);
@@ -143,6 +178,18 @@ public class RetrieveAndRank extends WatsonService {
 			throw new RuntimeException(e);
 		}
 	}
+
+	/**
+	 * Retrieves the status of a ranker without blocking the calling thread.
+	 * 
+	 * @param rankerID
+	 *            the ranker ID
+	 * @return the future Ranker object with the status field set
+	 * @see #getRankerStatus(String)
+	 */
+	public ListenableFuture<Ranker> getRankerStatusAsync(String rankerID) {
+		return executeRequestAsync(buildRankerRequest(rankerID, true), Ranker.class);
+	}
 	
 	/**
 	 * Deletes a ranker.
@@ -152,16 +199,41 @@ public class RetrieveAndRank extends WatsonService {
 	 * @see Ranker
 	 */
 	public void deleteRanker(String rankerID) {
-		if (rankerID == null || rankerID.isEmpty())
-			throw new IllegalArgumentException("rankerID can not be null or empty");
-
+		HttpRequestBase request = buildRankerRequest(rankerID, false).build();
 		try {
-			HttpRequestBase request = Request.Delete(DELETE_RANKER_PATH + rankerID).build();
 			executeWithoutResponse(request);
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
 	}
+
+	/**
+	 * Deletes a ranker without blocking the calling thread.
+	 * 
+	 * @param rankerID
+	 *            the ranker ID
+	 * @return the future completed when the ranker was deleted
+	 * @see #deleteRanker(String)
+	 */
+	public ListenableFuture<Void> deleteRankerAsync(String rankerID) {
+		return executeWithoutResponseAsync(buildRankerRequest(rankerID, false));
+	}
+
+	/**
+	 * Builds the request to retrieve or delete a ranker.
+	 * 
+	 * @param rankerID
+	 *            the ranker ID
+	 * @param get
+	 *            true to retrieve the ranker, false to delete it
+	 * @return the request
+	 */
+	private Request buildRankerRequest(String rankerID, boolean get) {
+		if (rankerID == null || rankerID.isEmpty())
+			throw new IllegalArgumentException("rankerID can not be null or empty");
+
+		return get ? Request.Get(GET_RANKER_PATH + rankerID) : Request.Delete(DELETE_RANKER_PATH + rankerID);
+	}
 	
 	/**
 	 * Gets and returns the ranked answers.
@@ -175,6 +247,46 @@ public class RetrieveAndRank extends WatsonService {
 	 * @return the ranking of the answers
 	 */
 	public Ranking rank(final String rankerID, final InputStream testFile, int topAnswers) {
+		try {
+			HttpRequestBase request = buildRankRequest(rankerID, testFile, topAnswers).build();
+			
+			HttpResponse response = execute(request);
+			Ranking ranking = ResponseUtil.getObject(response, Ranking.class);
+			
+			return ranking;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Gets the ranked answers without blocking the calling thread.
+	 * 
+	 * @param rankerID
+	 *            The ranker ID
+	 * @param testFile
+	 *            The InputStream with the test instances to rank
+	 * @param topAnswers
+	 *            The number of top answers needed, default is 10
+	 * @return the future ranking of the answers
+	 * @see #rank(String, InputStream, int)
+	 */
+	public ListenableFuture<Ranking> rankAsync(final String rankerID, final InputStream testFile, int topAnswers) {
+		return executeRequestAsync(buildRankRequest(rankerID, testFile, topAnswers), Ranking.class);
+	}
+
+	/**
+	 * Builds the rank request.
+	 * 
+	 * @param rankerID
+	 *            The ranker ID
+	 * @param testFile
+	 *            The InputStream with the test instances to rank
+	 * @param topAnswers
+	 *            The number of top answers needed
+	 * @return the request
+	 */
+	private Request buildRankRequest(final String rankerID, final InputStream testFile, int topAnswers) {
 		if (rankerID == null || rankerID.isEmpty())
 			throw new IllegalArgumentException("rankerID can not be null or empty");
 		
@@ -191,17 +303,7 @@ public class RetrieveAndRank extends WatsonService {
 		
 		String path = String.format(RANK_PATH, rankerID);
 
-		try {
-			HttpRequestBase request = Request.Post(path).withEntity(reqEntity).build();
-			
-			HttpResponse response = execute(request);
-			String rankingAsJson = ResponseUtil.getString(response);
-			Ranking ranking = GsonSingleton.getGson().fromJson(rankingAsJson, Ranking.class);
-			
-			return ranking;
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		return Request.Post(path).withEntity(reqEntity);
 	}
 	
 	/*
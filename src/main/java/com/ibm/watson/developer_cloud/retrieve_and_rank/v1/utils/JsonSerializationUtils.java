@@ -16,6 +16,7 @@
 package com.ibm.watson.developer_cloud.retrieve_and_rank.v1.utils;
 
 import com.google.gson.Gson;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
 
 /** Utilities for serializing and deserializing JSON objects. */
 public final class JsonSerializationUtils {
@@ -34,7 +35,7 @@ public final class JsonSerializationUtils {
     }
 
     private static Gson getGson() {
-        return new Gson();
+        return GsonSingleton.getGson();
     }
 
 }
\ No newline at end of file
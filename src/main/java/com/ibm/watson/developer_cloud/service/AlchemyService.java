@@ -24,6 +24,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Header;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.util.EntityUtils;
 
 import com.google.gson.JsonObject;
 
@@ -81,29 +82,38 @@ public abstract class AlchemyService extends WatsonService {
 		if (getApiKey() == null)
 			throw new IllegalArgumentException("apiKey not specified");
 		else {
-			StringBuilder apiKeyToken = new StringBuilder();
-			apiKeyToken.append(PARAM_APIKEY).append("=").append(getApiKey());
-			addApiKeyToHttpRequest(request, apiKeyToken.toString());
-
+			addApiKeyToHttpRequest(request, getApiKey());
 		}
 
 	}
 
 	/**
-	 * Adds the Alchemy api key to http request.
+	 * Adds the Alchemy api key to http request. The service end point, the
+	 * path and the api key are appended in a single pass, so the URI is only
+	 * parsed once.
 	 * 
 	 * @param request
 	 *            the http request
 	 * @param apiKey
-	 *            the api key token
+	 *            the api key
 	 */
 	private void addApiKeyToHttpRequest(HttpRequestBase request, String apiKey) {
-		String query = request.getURI().getQuery();
-		if (query == null || query.length() == 0) {
-			request.setURI(URI.create(request.getURI() + "?" + apiKey));
-		} else {
-			request.setURI(URI.create(request.getURI() + "&" + apiKey));
-		}
+		final URI uri = request.getURI();
+		final String endPoint = uri.isAbsolute() ? null : getEndPoint();
+		final String path = uri.toString();
+		final String query = uri.getRawQuery();
+
+		final StringBuilder url = new StringBuilder((endPoint != null ? endPoint.length() : 0) + path.length()
+				+ PARAM_APIKEY.length() + apiKey.length() + 2);
+		if (endPoint != null)
+			url.append(endPoint);
+		url.append(path);
+		if (query == null)
+			url.append('?');
+		else if (!query.isEmpty())
+			url.append('&');
+		url.append(PARAM_APIKEY).append('=').append(apiKey);
+		request.setURI(URI.create(url.toString()));
 	}
 
 	/**
@@ -191,17 +201,19 @@ public abstract class AlchemyService extends WatsonService {
 	 * (non-Javadoc)
 	 * 
 	 * @see
-	 * com.ibm.watson.developer_cloud.service.WatsonService#execute(org.apache.http.client
-	 * .methods.HttpRequestBase)
+	 * com.ibm.watson.developer_cloud.service.WatsonService#processResponse(org.apache.http
+	 * .HttpResponse)
 	 */
 	@Override
-	protected HttpResponse execute(HttpRequestBase request) {
-		HttpResponse response = super.execute(request);
+	protected HttpResponse processResponse(HttpResponse httpResponse) {
+		HttpResponse response = super.processResponse(httpResponse);
 		String error = getErrorMessage(response);
 		if (error == null)
 			return response;
 		else {
 			log.log(Level.SEVERE, error);
+			// release the pooled connection before failing
+			EntityUtils.consumeQuietly(response.getEntity());
 			throw new BadRequestException(error);
 		}
 	}
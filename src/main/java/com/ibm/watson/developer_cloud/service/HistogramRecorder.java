@@ -0,0 +1,446 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.http.HttpResponse;
+
+/**
+ * {@link ServiceCallListener} that records the latency, status codes and
+ * bytes transferred of every call in a histogram per service and operation.
+ * Recording only uses atomic counters, so a single recorder can be shared by
+ * several services and threads: <pre>
+ * {@code
+ *  HistogramRecorder recorder = new HistogramRecorder();
+ *  service.addListener(recorder);
+ *  ...
+ *  System.out.println(recorder.dump());
+ * }</pre>
+ * Latencies are kept in logarithmic buckets with a relative error lower than
+ * 12.5%. Identifiers in the paths are normalized by
+ * {@link ServiceCall#getOperation()}; once {@link #MAX_HISTOGRAMS} histograms
+ * exist, calls to new operations are recorded under {@link #OTHER_OPERATION}
+ * so that memory stays bounded.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public class HistogramRecorder implements ServiceCallListener {
+
+	/** The Constant MAX_HISTOGRAMS. (value is 1000) */
+	public static final int MAX_HISTOGRAMS = 1000;
+
+	/** The Constant OTHER_OPERATION. (value is "OTHER") */
+	public static final String OTHER_OPERATION = "OTHER";
+
+	/**
+	 * Latency histogram and counters of a single operation.
+	 */
+	public static class Histogram {
+
+		/** Values lower than this are recorded in their own bucket. */
+		private static final int LINEAR_BUCKETS = 16;
+
+		/** Number of buckets per power of two. */
+		private static final int SUB_BUCKETS = 8;
+
+		/** Number of buckets needed to record any positive long. */
+		private static final int BUCKETS = LINEAR_BUCKETS + (62 - 4) * SUB_BUCKETS + SUB_BUCKETS;
+
+		/** Status codes are counted individually below this value. */
+		private static final int MAX_STATUS_CODE = 600;
+
+		/** The service name. */
+		private final String service;
+
+		/** The operation. */
+		private final String operation;
+
+		/** The latency buckets, in microseconds. */
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+		/** The calls per status code, 0 is used for calls without a response. */
+		private final AtomicLongArray statusCodes = new AtomicLongArray(MAX_STATUS_CODE);
+
+		/** The number of calls. */
+		private final AtomicLong count = new AtomicLong();
+
+		/** The number of failed calls. */
+		private final AtomicLong errors = new AtomicLong();
+
+		/** The sum of the latencies, in microseconds. */
+		private final AtomicLong total = new AtomicLong();
+
+		/** The maximum latency, in microseconds. */
+		private final AtomicLong max = new AtomicLong();
+
+		/** The bytes sent. */
+		private final AtomicLong bytesSent = new AtomicLong();
+
+		/** The bytes received. */
+		private final AtomicLong bytesReceived = new AtomicLong();
+
+		/** The retries. */
+		private final AtomicLong retries = new AtomicLong();
+
+		/**
+		 * Instantiates a new histogram.
+		 *
+		 * @param service
+		 *            the service name
+		 * @param operation
+		 *            the operation
+		 */
+		Histogram(String service, String operation) {
+			this.service = service;
+			this.operation = operation;
+		}
+
+		/**
+		 * Records a call.
+		 *
+		 * @param call
+		 *            the call
+		 * @param failed
+		 *            whether the call failed
+		 */
+		void record(ServiceCall call, boolean failed) {
+			final long micros = Math.max(0, call.getElapsedTime(TimeUnit.MICROSECONDS));
+			buckets.incrementAndGet(getBucket(micros));
+			count.incrementAndGet();
+			total.addAndGet(micros);
+
+			long current = max.get();
+			while (micros > current && !max.compareAndSet(current, micros))
+				current = max.get();
+
+			final int status = call.getStatusCode();
+			statusCodes.incrementAndGet(status > 0 && status < MAX_STATUS_CODE ? status : 0);
+			if (failed)
+				errors.incrementAndGet();
+			if (call.getBytesSent() > 0)
+				bytesSent.addAndGet(call.getBytesSent());
+			if (call.getBytesReceived() > 0)
+				bytesReceived.addAndGet(call.getBytesReceived());
+			if (call.getRetryCount() > 0)
+				retries.addAndGet(call.getRetryCount());
+		}
+
+		/**
+		 * Gets the bucket of a value.
+		 *
+		 * @param value
+		 *            the value
+		 * @return the bucket index
+		 */
+		static int getBucket(long value) {
+			if (value < LINEAR_BUCKETS)
+				return (int) value;
+
+			final int exponent = 63 - Long.numberOfLeadingZeros(value);
+			final int subBucket = (int) (value >>> (exponent - 3)) & (SUB_BUCKETS - 1);
+			return LINEAR_BUCKETS + (exponent - 4) * SUB_BUCKETS + subBucket;
+		}
+
+		/**
+		 * Gets the highest value recorded in a bucket.
+		 *
+		 * @param bucket
+		 *            the bucket index
+		 * @return the highest value
+		 */
+		static long getBucketLimit(int bucket) {
+			if (bucket < LINEAR_BUCKETS)
+				return bucket;
+
+			final int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 4;
+			final int subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+			final long limit = ((long) (SUB_BUCKETS + 1 + subBucket) << (exponent - 3)) - 1;
+			return limit > 0 ? limit : Long.MAX_VALUE;
+		}
+
+		/**
+		 * Gets the service name.
+		 *
+		 * @return the service name
+		 */
+		public String getService() {
+			return service;
+		}
+
+		/**
+		 * Gets the operation.
+		 *
+		 * @return the operation
+		 * @see ServiceCall#getOperation()
+		 */
+		public String getOperation() {
+			return operation;
+		}
+
+		/**
+		 * Gets the number of calls.
+		 *
+		 * @return the count
+		 */
+		public long getCount() {
+			return count.get();
+		}
+
+		/**
+		 * Gets the number of failed calls.
+		 *
+		 * @return the error count
+		 */
+		public long getErrorCount() {
+			return errors.get();
+		}
+
+		/**
+		 * Gets the bytes sent.
+		 *
+		 * @return the bytes sent
+		 */
+		public long getBytesSent() {
+			return bytesSent.get();
+		}
+
+		/**
+		 * Gets the bytes received.
+		 *
+		 * @return the bytes received
+		 */
+		public long getBytesReceived() {
+			return bytesReceived.get();
+		}
+
+		/**
+		 * Gets the number of retries done by the recorded calls.
+		 *
+		 * @return the retry count
+		 * @see ServiceCall#getRetryCount()
+		 */
+		public long getRetryCount() {
+			return retries.get();
+		}
+
+		/**
+		 * Gets the number of calls per HTTP status code. Calls that failed
+		 * before a response was received are counted with the status code 0.
+		 *
+		 * @return the status codes
+		 */
+		public Map<Integer, Long> getStatusCodes() {
+			final Map<Integer, Long> codes = new TreeMap<Integer, Long>();
+			for (int i = 0; i < MAX_STATUS_CODE; i++) {
+				final long calls = statusCodes.get(i);
+				if (calls > 0)
+					codes.put(i, calls);
+			}
+			return codes;
+		}
+
+		/**
+		 * Gets the maximum latency.
+		 *
+		 * @param unit
+		 *            the time unit
+		 * @return the maximum latency
+		 */
+		public long getMax(TimeUnit unit) {
+			return unit.convert(max.get(), TimeUnit.MICROSECONDS);
+		}
+
+		/**
+		 * Gets the mean latency.
+		 *
+		 * @param unit
+		 *            the time unit
+		 * @return the mean latency
+		 */
+		public long getMean(TimeUnit unit) {
+			final long calls = count.get();
+			return calls == 0 ? 0 : unit.convert(total.get() / calls, TimeUnit.MICROSECONDS);
+		}
+
+		/**
+		 * Gets the latency below which the given percentage of calls fall.
+		 *
+		 * @param percentile
+		 *            the percentile, for example 99.9
+		 * @param unit
+		 *            the time unit
+		 * @return the latency
+		 */
+		public long getPercentile(double percentile, TimeUnit unit) {
+			if (percentile < 0 || percentile > 100)
+				throw new IllegalArgumentException("percentile should be between 0 and 100");
+
+			final long calls = count.get();
+			if (calls == 0)
+				return 0;
+
+			final long rank = Math.max(1, (long) Math.ceil(calls * percentile / 100));
+			long seen = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += buckets.get(i);
+				if (seen >= rank)
+					return unit.convert(Math.min(getBucketLimit(i), max.get()), TimeUnit.MICROSECONDS);
+			}
+			return getMax(unit);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			final StringBuilder builder = new StringBuilder();
+			builder.append(service).append(' ').append(operation);
+			builder.append(" count=").append(getCount());
+			builder.append(" errors=").append(getErrorCount());
+			builder.append(" retries=").append(getRetryCount());
+			builder.append(" mean=").append(getMean(TimeUnit.MILLISECONDS)).append("ms");
+			builder.append(" p50=").append(getPercentile(50, TimeUnit.MILLISECONDS)).append("ms");
+			builder.append(" p90=").append(getPercentile(90, TimeUnit.MILLISECONDS)).append("ms");
+			builder.append(" p99=").append(getPercentile(99, TimeUnit.MILLISECONDS)).append("ms");
+			builder.append(" max=").append(getMax(TimeUnit.MILLISECONDS)).append("ms");
+			builder.append(" sent=").append(getBytesSent());
+			builder.append(" received=").append(getBytesReceived());
+			builder.append(" status=").append(getStatusCodes());
+			return builder.toString();
+		}
+	}
+
+	/** The histograms by service and operation. */
+	private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<String, Histogram>();
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.ibm.watson.developer_cloud.service.ServiceCallListener#onRequest(com.ibm.watson.developer_cloud.service.ServiceCall)
+	 */
+	@Override
+	public void onRequest(ServiceCall call) {
+		// latency is measured by the call itself
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.ibm.watson.developer_cloud.service.ServiceCallListener#onResponse(com.ibm.watson.developer_cloud.service.ServiceCall, org.apache.http.HttpResponse)
+	 */
+	@Override
+	public void onResponse(ServiceCall call, HttpResponse response) {
+		getHistogram(call.getService(), call.getOperation(), true).record(call, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.ibm.watson.developer_cloud.service.ServiceCallListener#onError(com.ibm.watson.developer_cloud.service.ServiceCall, java.lang.Exception)
+	 */
+	@Override
+	public void onError(ServiceCall call, Exception e) {
+		getHistogram(call.getService(), call.getOperation(), true).record(call, true);
+	}
+
+	/**
+	 * Gets the histogram of an operation.
+	 *
+	 * @param service
+	 *            the service name
+	 * @param operation
+	 *            the operation
+	 * @return the histogram or null if no call was recorded
+	 */
+	public Histogram getHistogram(String service, String operation) {
+		return getHistogram(service, operation, false);
+	}
+
+	/**
+	 * Gets the histogram of an operation.
+	 *
+	 * @param service
+	 *            the service name
+	 * @param operation
+	 *            the operation
+	 * @param create
+	 *            whether to create the histogram if it doesn't exist
+	 * @return the histogram
+	 */
+	private Histogram getHistogram(String service, String operation, boolean create) {
+		final String key = service + ' ' + operation;
+		Histogram histogram = histograms.get(key);
+		if (histogram == null && create) {
+			if (histograms.size() >= MAX_HISTOGRAMS && !OTHER_OPERATION.equals(operation))
+				return getHistogram(service, OTHER_OPERATION, true);
+			final Histogram created = new Histogram(service, operation);
+			histogram = histograms.putIfAbsent(key, created);
+			if (histogram == null)
+				histogram = created;
+		}
+		return histogram;
+	}
+
+	/**
+	 * Gets all the histograms sorted by service and operation.
+	 *
+	 * @return the histograms
+	 */
+	public Map<String, Histogram> getHistograms() {
+		return Collections.unmodifiableMap(new TreeMap<String, Histogram>(histograms));
+	}
+
+	/**
+	 * Discards all the recorded calls.
+	 */
+	public void reset() {
+		histograms.clear();
+	}
+
+	/**
+	 * Returns a summary of every histogram, one line per operation.
+	 *
+	 * @return the summary
+	 */
+	public String dump() {
+		final StringBuilder builder = new StringBuilder();
+		for (Histogram histogram : getHistograms().values())
+			builder.append(histogram).append('\n');
+		return builder.toString();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return dump();
+	}
+
+}
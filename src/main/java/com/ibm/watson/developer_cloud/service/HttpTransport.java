@@ -0,0 +1,722 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * Long-lived, pooled HTTP transport used by the {@link WatsonService} to
+ * execute requests. Connections are kept alive and reused between calls, idle
+ * connections are evicted in the background and the pool is released when
+ * {@link #close()} is called. Requests can be executed in a blocking way or
+ * with a non-blocking client that is started the first time an asynchronous
+ * request is executed.<br>
+ * A transport can be shared by several services: <pre>
+ * {@code
+ *  HttpTransport transport = new HttpTransport(200, 50);
+ *  LanguageTranslation translation = new LanguageTranslation();
+ *  translation.setTransport(transport);
+ *  ToneAnalyzer tone = new ToneAnalyzer();
+ *  tone.setTransport(transport);
+ *  ...
+ *  transport.close();
+ * }</pre>
+ * Throttled requests can be retried automatically by setting a
+ * {@link RetryPolicy}.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public class HttpTransport implements Closeable {
+
+	/**
+	 * Field DEFAULT_CONNECTION_TIMEOUT. (value is 120000)
+	 */
+	public static final int DEFAULT_CONNECTION_TIMEOUT = 120000;
+
+	/**
+	 * Field DEFAULT_MAX_CONNECTIONS_PER_ROUTE. (value is 1000)
+	 */
+	public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 1000;
+
+	/**
+	 * Field DEFAULT_MAX_TOTAL_CONNECTIONS. (value is 1000)
+	 */
+	public static final int DEFAULT_MAX_TOTAL_CONNECTIONS = 1000;
+
+	/**
+	 * Field DEFAULT_MAX_IDLE_TIME. (value is 30000)
+	 */
+	public static final long DEFAULT_MAX_IDLE_TIME = 30000;
+
+	/**
+	 * Field EVICTION_INTERVAL. (value is 5000)
+	 */
+	private static final long EVICTION_INTERVAL = 5000;
+
+	/** The Constant USER_AGENT. */
+	private static final String USER_AGENT = "watson-developer-cloud-java-wrapper-1.1.0";
+
+	/** The Constant log. */
+	private static final Logger log = Logger.getLogger(HttpTransport.class.getName());
+
+	/**
+	 * The scheduler shared by all the transports to evict idle connections and
+	 * to send asynchronous retries.
+	 */
+	private static final ScheduledExecutorService scheduler = Executors
+			.newSingleThreadScheduledExecutor(new DaemonThreadFactory("watson-transport-scheduler"));
+
+	/** The connection manager. */
+	private final PoolingHttpClientConnectionManager connectionManager;
+
+	/** The http client. */
+	private final CloseableHttpClient httpClient;
+
+	/** The request configuration. */
+	private final RequestConfig requestConfig;
+
+	/** The timeout. */
+	private final int timeout;
+
+	/** The async connection manager, created with the async client. */
+	private PoolingNHttpClientConnectionManager asyncConnectionManager;
+
+	/** The non-blocking http client. */
+	private CloseableHttpAsyncClient asyncClient;
+
+	/** The eviction task. */
+	private final ScheduledFuture<?> evictionTask;
+
+	/** The max idle time in milliseconds. */
+	private volatile long maxIdleTime = DEFAULT_MAX_IDLE_TIME;
+
+	/** The retry policy, null if requests are not retried. */
+	private volatile RetryPolicy retryPolicy;
+
+	/** The closed. */
+	private volatile boolean closed;
+
+	/**
+	 * Instantiates a new HTTP transport using the default pool sizes.
+	 */
+	public HttpTransport() {
+		this(DEFAULT_MAX_TOTAL_CONNECTIONS, DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+	}
+
+	/**
+	 * Instantiates a new HTTP transport.
+	 *
+	 * @param maxTotalConnections
+	 *            the maximum number of connections in the pool
+	 * @param maxConnectionsPerRoute
+	 *            the maximum number of connections per host
+	 */
+	public HttpTransport(int maxTotalConnections, int maxConnectionsPerRoute) {
+		this(maxTotalConnections, maxConnectionsPerRoute, DEFAULT_CONNECTION_TIMEOUT);
+	}
+
+	/**
+	 * Instantiates a new HTTP transport.
+	 *
+	 * @param maxTotalConnections
+	 *            the maximum number of connections in the pool
+	 * @param maxConnectionsPerRoute
+	 *            the maximum number of connections per host
+	 * @param timeout
+	 *            the connect and socket timeout in milliseconds
+	 */
+	public HttpTransport(int maxTotalConnections, int maxConnectionsPerRoute, int timeout) {
+		this.timeout = timeout;
+		connectionManager = new PoolingHttpClientConnectionManager();
+		setMaxTotalConnections(maxTotalConnections);
+		setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+
+		requestConfig = RequestConfig.custom()
+				.setConnectTimeout(timeout)
+				.setSocketTimeout(timeout)
+				.setConnectionRequestTimeout(timeout)
+				.setRedirectsEnabled(false)
+				.build();
+
+		httpClient = HttpClientBuilder.create()
+				.setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(requestConfig)
+				.setUserAgent(USER_AGENT)
+				.build();
+
+		evictionTask = scheduler.scheduleWithFixedDelay(new IdleConnectionEvictor(this),
+				EVICTION_INTERVAL, EVICTION_INTERVAL, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Closes the idle connections and the connections that have been idle
+	 * longer than the max idle time.
+	 */
+	void evictIdleConnections() {
+		connectionManager.closeExpiredConnections();
+		connectionManager.closeIdleConnections(maxIdleTime, TimeUnit.MILLISECONDS);
+
+		PoolingNHttpClientConnectionManager asyncManager = getAsyncConnectionManager();
+		if (asyncManager != null) {
+			asyncManager.closeExpiredConnections();
+			asyncManager.closeIdleConnections(maxIdleTime, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Gets the async connection manager.
+	 *
+	 * @return the async connection manager or null if no asynchronous request
+	 *         was executed yet
+	 */
+	private synchronized PoolingNHttpClientConnectionManager getAsyncConnectionManager() {
+		return asyncConnectionManager;
+	}
+
+	/**
+	 * Gets the non-blocking http client, creating and starting it the first
+	 * time.
+	 *
+	 * @return the async client
+	 */
+	private synchronized CloseableHttpAsyncClient getAsyncClient() {
+		if (closed)
+			throw new IllegalStateException("the HTTP transport has been closed");
+
+		if (asyncClient == null) {
+			IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+					.setConnectTimeout(timeout)
+					.setSoTimeout(timeout)
+					.build();
+			try {
+				asyncConnectionManager = new PoolingNHttpClientConnectionManager(
+						new DefaultConnectingIOReactor(ioReactorConfig, new DaemonThreadFactory("watson-io-dispatcher")));
+			} catch (IOReactorException e) {
+				throw new RuntimeException(e);
+			}
+			asyncConnectionManager.setMaxTotal(getMaxTotalConnections());
+			asyncConnectionManager.setDefaultMaxPerRoute(getMaxConnectionsPerRoute());
+
+			asyncClient = HttpAsyncClients.custom()
+					.setConnectionManager(asyncConnectionManager)
+					.setDefaultRequestConfig(requestConfig)
+					.setUserAgent(USER_AGENT)
+					.setThreadFactory(new DaemonThreadFactory("watson-io-reactor"))
+					.build();
+			asyncClient.start();
+		}
+		return asyncClient;
+	}
+
+	/**
+	 * Execute the HTTP request using a pooled connection. The connection is
+	 * returned to the pool once the response entity is consumed or closed.
+	 * If a {@link RetryPolicy} is set, the calling thread sleeps between
+	 * retries.
+	 *
+	 * @param request
+	 *            the http request
+	 * @return the http response
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public HttpResponse execute(HttpUriRequest request) throws IOException {
+		return execute(request, null);
+	}
+
+	/**
+	 * Execute the HTTP request using a pooled connection and count its
+	 * retries in the call.
+	 *
+	 * @param request
+	 *            the http request
+	 * @param call
+	 *            the call notified of every retry, can be null
+	 * @return the http response
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @see #execute(HttpUriRequest)
+	 */
+	HttpResponse execute(HttpUriRequest request, ServiceCall call) throws IOException {
+		if (closed)
+			throw new IllegalStateException("the HTTP transport has been closed");
+
+		final RetryPolicy policy = retryPolicy;
+		if (policy == null)
+			return httpClient.execute(request);
+
+		policy.onRequest();
+		for (int attempt = 0;; attempt++) {
+			long delay;
+			try {
+				HttpResponse response = httpClient.execute(request);
+				delay = policy.getRetryDelay(request, response, attempt);
+				if (delay < 0)
+					return response;
+				// release the connection before waiting
+				EntityUtils.consumeQuietly(response.getEntity());
+				log.fine("Retrying " + request.getRequestLine() + " after status "
+						+ response.getStatusLine().getStatusCode() + " in " + delay + "ms");
+			} catch (IOException e) {
+				delay = policy.getRetryDelay(request, attempt);
+				if (delay < 0)
+					throw e;
+				log.log(Level.FINE, "Retrying " + request.getRequestLine() + " in " + delay + "ms", e);
+			}
+
+			if (call != null)
+				call.onRetry();
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting to retry " + request.getRequestLine());
+			}
+		}
+	}
+
+	/**
+	 * Execute the HTTP request without blocking the calling thread. The
+	 * response entity is buffered in memory before the callback is notified.
+	 *
+	 * @param request
+	 *            the http request
+	 * @param callback
+	 *            the callback notified when the request completes, fails or is
+	 *            cancelled
+	 * @return the future http response
+	 */
+	public Future<HttpResponse> executeAsync(HttpUriRequest request, FutureCallback<HttpResponse> callback) {
+		return executeAsync(request, callback, null);
+	}
+
+	/**
+	 * Execute the HTTP request without blocking the calling thread and count
+	 * its retries in the call.
+	 *
+	 * @param request
+	 *            the http request
+	 * @param callback
+	 *            the callback notified when the request completes, fails or is
+	 *            cancelled
+	 * @param call
+	 *            the call notified of every retry, can be null
+	 * @return the future http response
+	 * @see #executeAsync(HttpUriRequest, FutureCallback)
+	 */
+	Future<HttpResponse> executeAsync(HttpUriRequest request, FutureCallback<HttpResponse> callback,
+			ServiceCall call) {
+		final RetryPolicy policy = retryPolicy;
+		if (policy == null)
+			return getAsyncClient().execute(request, callback);
+
+		policy.onRequest();
+		RetryingExecution execution = new RetryingExecution(request, policy, callback, call);
+		execution.run();
+		return execution.future;
+	}
+
+	/**
+	 * Gets the http client backed by the connection pool.
+	 *
+	 * @return the http client
+	 */
+	public CloseableHttpClient getHttpClient() {
+		return httpClient;
+	}
+
+	/**
+	 * Gets the retry policy.
+	 *
+	 * @return the retry policy or null if requests are not retried
+	 */
+	public RetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	/**
+	 * Gets the max idle time in milliseconds.
+	 *
+	 * @return the max idle time
+	 */
+	public long getMaxIdleTime() {
+		return maxIdleTime;
+	}
+
+	/**
+	 * Gets the maximum number of connections per host.
+	 *
+	 * @return the max connections per route
+	 */
+	public int getMaxConnectionsPerRoute() {
+		return connectionManager.getDefaultMaxPerRoute();
+	}
+
+	/**
+	 * Gets the maximum number of connections in the pool.
+	 *
+	 * @return the max total connections
+	 */
+	public int getMaxTotalConnections() {
+		return connectionManager.getMaxTotal();
+	}
+
+	/**
+	 * Gets the pool statistics (leased, pending, available and max).
+	 *
+	 * @return the pool stats
+	 */
+	public PoolStats getPoolStats() {
+		return connectionManager.getTotalStats();
+	}
+
+	/**
+	 * Checks if the transport was closed.
+	 *
+	 * @return true, if is closed
+	 */
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * Sets the time after which an idle pooled connection is closed.
+	 *
+	 * @param maxIdleTime
+	 *            the max idle time in milliseconds
+	 */
+	public void setMaxIdleTime(long maxIdleTime) {
+		if (maxIdleTime < 0)
+			throw new IllegalArgumentException("maxIdleTime can not be negative");
+		this.maxIdleTime = maxIdleTime;
+	}
+
+	/**
+	 * Sets the policy used to retry throttled and failed requests. Requests
+	 * are not retried by default.
+	 *
+	 * @param retryPolicy
+	 *            the retry policy, or null to disable retries
+	 */
+	public void setRetryPolicy(RetryPolicy retryPolicy) {
+		this.retryPolicy = retryPolicy;
+	}
+
+	/**
+	 * Sets the maximum number of connections per host.
+	 *
+	 * @param maxConnectionsPerRoute
+	 *            the new max connections per route
+	 */
+	public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+		if (maxConnectionsPerRoute < 1)
+			throw new IllegalArgumentException("maxConnectionsPerRoute should be greater than 0");
+		connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+		PoolingNHttpClientConnectionManager asyncManager = getAsyncConnectionManager();
+		if (asyncManager != null)
+			asyncManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+	}
+
+	/**
+	 * Sets the maximum number of connections in the pool.
+	 *
+	 * @param maxTotalConnections
+	 *            the new max total connections
+	 */
+	public void setMaxTotalConnections(int maxTotalConnections) {
+		if (maxTotalConnections < 1)
+			throw new IllegalArgumentException("maxTotalConnections should be greater than 0");
+		connectionManager.setMaxTotal(maxTotalConnections);
+
+		PoolingNHttpClientConnectionManager asyncManager = getAsyncConnectionManager();
+		if (asyncManager != null)
+			asyncManager.setMaxTotal(maxTotalConnections);
+	}
+
+	/**
+	 * Stops the idle connection eviction and shuts down the connection pool.
+	 * Requests executed after this method is called will fail.
+	 */
+	@Override
+	public synchronized void close() {
+		if (closed)
+			return;
+		closed = true;
+		evictionTask.cancel(false);
+		try {
+			httpClient.close();
+			if (asyncClient != null)
+				asyncClient.close();
+		} catch (IOException e) {
+			log.log(Level.WARNING, "Error closing the HTTP client", e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("HttpTransport [");
+		builder.append("maxTotalConnections=").append(getMaxTotalConnections());
+		builder.append(", maxConnectionsPerRoute=").append(getMaxConnectionsPerRoute());
+		builder.append(", maxIdleTime=").append(maxIdleTime);
+		builder.append(", retryPolicy=").append(retryPolicy);
+		builder.append(", closed=").append(closed);
+		builder.append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * Creates daemon threads so that background work never prevents the JVM
+	 * from exiting.
+	 */
+	static class DaemonThreadFactory implements ThreadFactory {
+
+		/** The thread name prefix. */
+		private final String name;
+
+		/** The thread count. */
+		private final AtomicInteger count = new AtomicInteger();
+
+		/**
+		 * Instantiates a new daemon thread factory.
+		 *
+		 * @param name
+		 *            the thread name prefix
+		 */
+		DaemonThreadFactory(String name) {
+			this.name = name;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+		 */
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+	/**
+	 * Executes an asynchronous request and schedules its retries. The caller
+	 * is only notified of the last attempt.
+	 */
+	private class RetryingExecution implements FutureCallback<HttpResponse>, Runnable {
+
+		/** The request. */
+		private final HttpUriRequest request;
+
+		/** The retry policy. */
+		private final RetryPolicy policy;
+
+		/** The call notified of every retry, can be null. */
+		private final ServiceCall call;
+
+		/** The future returned to the caller. */
+		private final BasicFuture<HttpResponse> future;
+
+		/** The current attempt or scheduled retry. */
+		private volatile Future<?> pending;
+
+		/** The number of retries done. */
+		private int attempt;
+
+		/**
+		 * Instantiates a new retrying execution.
+		 *
+		 * @param request
+		 *            the request
+		 * @param policy
+		 *            the retry policy
+		 * @param callback
+		 *            the callback of the caller
+		 * @param call
+		 *            the call notified of every retry, can be null
+		 */
+		RetryingExecution(HttpUriRequest request, RetryPolicy policy, FutureCallback<HttpResponse> callback,
+				ServiceCall call) {
+			this.request = request;
+			this.policy = policy;
+			this.call = call;
+			this.future = new BasicFuture<HttpResponse>(callback) {
+				@Override
+				public boolean cancel(boolean mayInterruptIfRunning) {
+					final Future<?> current = pending;
+					if (current != null)
+						current.cancel(mayInterruptIfRunning);
+					return super.cancel(mayInterruptIfRunning);
+				}
+			};
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+			if (future.isDone())
+				return;
+			try {
+				pending = getAsyncClient().execute(request, this);
+			} catch (RuntimeException e) {
+				future.failed(e);
+			}
+		}
+
+		/**
+		 * Schedules the next attempt.
+		 *
+		 * @param delay
+		 *            the delay in milliseconds
+		 */
+		private void retry(long delay) {
+			attempt++;
+			if (call != null)
+				call.onRetry();
+			try {
+				pending = scheduler.schedule(this, delay, TimeUnit.MILLISECONDS);
+			} catch (RuntimeException e) {
+				future.failed(e);
+			}
+			// the caller may have cancelled while the retry was being scheduled
+			if (future.isCancelled())
+				pending.cancel(false);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see org.apache.http.concurrent.FutureCallback#completed(java.lang.Object)
+		 */
+		@Override
+		public void completed(HttpResponse response) {
+			final long delay = policy.getRetryDelay(request, response, attempt);
+			if (delay < 0) {
+				future.completed(response);
+				return;
+			}
+			EntityUtils.consumeQuietly(response.getEntity());
+			log.fine("Retrying " + request.getRequestLine() + " after status "
+					+ response.getStatusLine().getStatusCode() + " in " + delay + "ms");
+			retry(delay);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see org.apache.http.concurrent.FutureCallback#failed(java.lang.Exception)
+		 */
+		@Override
+		public void failed(Exception e) {
+			final long delay = e instanceof IOException ? policy.getRetryDelay(request, attempt) : -1;
+			if (delay < 0) {
+				future.failed(e);
+				return;
+			}
+			log.log(Level.FINE, "Retrying " + request.getRequestLine() + " in " + delay + "ms", e);
+			retry(delay);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see org.apache.http.concurrent.FutureCallback#cancelled()
+		 */
+		@Override
+		public void cancelled() {
+			future.cancel(false);
+		}
+	}
+
+	/**
+	 * Periodically closes the idle connections of a transport. It only keeps a
+	 * weak reference so that transports that are never closed can still be
+	 * garbage collected.
+	 */
+	private static class IdleConnectionEvictor implements Runnable {
+
+		/** The transport. */
+		private final WeakReference<HttpTransport> transport;
+
+		/**
+		 * Instantiates a new idle connection evictor.
+		 *
+		 * @param transport
+		 *            the transport
+		 */
+		IdleConnectionEvictor(HttpTransport transport) {
+			this.transport = new WeakReference<HttpTransport>(transport);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+			HttpTransport target = transport.get();
+			// throwing cancels the periodic execution of this task
+			if (target == null || target.isClosed())
+				throw new IllegalStateException("transport is no longer available");
+			try {
+				target.evictIdleConnections();
+			} catch (RuntimeException e) {
+				log.log(Level.WARNING, "Error evicting idle connections", e);
+			}
+		}
+	}
+}
@@ -0,0 +1,223 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Lazy {@link Iterator} over a paged collection. Pages are requested on
+ * demand; while the records of a page are being consumed, the next page is
+ * requested in the background. At most two pages are held in memory, so
+ * collections of any size can be iterated in constant memory: <pre>
+ * {@code
+ *  PagedIterator<ConversationData> it = service.getConversationDataIterator(params);
+ *  try {
+ *    while (it.hasNext()) {
+ *      ConversationData data = it.next();
+ *      ...
+ *    }
+ *  } finally {
+ *    it.close();
+ *  }
+ * }</pre>
+ * Instances are not thread safe. Errors while requesting a page are thrown
+ * by {@link #hasNext()} or {@link #next()}.
+ *
+ * @param <T> the type of the records
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public abstract class PagedIterator<T> implements Iterator<T>, Closeable {
+
+	/**
+	 * A page of records and the cursor to request the following page.
+	 *
+	 * @param <T> the type of the records
+	 */
+	public static class Page<T> {
+
+		/** The records. */
+		private final List<T> records;
+
+		/** The next cursor. */
+		private final String next;
+
+		/**
+		 * Instantiates a new page.
+		 *
+		 * @param records
+		 *            the records in the page, can be null
+		 * @param next
+		 *            the cursor of the next page or null if this is the last
+		 *            page
+		 */
+		public Page(List<T> records, String next) {
+			this.records = records;
+			this.next = next;
+		}
+
+		/**
+		 * Gets the records.
+		 *
+		 * @return the records
+		 */
+		public List<T> getRecords() {
+			return records == null ? Collections.<T> emptyList() : records;
+		}
+
+		/**
+		 * Gets the cursor of the next page.
+		 *
+		 * @return the next cursor or null if this is the last page
+		 */
+		public String getNext() {
+			return next;
+		}
+	}
+
+	/** The executor used to request pages in the background. */
+	private static final ExecutorService prefetchExecutor = Executors
+			.newCachedThreadPool(new HttpTransport.DaemonThreadFactory("watson-prefetch"));
+
+	/** The records of the current page. */
+	private Iterator<T> current = Collections.emptyIterator();
+
+	/** The next page, requested in the background. */
+	private Future<Page<T>> nextPage;
+
+	/** Whether the first page was requested. */
+	private boolean started;
+
+	/** Whether the iterator was closed. */
+	private boolean closed;
+
+	/**
+	 * Requests a page of records. This method is called from a background
+	 * thread for every page but the first one.
+	 *
+	 * @param cursor
+	 *            the cursor returned with the previous page or null to request
+	 *            the first page
+	 * @return the page
+	 */
+	protected abstract Page<T> getPage(String cursor);
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+		while (!current.hasNext()) {
+			final Page<T> page;
+			if (closed) {
+				return false;
+			} else if (!started) {
+				started = true;
+				page = getPage(null);
+			} else if (nextPage != null) {
+				page = await(nextPage);
+			} else {
+				return false;
+			}
+
+			nextPage = page.getNext() != null ? prefetch(page.getNext()) : null;
+			current = page.getRecords().iterator();
+		}
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public T next() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+		return current.next();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.util.Iterator#remove()
+	 */
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException("remove");
+	}
+
+	/**
+	 * Stops the iteration and cancels the request of the next page, if any.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		current = Collections.emptyIterator();
+		if (nextPage != null) {
+			nextPage.cancel(true);
+			nextPage = null;
+		}
+	}
+
+	/**
+	 * Requests a page in the background.
+	 *
+	 * @param cursor
+	 *            the page cursor
+	 * @return the future page
+	 */
+	private Future<Page<T>> prefetch(final String cursor) {
+		return prefetchExecutor.submit(new Callable<Page<T>>() {
+			@Override
+			public Page<T> call() {
+				return getPage(cursor);
+			}
+		});
+	}
+
+	/**
+	 * Waits for a page requested in the background.
+	 *
+	 * @param future
+	 *            the future page
+	 * @return the page
+	 */
+	private Page<T> await(Future<Page<T>> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+}
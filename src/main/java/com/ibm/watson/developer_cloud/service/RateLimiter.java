@@ -0,0 +1,363 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+/**
+ * Limits the requests sent by one or more {@link WatsonService} instances
+ * with a token bucket and a maximum number of requests in flight, so that the
+ * callers wait instead of exceeding the quota of their plan: <pre>
+ * {@code
+ *  RateLimiter limiter = new RateLimiter()
+ *      .withRate(10)
+ *      .withMaxInFlight(4);
+ *  service.setRateLimiter(limiter);
+ * }</pre>
+ * Callers are served in the order they arrive, whether they wait with
+ * {@link #acquire()} or {@link #acquireAsync()}. A limiter can be shared by
+ * several services by setting the same instance, or with
+ * {@link WatsonService#shareRateLimiter(RateLimiter)} to share it with every
+ * service that uses the same credentials.<br>
+ * Configure the limiter before it is used.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ * @see WatsonService#setRateLimiter(RateLimiter)
+ */
+public class RateLimiter {
+
+	/** The limiters shared by credentials. */
+	private static final ConcurrentMap<String, RateLimiter> shared = new ConcurrentHashMap<String, RateLimiter>();
+
+	/** The scheduler of the permits that have to wait for the rate. */
+	private static final ScheduledExecutorService scheduler = Executors
+			.newSingleThreadScheduledExecutor(new HttpTransport.DaemonThreadFactory("watson-rate-limiter"));
+
+	/** The lock that orders the callers waiting for a permit. */
+	private final ReentrantLock lock = new ReentrantLock(true);
+
+	/** The nanoseconds between two permits, 0 if the rate is not limited. */
+	private double interval;
+
+	/** The maximum number of permits stored while idle. */
+	private double burst = 1;
+
+	/** The stored permits, negative when callers are waiting. */
+	private double permits;
+
+	/** The last time the permits were refilled. */
+	private long lastRefill = System.nanoTime();
+
+	/** The max in flight. */
+	private int maxInFlight;
+
+	/** The requests that can still be sent, guarded by the lock. */
+	private int available;
+
+	/** The callers waiting for a request in flight to finish, guarded by the lock. */
+	private final Queue<Waiter> waiting = new ArrayDeque<Waiter>();
+
+	/** The time the callers spent waiting, in nanoseconds. */
+	private final AtomicLong waitTime = new AtomicLong();
+
+	/**
+	 * Gets the limiter shared by all the services with the given credentials,
+	 * registering the given limiter if there is none.
+	 *
+	 * @param credentials
+	 *            the credentials
+	 * @param limiter
+	 *            the limiter to register
+	 * @return the shared limiter
+	 */
+	static RateLimiter share(String credentials, RateLimiter limiter) {
+		final String key = DigestUtils.sha256Hex(credentials);
+		final RateLimiter existing = shared.putIfAbsent(key, limiter);
+		return existing != null ? existing : limiter;
+	}
+
+	/**
+	 * Limits the number of requests per second. By default up to one second
+	 * of requests can be sent at once after the limiter was idle.
+	 *
+	 * @param permitsPerSecond
+	 *            the requests per second
+	 * @return the rate limiter
+	 */
+	public RateLimiter withRate(double permitsPerSecond) {
+		if (permitsPerSecond <= 0)
+			throw new IllegalArgumentException("permitsPerSecond should be greater than 0");
+		this.interval = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+		this.burst = Math.max(1, permitsPerSecond);
+		this.permits = burst;
+		return this;
+	}
+
+	/**
+	 * Sets the number of requests that can be sent at once after the limiter
+	 * was idle.
+	 *
+	 * @param burst
+	 *            the burst size
+	 * @return the rate limiter
+	 */
+	public RateLimiter withBurst(int burst) {
+		if (burst < 1)
+			throw new IllegalArgumentException("burst should be greater than 0");
+		this.burst = burst;
+		this.permits = burst;
+		return this;
+	}
+
+	/**
+	 * Limits the number of requests waiting for a response.
+	 *
+	 * @param maxInFlight
+	 *            the max requests in flight
+	 * @return the rate limiter
+	 */
+	public RateLimiter withMaxInFlight(int maxInFlight) {
+		if (maxInFlight < 1)
+			throw new IllegalArgumentException("maxInFlight should be greater than 0");
+		this.maxInFlight = maxInFlight;
+		this.available = maxInFlight;
+		return this;
+	}
+
+	/**
+	 * Waits until a request can be sent. Every call must be followed by a
+	 * call to {@link #release()} once the response is received.
+	 *
+	 * @throws InterruptedException
+	 *             if the thread is interrupted while waiting
+	 */
+	public void acquire() throws InterruptedException {
+		final ListenableFuture<Void> permit = acquireAsync();
+		try {
+			permit.get();
+		} catch (InterruptedException e) {
+			// the permit may have been granted meanwhile
+			if (!permit.cancel(false))
+				release();
+			throw e;
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Requests a permit without blocking the calling thread. The returned
+	 * future completes when a request can be sent; it is completed by the
+	 * thread that releases a request in flight or by a timer thread, so its
+	 * listeners should not block. Every permit that was granted must be
+	 * followed by a call to {@link #release()}; a permit that is cancelled
+	 * before being granted is given up.
+	 *
+	 * @return the future permit
+	 */
+	public ListenableFuture<Void> acquireAsync() {
+		final Waiter waiter = new Waiter(System.nanoTime());
+		final long delay = reserve(waiter.start);
+		if (delay <= 0) {
+			take(waiter);
+		} else {
+			scheduler.schedule(new Runnable() {
+				@Override
+				public void run() {
+					take(waiter);
+				}
+			}, delay, TimeUnit.NANOSECONDS);
+		}
+		return waiter.permit;
+	}
+
+	/**
+	 * Releases the in-flight slot taken by {@link #acquire()} or
+	 * {@link #acquireAsync()}, granting it to the next caller waiting.
+	 */
+	public void release() {
+		if (maxInFlight == 0)
+			return;
+		while (true) {
+			final Waiter next;
+			lock.lock();
+			try {
+				next = waiting.poll();
+				if (next == null) {
+					available++;
+					return;
+				}
+			} finally {
+				lock.unlock();
+			}
+			// cancelled waiters give the slot to the next one
+			if (grant(next))
+				return;
+		}
+	}
+
+	/**
+	 * Takes an in-flight slot for a caller that waited for the rate, or
+	 * queues the caller until a request in flight is released.
+	 *
+	 * @param waiter
+	 *            the waiter
+	 */
+	private void take(Waiter waiter) {
+		if (maxInFlight > 0) {
+			lock.lock();
+			try {
+				if (available == 0) {
+					waiting.add(waiter);
+					return;
+				}
+				available--;
+			} finally {
+				lock.unlock();
+			}
+		}
+		if (!grant(waiter))
+			release();
+	}
+
+	/**
+	 * Grants a permit, unless the caller cancelled it.
+	 *
+	 * @param waiter
+	 *            the waiter
+	 * @return true if the permit was granted
+	 */
+	private boolean grant(Waiter waiter) {
+		// counted first, so the caller sees its own wait
+		final long waited = Math.max(0, System.nanoTime() - waiter.start);
+		waitTime.addAndGet(waited);
+		if (waiter.permit.set(null))
+			return true;
+		waitTime.addAndGet(-waited);
+		return false;
+	}
+
+	/**
+	 * Takes a permit from the bucket. When the bucket is empty the permit is
+	 * borrowed from the future, so callers are served in order.
+	 *
+	 * @param now
+	 *            the current time in nanoseconds
+	 * @return the nanoseconds to wait before using the permit
+	 */
+	private long reserve(long now) {
+		if (interval == 0)
+			return 0;
+
+		lock.lock();
+		try {
+			permits = Math.min(burst, permits + (now - lastRefill) / interval);
+			lastRefill = now;
+			permits -= 1;
+			return permits >= 0 ? 0 : (long) (-permits * interval);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the max number of requests in flight.
+	 *
+	 * @return the max in flight or 0 if not limited
+	 */
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	/**
+	 * Gets the number of requests waiting for a response.
+	 *
+	 * @return the requests in flight or 0 if not limited
+	 */
+	public int getInFlight() {
+		lock.lock();
+		try {
+			return maxInFlight - available;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the time the callers spent waiting for a permit.
+	 *
+	 * @param unit
+	 *            the time unit
+	 * @return the wait time
+	 */
+	public long getWaitTime(TimeUnit unit) {
+		return unit.convert(waitTime.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("RateLimiter [permitsPerSecond=");
+		builder.append(interval == 0 ? "unlimited" : String.valueOf(TimeUnit.SECONDS.toNanos(1) / interval));
+		builder.append(", burst=").append(burst);
+		builder.append(", maxInFlight=").append(maxInFlight);
+		builder.append(", inFlight=").append(getInFlight());
+		builder.append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * A caller waiting for a permit.
+	 */
+	private static class Waiter {
+
+		/** The permit. */
+		private final SettableFuture<Void> permit = SettableFuture.create();
+
+		/** The time the caller asked for the permit, from System.nanoTime(). */
+		private final long start;
+
+		/**
+		 * Instantiates a new waiter.
+		 *
+		 * @param start
+		 *            the time the caller asked for the permit
+		 */
+		Waiter(long start) {
+			this.start = start;
+		}
+	}
+
+}
@@ -22,7 +22,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import org.apache.http.Consts;
 import org.apache.http.HttpEntity;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.methods.HttpDelete;
@@ -55,6 +58,19 @@ public class Request {
 	/** The Constant UTF_8. */
 	private static final String UTF_8 = "UTF-8";
 
+	/** The maximum number of compiled URL templates. (value is 256) */
+	private static final int MAX_TEMPLATES = 256;
+
+	/** The compiled URL of a template that is not only made of %s. */
+	private static final String[] NOT_COMPILED = new String[0];
+
+	/**
+	 * The compiled URL templates, the text around every %s, so that a
+	 * template is parsed once instead of by {@link String#format} on every
+	 * request.
+	 */
+	private static final ConcurrentMap<String, String[]> templates = new ConcurrentHashMap<String, String[]>();
+
 	/**
 	 * The DELETE method requests that the origin server delete the resource
 	 * identified by the Request-URI.
@@ -67,7 +83,7 @@ public class Request {
 	 * @return this
 	 */
 	public static Request Delete(String url, Object... args) {
-		return new Request(HttpDelete.class, url, args);
+		return new Request(new HttpDelete(), url, args);
 	}
 
 	/**
@@ -82,7 +98,7 @@ public class Request {
 	 * @return this
 	 */
 	public static Request Get(String url, Object... args) {
-		return new Request(HttpGet.class, url, args);
+		return new Request(new HttpGet(), url, args);
 	}
 
 	/**
@@ -98,7 +114,7 @@ public class Request {
 	 * @return this
 	 */
 	public static Request Post(String url, Object... args) {
-		return new Request(HttpPost.class, url, args);
+		return new Request(new HttpPost(), url, args);
 	}
 
 	/**
@@ -113,7 +129,7 @@ public class Request {
 	 * @return this
 	 */
 	public static Request Put(String url, Object... args) {
-		return new Request(HttpPut.class, url, args);
+		return new Request(new HttpPut(), url, args);
 	}
 
 	/** The form params. */
@@ -137,8 +153,6 @@ public class Request {
 	/**
 	 * Instantiates a new request.
 	 * 
-	 * @param <T>
-	 *            the generic type
 	 * @param method
 	 *            the method, PUT, POST, GET or DELETE
 	 * @param url
@@ -146,48 +160,123 @@ public class Request {
 	 * @param args
 	 *            the list of arguments to format the URL
 	 */
-	private <T extends HttpRequestBase> Request(Class<T> method, String url,
-			Object... args) {
+	private Request(HttpRequestBase method, String url, Object... args) {
 		if (url == null)
 			throw new IllegalArgumentException("url is null");
-		if (method == null)
-			throw new IllegalArgumentException("method is null");
 
-		try {
-			this.method = method.newInstance();
-			// format url
-			if (args != null && args.length > 0) {
-				url = String.format(Locale.ENGLISH, url, args);
-			}
+		this.method = method;
+		// format url
+		if (args != null && args.length > 0) {
+			url = format(url, args);
+		}
+
+		final int queryStart = url.indexOf('?');
+		if (queryStart != -1) {
+			parseQuery(url, queryStart + 1);
+			this.url = url.substring(0, queryStart);
+		} else {
+			this.url = url;
+		}
+	}
+
+	/**
+	 * Formats an URL template. Templates that only use %s are compiled the
+	 * first time they are used and formatted by appending the arguments, the
+	 * others are formatted with {@link String#format}.
+	 * 
+	 * @param template
+	 *            the URL template, e.g. "/v1/dialogs/%s/conversation"
+	 * @param args
+	 *            the list of arguments
+	 * @return the URL
+	 */
+	private static String format(String template, Object[] args) {
+		String[] parts = templates.get(template);
+		if (parts == null) {
+			parts = compile(template);
+			if (templates.size() < MAX_TEMPLATES)
+				templates.putIfAbsent(template, parts);
+		}
+
+		if (parts == NOT_COMPILED || parts.length != args.length + 1)
+			return String.format(Locale.ENGLISH, template, args);
+
+		final StringBuilder url = new StringBuilder(template.length() + 32 * args.length);
+		url.append(parts[0]);
+		for (int i = 0; i < args.length; i++) {
+			url.append(String.valueOf(args[i])).append(parts[i + 1]);
+		}
+		return url.toString();
+	}
 
-			if (url.contains("?")) {
-				String query = url.substring(
-						Math.min(url.length(), url.indexOf("?") + 1),
-						url.length());
-				for (String s : query.split("&")) {
-					String[] kv = s.split("=", 2);
-					if (kv != null) {
-						try {
-							if (kv.length == 2) {
-								queryParams.add(new BasicNameValuePair(
-										URLDecoder.decode(kv[0], UTF_8),
-										URLDecoder.decode(kv[1], UTF_8)));
-							} else if (kv.length == 1) {
-								queryParams.add(new BasicNameValuePair(
-										URLDecoder.decode(kv[0], UTF_8), null));
-							}
-						} catch (UnsupportedEncodingException e) {
-							throw new RuntimeException(e);
-						}
-					}
+	/**
+	 * Compiles an URL template into the text around every %s.
+	 * 
+	 * @param template
+	 *            the URL template
+	 * @return the text around every %s, or {@link #NOT_COMPILED} if the
+	 *         template uses other format specifiers
+	 */
+	private static String[] compile(String template) {
+		final List<String> parts = new ArrayList<String>();
+		int start = 0;
+		for (int i = template.indexOf('%'); i != -1; i = template.indexOf('%', start)) {
+			if (i + 1 >= template.length() || template.charAt(i + 1) != 's')
+				return NOT_COMPILED;
+			parts.add(template.substring(start, i));
+			start = i + 2;
+		}
+		parts.add(template.substring(start));
+		return parts.toArray(new String[parts.size()]);
+	}
+
+	/**
+	 * Adds the parameters of the query string of an URL in a single pass.
+	 * Names and values are only decoded if they contain encoded characters.
+	 * 
+	 * @param url
+	 *            the URL
+	 * @param start
+	 *            the index where the query string starts
+	 */
+	private void parseQuery(String url, int start) {
+		final int length = url.length();
+		while (start < length) {
+			int end = url.indexOf('&', start);
+			if (end == -1)
+				end = length;
+
+			if (end > start) {
+				final int equals = url.indexOf('=', start);
+				if (equals != -1 && equals < end) {
+					queryParams.add(new BasicNameValuePair(decode(url, start, equals),
+							decode(url, equals + 1, end)));
+				} else {
+					queryParams.add(new BasicNameValuePair(decode(url, start, end), null));
 				}
-				this.url = url.substring(0, url.indexOf("?"));
-			} else {
-				this.url = url;
 			}
-		} catch (InstantiationException e) {
-			throw new RuntimeException(e);
-		} catch (IllegalAccessException e) {
+			start = end + 1;
+		}
+	}
+
+	/**
+	 * Decodes a part of an URL.
+	 * 
+	 * @param url
+	 *            the URL
+	 * @param start
+	 *            the start index, inclusive
+	 * @param end
+	 *            the end index, exclusive
+	 * @return the decoded part
+	 */
+	private static String decode(String url, int start, int end) {
+		final String part = url.substring(start, end);
+		if (part.indexOf('%') == -1 && part.indexOf('+') == -1)
+			return part;
+		try {
+			return URLDecoder.decode(part, UTF_8);
+		} catch (UnsupportedEncodingException e) {
 			throw new RuntimeException(e);
 		}
 	}
@@ -276,7 +365,7 @@ public class Request {
 
 			if (!formParams.isEmpty()) {
 				// application/x-www-form-urlencoded
-				withContent(RequestUtil.formatQueryString(formParams, UTF_8),
+				withContent(RequestUtil.formatQueryString(formParams, Consts.UTF_8),
 						MediaType.APPLICATION_FORM_URLENCODED);
 			}
 
@@ -313,8 +402,11 @@ public class Request {
 	 * @return an URL with the query string parameters appended
 	 */
 	private String toUrl(String url) {
-		return queryParams.isEmpty() ? url : url + "?"
-				+ RequestUtil.formatQueryString(queryParams, UTF_8);
+		if (queryParams.isEmpty())
+			return url;
+		final StringBuilder result = new StringBuilder(url.length() + 32 * queryParams.size());
+		result.append(url).append('?');
+		return RequestUtil.appendQueryString(result, queryParams, Consts.UTF_8).toString();
 	}
 
 	/**
@@ -367,7 +459,7 @@ public class Request {
 	 * @return this
 	 */
 	public Request withContent(String content, String contentType) {
-		StringEntity stringEntity = new StringEntity(content, UTF_8);
+		StringEntity stringEntity = new StringEntity(content, Consts.UTF_8);
 		if (contentType != null) {
 			stringEntity.setContentType(contentType);
 		}
@@ -0,0 +1,363 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+
+/**
+ * Coalesces identical GET requests that are in flight at the same time into
+ * a single call to the service, so that a burst of threads asking for the
+ * same model or classifier, for example when a cache entry expires, doesn't
+ * hit the service once per thread: <pre>
+ * {@code
+ *  service.setRequestCoalescer(new RequestCoalescer());
+ * }</pre>
+ * Requests are identical when they have the same URI, credentials and
+ * accepted content. The response is shared with the requests that arrived
+ * while it was in flight; it is buffered only when there is at least one of
+ * them, so a GET that nobody else is waiting for is still streamed. A
+ * failure is thrown to all the waiting requests. A coalescer can be shared
+ * by several services.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ * @see WatsonService#setRequestCoalescer(RequestCoalescer)
+ */
+public class RequestCoalescer {
+
+	/** The headers that change the response and are part of the key. */
+	private static final String[] KEY_HEADERS = { "Accept", "Accept-Language", "Authorization" };
+
+	/** The requests in flight. */
+	private final ConcurrentMap<String, Flight> flights = new ConcurrentHashMap<String, Flight>();
+
+	/** The requests sent to the service. */
+	private final AtomicLong calls = new AtomicLong();
+
+	/** The requests that waited for an identical request in flight. */
+	private final AtomicLong coalesced = new AtomicLong();
+
+	/**
+	 * Gets the key of a request.
+	 *
+	 * @param request
+	 *            the http request, including the end point and headers
+	 * @return the key or null if the request is not coalesced
+	 */
+	static String getKey(HttpRequestBase request) {
+		if (!HttpGet.METHOD_NAME.equals(request.getMethod()))
+			return null;
+
+		final StringBuilder key = new StringBuilder(request.getURI().toString());
+		for (String name : KEY_HEADERS) {
+			final Header header = request.getFirstHeader(name);
+			key.append('\n');
+			if (header != null)
+				key.append(header.getValue());
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Joins the flight of an identical request, or starts a new flight if
+	 * there is none.
+	 *
+	 * @param request
+	 *            the http request, including the end point and headers
+	 * @return the flight or null if the request is not coalesced
+	 */
+	Flight join(HttpRequestBase request) {
+		final String key = getKey(request);
+		if (key == null)
+			return null;
+
+		while (true) {
+			final Flight flight = new Flight(key, SettableFuture.<Shared> create(), true);
+			final Flight running = flights.putIfAbsent(key, flight);
+			if (running == null) {
+				calls.incrementAndGet();
+				return flight;
+			}
+			synchronized (running) {
+				if (!running.landed) {
+					running.followers++;
+					coalesced.incrementAndGet();
+					return new Flight(key, running.result, false);
+				}
+			}
+			// the flight landed before it could be joined
+			flights.remove(key, running);
+		}
+	}
+
+	/**
+	 * Gets the number of requests sent to the service.
+	 *
+	 * @return the call count
+	 */
+	public long getCallCount() {
+		return calls.get();
+	}
+
+	/**
+	 * Gets the number of requests that got the response of an identical
+	 * request instead of calling the service.
+	 *
+	 * @return the coalesced count
+	 */
+	public long getCoalescedCount() {
+		return coalesced.get();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("RequestCoalescer [inFlight=").append(flights.size());
+		builder.append(", calls=").append(calls.get());
+		builder.append(", coalesced=").append(coalesced.get());
+		builder.append("]");
+		return builder.toString();
+	}
+
+	/**
+	 * A buffered response shared by the requests of a flight.
+	 */
+	private static class Shared {
+
+		/** The response, without its entity. */
+		private final HttpResponse response;
+
+		/** The body, null if the response had no entity. */
+		private final byte[] body;
+
+		/** The content type of the body, can be null. */
+		private final Header contentType;
+
+		/**
+		 * Buffers a response.
+		 *
+		 * @param response
+		 *            the response
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred.
+		 */
+		Shared(HttpResponse response) throws IOException {
+			this.response = response;
+			final HttpEntity entity = response.getEntity();
+			body = entity != null ? EntityUtils.toByteArray(entity) : null;
+			contentType = entity != null ? entity.getContentType() : null;
+		}
+
+		/**
+		 * Creates a copy of the response for one request.
+		 *
+		 * @return the http response
+		 */
+		HttpResponse copy() {
+			final HttpResponse copy = new BasicHttpResponse(response.getStatusLine());
+			copy.setHeaders(response.getAllHeaders());
+			if (body != null) {
+				final ByteArrayEntity entity = new ByteArrayEntity(body);
+				entity.setContentType(contentType);
+				copy.setEntity(entity);
+			}
+			return copy;
+		}
+	}
+
+	/**
+	 * A request in flight, seen by the request that calls the service, the
+	 * leader, or by one of the requests waiting for it.
+	 */
+	class Flight {
+
+		/** The key. */
+		private final String key;
+
+		/** The shared response, set when the leader lands. */
+		private final SettableFuture<Shared> result;
+
+		/** Whether this is the request that calls the service. */
+		private final boolean leader;
+
+		/** The number of waiting requests, guarded by the leader flight. */
+		private int followers;
+
+		/** Whether the leader landed, guarded by the leader flight. */
+		private boolean landed;
+
+		/**
+		 * Instantiates a new flight.
+		 *
+		 * @param key
+		 *            the key
+		 * @param result
+		 *            the shared response
+		 * @param leader
+		 *            whether this is the request that calls the service
+		 */
+		Flight(String key, SettableFuture<Shared> result, boolean leader) {
+			this.key = key;
+			this.result = result;
+			this.leader = leader;
+		}
+
+		/**
+		 * Checks if this is the request that calls the service.
+		 *
+		 * @return true, if is leader
+		 */
+		boolean isLeader() {
+			return leader;
+		}
+
+		/**
+		 * Lands the flight, so no more requests can join it.
+		 *
+		 * @return the number of waiting requests
+		 */
+		private int land() {
+			final int waiting;
+			synchronized (this) {
+				landed = true;
+				waiting = followers;
+			}
+			flights.remove(key, this);
+			return waiting;
+		}
+
+		/**
+		 * Completes the flight with the response of the leader.
+		 *
+		 * @param response
+		 *            the processed response
+		 * @return the response to return to the leader
+		 */
+		HttpResponse complete(HttpResponse response) {
+			if (land() == 0) {
+				result.set(null);
+				return response;
+			}
+			final Shared shared;
+			try {
+				shared = new Shared(response);
+			} catch (IOException e) {
+				final RuntimeException error = new RuntimeException(e);
+				result.setException(error);
+				throw error;
+			}
+			result.set(shared);
+			return shared.copy();
+		}
+
+		/**
+		 * Completes the flight with the failure of the leader.
+		 *
+		 * @param e
+		 *            the failure, thrown to the waiting requests
+		 */
+		void fail(RuntimeException e) {
+			land();
+			result.setException(e);
+		}
+
+		/**
+		 * Completes the flight when the response of the leader arrives.
+		 *
+		 * @param response
+		 *            the future processed response
+		 * @return the future response to return to the leader
+		 */
+		ListenableFuture<HttpResponse> complete(ListenableFuture<HttpResponse> response) {
+			final SettableFuture<HttpResponse> future = SettableFuture.create();
+			Futures.addCallback(response, new FutureCallback<HttpResponse>() {
+				@Override
+				public void onSuccess(HttpResponse value) {
+					try {
+						future.set(complete(value));
+					} catch (RuntimeException e) {
+						future.setException(e);
+					}
+				}
+
+				@Override
+				public void onFailure(Throwable t) {
+					final RuntimeException e = t instanceof RuntimeException ? (RuntimeException) t
+							: new RuntimeException(t);
+					fail(e);
+					future.setException(e);
+				}
+			}, MoreExecutors.directExecutor());
+			return future;
+		}
+
+		/**
+		 * Waits for the response of the leader.
+		 *
+		 * @return the http response
+		 */
+		HttpResponse await() {
+			try {
+				return result.get().copy();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException(e);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException)
+					throw (RuntimeException) e.getCause();
+				throw new RuntimeException(e.getCause());
+			}
+		}
+
+		/**
+		 * Gets the future response of the leader.
+		 *
+		 * @return the future http response
+		 */
+		ListenableFuture<HttpResponse> getResponse() {
+			return Futures.transform(result, new Function<Shared, HttpResponse>() {
+				@Override
+				public HttpResponse apply(Shared shared) {
+					return shared.copy();
+				}
+			}, MoreExecutors.directExecutor());
+		}
+	}
+}
@@ -0,0 +1,588 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPatch;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * Size-bounded cache of the responses of GET requests, used by a
+ * {@link WatsonService} to avoid calling the service again for data that
+ * rarely changes. Responses are kept for the time to live of their
+ * operation, matched by path prefix, or for the <code>max-age</code> sent by
+ * the service. Stale responses with an <code>ETag</code> are revalidated
+ * with <code>If-None-Match</code> instead of being downloaded again: <pre>
+ * {@code
+ *  ResponseCache cache = new ResponseCache()
+ *      .withTtl("/v1/voices", 1, TimeUnit.HOURS)
+ *      .withTtl("/v1/models", 10, TimeUnit.MINUTES);
+ *  textToSpeech.setResponseCache(cache);
+ * }</pre>
+ * Successful <code>PUT</code>, <code>PATCH</code> and <code>DELETE</code>
+ * requests invalidate the cached responses of the same path, its parents and
+ * its children, so that an updated or deleted resource is visible right
+ * away. Most <code>POST</code> requests only analyze their content (classify,
+ * translate, recognize) and leave the cache untouched; the paths where a
+ * <code>POST</code> creates a resource have to be registered with
+ * {@link #withInvalidatingPost(String)}. The least recently used responses
+ * are evicted when the cache is full.<br>
+ * The cache is thread safe and can be shared by several services.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ * @see WatsonService#setResponseCache(ResponseCache)
+ */
+public class ResponseCache {
+
+	/**
+	 * A cached response.
+	 */
+	static class Entry {
+
+		/** The path relative to the service end point. */
+		private final String path;
+
+		/** The response headers. */
+		private final Header[] headers;
+
+		/** The response body. */
+		private final byte[] body;
+
+		/** The entity tag, null if the service didn't send one. */
+		private final String etag;
+
+		/** The expiration time in nanoseconds. */
+		private volatile long expires;
+
+		/**
+		 * Instantiates a new entry.
+		 *
+		 * @param path
+		 *            the path
+		 * @param headers
+		 *            the headers
+		 * @param body
+		 *            the body
+		 * @param etag
+		 *            the etag
+		 * @param expires
+		 *            the expiration time
+		 */
+		Entry(String path, Header[] headers, byte[] body, String etag, long expires) {
+			this.path = path;
+			this.headers = headers;
+			this.body = body;
+			this.etag = etag;
+			this.expires = expires;
+		}
+
+		/**
+		 * Checks if the entry can be used without revalidating it.
+		 *
+		 * @return true, if is fresh
+		 */
+		boolean isFresh() {
+			return System.nanoTime() - expires < 0;
+		}
+
+		/**
+		 * Gets the etag.
+		 *
+		 * @return the etag
+		 */
+		String getEtag() {
+			return etag;
+		}
+	}
+
+	/** The Constant DEFAULT_MAX_ENTRIES. (value is 1000) */
+	public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	/** The Constant DEFAULT_MAX_BYTES. (value is 16 MB) */
+	public static final long DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+
+	/** The headers that change the response and are part of the key. */
+	private static final String[] KEY_HEADERS = { "Accept", "Accept-Language", "Authorization" };
+
+	/** The Constant ETAG. (value is "ETag") */
+	private static final String ETAG = "ETag";
+
+	/** The Constant IF_NONE_MATCH. (value is "If-None-Match") */
+	static final String IF_NONE_MATCH = "If-None-Match";
+
+	/** The Constant CACHE_CONTROL. (value is "Cache-Control") */
+	private static final String CACHE_CONTROL = "Cache-Control";
+
+	/** The Constant MAX_AGE. (value is "max-age=") */
+	private static final String MAX_AGE = "max-age=";
+
+	/** The entries in access order. */
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+
+	/** The paths where a POST creates a resource. */
+	private final Set<String> invalidatingPosts = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+	/** The time to live by path prefix, in nanoseconds. */
+	private final Map<String, Long> ttls = new LinkedHashMap<String, Long>();
+
+	/** The max entries. */
+	private final int maxEntries;
+
+	/** The max bytes. */
+	private final long maxBytes;
+
+	/** The bytes used by the cached bodies. */
+	private long bytes;
+
+	/** The default time to live in nanoseconds. */
+	private long defaultTtl;
+
+	/** The hits. */
+	private final AtomicLong hits = new AtomicLong();
+
+	/** The misses. */
+	private final AtomicLong misses = new AtomicLong();
+
+	/** The revalidations. */
+	private final AtomicLong revalidations = new AtomicLong();
+
+	/** The evictions. */
+	private final AtomicLong evictions = new AtomicLong();
+
+	/**
+	 * Instantiates a new response cache with the default size.
+	 */
+	public ResponseCache() {
+		this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+	}
+
+	/**
+	 * Instantiates a new response cache.
+	 *
+	 * @param maxEntries
+	 *            the maximum number of responses
+	 * @param maxBytes
+	 *            the maximum size of all the response bodies
+	 */
+	public ResponseCache(int maxEntries, long maxBytes) {
+		if (maxEntries < 1 || maxBytes < 1)
+			throw new IllegalArgumentException("maxEntries and maxBytes should be greater than 0");
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Sets the time to live of the responses of operations without their own
+	 * time to live. By default they are only cached if the service sends a
+	 * <code>max-age</code> or an <code>ETag</code>.
+	 *
+	 * @param ttl
+	 *            the time to live
+	 * @param unit
+	 *            the time unit
+	 * @return the response cache
+	 */
+	public synchronized ResponseCache withDefaultTtl(long ttl, TimeUnit unit) {
+		this.defaultTtl = unit.toNanos(ttl);
+		return this;
+	}
+
+	/**
+	 * Sets the time to live of the responses of an operation. The operation
+	 * is identified by a path prefix relative to the service end point, for
+	 * example <code>/v1/models</code> matches <code>/v1/models</code> and
+	 * <code>/v1/models/en-US_BroadbandModel</code>. The longest prefix wins.
+	 *
+	 * @param path
+	 *            the path prefix
+	 * @param ttl
+	 *            the time to live
+	 * @param unit
+	 *            the time unit
+	 * @return the response cache
+	 */
+	public synchronized ResponseCache withTtl(String path, long ttl, TimeUnit unit) {
+		if (path == null || !path.startsWith("/"))
+			throw new IllegalArgumentException("path should start with /");
+		ttls.put(path, unit.toNanos(ttl));
+		return this;
+	}
+
+	/**
+	 * Registers a path where a <code>POST</code> creates or modifies a
+	 * resource, for example <code>/v1/classifiers</code>, so that a
+	 * successful <code>POST</code> to exactly that path invalidates the cached
+	 * responses of the path, its parents and its children.
+	 *
+	 * @param path
+	 *            the path relative to the service end point
+	 * @return the response cache
+	 */
+	public ResponseCache withInvalidatingPost(String path) {
+		if (path == null || !path.startsWith("/"))
+			throw new IllegalArgumentException("path should start with /");
+		invalidatingPosts.add(path);
+		return this;
+	}
+
+	/**
+	 * Checks if a successful request modifies the resources of its path.
+	 *
+	 * @param method
+	 *            the HTTP method
+	 * @param path
+	 *            the path relative to the service end point
+	 * @return true if the cached responses of the path have to be invalidated
+	 */
+	boolean isMutation(String method, String path) {
+		if (HttpPut.METHOD_NAME.equals(method) || HttpDelete.METHOD_NAME.equals(method)
+				|| HttpPatch.METHOD_NAME.equals(method))
+			return true;
+		return HttpPost.METHOD_NAME.equals(method) && invalidatingPosts.contains(path);
+	}
+
+	/**
+	 * Gets the cache key of a request.
+	 *
+	 * @param request
+	 *            the http request, including the end point and headers
+	 * @return the key or null if the request can't be cached
+	 */
+	String getKey(HttpRequestBase request) {
+		if (!HttpGet.METHOD_NAME.equals(request.getMethod()))
+			return null;
+
+		final StringBuilder key = new StringBuilder(request.getURI().toString());
+		for (String name : KEY_HEADERS) {
+			final Header header = request.getFirstHeader(name);
+			key.append('\n');
+			if (header != null)
+				key.append(header.getValue());
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Gets a cached response, fresh or stale.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the entry or null if the response is not cached
+	 */
+	synchronized Entry get(String key) {
+		return entries.get(key);
+	}
+
+	/**
+	 * Builds a new response from a fresh entry.
+	 *
+	 * @param entry
+	 *            the entry
+	 * @return the http response
+	 */
+	HttpResponse hit(Entry entry) {
+		hits.incrementAndGet();
+		return toResponse(entry);
+	}
+
+	/**
+	 * Updates the cache with the response of a request and returns the
+	 * response to use. A <code>304 Not Modified</code> response is replaced
+	 * by the cached one.
+	 *
+	 * @param key
+	 *            the key, null if the request can't be cached
+	 * @param method
+	 *            the HTTP method of the request
+	 * @param path
+	 *            the path relative to the service end point
+	 * @param response
+	 *            the http response
+	 * @param stale
+	 *            the stale entry that was revalidated, can be null
+	 * @return the http response
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 * @see #isMutation(String, String)
+	 */
+	HttpResponse update(String key, String method, String path, HttpResponse response, Entry stale)
+			throws IOException {
+		final int status = response.getStatusLine().getStatusCode();
+		if (key == null) {
+			if (status >= 200 && status < 300 && isMutation(method, path))
+				invalidate(path);
+			return response;
+		}
+
+		if (status == HttpStatus.SC_NOT_MODIFIED && stale != null) {
+			EntityUtils.consumeQuietly(response.getEntity());
+			revalidations.incrementAndGet();
+			stale.expires = System.nanoTime() + getTtl(path, response);
+			return toResponse(stale);
+		}
+
+		misses.incrementAndGet();
+		if (status != HttpStatus.SC_OK || hasDirective(response, "no-store"))
+			return response;
+
+		final long ttl = getTtl(path, response);
+		final Header etag = response.getFirstHeader(ETAG);
+		if (ttl <= 0 && etag == null)
+			return response;
+
+		final HttpEntity entity = response.getEntity();
+		final byte[] body = entity != null ? EntityUtils.toByteArray(entity) : new byte[0];
+		final Entry entry = new Entry(path, response.getAllHeaders(), body,
+				etag != null ? etag.getValue() : null, System.nanoTime() + ttl);
+		put(key, entry);
+		response.setEntity(toEntity(entry));
+		return response;
+	}
+
+	/**
+	 * Stores an entry and evicts the least recently used ones if the cache is
+	 * full.
+	 *
+	 * @param key
+	 *            the key
+	 * @param entry
+	 *            the entry
+	 */
+	private synchronized void put(String key, Entry entry) {
+		if (entry.body.length > maxBytes)
+			return;
+
+		final Entry previous = entries.put(key, entry);
+		if (previous != null)
+			bytes -= previous.body.length;
+		bytes += entry.body.length;
+
+		final Iterator<Entry> iterator = entries.values().iterator();
+		while ((entries.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+			bytes -= iterator.next().body.length;
+			iterator.remove();
+			evictions.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Removes the responses of a path, its parents and its children.
+	 *
+	 * @param path
+	 *            the path relative to the service end point
+	 */
+	public synchronized void invalidate(String path) {
+		final Iterator<Entry> iterator = entries.values().iterator();
+		while (iterator.hasNext()) {
+			final Entry entry = iterator.next();
+			if (isPrefix(entry.path, path) || isPrefix(path, entry.path)) {
+				bytes -= entry.body.length;
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Removes all the responses.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		bytes = 0;
+	}
+
+	/**
+	 * Checks if a path is a prefix of another one, segment by segment.
+	 *
+	 * @param prefix
+	 *            the prefix
+	 * @param path
+	 *            the path
+	 * @return true, if prefix is a prefix of path
+	 */
+	static boolean isPrefix(String prefix, String path) {
+		return path.startsWith(prefix)
+				&& (path.length() == prefix.length() || path.charAt(prefix.length()) == '/' || prefix.endsWith("/"));
+	}
+
+	/**
+	 * Gets the time to live of a response.
+	 *
+	 * @param path
+	 *            the path relative to the service end point
+	 * @param response
+	 *            the http response
+	 * @return the time to live in nanoseconds
+	 */
+	private synchronized long getTtl(String path, HttpResponse response) {
+		String match = null;
+		for (String prefix : ttls.keySet()) {
+			if (isPrefix(prefix, path) && (match == null || prefix.length() > match.length()))
+				match = prefix;
+		}
+		if (match != null)
+			return ttls.get(match);
+		if (hasDirective(response, "no-cache"))
+			return 0;
+
+		for (Header header : response.getHeaders(CACHE_CONTROL)) {
+			for (String directive : header.getValue().split(",")) {
+				directive = directive.trim();
+				if (directive.startsWith(MAX_AGE)) {
+					try {
+						return TimeUnit.SECONDS.toNanos(Long.parseLong(directive.substring(MAX_AGE.length())));
+					} catch (NumberFormatException e) {
+						return 0;
+					}
+				}
+			}
+		}
+		return defaultTtl;
+	}
+
+	/**
+	 * Checks if the response has a Cache-Control directive.
+	 *
+	 * @param response
+	 *            the http response
+	 * @param directive
+	 *            the directive
+	 * @return true, if the directive is present
+	 */
+	private static boolean hasDirective(HttpResponse response, String directive) {
+		for (Header header : response.getHeaders(CACHE_CONTROL)) {
+			if (header.getValue().contains(directive))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Builds a new response from an entry.
+	 *
+	 * @param entry
+	 *            the entry
+	 * @return the http response
+	 */
+	private static HttpResponse toResponse(Entry entry) {
+		final HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+		response.setHeaders(entry.headers);
+		response.setEntity(toEntity(entry));
+		return response;
+	}
+
+	/**
+	 * Builds a new entity from an entry.
+	 *
+	 * @param entry
+	 *            the entry
+	 * @return the http entity
+	 */
+	private static HttpEntity toEntity(Entry entry) {
+		final ByteArrayEntity entity = new ByteArrayEntity(entry.body);
+		for (Header header : entry.headers) {
+			if ("Content-Type".equalsIgnoreCase(header.getName()))
+				entity.setContentType(header);
+		}
+		return entity;
+	}
+
+	/**
+	 * Gets the number of requests answered from the cache without calling
+	 * the service.
+	 *
+	 * @return the hit count
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets the number of cacheable requests that were sent to the service.
+	 *
+	 * @return the miss count
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Gets the number of stale responses that the service confirmed were not
+	 * modified.
+	 *
+	 * @return the revalidation count
+	 */
+	public long getRevalidationCount() {
+		return revalidations.get();
+	}
+
+	/**
+	 * Gets the number of responses evicted because the cache was full.
+	 *
+	 * @return the eviction count
+	 */
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+
+	/**
+	 * Gets the number of cached responses.
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ResponseCache [entries=").append(entries.size());
+		builder.append(", bytes=").append(bytes);
+		builder.append(", hits=").append(hits.get());
+		builder.append(", misses=").append(misses.get());
+		builder.append(", revalidations=").append(revalidations.get());
+		builder.append(", evictions=").append(evictions.get());
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
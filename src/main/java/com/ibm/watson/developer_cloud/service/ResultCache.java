@@ -0,0 +1,756 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * Memoizes the results of deterministic analysis calls, like translating or
+ * classifying a text, so that sending the same text again doesn't call the
+ * service. Results are addressed by a SHA-256 hash of the operation, its
+ * parameters, the relevant headers and the request body, and are kept in a
+ * heap tier and, optionally, in a disk tier that survives restarts: <pre>
+ * {@code
+ *  ResultCache cache = new ResultCache()
+ *      .withOperations("/v2/translate", "/v3/tone")
+ *      .withDiskTier(new File("/var/cache/watson"), 512 * 1024 * 1024);
+ *  service.setResultCache(cache);
+ * }</pre>
+ * Only the operations listed are memoized. Both tiers are bounded and evict
+ * the least recently used results. Results are written to disk by a
+ * background thread, so the I/O threads of asynchronous requests never
+ * block on the file system; results that arrive while the writer is too far
+ * behind are only kept in the heap. Configure the cache before it is used.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ * @see WatsonService#setResultCache(ResultCache)
+ */
+public class ResultCache {
+
+	/**
+	 * A memoized result.
+	 */
+	private static class Result {
+
+		/** The response headers. */
+		private final Header[] headers;
+
+		/** The body. */
+		private final byte[] body;
+
+		/**
+		 * Instantiates a new result.
+		 *
+		 * @param headers
+		 *            the response headers
+		 * @param body
+		 *            the body
+		 */
+		Result(Header[] headers, byte[] body) {
+			this.headers = headers;
+			this.body = body;
+		}
+	}
+
+	/** The Constant DEFAULT_MAX_HEAP_BYTES. (value is 32 MB) */
+	public static final long DEFAULT_MAX_HEAP_BYTES = 32 * 1024 * 1024;
+
+	/** The Constant log. */
+	private static final Logger log = Logger.getLogger(ResultCache.class.getName());
+
+	/** The maximum number of results waiting to be written to disk. */
+	private static final int MAX_PENDING_WRITES = 1024;
+
+	/** The executor that writes the results to disk, shared by all the caches. */
+	private static final ExecutorService diskWriter = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<Runnable>(MAX_PENDING_WRITES), new HttpTransport.DaemonThreadFactory(
+					"watson-result-writer"));
+
+	/** The headers that change the result and are part of the key. */
+	private static final String[] KEY_HEADERS = { "Accept", "Accept-Language", "Authorization", "Content-Type" };
+
+	/** The headers that describe the original transfer and are not replayed. */
+	private static final Set<String> TRANSFER_HEADERS = new HashSet<String>(Arrays.asList("content-length",
+			"transfer-encoding", "content-encoding", "connection", "keep-alive"));
+
+	/** The suffix of the files of the disk tier. */
+	private static final String SUFFIX = ".result";
+
+	/** The first bytes of the files of the disk tier. (value is "WRC2") */
+	private static final int MAGIC = 0x57524332;
+
+	/** The Constant UTF_8. */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/** The path prefixes of the memoized operations. */
+	private final Set<String> operations = new LinkedHashSet<String>();
+
+	/** The heap tier in access order. */
+	private final LinkedHashMap<String, Result> heap = new LinkedHashMap<String, Result>(16, 0.75f, true);
+
+	/** The max heap bytes. */
+	private final long maxHeapBytes;
+
+	/** The heap bytes. */
+	private long heapBytes;
+
+	/** The size of the results in the disk tier, in access order. */
+	private final LinkedHashMap<String, Long> disk = new LinkedHashMap<String, Long>(16, 0.75f, true);
+
+	/** The directory of the disk tier, null if there is none. */
+	private File directory;
+
+	/** The max disk bytes. */
+	private long maxDiskBytes;
+
+	/** The disk bytes. */
+	private long diskBytes;
+
+	/** The hits. */
+	private final AtomicLong hits = new AtomicLong();
+
+	/** The hits served by the disk tier. */
+	private final AtomicLong diskHits = new AtomicLong();
+
+	/** The misses. */
+	private final AtomicLong misses = new AtomicLong();
+
+	/** The bytes that were not downloaded thanks to a hit. */
+	private final AtomicLong bytesSaved = new AtomicLong();
+
+	/**
+	 * Instantiates a new result cache with the default heap size.
+	 */
+	public ResultCache() {
+		this(DEFAULT_MAX_HEAP_BYTES);
+	}
+
+	/**
+	 * Instantiates a new result cache.
+	 *
+	 * @param maxHeapBytes
+	 *            the maximum size of the results kept in the heap
+	 */
+	public ResultCache(long maxHeapBytes) {
+		if (maxHeapBytes < 0)
+			throw new IllegalArgumentException("maxHeapBytes can not be negative");
+		this.maxHeapBytes = maxHeapBytes;
+	}
+
+	/**
+	 * Adds the operations to memoize, as path prefixes relative to the service
+	 * end point, for example <code>/v2/translate</code>.
+	 *
+	 * @param paths
+	 *            the path prefixes
+	 * @return the result cache
+	 */
+	public synchronized ResultCache withOperations(String... paths) {
+		for (String path : paths) {
+			if (path == null || !path.startsWith("/"))
+				throw new IllegalArgumentException("path should start with /");
+			operations.add(path);
+		}
+		return this;
+	}
+
+	/**
+	 * Keeps the results in a directory as well, so they survive restarts.
+	 * Results already in the directory are used.
+	 *
+	 * @param directory
+	 *            the directory, created if it doesn't exist
+	 * @param maxBytes
+	 *            the maximum size of the results in the directory
+	 * @return the result cache
+	 */
+	public ResultCache withDiskTier(File directory, long maxBytes) {
+		if (maxBytes < 1)
+			throw new IllegalArgumentException("maxBytes should be greater than 0");
+		if (!directory.isDirectory() && !directory.mkdirs())
+			throw new IllegalArgumentException(directory + " is not a directory");
+
+		final File[] files = directory.listFiles();
+		if (files == null)
+			throw new IllegalArgumentException(directory + " can not be read");
+		Arrays.sort(files, new Comparator<File>() {
+			@Override
+			public int compare(File a, File b) {
+				return Long.compare(a.lastModified(), b.lastModified());
+			}
+		});
+
+		synchronized (disk) {
+			this.directory = directory;
+			this.maxDiskBytes = maxBytes;
+			disk.clear();
+			diskBytes = 0;
+			for (File file : files) {
+				final String name = file.getName();
+				if (file.isFile() && name.endsWith(SUFFIX)) {
+					disk.put(name.substring(0, name.length() - SUFFIX.length()), file.length());
+					diskBytes += file.length();
+				}
+			}
+			evictFromDisk();
+		}
+		return this;
+	}
+
+	/**
+	 * Gets the key of a request.
+	 *
+	 * @param path
+	 *            the path relative to the service end point
+	 * @param request
+	 *            the http request, including the end point and headers
+	 * @return the key or null if the request is not memoized
+	 */
+	String getKey(String path, HttpRequestBase request) {
+		if (!isMemoized(path))
+			return null;
+
+		HttpEntity entity = null;
+		if (request instanceof HttpEntityEnclosingRequest) {
+			entity = ((HttpEntityEnclosingRequest) request).getEntity();
+			if (entity != null && !entity.isRepeatable())
+				return null;
+		}
+
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+
+		digest.update((request.getMethod() + ' ' + request.getURI()).getBytes(UTF_8));
+		for (String name : KEY_HEADERS) {
+			final Header header = request.getFirstHeader(name);
+			digest.update((byte) '\n');
+			if (header != null)
+				digest.update(header.getValue().getBytes(UTF_8));
+		}
+		digest.update((byte) '\n');
+
+		if (entity != null) {
+			try {
+				final OutputStream out = new DigestOutputStream(new OutputStream() {
+					@Override
+					public void write(int b) {
+						// only the digest is needed
+					}
+
+					@Override
+					public void write(byte[] b, int off, int len) {
+						// only the digest is needed
+					}
+				}, digest);
+				entity.writeTo(out);
+				out.close();
+			} catch (IOException e) {
+				log.log(Level.FINE, "The request body could not be hashed", e);
+				return null;
+			}
+		}
+		return Hex.encodeHexString(digest.digest());
+	}
+
+	/**
+	 * Checks if the operation of a path is memoized.
+	 *
+	 * @param path
+	 *            the path relative to the service end point
+	 * @return true, if is memoized
+	 */
+	private synchronized boolean isMemoized(String path) {
+		for (String prefix : operations) {
+			if (ResponseCache.isPrefix(prefix, path))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the memoized response of a request.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the http response or null if the result was not memoized
+	 */
+	HttpResponse get(String key) {
+		Result result;
+		synchronized (this) {
+			result = heap.get(key);
+		}
+		if (result == null) {
+			result = readFromDisk(key);
+			if (result == null) {
+				misses.incrementAndGet();
+				return null;
+			}
+			diskHits.incrementAndGet();
+			putInHeap(key, result);
+		}
+
+		hits.incrementAndGet();
+		bytesSaved.addAndGet(result.body.length);
+
+		final HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+		response.setHeaders(result.headers);
+		final ByteArrayEntity entity = new ByteArrayEntity(result.body);
+		entity.setContentType(response.getFirstHeader("Content-Type"));
+		response.setEntity(entity);
+		return response;
+	}
+
+	/**
+	 * Memoizes a successful response. It must only be called once the
+	 * response was accepted by {@link WatsonService#processResponse(HttpResponse)},
+	 * since some services (e.g. Alchemy) report errors with a 200 status.
+	 *
+	 * @param key
+	 *            the key
+	 * @param response
+	 *            the http response
+	 * @return the response to use, with the body buffered if it was memoized
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	HttpResponse put(String key, HttpResponse response) throws IOException {
+		if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK)
+			return response;
+
+		final HttpEntity entity = response.getEntity();
+		final Result result = new Result(getReplayedHeaders(response),
+				entity != null ? EntityUtils.toByteArray(entity) : new byte[0]);
+
+		final ByteArrayEntity buffered = new ByteArrayEntity(result.body);
+		buffered.setContentType(entity != null ? entity.getContentType() : null);
+		response.setEntity(buffered);
+
+		putInHeap(key, result);
+		scheduleWrite(key, result);
+		return response;
+	}
+
+	/**
+	 * Schedules the write of a result to the disk tier, if there is one.
+	 *
+	 * @param key
+	 *            the key
+	 * @param result
+	 *            the result
+	 */
+	private void scheduleWrite(final String key, final Result result) {
+		synchronized (disk) {
+			if (directory == null)
+				return;
+		}
+		try {
+			diskWriter.execute(new Runnable() {
+				@Override
+				public void run() {
+					writeToDisk(key, result);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.fine("Too many pending writes, the result " + key + " is only kept in the heap");
+		}
+	}
+
+	/**
+	 * Waits until the results memoized so far are written to the disk tier.
+	 *
+	 * @throws InterruptedException
+	 *             if the thread was interrupted while waiting
+	 */
+	public void flush() throws InterruptedException {
+		final Callable<Void> barrier = new Callable<Void>() {
+			@Override
+			public Void call() {
+				return null;
+			}
+		};
+		while (true) {
+			try {
+				diskWriter.submit(barrier).get();
+				return;
+			} catch (RejectedExecutionException e) {
+				Thread.sleep(10);
+			} catch (ExecutionException e) {
+				throw new RuntimeException(e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * Gets the headers of a response that are replayed with the memoized
+	 * result, all but the ones that describe the original transfer.
+	 *
+	 * @param response
+	 *            the http response
+	 * @return the headers
+	 */
+	private static Header[] getReplayedHeaders(HttpResponse response) {
+		final List<Header> headers = new ArrayList<Header>();
+		for (Header header : response.getAllHeaders()) {
+			if (!TRANSFER_HEADERS.contains(header.getName().toLowerCase(Locale.ENGLISH)))
+				headers.add(header);
+		}
+		final HttpEntity entity = response.getEntity();
+		if (response.getFirstHeader("Content-Type") == null && entity != null && entity.getContentType() != null)
+			headers.add(entity.getContentType());
+		return headers.toArray(new Header[headers.size()]);
+	}
+
+	/**
+	 * Puts a result in the heap tier and evicts the least recently used ones
+	 * if it is full.
+	 *
+	 * @param key
+	 *            the key
+	 * @param result
+	 *            the result
+	 */
+	private synchronized void putInHeap(String key, Result result) {
+		if (result.body.length > maxHeapBytes)
+			return;
+
+		final Result previous = heap.put(key, result);
+		if (previous != null)
+			heapBytes -= previous.body.length;
+		heapBytes += result.body.length;
+
+		final Iterator<Result> iterator = heap.values().iterator();
+		while (heapBytes > maxHeapBytes && iterator.hasNext()) {
+			heapBytes -= iterator.next().body.length;
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Reads a result from the disk tier.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the result or null if it is not on disk
+	 */
+	private Result readFromDisk(String key) {
+		final File file;
+		synchronized (disk) {
+			if (directory == null || disk.get(key) == null)
+				return null;
+			file = new File(directory, key + SUFFIX);
+		}
+
+		try {
+			final RandomAccessFile raf = new RandomAccessFile(file, "r");
+			try {
+				if (raf.readInt() != MAGIC)
+					throw new IllegalStateException("Unknown format");
+				final byte[] headers = new byte[raf.readInt()];
+				raf.readFully(headers);
+				final long remaining = raf.length() - raf.getFilePointer();
+				if (remaining < 0 || remaining > Integer.MAX_VALUE)
+					throw new IllegalStateException("Invalid size");
+				final byte[] body = new byte[(int) remaining];
+				raf.readFully(body);
+				file.setLastModified(System.currentTimeMillis());
+				return new Result(decodeHeaders(headers), body);
+			} finally {
+				raf.close();
+			}
+		} catch (IOException e) {
+			log.log(Level.WARNING, "Error reading " + file, e);
+		} catch (RuntimeException e) {
+			log.log(Level.WARNING, "Invalid result in " + file, e);
+		}
+		removeFromDisk(key);
+		return null;
+	}
+
+	/**
+	 * Writes a result to the disk tier. The file is written under a temporary
+	 * name and then renamed so readers never see a partial result. Called by
+	 * the disk writer thread.
+	 *
+	 * @param key
+	 *            the key
+	 * @param result
+	 *            the result
+	 */
+	private void writeToDisk(String key, Result result) {
+		final File dir;
+		synchronized (disk) {
+			dir = directory;
+		}
+		if (dir == null)
+			return;
+
+		final byte[] headers = encodeHeaders(result.headers);
+		final long size = 8 + headers.length + result.body.length;
+		final File file = new File(dir, key + SUFFIX);
+		final File temp = new File(dir, key + '.' + Thread.currentThread().getId() + ".tmp");
+		try {
+			final RandomAccessFile raf = new RandomAccessFile(temp, "rw");
+			try {
+				final FileChannel channel = raf.getChannel();
+				final ByteBuffer header = ByteBuffer.allocate(8 + headers.length);
+				header.putInt(MAGIC).putInt(headers.length).put(headers).flip();
+				final ByteBuffer body = ByteBuffer.wrap(result.body);
+				final ByteBuffer[] buffers = { header, body };
+				while (header.hasRemaining() || body.hasRemaining())
+					channel.write(buffers);
+			} finally {
+				raf.close();
+			}
+			if (!temp.renameTo(file)) {
+				file.delete();
+				if (!temp.renameTo(file))
+					throw new IOException("Could not rename " + temp + " to " + file);
+			}
+		} catch (IOException e) {
+			log.log(Level.WARNING, "Error writing " + file, e);
+			temp.delete();
+			return;
+		}
+
+		synchronized (disk) {
+			final Long previous = disk.put(key, size);
+			if (previous != null)
+				diskBytes -= previous;
+			diskBytes += size;
+			evictFromDisk();
+		}
+	}
+
+	/**
+	 * Encodes headers as one <code>name: value</code> line per header.
+	 *
+	 * @param headers
+	 *            the headers
+	 * @return the encoded headers
+	 */
+	private static byte[] encodeHeaders(Header[] headers) {
+		final StringBuilder builder = new StringBuilder();
+		for (Header header : headers)
+			builder.append(header.getName()).append(": ").append(header.getValue()).append('\n');
+		return builder.toString().getBytes(UTF_8);
+	}
+
+	/**
+	 * Decodes the headers encoded by {@link #encodeHeaders(Header[])}.
+	 *
+	 * @param encoded
+	 *            the encoded headers
+	 * @return the headers
+	 */
+	private static Header[] decodeHeaders(byte[] encoded) {
+		final List<Header> headers = new ArrayList<Header>();
+		final String lines = new String(encoded, UTF_8);
+		int start = 0;
+		for (int end = lines.indexOf('\n'); end != -1; end = lines.indexOf('\n', start)) {
+			final int colon = lines.indexOf(": ", start);
+			if (colon == -1 || colon > end)
+				throw new IllegalStateException("Invalid header");
+			headers.add(new BasicHeader(lines.substring(start, colon), lines.substring(colon + 2, end)));
+			start = end + 1;
+		}
+		return headers.toArray(new Header[headers.size()]);
+	}
+
+	/**
+	 * Removes a result from the disk tier.
+	 *
+	 * @param key
+	 *            the key
+	 */
+	private void removeFromDisk(String key) {
+		synchronized (disk) {
+			final Long size = disk.remove(key);
+			if (size != null) {
+				diskBytes -= size;
+				new File(directory, key + SUFFIX).delete();
+			}
+		}
+	}
+
+	/**
+	 * Deletes the least recently used results until the disk tier fits its
+	 * maximum size. Must be called holding the disk lock.
+	 */
+	private void evictFromDisk() {
+		final Iterator<Map.Entry<String, Long>> iterator = disk.entrySet().iterator();
+		while (diskBytes > maxDiskBytes && iterator.hasNext()) {
+			final Map.Entry<String, Long> entry = iterator.next();
+			diskBytes -= entry.getValue();
+			iterator.remove();
+			if (!new File(directory, entry.getKey() + SUFFIX).delete())
+				log.fine("Could not delete the result " + entry.getKey());
+		}
+	}
+
+	/**
+	 * Removes all the results from both tiers.
+	 */
+	public void clear() {
+		synchronized (this) {
+			heap.clear();
+			heapBytes = 0;
+		}
+		synchronized (disk) {
+			for (String key : disk.keySet())
+				new File(directory, key + SUFFIX).delete();
+			disk.clear();
+			diskBytes = 0;
+		}
+	}
+
+	/**
+	 * Gets the number of requests answered with a memoized result.
+	 *
+	 * @return the hit count
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets the number of hits that were read from the disk tier.
+	 *
+	 * @return the disk hit count
+	 */
+	public long getDiskHitCount() {
+		return diskHits.get();
+	}
+
+	/**
+	 * Gets the number of memoized operations that were sent to the service.
+	 *
+	 * @return the miss count
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Gets the ratio of requests answered with a memoized result.
+	 *
+	 * @return the hit ratio, between 0 and 1
+	 */
+	public double getHitRatio() {
+		final long hitCount = hits.get();
+		final long total = hitCount + misses.get();
+		return total == 0 ? 0 : (double) hitCount / total;
+	}
+
+	/**
+	 * Gets the number of response bytes that were not downloaded thanks to a
+	 * hit.
+	 *
+	 * @return the bytes saved
+	 */
+	public long getBytesSaved() {
+		return bytesSaved.get();
+	}
+
+	/**
+	 * Gets the size of the results in the heap tier.
+	 *
+	 * @return the heap bytes
+	 */
+	public synchronized long getHeapBytes() {
+		return heapBytes;
+	}
+
+	/**
+	 * Gets the size of the results in the disk tier.
+	 *
+	 * @return the disk bytes
+	 */
+	public long getDiskBytes() {
+		synchronized (disk) {
+			return diskBytes;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ResultCache [operations=");
+		synchronized (this) {
+			builder.append(operations);
+		}
+		builder.append(", heapBytes=").append(getHeapBytes());
+		builder.append(", diskBytes=").append(getDiskBytes());
+		builder.append(", hits=").append(hits.get());
+		builder.append(", diskHits=").append(diskHits.get());
+		builder.append(", misses=").append(misses.get());
+		builder.append(", bytesSaved=").append(bytesSaved.get());
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,354 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.DateUtils;
+
+/**
+ * Decides whether a request that was throttled (HTTP 429) or rejected
+ * because the service was unavailable (HTTP 503) should be sent again, and
+ * how long to wait before doing it. The delay grows exponentially with
+ * random jitter, and the <code>Retry-After</code> header is honored when the
+ * service sends it. <br>
+ * Requests that failed with a 503 or an I/O error are only retried when
+ * their method is idempotent, since the service may have processed them.
+ * Throttled requests were never processed and are always retried. Requests
+ * with a body that can't be sent twice are never retried. <br>
+ * A retry budget limits the number of retries to a fraction of the requests,
+ * so that an outage doesn't multiply the load on the service: <pre>
+ * {@code
+ *  RetryPolicy policy = new RetryPolicy()
+ *      .withMaxRetries(5)
+ *      .withBackoff(200, 10000);
+ *  service.getTransport().setRetryPolicy(policy);
+ * }</pre>
+ * Configure the policy before it is used; it can then be shared by several
+ * transports and threads.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ * @see HttpTransport#setRetryPolicy(RetryPolicy)
+ */
+public class RetryPolicy {
+
+	/** The Constant DEFAULT_MAX_RETRIES. (value is 3) */
+	public static final int DEFAULT_MAX_RETRIES = 3;
+
+	/** The Constant DEFAULT_INITIAL_BACKOFF in milliseconds. (value is 500) */
+	public static final long DEFAULT_INITIAL_BACKOFF = 500;
+
+	/** The Constant DEFAULT_MAX_BACKOFF in milliseconds. (value is 30000) */
+	public static final long DEFAULT_MAX_BACKOFF = 30000;
+
+	/** The Constant DEFAULT_BUDGET_RATIO. (value is 0.1) */
+	public static final double DEFAULT_BUDGET_RATIO = 0.1;
+
+	/** The Constant DEFAULT_MIN_BUDGET. (value is 10) */
+	public static final int DEFAULT_MIN_BUDGET = 10;
+
+	/** The Constant RETRY_AFTER. (value is "Retry-After") */
+	private static final String RETRY_AFTER = "Retry-After";
+
+	/** The Constant TOO_MANY_REQUESTS. (value is 429) */
+	private static final int TOO_MANY_REQUESTS = 429;
+
+	/** The Constant SERVICE_UNAVAILABLE. (value is 503) */
+	private static final int SERVICE_UNAVAILABLE = 503;
+
+	/** The budget is stored in thousandths of a retry. */
+	private static final long BUDGET_UNIT = 1000;
+
+	/** The methods that can be sent more than once with the same effect. */
+	private static final Set<String> DEFAULT_IDEMPOTENT_METHODS = Collections.unmodifiableSet(new HashSet<String>(
+			Arrays.asList("GET", "HEAD", "PUT", "DELETE", "OPTIONS", "TRACE")));
+
+	/** The max retries. */
+	private int maxRetries = DEFAULT_MAX_RETRIES;
+
+	/** The initial backoff. */
+	private long initialBackoff = DEFAULT_INITIAL_BACKOFF;
+
+	/** The max backoff. */
+	private long maxBackoff = DEFAULT_MAX_BACKOFF;
+
+	/** The idempotent methods. */
+	private Set<String> idempotentMethods = DEFAULT_IDEMPOTENT_METHODS;
+
+	/** The fraction of requests that can be retried. */
+	private long budgetRatio = (long) (DEFAULT_BUDGET_RATIO * BUDGET_UNIT);
+
+	/** The retries that are always allowed. */
+	private long minBudget = DEFAULT_MIN_BUDGET * BUDGET_UNIT;
+
+	/** The available budget. */
+	private final AtomicLong budget = new AtomicLong(minBudget);
+
+	/** The number of retries. */
+	private final AtomicLong retries = new AtomicLong();
+
+	/**
+	 * Sets the maximum number of times a request is retried.
+	 *
+	 * @param maxRetries
+	 *            the max retries
+	 * @return the retry policy
+	 */
+	public RetryPolicy withMaxRetries(int maxRetries) {
+		if (maxRetries < 0)
+			throw new IllegalArgumentException("maxRetries can not be negative");
+		this.maxRetries = maxRetries;
+		return this;
+	}
+
+	/**
+	 * Sets the delay before the first retry and the maximum delay between
+	 * retries. The delay doubles after every retry and a random jitter
+	 * between 0 and the delay is used.
+	 *
+	 * @param initialBackoff
+	 *            the initial backoff in milliseconds
+	 * @param maxBackoff
+	 *            the max backoff in milliseconds, also the longest
+	 *            <code>Retry-After</code> that will be honored
+	 * @return the retry policy
+	 */
+	public RetryPolicy withBackoff(long initialBackoff, long maxBackoff) {
+		if (initialBackoff < 0 || maxBackoff < initialBackoff)
+			throw new IllegalArgumentException("invalid backoff: " + initialBackoff + ", " + maxBackoff);
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		return this;
+	}
+
+	/**
+	 * Sets the HTTP methods that are retried after a 503 or an I/O error. By
+	 * default: GET, HEAD, PUT, DELETE, OPTIONS and TRACE.
+	 *
+	 * @param methods
+	 *            the methods
+	 * @return the retry policy
+	 */
+	public RetryPolicy withIdempotentMethods(String... methods) {
+		Set<String> set = new HashSet<String>();
+		for (String method : methods)
+			set.add(method.toUpperCase());
+		this.idempotentMethods = Collections.unmodifiableSet(set);
+		return this;
+	}
+
+	/**
+	 * Sets the retry budget. Every request adds <code>ratio</code> retries to
+	 * the budget, up to <code>minRetries</code> plus the retries earned in the
+	 * last 1000 requests. A request is only retried if the budget has a whole
+	 * retry left.
+	 *
+	 * @param ratio
+	 *            the fraction of requests that can be retried, for example 0.1
+	 * @param minRetries
+	 *            the retries that are always allowed
+	 * @return the retry policy
+	 */
+	public RetryPolicy withRetryBudget(double ratio, int minRetries) {
+		if (ratio < 0 || minRetries < 0)
+			throw new IllegalArgumentException("invalid retry budget: " + ratio + ", " + minRetries);
+		this.budgetRatio = (long) (ratio * BUDGET_UNIT);
+		this.minBudget = minRetries * BUDGET_UNIT;
+		this.budget.set(minBudget);
+		return this;
+	}
+
+	/**
+	 * Gets the max retries.
+	 *
+	 * @return the max retries
+	 */
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * Gets the number of retries done with this policy.
+	 *
+	 * @return the retries
+	 */
+	public long getRetryCount() {
+		return retries.get();
+	}
+
+	/**
+	 * Records a new request, adding to the retry budget.
+	 */
+	void onRequest() {
+		final long max = minBudget + budgetRatio * BUDGET_UNIT;
+		long current = budget.get();
+		while (current < max && !budget.compareAndSet(current, Math.min(max, current + budgetRatio)))
+			current = budget.get();
+	}
+
+	/**
+	 * Returns the delay before retrying a request that received a response.
+	 *
+	 * @param request
+	 *            the http request
+	 * @param response
+	 *            the http response
+	 * @param attempt
+	 *            the number of retries already done
+	 * @return the delay in milliseconds or -1 if the request should not be
+	 *         retried
+	 */
+	long getRetryDelay(HttpUriRequest request, HttpResponse response, int attempt) {
+		final int status = response.getStatusLine().getStatusCode();
+		if (status != TOO_MANY_REQUESTS && status != SERVICE_UNAVAILABLE)
+			return -1;
+		if (status == SERVICE_UNAVAILABLE && !isIdempotent(request))
+			return -1;
+		if (attempt >= maxRetries || !isRepeatable(request))
+			return -1;
+
+		final long retryAfter = getRetryAfter(response);
+		if (retryAfter > maxBackoff)
+			return -1;
+
+		final long delay = retryAfter >= 0 ? retryAfter : getBackoff(attempt);
+		return acquireBudget() ? delay : -1;
+	}
+
+	/**
+	 * Returns the delay before retrying a request that failed with an I/O
+	 * error.
+	 *
+	 * @param request
+	 *            the http request
+	 * @param attempt
+	 *            the number of retries already done
+	 * @return the delay in milliseconds or -1 if the request should not be
+	 *         retried
+	 */
+	long getRetryDelay(HttpUriRequest request, int attempt) {
+		if (attempt >= maxRetries || !isIdempotent(request) || !isRepeatable(request))
+			return -1;
+		return acquireBudget() ? getBackoff(attempt) : -1;
+	}
+
+	/**
+	 * Returns the exponential backoff with full jitter.
+	 *
+	 * @param attempt
+	 *            the number of retries already done
+	 * @return the delay in milliseconds
+	 */
+	private long getBackoff(int attempt) {
+		final long ceiling = Math.min(maxBackoff, initialBackoff << Math.min(attempt, 30));
+		return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+	}
+
+	/**
+	 * Takes a retry from the budget.
+	 *
+	 * @return true if the budget allowed the retry
+	 */
+	private boolean acquireBudget() {
+		long current = budget.get();
+		while (current >= BUDGET_UNIT) {
+			if (budget.compareAndSet(current, current - BUDGET_UNIT)) {
+				retries.incrementAndGet();
+				return true;
+			}
+			current = budget.get();
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if the request method is idempotent.
+	 *
+	 * @param request
+	 *            the http request
+	 * @return true if the request can be sent more than once
+	 */
+	private boolean isIdempotent(HttpUriRequest request) {
+		return idempotentMethods.contains(request.getMethod());
+	}
+
+	/**
+	 * Checks if the request body can be sent more than once.
+	 *
+	 * @param request
+	 *            the http request
+	 * @return true if the request has no body or a repeatable one
+	 */
+	private static boolean isRepeatable(HttpUriRequest request) {
+		if (request instanceof HttpEntityEnclosingRequest) {
+			HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+			return entity == null || entity.isRepeatable();
+		}
+		return true;
+	}
+
+	/**
+	 * Parses the <code>Retry-After</code> header, which can contain a number
+	 * of seconds or an HTTP date.
+	 *
+	 * @param response
+	 *            the http response
+	 * @return the delay in milliseconds or -1 if the header is missing or
+	 *         invalid
+	 */
+	static long getRetryAfter(HttpResponse response) {
+		final Header header = response.getFirstHeader(RETRY_AFTER);
+		if (header == null || header.getValue() == null)
+			return -1;
+
+		final String value = header.getValue().trim();
+		try {
+			return Math.max(0, Long.parseLong(value) * 1000);
+		} catch (NumberFormatException e) {
+			final Date date = DateUtils.parseDate(value);
+			return date == null ? -1 : Math.max(0, date.getTime() - System.currentTimeMillis());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("RetryPolicy [maxRetries=").append(maxRetries);
+		builder.append(", initialBackoff=").append(initialBackoff);
+		builder.append(", maxBackoff=").append(maxBackoff);
+		builder.append(", idempotentMethods=").append(idempotentMethods);
+		builder.append(", retries=").append(retries.get());
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,299 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+
+/**
+ * Metadata of a single request executed by a {@link WatsonService}. Instances
+ * are created only when the service has at least one
+ * {@link ServiceCallListener} and are passed to every hook of the call.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public class ServiceCall {
+
+	/** The placeholder of the identifiers in the operation. (value is "{id}") */
+	static final String ID_PLACEHOLDER = "{id}";
+
+	/** Path segments longer than this are considered identifiers. */
+	private static final int MAX_NAME_LENGTH = 32;
+
+	/** The service name. */
+	private final String service;
+
+	/** The request. */
+	private final HttpRequestBase request;
+
+	/** The start time in nanoseconds. */
+	private final long startTime;
+
+	/** The bytes sent. */
+	private final long bytesSent;
+
+	/** The elapsed time in nanoseconds. */
+	private long elapsedTime = -1;
+
+	/** The bytes received. */
+	private long bytesReceived = -1;
+
+	/** The HTTP status code. */
+	private int statusCode;
+
+	/** The number of times the request was retried. */
+	private final AtomicInteger retries = new AtomicInteger();
+
+	/** The operation, computed on first use. */
+	private String operation;
+
+	/**
+	 * Instantiates a new service call and starts the timer.
+	 *
+	 * @param service
+	 *            the service name
+	 * @param request
+	 *            the request
+	 */
+	ServiceCall(String service, HttpRequestBase request) {
+		this.service = service;
+		this.request = request;
+		this.bytesSent = getContentLength(request);
+		this.startTime = System.nanoTime();
+	}
+
+	/**
+	 * Records the response and stops the timer.
+	 *
+	 * @param response
+	 *            the http response
+	 */
+	void setResponse(HttpResponse response) {
+		stop();
+		statusCode = response.getStatusLine().getStatusCode();
+		HttpEntity entity = response.getEntity();
+		bytesReceived = entity != null ? entity.getContentLength() : 0;
+	}
+
+	/**
+	 * Records that the request is about to be retried.
+	 */
+	void onRetry() {
+		retries.incrementAndGet();
+	}
+
+	/**
+	 * Stops the timer if it was not stopped already.
+	 */
+	void stop() {
+		if (elapsedTime < 0)
+			elapsedTime = System.nanoTime() - startTime;
+	}
+
+	/**
+	 * Gets the name of the service, for example <code>LanguageTranslation</code>.
+	 *
+	 * @return the service name
+	 */
+	public String getService() {
+		return service;
+	}
+
+	/**
+	 * Gets the operation: the HTTP method and the path of the request, for
+	 * example <code>POST /language-translation/api/v2/translate</code>. Path
+	 * segments that look like identifiers are replaced by <code>{id}</code>,
+	 * so that every model, classifier or dialog shares one operation, for
+	 * example <code>GET /natural-language-classifier/api/v1/classifiers/{id}</code>.
+	 *
+	 * @return the operation
+	 */
+	public String getOperation() {
+		String current = operation;
+		if (current == null) {
+			current = request.getMethod() + " " + normalizePath(request.getURI().getPath());
+			operation = current;
+		}
+		return current;
+	}
+
+	/**
+	 * Replaces the path segments that look like identifiers by
+	 * {@link #ID_PLACEHOLDER}.
+	 *
+	 * @param path
+	 *            the path
+	 * @return the normalized path
+	 */
+	static String normalizePath(String path) {
+		if (path == null)
+			return "";
+
+		final StringBuilder builder = new StringBuilder(path.length());
+		int start = 0;
+		while (start <= path.length()) {
+			int end = path.indexOf('/', start);
+			if (end == -1)
+				end = path.length();
+			if (start > 0)
+				builder.append('/');
+			if (isIdentifier(path, start, end))
+				builder.append(ID_PLACEHOLDER);
+			else
+				builder.append(path, start, end);
+			start = end + 1;
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Checks if a path segment looks like an identifier: it is long, it is
+	 * escaped or it has digits and is not a version such as <code>v1</code>.
+	 *
+	 * @param path
+	 *            the path
+	 * @param start
+	 *            the start of the segment
+	 * @param end
+	 *            the end of the segment
+	 * @return true if the segment is an identifier
+	 */
+	private static boolean isIdentifier(String path, int start, int end) {
+		if (end - start > MAX_NAME_LENGTH)
+			return true;
+
+		boolean digits = false;
+		for (int i = start; i < end; i++) {
+			final char c = path.charAt(i);
+			if (c == '%')
+				return true;
+			if (c >= '0' && c <= '9')
+				digits = true;
+		}
+		if (!digits)
+			return false;
+
+		// versions like v1 or v2
+		if (path.charAt(start) != 'v')
+			return true;
+		for (int i = start + 1; i < end; i++) {
+			final char c = path.charAt(i);
+			if (c < '0' || c > '9')
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the request.
+	 *
+	 * @return the request
+	 */
+	public HttpRequestBase getRequest() {
+		return request;
+	}
+
+	/**
+	 * Gets the time elapsed until the response headers were received, or
+	 * until the call failed.
+	 *
+	 * @param unit
+	 *            the time unit
+	 * @return the elapsed time or -1 if the call is still in progress
+	 */
+	public long getElapsedTime(TimeUnit unit) {
+		return elapsedTime < 0 ? -1 : unit.convert(elapsedTime, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Gets the number of bytes in the request body.
+	 *
+	 * @return the bytes sent, 0 if the request has no body or -1 if unknown
+	 */
+	public long getBytesSent() {
+		return bytesSent;
+	}
+
+	/**
+	 * Gets the number of bytes in the response body, as declared by the
+	 * response.
+	 *
+	 * @return the bytes received, or -1 if unknown
+	 */
+	public long getBytesReceived() {
+		return bytesReceived;
+	}
+
+	/**
+	 * Gets the HTTP status code.
+	 *
+	 * @return the status code or 0 if no response was received
+	 */
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	/**
+	 * Gets the number of times the request was retried by the
+	 * {@link RetryPolicy} of the transport. The elapsed time includes the
+	 * retries and the delays between them.
+	 *
+	 * @return the retry count
+	 */
+	public int getRetryCount() {
+		return retries.get();
+	}
+
+	/**
+	 * Gets the length of the request body.
+	 *
+	 * @param request
+	 *            the request
+	 * @return the length
+	 */
+	private static long getContentLength(HttpRequestBase request) {
+		if (request instanceof HttpEntityEnclosingRequest) {
+			HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+			return entity != null ? entity.getContentLength() : 0;
+		}
+		return 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("ServiceCall [service=").append(service);
+		builder.append(", operation=").append(getOperation());
+		builder.append(", statusCode=").append(statusCode);
+		builder.append(", retries=").append(retries.get());
+		builder.append(", elapsedTime=").append(getElapsedTime(TimeUnit.MILLISECONDS)).append("ms");
+		builder.append(", bytesSent=").append(bytesSent);
+		builder.append(", bytesReceived=").append(bytesReceived);
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
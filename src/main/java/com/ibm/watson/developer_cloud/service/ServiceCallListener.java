@@ -0,0 +1,69 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import org.apache.http.HttpResponse;
+
+/**
+ * Receives the events of the requests executed by a {@link WatsonService}.
+ * For every call, {@link #onRequest(ServiceCall)} is followed by either
+ * {@link #onResponse(ServiceCall, HttpResponse)} or
+ * {@link #onError(ServiceCall, Exception)}, once the retries of the
+ * {@link RetryPolicy} are exhausted; {@link ServiceCall#getRetryCount()}
+ * tells how many were done.<br>
+ * Listeners are called from the thread that executes the request (an I/O
+ * thread for asynchronous requests) so they need to be thread safe and
+ * should return quickly. Exceptions thrown by a listener are logged and
+ * ignored.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ * @see WatsonService#addListener(ServiceCallListener)
+ */
+public interface ServiceCallListener {
+
+	/**
+	 * Called before the request is sent. The request already includes the
+	 * authentication and default headers, and it can still be modified.
+	 *
+	 * @param call
+	 *            the call
+	 */
+	void onRequest(ServiceCall call);
+
+	/**
+	 * Called when a successful (2xx) response is received, before the
+	 * response body is read.
+	 *
+	 * @param call
+	 *            the call
+	 * @param response
+	 *            the http response
+	 */
+	void onResponse(ServiceCall call, HttpResponse response);
+
+	/**
+	 * Called when the request could not be executed or the service returned
+	 * an error status code. In the latter case
+	 * {@link ServiceCall#getStatusCode()} returns the status code.
+	 *
+	 * @param call
+	 *            the call
+	 * @param e
+	 *            the exception that is thrown to the caller
+	 */
+	void onError(ServiceCall call, Exception e);
+
+}
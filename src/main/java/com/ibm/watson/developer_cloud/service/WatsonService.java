@@ -15,6 +15,11 @@
  */
 package com.ibm.watson.developer_cloud.service;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
 import com.google.gson.JsonObject;
 import com.ibm.watson.developer_cloud.util.MediaType;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
@@ -24,20 +29,16 @@ import org.apache.http.HttpStatus;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpRequestBase;
-import org.apache.http.client.params.HttpClientParams;
-import org.apache.http.conn.ClientConnectionManager;
-import org.apache.http.conn.params.ConnManagerParams;
-import org.apache.http.conn.params.ConnPerRouteBean;
-import org.apache.http.impl.client.DefaultHttpClient;
-import org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager;
-import org.apache.http.params.BasicHttpParams;
-import org.apache.http.params.HttpConnectionParams;
-import org.apache.http.params.HttpParams;
-import org.apache.http.params.HttpProtocolParams;
+import org.apache.http.concurrent.FutureCallback;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -50,7 +51,7 @@ import java.util.logging.Logger;
  *      href="http://www.ibm.com/smarterplanet/us/en/ibmwatson/developercloud/">
  *      IBM Watson Developer Cloud</a>
  */
-public abstract class WatsonService {
+public abstract class WatsonService implements Closeable {
 
 	/**
 	 * Field ACCEPT. (value is ""Accept"")
@@ -61,25 +62,11 @@ public abstract class WatsonService {
 	 * Field AUTHORIZATION. (value is ""Authorization"")
 	 */
 	private static final String AUTHORIZATION = "Authorization";
-	/**
-	 * Field CONNECTION_TIMEOUT. (value is 120000)
-	 */
-	private static final int CONNECTION_TIMEOUT = 120000;
 
 	/** The Constant log. */
 	private static final Logger log = Logger.getLogger(WatsonService.class
 			.getName());
 
-	/**
-	 * Field MAX_TOTAL_CONNECTIONS. (value is 1000)
-	 */
-	private static final int MAX_CONNECTIONS_PER_ROUTE = 1000;
-
-	/**
-	 * Field MAX_TOTAL_CONNECTIONS. (value is 1000)
-	 */
-	private static final int MAX_TOTAL_CONNECTIONS = 1000;
-
 	/** The FORWARD_SLASH. */
 	protected static final String FORWARD_SLASH = "/";
 
@@ -94,9 +81,39 @@ public abstract class WatsonService {
 	private String endPoint;
 
 	/**
-	 * Field httpClient.
+	 * Field transport, read without locking on every request.
+	 */
+	private volatile HttpTransport transport;
+
+	/**
+	 * Field ownsTransport, true when the transport was created by this service.
+	 */
+	private boolean ownsTransport;
+
+	/**
+	 * Field rateLimiter, null if requests are not limited.
+	 */
+	private volatile RateLimiter rateLimiter;
+
+	/**
+	 * Field responseCache, null if responses are not cached.
+	 */
+	private volatile ResponseCache responseCache;
+
+	/**
+	 * Field resultCache, null if results are not memoized.
+	 */
+	private volatile ResultCache resultCache;
+
+	/**
+	 * Field requestCoalescer, null if requests are not coalesced.
+	 */
+	private volatile RequestCoalescer requestCoalescer;
+
+	/**
+	 * Field listeners.
 	 */
-	private HttpClient httpClient;
+	private final List<ServiceCallListener> listeners = new CopyOnWriteArrayList<ServiceCallListener>();
 
 	/**
 	 * Instantiates a new Watson service.
@@ -116,10 +133,9 @@ public abstract class WatsonService {
 	 * @return the URI including the service end point
 	 */
 	private URI buildRequestURI(HttpRequestBase request) {
-		String requestURL = getEndPoint() + request.getURI();
+		final String requestURL = getEndPoint() + request.getURI();
 
 		try {
-			requestURL = getEndPoint() + request.getURI();
 			return new URI(requestURL);
 		} catch (URISyntaxException e) {
 			log.log(Level.SEVERE, requestURL + " could not be parsed as a URI reference");
@@ -152,7 +168,369 @@ public abstract class WatsonService {
 	 * @return the http response
 	 */
 	protected HttpResponse execute(HttpRequestBase request) {
+		final String path = request.getURI().getPath();
+		prepareRequest(request);
+
+		final RequestCoalescer coalescer = requestCoalescer;
+		final RequestCoalescer.Flight flight = coalescer != null ? coalescer.join(request) : null;
+		if (flight == null)
+			return send(request, path);
+		if (!flight.isLeader())
+			return flight.await();
+		try {
+			return flight.complete(send(request, path));
+		} catch (RuntimeException e) {
+			flight.fail(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Sends a prepared request, unless it can be answered by one of the
+	 * caches.
+	 *
+	 * @param request
+	 *            the prepared http request
+	 * @param path
+	 *            the path relative to the service end point
+	 *
+	 * @return the http response
+	 */
+	private HttpResponse send(HttpRequestBase request, String path) {
+		final ResultCache results = resultCache;
+		final String digest = results != null ? results.getKey(path, request) : null;
+		final HttpResponse memoized = digest != null ? results.get(digest) : null;
+		if (memoized != null)
+			return memoized;
+
+		final ResponseCache cache = responseCache;
+		final String key = cache != null ? cache.getKey(request) : null;
+		final ResponseCache.Entry cached = key != null ? cache.get(key) : null;
+		if (cached != null && cached.isFresh())
+			return cache.hit(cached);
+		if (cached != null && cached.getEtag() != null)
+			request.setHeader(ResponseCache.IF_NONE_MATCH, cached.getEtag());
+
+		final RateLimiter limiter = acquireRateLimiter();
+		final ServiceCall call = startCall(request);
+
+		HttpResponse response;
+		try {
+			response = getTransport().execute(request, call);
+			if (cache != null)
+				response = cache.update(key, request.getMethod(), path, response, cached);
+		} catch (ClientProtocolException e) {
+			log.log(Level.SEVERE, "ClientProtocolException", e);
+			throw failCall(call, new RuntimeException(e));
+		} catch (IOException e) {
+			log.log(Level.SEVERE, "IOException", e);
+			throw failCall(call, new RuntimeException(e));
+		} finally {
+			if (limiter != null)
+				limiter.release();
+		}
+		return memoize(results, digest, processResponse(call, response));
+	}
+
+	/**
+	 * Memoizes a response that was accepted by
+	 * {@link #processResponse(HttpResponse)}, so that errors reported with a
+	 * successful status code are never replayed.
+	 *
+	 * @param results
+	 *            the result cache
+	 * @param digest
+	 *            the key of the result, null if the request is not memoized
+	 * @param response
+	 *            the processed http response
+	 * @return the http response
+	 */
+	private HttpResponse memoize(ResultCache results, String digest, HttpResponse response) {
+		if (digest == null)
+			return response;
+		try {
+			return results.put(digest, response);
+		} catch (IOException e) {
+			log.log(Level.SEVERE, "IOException", e);
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Waits for the rate limiter, if there is one.
+	 *
+	 * @return the rate limiter that has to be released or null
+	 */
+	private RateLimiter acquireRateLimiter() {
+		final RateLimiter limiter = rateLimiter;
+		if (limiter == null)
+			return null;
+		try {
+			limiter.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+		return limiter;
+	}
+
+	/**
+	 * Execute the Http request without blocking the calling thread. The
+	 * returned future fails with the same exceptions thrown by
+	 * {@link #execute(HttpRequestBase)}.
+	 *
+	 * @param request
+	 *            the http request
+	 *
+	 * @return the future http response
+	 */
+	protected ListenableFuture<HttpResponse> executeAsync(HttpRequestBase request) {
+		final String path = request.getURI().getPath();
+		prepareRequest(request);
+
+		final RequestCoalescer coalescer = requestCoalescer;
+		final RequestCoalescer.Flight flight = coalescer != null ? coalescer.join(request) : null;
+		if (flight == null)
+			return sendAsync(request, path);
+		if (!flight.isLeader())
+			return flight.getResponse();
+		try {
+			return flight.complete(sendAsync(request, path));
+		} catch (RuntimeException e) {
+			flight.fail(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Sends a prepared request without blocking the calling thread, unless it
+	 * can be answered by one of the caches.
+	 *
+	 * @param request
+	 *            the prepared http request
+	 * @param path
+	 *            the path relative to the service end point
+	 *
+	 * @return the future http response
+	 */
+	private ListenableFuture<HttpResponse> sendAsync(final HttpRequestBase request, final String path) {
+		final ResultCache results = resultCache;
+		final String digest = results != null ? results.getKey(path, request) : null;
+		final HttpResponse memoized = digest != null ? results.get(digest) : null;
+		if (memoized != null)
+			return Futures.immediateFuture(memoized);
+
+		final ResponseCache cache = responseCache;
+		final String key = cache != null ? cache.getKey(request) : null;
+		final ResponseCache.Entry cached = key != null ? cache.get(key) : null;
+		if (cached != null && cached.isFresh())
+			return Futures.immediateFuture(cache.hit(cached));
+		if (cached != null && cached.getEtag() != null)
+			request.setHeader(ResponseCache.IF_NONE_MATCH, cached.getEtag());
+
+		final RateLimiter limiter = rateLimiter;
+		final SettableFuture<HttpResponse> future = SettableFuture.create();
+		final Runnable send = new Runnable() {
+			@Override
+			public void run() {
+				final ServiceCall call = startCall(request);
+				final FutureCallback<HttpResponse> callback = new FutureCallback<HttpResponse>() {
+					@Override
+					public void completed(HttpResponse response) {
+						release();
+						try {
+							if (cache != null)
+								response = cache.update(key, request.getMethod(), path, response, cached);
+							future.set(memoize(results, digest, processResponse(call, response)));
+						} catch (IOException e) {
+							future.setException(failCall(call, new RuntimeException(e)));
+						} catch (RuntimeException e) {
+							future.setException(e);
+						}
+					}
+
+					@Override
+					public void failed(Exception e) {
+						release();
+						log.log(Level.SEVERE, e.getClass().getSimpleName(), e);
+						future.setException(failCall(call, new RuntimeException(e)));
+					}
+
+					@Override
+					public void cancelled() {
+						release();
+						failCall(call, new CancellationException("Request cancelled"));
+						future.cancel(false);
+					}
+
+					private void release() {
+						if (limiter != null)
+							limiter.release();
+					}
+				};
+
+				try {
+					getTransport().executeAsync(request, callback, call);
+				} catch (RuntimeException e) {
+					if (limiter != null)
+						limiter.release();
+					throw failCall(call, e);
+				}
+			}
+		};
+
+		final ListenableFuture<Void> permit = limiter != null ? limiter.acquireAsync() : null;
+		if (permit == null || permit.isDone()) {
+			send.run();
+			return future;
+		}
+
+		// the request is sent by the thread that grants the permit
+		permit.addListener(new Runnable() {
+			@Override
+			public void run() {
+				if (permit.isCancelled())
+					return;
+				try {
+					send.run();
+				} catch (RuntimeException e) {
+					future.setException(e);
+				}
+			}
+		}, MoreExecutors.directExecutor());
+		future.addListener(new Runnable() {
+			@Override
+			public void run() {
+				if (future.isCancelled())
+					permit.cancel(false);
+			}
+		}, MoreExecutors.directExecutor());
+		return future;
+	}
+
+	/**
+	 * Registers a listener that will be notified of every request executed
+	 * by this service.
+	 *
+	 * @param listener
+	 *            the listener
+	 * @see ServiceCallListener
+	 */
+	public void addListener(ServiceCallListener listener) {
+		if (listener == null)
+			throw new IllegalArgumentException("listener can not be null");
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener.
+	 *
+	 * @param listener
+	 *            the listener
+	 */
+	public void removeListener(ServiceCallListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Notifies the listeners that a request is about to be sent.
+	 *
+	 * @param request
+	 *            the http request
+	 * @return the call or null if there are no listeners
+	 */
+	private ServiceCall startCall(HttpRequestBase request) {
+		if (listeners.isEmpty())
+			return null;
+
+		final ServiceCall call = new ServiceCall(getServiceName(), request);
+		for (ServiceCallListener listener : listeners) {
+			try {
+				listener.onRequest(call);
+			} catch (RuntimeException e) {
+				log.log(Level.WARNING, "ServiceCallListener.onRequest failed", e);
+			}
+		}
+		return call;
+	}
+
+	/**
+	 * Notifies the listeners that a call failed.
+	 *
+	 * @param call
+	 *            the call, can be null
+	 * @param error
+	 *            the exception that will be thrown to the caller
+	 * @return the exception
+	 */
+	private RuntimeException failCall(ServiceCall call, RuntimeException error) {
+		if (call == null)
+			return error;
+
+		call.stop();
+		for (ServiceCallListener listener : listeners) {
+			try {
+				listener.onError(call, error);
+			} catch (RuntimeException e) {
+				log.log(Level.WARNING, "ServiceCallListener.onError failed", e);
+			}
+		}
+		return error;
+	}
+
+	/**
+	 * Processes the response and notifies the listeners of the outcome of
+	 * the call.
+	 *
+	 * @param call
+	 *            the call, can be null
+	 * @param response
+	 *            the http response
+	 * @return the http response
+	 * @see #processResponse(HttpResponse)
+	 */
+	private HttpResponse processResponse(ServiceCall call, HttpResponse response) {
+		if (call == null)
+			return processResponse(response);
+
+		call.setResponse(response);
+		final HttpResponse processed;
+		try {
+			processed = processResponse(response);
+		} catch (RuntimeException e) {
+			throw failCall(call, e);
+		}
 
+		for (ServiceCallListener listener : listeners) {
+			try {
+				listener.onResponse(call, processed);
+			} catch (RuntimeException e) {
+				log.log(Level.WARNING, "ServiceCallListener.onResponse failed", e);
+			}
+		}
+		return processed;
+	}
+
+	/**
+	 * Gets the name used to identify the service in {@link ServiceCall}s.
+	 *
+	 * @return the service name
+	 */
+	protected String getServiceName() {
+		Class<?> type = getClass();
+		while (type.isAnonymousClass())
+			type = type.getSuperclass();
+		return type.getSimpleName();
+	}
+
+	/**
+	 * Adds the authentication, default headers and service end point to the
+	 * request.
+	 *
+	 * @param request
+	 *            the http request
+	 */
+	private void prepareRequest(HttpRequestBase request) {
 		setAuthentication(request);
 
 		if (getEndPoint() == null)
@@ -167,19 +545,20 @@ public abstract class WatsonService {
 		if (!request.getURI().isAbsolute()) {
 			request.setURI(buildRequestURI(request));
 		}
-		HttpResponse response;
 		log.log(Level.FINEST, "Request to: " + request.getURI());
-		try {
-			//response = getHttpClient().execute(request);
-			response = getThreadSafeClient().execute(request);
-		} catch (ClientProtocolException e) {
-			log.log(Level.SEVERE, "ClientProtocolException", e);
-			throw new RuntimeException(e);
-		} catch (IOException e) {
-			log.log(Level.SEVERE, "IOException", e);
-			throw new RuntimeException(e);
-		}
+	}
 
+	/**
+	 * Returns the response if the service call was successful, otherwise
+	 * reads the error message and throws the exception that matches the HTTP
+	 * status code.
+	 *
+	 * @param response
+	 *            the http response
+	 *
+	 * @return the http response
+	 */
+	protected HttpResponse processResponse(HttpResponse response) {
 		final int status = response.getStatusLine().getStatusCode();
 		log.log(Level.FINEST, "Response HTTP Status: " + status);
 
@@ -247,23 +626,6 @@ public abstract class WatsonService {
 		return MediaType.APPLICATION_JSON;
 	}
 
-	/**
-	 * Gets the default request.
-	 *
-	 *
-	 * @return the default request
-	 */
-	protected HttpParams getDefaultRequestParams() {
-		final HttpParams params = new BasicHttpParams();
-		HttpConnectionParams.setConnectionTimeout(params, CONNECTION_TIMEOUT);
-		HttpConnectionParams.setSoTimeout(params, CONNECTION_TIMEOUT);
-		HttpClientParams.setRedirecting(params, false);
-		HttpProtocolParams.setUserAgent(params, getUserAgent());
-		ConnManagerParams.setMaxTotalConnections(params, MAX_TOTAL_CONNECTIONS);
-		ConnManagerParams.setMaxConnectionsPerRoute(params, new ConnPerRouteBean(MAX_CONNECTIONS_PER_ROUTE));
-		return params;
-	}
-
 	/**
 	 * Gets the API end point.
 	 *
@@ -307,43 +669,181 @@ public abstract class WatsonService {
 	}
 
 	/**
-	 * Gets the http client.
+	 * Gets the http client backed by the pooled {@link HttpTransport}.
 	 *
 	 *
 	 * @return the http client
 	 */
 	public HttpClient getHttpClient() {
-		if (httpClient == null) {
-			httpClient = new DefaultHttpClient(getDefaultRequestParams());
-		}
-		return httpClient;
+		return getTransport().getHttpClient();
 	}
 
 	/**
 	 * Gets the thread safe client.
 	 *
 	 * @return the thread safe client
+	 * @deprecated the client returned by {@link #getHttpClient()} is pooled
+	 *             and thread safe
 	 */
+	@Deprecated
 	public HttpClient getThreadSafeClient() {
+		return getHttpClient();
+	}
 
-	    DefaultHttpClient client = new DefaultHttpClient(getDefaultRequestParams());
-	    ClientConnectionManager mgr = client.getConnectionManager();
-	    HttpParams params = client.getParams();
+	/**
+	 * Gets the HTTP transport used to execute the requests. If none was set, a
+	 * pooled transport owned by this service is created.
+	 *
+	 * @return the HTTP transport
+	 */
+	public HttpTransport getTransport() {
+		HttpTransport current = transport;
+		if (current == null) {
+			synchronized (this) {
+				current = transport;
+				if (current == null) {
+					current = new HttpTransport();
+					ownsTransport = true;
+					transport = current;
+				}
+			}
+		}
+		return current;
+	}
 
-	    client = new DefaultHttpClient(new ThreadSafeClientConnManager(params,
-	    		mgr.getSchemeRegistry()), params);
+	/**
+	 * Gets the rate limiter.
+	 *
+	 * @return the rate limiter or null if requests are not limited
+	 */
+	public RateLimiter getRateLimiter() {
+		return rateLimiter;
+	}
 
-	    return client;
+	/**
+	 * Sets the rate limiter that requests wait for before being sent. The
+	 * same limiter can be set on several services to share a quota.
+	 * Asynchronous requests do not block the calling thread while they wait:
+	 * they are sent by the thread that grants their permit.
+	 *
+	 * @param rateLimiter
+	 *            the rate limiter, or null to disable it
+	 */
+	public void setRateLimiter(RateLimiter rateLimiter) {
+		this.rateLimiter = rateLimiter;
 	}
 
 	/**
-	 * Gets the user agent.
+	 * Gets the response cache.
 	 *
+	 * @return the response cache or null if responses are not cached
+	 */
+	public ResponseCache getResponseCache() {
+		return responseCache;
+	}
+
+	/**
+	 * Sets the cache used to answer GET requests without calling the
+	 * service. The credentials are part of the cache key, so a cache can be
+	 * shared by several services.
 	 *
-	 * @return the user agent
+	 * @param responseCache
+	 *            the response cache, or null to disable it
+	 * @see ResponseCache
 	 */
-	private final String getUserAgent() {
-		return "watson-developer-cloud-java-wrapper-1.1.0";
+	public void setResponseCache(ResponseCache responseCache) {
+		this.responseCache = responseCache;
+	}
+
+	/**
+	 * Gets the result cache.
+	 *
+	 * @return the result cache or null if results are not memoized
+	 */
+	public ResultCache getResultCache() {
+		return resultCache;
+	}
+
+	/**
+	 * Sets the cache used to memoize the results of deterministic analysis
+	 * calls, like translating or classifying the same text again.
+	 *
+	 * @param resultCache
+	 *            the result cache, or null to disable it
+	 * @see ResultCache
+	 */
+	public void setResultCache(ResultCache resultCache) {
+		this.resultCache = resultCache;
+	}
+
+	/**
+	 * Gets the request coalescer.
+	 *
+	 * @return the request coalescer or null if requests are not coalesced
+	 */
+	public RequestCoalescer getRequestCoalescer() {
+		return requestCoalescer;
+	}
+
+	/**
+	 * Sets the coalescer that merges identical GET requests in flight at the
+	 * same time into a single call to the service.
+	 *
+	 * @param requestCoalescer
+	 *            the request coalescer, or null to disable it
+	 * @see RequestCoalescer
+	 */
+	public void setRequestCoalescer(RequestCoalescer requestCoalescer) {
+		this.requestCoalescer = requestCoalescer;
+	}
+
+	/**
+	 * Uses the rate limiter shared by all the services with the same
+	 * credentials, for example the Alchemy services that use the same API
+	 * key. The given limiter is registered if none was shared yet, otherwise
+	 * it is ignored. The credentials must be set before calling this method.
+	 *
+	 * @param rateLimiter
+	 *            the rate limiter to share
+	 * @return the rate limiter used by this service
+	 */
+	public RateLimiter shareRateLimiter(RateLimiter rateLimiter) {
+		if (rateLimiter == null)
+			throw new IllegalArgumentException("rateLimiter can not be null");
+		if (getApiKey() == null)
+			throw new IllegalStateException("apiKey or username and password were not specified");
+		this.rateLimiter = RateLimiter.share(getApiKey(), rateLimiter);
+		return this.rateLimiter;
+	}
+
+	/**
+	 * Sets the HTTP transport used to execute the requests. Use this to share
+	 * a connection pool between several services. A transport set with this
+	 * method is not closed by {@link #close()}.
+	 *
+	 * @param transport
+	 *            the new HTTP transport
+	 */
+	public synchronized void setTransport(HttpTransport transport) {
+		if (transport == null)
+			throw new IllegalArgumentException("transport can not be null");
+		if (ownsTransport && this.transport != null)
+			this.transport.close();
+		this.transport = transport;
+		ownsTransport = false;
+	}
+
+	/**
+	 * Releases the connections held by the HTTP transport if it was created by
+	 * this service. Shared transports must be closed by their owner.
+	 */
+	@Override
+	public synchronized void close() {
+		if (ownsTransport && transport != null) {
+			transport.close();
+			transport = null;
+			ownsTransport = false;
+		}
 	}
 
 	/**
@@ -412,6 +912,98 @@ public abstract class WatsonService {
 			throw new RuntimeException(e);
 		}
 	}
+
+	/**
+	 * Execute the request without blocking the calling thread and return a
+	 * future of the POJO that represent the response.
+	 *
+	 * @param <T>             The POJO that represents the response object
+	 * @param request         the request
+	 * @param returnType      the POJO class to be parsed from the response
+	 * @return the future POJO object that represent the response
+	 */
+	protected <T> ListenableFuture<T> executeRequestAsync(Request request, final Class<T> returnType) {
+		HttpRequestBase requestBase = request.build();
+		return Futures.transform(executeAsync(requestBase), new Function<HttpResponse, T>() {
+			@Override
+			public T apply(HttpResponse response) {
+				try {
+					return ResponseUtil.getObject(response, returnType);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Execute the request without blocking the calling thread and return a
+	 * future of the POJO found in a property of the response.
+	 *
+	 * @param <T>             The POJO that represents the property
+	 * @param request         the request
+	 * @param property        the property of the response, e.g. "models"
+	 * @param type            the type to be parsed from the property
+	 * @return the future POJO object that represent the property
+	 */
+	protected <T> ListenableFuture<T> executeRequestAsync(Request request, final String property,
+			final Type type) {
+		HttpRequestBase requestBase = request.build();
+		return Futures.transform(executeAsync(requestBase), new Function<HttpResponse, T>() {
+			@Override
+			public T apply(HttpResponse response) {
+				try {
+					return ResponseUtil.getObject(response, property, type);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Execute the request without blocking the calling thread and discard the
+	 * response once it was read, so that the connection is released.
+	 *
+	 * @param request         the request
+	 * @return the future completed when the response was read
+	 */
+	protected ListenableFuture<Void> executeWithoutResponseAsync(Request request) {
+		HttpRequestBase requestBase = request.build();
+		return Futures.transform(executeAsync(requestBase), new Function<HttpResponse, Void>() {
+			@Override
+			public Void apply(HttpResponse response) {
+				try {
+					ResponseUtil.getString(response);
+					return null;
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Executes a request built with {@link Request} without blocking the
+	 * calling thread. This is the entry point for the operations that do not
+	 * have an asynchronous counterpart in their service, e.g. <pre>
+	 * {@code
+	 *  ListenableFuture<Classifiers> classifiers = service.executeAsync(
+	 *      Request.Get("/v1/classifiers"), Classifiers.class);
+	 * }</pre>
+	 * The request gets the end point, the authentication and the retries of
+	 * this service.
+	 *
+	 * @param <T>             The POJO that represents the response object
+	 * @param request         the request, with a path relative to the end point
+	 * @param returnType      the POJO class to be parsed from the response
+	 * @return the future POJO object that represent the response
+	 */
+	public <T> ListenableFuture<T> executeAsync(Request request, Class<T> returnType) {
+		if (request == null)
+			throw new IllegalArgumentException("request was not specified");
+		return executeRequestAsync(request, returnType);
+	}
 	/*
 	 * (non-Javadoc)
 	 *
@@ -0,0 +1,833 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+import org.apache.commons.codec.binary.Base64;
+
+/**
+ * Minimal RFC 6455 WebSocket client used by the services that offer a
+ * WebSocket interface. Frames are written synchronously by the calling thread,
+ * so a slow peer blocks the writer once the socket buffers are full; this is
+ * the backpressure of the connection. Messages are read by a daemon thread and
+ * delivered to a {@link Listener} in the order they arrive.<br>
+ * Audio is sent through a fixed-size masking buffer, so streams of any length
+ * are written in constant memory. Instances are thread safe.<br>
+ * When nothing is received for the read timeout a ping is sent, and the
+ * connection fails if the peer is still silent after another read timeout, so
+ * a half-open connection does not keep the reader thread waiting forever.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public class WebSocket implements Closeable {
+
+	/**
+	 * Receives the messages of a {@link WebSocket}. The methods are called
+	 * from the reader thread of the connection.
+	 */
+	public interface Listener {
+
+		/**
+		 * Called when a text message is received.
+		 *
+		 * @param text
+		 *            the message
+		 */
+		void onText(String text);
+
+		/**
+		 * Called once when the connection is closed, either by a close frame
+		 * or because the connection failed.
+		 *
+		 * @param code
+		 *            the close code, {@link WebSocket#CLOSE_ABNORMAL} if no
+		 *            close frame was received
+		 * @param reason
+		 *            the reason or the error message
+		 * @param error
+		 *            the error that closed the connection or null
+		 */
+		void onClose(int code, String reason, Exception error);
+	}
+
+	/** The Constant CLOSE_NORMAL. (value is 1000) */
+	public static final int CLOSE_NORMAL = 1000;
+
+	/** The Constant CLOSE_ABNORMAL. (value is 1006) */
+	public static final int CLOSE_ABNORMAL = 1006;
+
+	/**
+	 * The Constant READ_TIMEOUT, the service closes connections that are idle
+	 * for 30 seconds, plus a margin. (value is 40 seconds)
+	 */
+	public static final int READ_TIMEOUT = 40 * 1000;
+
+	/** The Constant MAX_MESSAGE_SIZE, the largest message accepted. (value is 16MB) */
+	private static final int MAX_MESSAGE_SIZE = 16 * 1024 * 1024;
+
+	/** The Constant BUFFER_SIZE. (value is 8192) */
+	private static final int BUFFER_SIZE = 8192;
+
+	/** The GUID used to compute the Sec-WebSocket-Accept header. */
+	private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+	/** The Constant UTF_8. */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/** The Constant ISO_8859_1. */
+	private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+	/** The Constant OP_CONTINUATION. */
+	private static final int OP_CONTINUATION = 0x0;
+
+	/** The Constant OP_TEXT. */
+	private static final int OP_TEXT = 0x1;
+
+	/** The Constant OP_BINARY. */
+	private static final int OP_BINARY = 0x2;
+
+	/** The Constant OP_CLOSE. */
+	private static final int OP_CLOSE = 0x8;
+
+	/** The Constant OP_PING. */
+	private static final int OP_PING = 0x9;
+
+	/** The Constant OP_PONG. */
+	private static final int OP_PONG = 0xA;
+
+	/** The Constant log. */
+	private static final Logger log = Logger.getLogger(WebSocket.class.getName());
+
+	/** The random used for the handshake key and the frame masks. */
+	private static final SecureRandom random = new SecureRandom();
+
+	/** The socket. */
+	private final Socket socket;
+
+	/** The input. */
+	private final InputStream in;
+
+	/** The output, guarded by writeLock. */
+	private final OutputStream out;
+
+	/** The lock held while writing a frame. */
+	private final ReentrantLock writeLock = new ReentrantLock();
+
+	/** The listener. */
+	private final Listener listener;
+
+	/** The buffer used to mask outgoing payloads, guarded by writeLock. */
+	private final byte[] maskBuffer = new byte[BUFFER_SIZE];
+
+	/** The mask key, guarded by writeLock. */
+	private final byte[] mask = new byte[4];
+
+	/** Whether a close frame was sent. */
+	private volatile boolean closeSent;
+
+	/** Whether the listener was told that the connection is closed. */
+	private boolean closeNotified;
+
+	/**
+	 * Instantiates a new WebSocket over a connected socket.
+	 *
+	 * @param socket
+	 *            the socket
+	 * @param in
+	 *            the buffered input of the socket
+	 * @param listener
+	 *            the listener
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private WebSocket(Socket socket, InputStream in, Listener listener) throws IOException {
+		this.socket = socket;
+		this.in = in;
+		this.out = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE + 14);
+		this.listener = listener;
+	}
+
+	/**
+	 * Opens a WebSocket connection with the {@link #READ_TIMEOUT} and starts
+	 * reading messages.
+	 *
+	 * @param uri
+	 *            the ws:// or wss:// URI
+	 * @param headers
+	 *            extra headers sent with the opening handshake, like
+	 *            Authorization, can be null
+	 * @param timeout
+	 *            the connect and handshake timeout in milliseconds
+	 * @param listener
+	 *            the listener notified of the messages
+	 * @return the connected WebSocket
+	 * @throws IOException
+	 *             if the connection or the handshake failed
+	 */
+	public static WebSocket connect(URI uri, Map<String, String> headers, int timeout, Listener listener)
+			throws IOException {
+		return connect(uri, headers, timeout, READ_TIMEOUT, listener);
+	}
+
+	/**
+	 * Opens a WebSocket connection and starts reading messages.
+	 *
+	 * @param uri
+	 *            the ws:// or wss:// URI
+	 * @param headers
+	 *            extra headers sent with the opening handshake, like
+	 *            Authorization, can be null
+	 * @param timeout
+	 *            the connect and handshake timeout in milliseconds
+	 * @param readTimeout
+	 *            the time in milliseconds without messages after which a
+	 *            ping is sent, the connection fails when the peer is silent
+	 *            for twice this time
+	 * @param listener
+	 *            the listener notified of the messages
+	 * @return the connected WebSocket
+	 * @throws IOException
+	 *             if the connection or the handshake failed
+	 */
+	public static WebSocket connect(URI uri, Map<String, String> headers, int timeout, int readTimeout,
+			Listener listener) throws IOException {
+		if (uri == null)
+			throw new IllegalArgumentException("uri can not be null");
+		if (listener == null)
+			throw new IllegalArgumentException("listener can not be null");
+		if (readTimeout <= 0)
+			throw new IllegalArgumentException("readTimeout must be positive");
+
+		final String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ENGLISH);
+		final boolean secure = scheme.equals("wss") || scheme.equals("https");
+		if (!secure && !scheme.equals("ws") && !scheme.equals("http"))
+			throw new IllegalArgumentException(uri + " is not a WebSocket URI");
+
+		final String host = uri.getHost();
+		final int port = uri.getPort() != -1 ? uri.getPort() : secure ? 443 : 80;
+
+		Socket socket = new Socket();
+		try {
+			socket.connect(new InetSocketAddress(host, port), timeout);
+			if (secure) {
+				SSLSocket sslSocket = (SSLSocket) ((SSLSocketFactory) SSLSocketFactory.getDefault())
+						.createSocket(socket, host, port, true);
+				SSLParameters parameters = sslSocket.getSSLParameters();
+				parameters.setEndpointIdentificationAlgorithm("HTTPS");
+				sslSocket.setSSLParameters(parameters);
+				socket = sslSocket;
+			}
+			socket.setTcpNoDelay(true);
+			socket.setKeepAlive(true);
+			socket.setSoTimeout(timeout);
+
+			InputStream in = new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE);
+			handshake(uri, host, port, secure, headers, socket.getOutputStream(), in);
+
+			// the reader pings the peer when a read times out
+			socket.setSoTimeout(readTimeout);
+			WebSocket webSocket = new WebSocket(socket, in, listener);
+			Thread reader = new HttpTransport.DaemonThreadFactory("watson-websocket-" + host)
+					.newThread(webSocket.new Reader());
+			reader.start();
+			return webSocket;
+		} catch (IOException e) {
+			closeQuietly(socket);
+			throw e;
+		} catch (RuntimeException e) {
+			closeQuietly(socket);
+			throw e;
+		}
+	}
+
+	/**
+	 * Sends the opening handshake and validates the response.
+	 *
+	 * @param uri
+	 *            the uri
+	 * @param host
+	 *            the host
+	 * @param port
+	 *            the port
+	 * @param secure
+	 *            whether the connection uses TLS
+	 * @param headers
+	 *            the extra headers, can be null
+	 * @param out
+	 *            the output of the socket
+	 * @param in
+	 *            the input of the socket
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static void handshake(URI uri, String host, int port, boolean secure, Map<String, String> headers,
+			OutputStream out, InputStream in) throws IOException {
+		final byte[] nonce = new byte[16];
+		random.nextBytes(nonce);
+		final String key = Base64.encodeBase64String(nonce);
+
+		String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+		if (uri.getRawQuery() != null)
+			path += "?" + uri.getRawQuery();
+
+		StringBuilder builder = new StringBuilder(256);
+		builder.append("GET ").append(path).append(" HTTP/1.1\r\n");
+		builder.append("Host: ").append(host);
+		if (port != (secure ? 443 : 80))
+			builder.append(':').append(port);
+		builder.append("\r\n");
+		builder.append("Upgrade: websocket\r\n");
+		builder.append("Connection: Upgrade\r\n");
+		builder.append("Sec-WebSocket-Key: ").append(key).append("\r\n");
+		builder.append("Sec-WebSocket-Version: 13\r\n");
+		if (headers != null) {
+			for (Map.Entry<String, String> header : headers.entrySet())
+				builder.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+		}
+		builder.append("\r\n");
+		out.write(builder.toString().getBytes(ISO_8859_1));
+		out.flush();
+
+		final String statusLine = readLine(in);
+		final String[] status = statusLine.split(" ", 3);
+		if (status.length < 2 || !status[1].equals("101"))
+			throw new ServiceResponseException(parseStatus(status), "WebSocket handshake failed: " + statusLine);
+
+		String accept = null;
+		for (String line = readLine(in); !line.isEmpty(); line = readLine(in)) {
+			final int colon = line.indexOf(':');
+			if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("Sec-WebSocket-Accept"))
+				accept = line.substring(colon + 1).trim();
+		}
+
+		if (!getAcceptKey(key).equals(accept))
+			throw new IOException("Invalid Sec-WebSocket-Accept header: " + accept);
+	}
+
+	/**
+	 * Gets the Sec-WebSocket-Accept value the server must answer to a key.
+	 *
+	 * @param key
+	 *            the Sec-WebSocket-Key
+	 * @return the expected Sec-WebSocket-Accept value
+	 */
+	static String getAcceptKey(String key) {
+		try {
+			MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+			return Base64.encodeBase64String(sha1.digest((key + ACCEPT_GUID).getBytes(ISO_8859_1)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Parses the status code of a handshake response.
+	 *
+	 * @param status
+	 *            the tokens of the status line
+	 * @return the status code or 0 if it can not be parsed
+	 */
+	private static int parseStatus(String[] status) {
+		try {
+			return status.length > 1 ? Integer.parseInt(status[1]) : 0;
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Reads a CRLF terminated header line.
+	 *
+	 * @param in
+	 *            the input
+	 * @return the line without the line terminator
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static String readLine(InputStream in) throws IOException {
+		StringBuilder line = new StringBuilder(64);
+		for (int c = in.read(); c != '\n'; c = in.read()) {
+			if (c == -1)
+				throw new EOFException("Connection closed during the WebSocket handshake");
+			if (c != '\r')
+				line.append((char) c);
+			if (line.length() > BUFFER_SIZE)
+				throw new IOException("WebSocket handshake header too long");
+		}
+		return line.toString();
+	}
+
+	/**
+	 * Sends a text message.
+	 *
+	 * @param text
+	 *            the text
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public void sendText(String text) throws IOException {
+		final byte[] payload = text.getBytes(UTF_8);
+		writeFrame(OP_TEXT, payload, 0, payload.length);
+	}
+
+	/**
+	 * Sends a binary message. The calling thread blocks while the peer is not
+	 * reading.
+	 *
+	 * @param data
+	 *            the data
+	 * @param offset
+	 *            the offset
+	 * @param length
+	 *            the length
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public void sendBinary(byte[] data, int offset, int length) throws IOException {
+		writeFrame(OP_BINARY, data, offset, length);
+	}
+
+	/**
+	 * Sends the remaining bytes of a buffer as a binary message. The position
+	 * of the buffer is moved to its limit.
+	 *
+	 * @param data
+	 *            the data
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public void sendBinary(ByteBuffer data) throws IOException {
+		if (data.hasArray()) {
+			writeFrame(OP_BINARY, data.array(), data.arrayOffset() + data.position(), data.remaining());
+			data.position(data.limit());
+			return;
+		}
+
+		writeLock.lock();
+		try {
+			if (closeSent)
+				throw new IOException("WebSocket is closed");
+			writeHeader(OP_BINARY, data.remaining());
+			for (int done = 0; data.hasRemaining();) {
+				final int chunk = Math.min(maskBuffer.length, data.remaining());
+				data.get(maskBuffer, 0, chunk);
+				for (int i = 0; i < chunk; i++)
+					maskBuffer[i] ^= mask[(done + i) & 3];
+				out.write(maskBuffer, 0, chunk);
+				done += chunk;
+			}
+			out.flush();
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Sends a close frame. The connection is closed once the peer answers
+	 * with its own close frame.
+	 *
+	 * @param code
+	 *            the close code
+	 * @param reason
+	 *            the reason, can be null
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public void sendClose(int code, String reason) throws IOException {
+		if (closeSent)
+			return;
+		final byte[] text = reason == null ? new byte[0] : reason.getBytes(UTF_8);
+		final byte[] payload = new byte[2 + Math.min(text.length, 123)];
+		payload[0] = (byte) (code >> 8);
+		payload[1] = (byte) code;
+		System.arraycopy(text, 0, payload, 2, payload.length - 2);
+		writeLock.lock();
+		try {
+			if (closeSent)
+				return;
+			closeSent = true;
+			writeFrame(OP_CLOSE, payload, 0, payload.length);
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Checks if the connection is open.
+	 *
+	 * @return true, if is open
+	 */
+	public boolean isOpen() {
+		return !socket.isClosed();
+	}
+
+	/**
+	 * Closes the connection without waiting for the peer. The listener is
+	 * notified by the reader thread.
+	 */
+	@Override
+	public void close() {
+		try {
+			sendClose(CLOSE_NORMAL, null);
+		} catch (IOException e) {
+			log.log(Level.FINE, "Error sending the close frame", e);
+		}
+		closeQuietly(socket);
+	}
+
+	/**
+	 * Writes a masked frame.
+	 *
+	 * @param opcode
+	 *            the opcode
+	 * @param data
+	 *            the data
+	 * @param offset
+	 *            the offset
+	 * @param length
+	 *            the length
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private void writeFrame(int opcode, byte[] data, int offset, int length) throws IOException {
+		if (offset < 0 || length < 0 || offset + length > data.length)
+			throw new IndexOutOfBoundsException();
+
+		writeLock.lock();
+		try {
+			if (closeSent && opcode != OP_CLOSE)
+				throw new IOException("WebSocket is closed");
+			writeHeader(opcode, length);
+			for (int done = 0; done < length;) {
+				final int chunk = Math.min(maskBuffer.length, length - done);
+				for (int i = 0; i < chunk; i++)
+					maskBuffer[i] = (byte) (data[offset + done + i] ^ mask[(done + i) & 3]);
+				out.write(maskBuffer, 0, chunk);
+				done += chunk;
+			}
+			out.flush();
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Writes the header of a frame and picks a new mask key. Must be called
+	 * while holding the write lock.
+	 *
+	 * @param opcode
+	 *            the opcode
+	 * @param length
+	 *            the payload length
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private void writeHeader(int opcode, long length) throws IOException {
+		out.write(0x80 | opcode);
+		if (length < 126) {
+			out.write(0x80 | (int) length);
+		} else if (length <= 0xFFFF) {
+			out.write(0x80 | 126);
+			out.write((int) (length >> 8));
+			out.write((int) length);
+		} else {
+			out.write(0x80 | 127);
+			for (int shift = 56; shift >= 0; shift -= 8)
+				out.write((int) (length >> shift));
+		}
+		random.nextBytes(mask);
+		out.write(mask);
+	}
+
+	/**
+	 * Notifies the listener that the connection is closed, only once.
+	 *
+	 * @param code
+	 *            the close code
+	 * @param reason
+	 *            the reason
+	 * @param error
+	 *            the error or null
+	 */
+	private void notifyClose(int code, String reason, Exception error) {
+		synchronized (this) {
+			if (closeNotified)
+				return;
+			closeNotified = true;
+		}
+		closeQuietly(socket);
+		try {
+			listener.onClose(code, reason, error);
+		} catch (RuntimeException e) {
+			log.log(Level.WARNING, "WebSocket listener failed", e);
+		}
+	}
+
+	/**
+	 * Closes a socket ignoring errors.
+	 *
+	 * @param socket
+	 *            the socket
+	 */
+	private static void closeQuietly(Socket socket) {
+		try {
+			socket.close();
+		} catch (IOException e) {
+			log.log(Level.FINE, "Error closing the socket", e);
+		}
+	}
+
+	/**
+	 * Reads the frames of the connection, answers the control frames and
+	 * delivers the messages to the listener.
+	 */
+	private class Reader implements Runnable {
+
+		/** The header buffer. */
+		private final byte[] header = new byte[8];
+
+		/** The fragments of the current message. */
+		private final ByteArrayOutputStream message = new ByteArrayOutputStream();
+
+		/** The opcode of the current message, -1 if none. */
+		private int messageOpcode = -1;
+
+		/** Whether a ping was sent since the last data was received. */
+		private boolean pingSent;
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void run() {
+			try {
+				while (readFrame()) {
+					// keep reading
+				}
+			} catch (IOException e) {
+				notifyClose(CLOSE_ABNORMAL, e.getMessage(), closeSent ? null : e);
+			} catch (RuntimeException e) {
+				notifyClose(CLOSE_ABNORMAL, e.getMessage(), e);
+			}
+			notifyClose(CLOSE_ABNORMAL, "Connection closed", null);
+		}
+
+		/**
+		 * Reads and handles a frame.
+		 *
+		 * @return false when the connection was closed
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred.
+		 */
+		private boolean readFrame() throws IOException {
+			final int b0 = read(header, 0, 1) == -1 ? -1 : header[0] & 0xFF;
+			if (b0 == -1) {
+				notifyClose(CLOSE_ABNORMAL, "Connection closed", closeSent ? null : new EOFException(
+						"Connection closed without a close frame"));
+				return false;
+			}
+			final boolean fin = (b0 & 0x80) != 0;
+			final int opcode = b0 & 0x0F;
+
+			final int b1 = readFully(1)[0] & 0xFF;
+			final boolean masked = (b1 & 0x80) != 0;
+			long length = b1 & 0x7F;
+			if (length == 126) {
+				byte[] b = readFully(2);
+				length = ((b[0] & 0xFF) << 8) | (b[1] & 0xFF);
+			} else if (length == 127) {
+				byte[] b = readFully(8);
+				length = 0;
+				for (int i = 0; i < 8; i++)
+					length = (length << 8) | (b[i] & 0xFF);
+			}
+			if (length < 0 || length + message.size() > MAX_MESSAGE_SIZE)
+				throw new IOException("WebSocket message too large: " + length);
+
+			final byte[] frameMask = masked ? readFully(4).clone() : null;
+			final byte[] payload = readPayload((int) length);
+			if (frameMask != null) {
+				for (int i = 0; i < payload.length; i++)
+					payload[i] ^= frameMask[i & 3];
+			}
+
+			switch (opcode) {
+			case OP_PING:
+				writeLock.lock();
+				try {
+					if (!closeSent)
+						writeFrame(OP_PONG, payload, 0, payload.length);
+				} finally {
+					writeLock.unlock();
+				}
+				return true;
+			case OP_PONG:
+				return true;
+			case OP_CLOSE:
+				final int code = payload.length >= 2 ? ((payload[0] & 0xFF) << 8) | (payload[1] & 0xFF)
+						: CLOSE_NORMAL;
+				final String reason = payload.length > 2 ? new String(payload, 2, payload.length - 2, UTF_8) : "";
+				try {
+					sendClose(code, null);
+				} catch (IOException e) {
+					log.log(Level.FINE, "Error answering the close frame", e);
+				}
+				notifyClose(code, reason, null);
+				return false;
+			case OP_CONTINUATION:
+				if (messageOpcode == -1)
+					throw new IOException("Unexpected continuation frame");
+				break;
+			case OP_TEXT:
+			case OP_BINARY:
+				if (messageOpcode != -1)
+					throw new IOException("Expected a continuation frame");
+				messageOpcode = opcode;
+				break;
+			default:
+				throw new IOException("Unknown WebSocket opcode " + opcode);
+			}
+
+			message.write(payload, 0, payload.length);
+			if (fin) {
+				if (messageOpcode == OP_TEXT) {
+					final String text = new String(message.toByteArray(), UTF_8);
+					try {
+						listener.onText(text);
+					} catch (RuntimeException e) {
+						log.log(Level.WARNING, "WebSocket listener failed", e);
+					}
+				}
+				message.reset();
+				messageOpcode = -1;
+			}
+			return true;
+		}
+
+		/**
+		 * Reads exactly n bytes, up to 8, into the header buffer.
+		 *
+		 * @param n
+		 *            the number of bytes
+		 * @return the header buffer
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred.
+		 */
+		private byte[] readFully(int n) throws IOException {
+			readFully(header, n);
+			return header;
+		}
+
+		/**
+		 * Reads the payload of a frame.
+		 *
+		 * @param length
+		 *            the length
+		 * @return the payload
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred.
+		 */
+		private byte[] readPayload(int length) throws IOException {
+			final byte[] payload = new byte[length];
+			readFully(payload, length);
+			return payload;
+		}
+
+		/**
+		 * Reads exactly n bytes into a buffer.
+		 *
+		 * @param buffer
+		 *            the buffer
+		 * @param n
+		 *            the number of bytes
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred.
+		 */
+		private void readFully(byte[] buffer, int n) throws IOException {
+			for (int done = 0; done < n;) {
+				final int read = read(buffer, done, n - done);
+				if (read == -1)
+					throw new EOFException("Connection closed in the middle of a frame");
+				done += read;
+			}
+		}
+
+		/**
+		 * Reads some bytes. When the read times out a ping is sent; when it
+		 * times out again without any data the connection is considered dead.
+		 * The ping is skipped while another thread is writing, since that
+		 * write is already waiting on the peer.
+		 *
+		 * @param buffer
+		 *            the buffer
+		 * @param offset
+		 *            the offset
+		 * @param length
+		 *            the maximum number of bytes
+		 * @return the number of bytes read or -1 at the end of the stream
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred.
+		 */
+		private int read(byte[] buffer, int offset, int length) throws IOException {
+			while (true) {
+				try {
+					final int read = in.read(buffer, offset, length);
+					pingSent = false;
+					return read;
+				} catch (SocketTimeoutException e) {
+					if (pingSent || closeSent)
+						throw new SocketTimeoutException("No data received from the WebSocket peer");
+					pingSent = true;
+					if (writeLock.tryLock()) {
+						try {
+							writeFrame(OP_PING, new byte[0], 0, 0);
+						} finally {
+							writeLock.unlock();
+						}
+					}
+				}
+			}
+		}
+	}
+}
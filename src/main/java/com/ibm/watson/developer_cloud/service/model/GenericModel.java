@@ -18,24 +18,21 @@ package com.ibm.watson.developer_cloud.service.model;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
 
 /**
- * Abstract model class to provide a default toString() method in model classes.
+ * Abstract model class to provide a default toString(), equals() and
+ * hashCode() methods in model classes. Two models are equal if they are of the
+ * same class and their serialized fields are equal; comparing and hashing
+ * don't render the models to JSON.
  */
 public abstract class GenericModel {
 
     /* (non-Javadoc)
      * @see java.lang.Object#toString()
      */
-    /*
-     *
-     * @see java.lang.Object#toString()
-     */
     @Override
     public String toString() {
         return GsonSingleton.getGson().toJson(this);
     }
 
-    
-
     /* (non-Javadoc)
      * @see java.lang.Object#equals(java.lang.Object)
      */
@@ -44,9 +41,7 @@ public abstract class GenericModel {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
 
-        GenericModel other = (GenericModel) o;
- 
-    	return this.toString().equals(other.toString());
+        return ModelFields.equals(this, o);
     }
 
     /* (non-Javadoc)
@@ -54,6 +49,6 @@ public abstract class GenericModel {
      */
     @Override
     public int hashCode() {
-        return this.toString().hashCode();
+        return ModelFields.hashCode(this);
     }
 }
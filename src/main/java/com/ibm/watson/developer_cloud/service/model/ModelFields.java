@@ -0,0 +1,265 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service.model;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Structural equality and hashing of the models, based on the same fields
+ * that are serialized to JSON: every instance field that is neither static,
+ * transient nor synthetic. The accessible fields of every class are looked up
+ * once and cached, and primitive fields are read without boxing, so comparing
+ * or hashing a model doesn't render it.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ * @see GenericModel#equals(Object)
+ * @see GenericModel#hashCode()
+ */
+final class ModelFields {
+
+	/** The fields by class. */
+	private static final ConcurrentMap<Class<?>, Field[]> FIELDS = new ConcurrentHashMap<Class<?>, Field[]>();
+
+	/** Whether a class is compared field by field, by class. */
+	private static final ConcurrentMap<Class<?>, Boolean> PLAIN = new ConcurrentHashMap<Class<?>, Boolean>();
+
+	/**
+	 * Instantiates a new model fields.
+	 */
+	private ModelFields() {}
+
+	/**
+	 * Checks if two objects of the same class have equal fields.
+	 *
+	 * @param a
+	 *            the first object
+	 * @param b
+	 *            the second object, of the same class
+	 * @return true, if the fields are equal
+	 */
+	static boolean equals(Object a, Object b) {
+		try {
+			for (Field field : getFields(a.getClass())) {
+				if (!fieldEquals(field, a, b))
+					return false;
+			}
+			return true;
+		} catch (IllegalAccessException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Computes a hash code of the fields of an object.
+	 *
+	 * @param o
+	 *            the object
+	 * @return the hash code
+	 */
+	static int hashCode(Object o) {
+		try {
+			int hash = 1;
+			for (Field field : getFields(o.getClass()))
+				hash = 31 * hash + fieldHashCode(field, o);
+			return hash;
+		} catch (IllegalAccessException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Gets the compared fields of a class and its super classes.
+	 *
+	 * @param type
+	 *            the class
+	 * @return the fields
+	 */
+	private static Field[] getFields(Class<?> type) {
+		Field[] fields = FIELDS.get(type);
+		if (fields == null) {
+			final List<Field> list = new ArrayList<Field>();
+			for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+				for (Field field : c.getDeclaredFields()) {
+					final int modifiers = field.getModifiers();
+					if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic())
+						continue;
+					field.setAccessible(true);
+					list.add(field);
+				}
+			}
+			fields = list.toArray(new Field[list.size()]);
+			final Field[] previous = FIELDS.putIfAbsent(type, fields);
+			if (previous != null)
+				fields = previous;
+		}
+		return fields;
+	}
+
+	/**
+	 * Checks if a field is equal in two objects.
+	 *
+	 * @param field
+	 *            the field
+	 * @param a
+	 *            the first object
+	 * @param b
+	 *            the second object
+	 * @return true, if the field is equal
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	private static boolean fieldEquals(Field field, Object a, Object b) throws IllegalAccessException {
+		final Class<?> type = field.getType();
+		if (!type.isPrimitive())
+			return valueEquals(field.get(a), field.get(b));
+		if (type == int.class)
+			return field.getInt(a) == field.getInt(b);
+		if (type == double.class)
+			return Double.doubleToLongBits(field.getDouble(a)) == Double.doubleToLongBits(field.getDouble(b));
+		if (type == boolean.class)
+			return field.getBoolean(a) == field.getBoolean(b);
+		if (type == long.class)
+			return field.getLong(a) == field.getLong(b);
+		if (type == float.class)
+			return Float.floatToIntBits(field.getFloat(a)) == Float.floatToIntBits(field.getFloat(b));
+		if (type == char.class)
+			return field.getChar(a) == field.getChar(b);
+		// byte and short
+		return field.getInt(a) == field.getInt(b);
+	}
+
+	/**
+	 * Computes the hash code of a field.
+	 *
+	 * @param field
+	 *            the field
+	 * @param o
+	 *            the object
+	 * @return the hash code
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	private static int fieldHashCode(Field field, Object o) throws IllegalAccessException {
+		final Class<?> type = field.getType();
+		if (!type.isPrimitive())
+			return valueHashCode(field.get(o));
+		if (type == double.class)
+			return hash(Double.doubleToLongBits(field.getDouble(o)));
+		if (type == long.class)
+			return hash(field.getLong(o));
+		if (type == boolean.class)
+			return field.getBoolean(o) ? 1231 : 1237;
+		if (type == float.class)
+			return Float.floatToIntBits(field.getFloat(o));
+		if (type == char.class)
+			return field.getChar(o);
+		// int, byte and short
+		return field.getInt(o);
+	}
+
+	/**
+	 * Checks if two field values are equal. Arrays are compared by content and
+	 * plain objects that don't implement equality are compared field by field,
+	 * like they would be in their JSON form.
+	 *
+	 * @param a
+	 *            the first value, can be null
+	 * @param b
+	 *            the second value, can be null
+	 * @return true, if the values are equal
+	 */
+	private static boolean valueEquals(Object a, Object b) {
+		if (a == b)
+			return true;
+		if (a == null || b == null)
+			return false;
+		final Class<?> type = a.getClass();
+		if (type != b.getClass() || !type.isArray() && !isPlain(type))
+			return a.equals(b);
+		if (!type.isArray())
+			return equals(a, b);
+
+		final int length = Array.getLength(a);
+		if (length != Array.getLength(b))
+			return false;
+		for (int i = 0; i < length; i++) {
+			if (!valueEquals(Array.get(a, i), Array.get(b, i)))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the hash code of a field value, consistent with
+	 * {@link #valueEquals(Object, Object)}.
+	 *
+	 * @param value
+	 *            the value, can be null
+	 * @return the hash code
+	 */
+	private static int valueHashCode(Object value) {
+		if (value == null)
+			return 0;
+		final Class<?> type = value.getClass();
+		if (!type.isArray())
+			return isPlain(type) ? hashCode(value) : value.hashCode();
+
+		int hash = 1;
+		final int length = Array.getLength(value);
+		for (int i = 0; i < length; i++)
+			hash = 31 * hash + valueHashCode(Array.get(value, i));
+		return hash;
+	}
+
+	/**
+	 * Checks if a class is a plain object of the SDK that doesn't implement
+	 * equality. Models extending {@link GenericModel} already do.
+	 *
+	 * @param type
+	 *            the class
+	 * @return true, if is plain
+	 */
+	private static boolean isPlain(Class<?> type) {
+		Boolean plain = PLAIN.get(type);
+		if (plain == null) {
+			try {
+				plain = !type.isEnum() && !type.getName().startsWith("java")
+						&& type.getMethod("equals", Object.class).getDeclaringClass() == Object.class;
+			} catch (NoSuchMethodException e) {
+				plain = false;
+			}
+			PLAIN.put(type, plain);
+		}
+		return plain;
+	}
+
+	/**
+	 * Hashes a long like {@link Long#hashCode()}.
+	 *
+	 * @param value
+	 *            the value
+	 * @return the hash code
+	 */
+	private static int hash(long value) {
+		return (int) (value ^ (value >>> 32));
+	}
+}
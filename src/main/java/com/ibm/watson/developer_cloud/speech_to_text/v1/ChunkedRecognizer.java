@@ -0,0 +1,375 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechAlternative;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechResults;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechTimestamp;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.Transcript;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.util.WaveChunker;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.util.WaveChunker.Chunk;
+
+/**
+ * Transcribes long recordings by splitting them in chunks that are
+ * recognized concurrently over the transport of the {@link SpeechToText}
+ * service, then stitching the transcripts back together with the timestamps
+ * corrected to the position of each chunk in the recording: <pre>
+ * {@code
+ *  ChunkedRecognizer recognizer = new ChunkedRecognizer(service)
+ *    .withChunkDuration(120)
+ *    .withConcurrency(8);
+ *  SpeechResults results = recognizer.recognize(params);
+ * }</pre>
+ * Chunks are cut in silences when possible. Otherwise neighbor chunks
+ * overlap and the words recognized twice are dropped using their
+ * timestamps, which are requested for that reason.<br>
+ * Only PCM WAV files can be split without decoding them. Other formats are
+ * recognized with a single request, like {@link SpeechToText#recognize(Map)}.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public class ChunkedRecognizer {
+
+	/** The Constant DEFAULT_CHUNK_DURATION. (value is 60s) */
+	public static final double DEFAULT_CHUNK_DURATION = 60;
+
+	/** The Constant DEFAULT_OVERLAP. (value is 2s) */
+	public static final double DEFAULT_OVERLAP = 2;
+
+	/** The Constant DEFAULT_CONCURRENCY. (value is 4) */
+	public static final int DEFAULT_CONCURRENCY = 4;
+
+	/** The Constant DEFAULT_SILENCE_THRESHOLD. (value is 0.02) */
+	public static final double DEFAULT_SILENCE_THRESHOLD = 0.02;
+
+	/** The service. */
+	private final SpeechToText service;
+
+	/** The chunk duration in seconds. */
+	private double chunkDuration = DEFAULT_CHUNK_DURATION;
+
+	/** The overlap in seconds. */
+	private double overlap = DEFAULT_OVERLAP;
+
+	/** The number of chunks recognized at the same time. */
+	private int concurrency = DEFAULT_CONCURRENCY;
+
+	/** The silence threshold. */
+	private double silenceThreshold = DEFAULT_SILENCE_THRESHOLD;
+
+	/**
+	 * Instantiates a new chunked recognizer.
+	 *
+	 * @param service
+	 *            the speech to text service
+	 */
+	public ChunkedRecognizer(SpeechToText service) {
+		if (service == null)
+			throw new IllegalArgumentException("service can not be null");
+		this.service = service;
+	}
+
+	/**
+	 * Sets the target duration of the chunks.
+	 *
+	 * @param seconds
+	 *            the chunk duration in seconds
+	 * @return the chunked recognizer
+	 */
+	public ChunkedRecognizer withChunkDuration(double seconds) {
+		if (seconds <= 0)
+			throw new IllegalArgumentException("chunkDuration should be greater than 0");
+		chunkDuration = seconds;
+		return this;
+	}
+
+	/**
+	 * Sets the overlap of two chunks that could not be cut in a silence.
+	 *
+	 * @param seconds
+	 *            the overlap in seconds, 0 to disable it
+	 * @return the chunked recognizer
+	 */
+	public ChunkedRecognizer withOverlap(double seconds) {
+		if (seconds < 0)
+			throw new IllegalArgumentException("overlap can not be negative");
+		overlap = seconds;
+		return this;
+	}
+
+	/**
+	 * Sets the number of chunks recognized at the same time.
+	 *
+	 * @param concurrency
+	 *            the concurrency
+	 * @return the chunked recognizer
+	 */
+	public ChunkedRecognizer withConcurrency(int concurrency) {
+		if (concurrency < 1)
+			throw new IllegalArgumentException("concurrency should be greater than 0");
+		this.concurrency = concurrency;
+		return this;
+	}
+
+	/**
+	 * Sets the loudness below which the audio is considered silence, as a
+	 * fraction of the full scale.
+	 *
+	 * @param threshold
+	 *            the threshold, 0 to always cut at the chunk duration
+	 * @return the chunked recognizer
+	 */
+	public ChunkedRecognizer withSilenceThreshold(double threshold) {
+		if (threshold < 0 || threshold > 1)
+			throw new IllegalArgumentException("silenceThreshold should be between 0 and 1");
+		silenceThreshold = threshold;
+		return this;
+	}
+
+	/**
+	 * Recognizes a long recording.
+	 *
+	 * @param params
+	 *            the parameters of {@link SpeechToText#recognize(Map)}; only
+	 *            WAV audio in a {@link File} or a {@link Path} is split, any
+	 *            other audio is recognized in one request. The recognition of
+	 *            the chunks is always continuous and can not use a session
+	 * @return the speech results of the whole recording
+	 */
+	public SpeechResults recognize(Map<String, Object> params) {
+		final Object source = params.get(SpeechToText.AUDIO);
+		final String contentType = (String) params.get(SpeechToText.CONTENT_TYPE);
+		if (source == null)
+			throw new IllegalArgumentException("audio was not specified");
+		if (contentType == null)
+			throw new IllegalArgumentException("contentType was not specified");
+		if (!(source instanceof File || source instanceof Path) || !isWave(contentType))
+			return service.recognize(params);
+
+		final File audio = source instanceof Path ? ((Path) source).toFile() : (File) source;
+		if (!audio.isFile())
+			throw new IllegalArgumentException("audio is not a valid audio file");
+
+		final List<Chunk> chunks;
+		try {
+			chunks = new WaveChunker(audio).split(chunkDuration, Math.min(overlap, chunkDuration / 2),
+					silenceThreshold);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		if (chunks.size() == 1)
+			return service.recognize(params);
+
+		final Map<String, Object> chunkParams = new HashMap<String, Object>(params);
+		chunkParams.remove(SpeechToText.AUDIO);
+		chunkParams.remove(SpeechToText.SESSION_ID);
+		chunkParams.put(SpeechToText.CONTINUOUS, true);
+		final boolean keepTimestamps = Boolean.TRUE.equals(params.get(SpeechToText.TIMESTAMPS));
+		if (overlap > 0)
+			chunkParams.put(SpeechToText.TIMESTAMPS, true);
+
+		return stitch(chunks, recognizeChunks(chunks, chunkParams), keepTimestamps);
+	}
+
+	/**
+	 * Recognizes the chunks, keeping at most {@link #concurrency} requests
+	 * in flight. The first failure stops the recognition.
+	 *
+	 * @param chunks
+	 *            the chunks
+	 * @param params
+	 *            the recognition parameters
+	 * @return the results of every chunk, in order
+	 */
+	private List<SpeechResults> recognizeChunks(List<Chunk> chunks, Map<String, Object> params) {
+		final Semaphore permits = new Semaphore(concurrency);
+		final AtomicBoolean failed = new AtomicBoolean();
+		final List<ListenableFuture<SpeechResults>> futures = new ArrayList<ListenableFuture<SpeechResults>>(
+				chunks.size());
+
+		try {
+			for (Chunk chunk : chunks) {
+				permits.acquire();
+				if (failed.get())
+					break;
+
+				final ListenableFuture<SpeechResults> future;
+				try {
+					future = service.recognizeAsync(params, chunk.getEntity());
+				} catch (RuntimeException e) {
+					permits.release();
+					throw e;
+				}
+				futures.add(future);
+				future.addListener(new Runnable() {
+					@Override
+					public void run() {
+						if (!isSuccessful(future))
+							failed.set(true);
+						permits.release();
+					}
+				}, MoreExecutors.directExecutor());
+			}
+
+			final List<SpeechResults> results = new ArrayList<SpeechResults>(chunks.size());
+			for (ListenableFuture<SpeechResults> future : futures)
+				results.add(future.get());
+			return results;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new RuntimeException(e.getCause());
+		} finally {
+			for (ListenableFuture<SpeechResults> future : futures)
+				future.cancel(false);
+		}
+	}
+
+	/**
+	 * Checks if a completed future succeeded.
+	 *
+	 * @param future
+	 *            the future
+	 * @return true, if successful
+	 */
+	private static boolean isSuccessful(ListenableFuture<SpeechResults> future) {
+		try {
+			future.get();
+			return true;
+		} catch (ExecutionException e) {
+			return false;
+		} catch (CancellationException e) {
+			return false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * Joins the transcripts of the chunks. The timestamps are moved to the
+	 * position of the chunk in the recording and the words that fall outside
+	 * the part of the timeline a chunk is responsible for are dropped.
+	 *
+	 * @param chunks
+	 *            the chunks
+	 * @param results
+	 *            the results of every chunk
+	 * @param keepTimestamps
+	 *            whether the caller asked for the timestamps
+	 * @return the speech results
+	 */
+	static SpeechResults stitch(List<Chunk> chunks, List<SpeechResults> results, boolean keepTimestamps) {
+		final List<Transcript> transcripts = new ArrayList<Transcript>();
+		for (int i = 0; i < chunks.size(); i++) {
+			final Chunk chunk = chunks.get(i);
+			final List<Transcript> chunkTranscripts = results.get(i).getResults();
+			if (chunkTranscripts == null)
+				continue;
+
+			for (Transcript transcript : chunkTranscripts) {
+				if (clip(transcript, chunk, keepTimestamps))
+					transcripts.add(transcript);
+			}
+		}
+
+		final SpeechResults stitched = new SpeechResults();
+		stitched.setResults(transcripts);
+		stitched.setResultIndex(0);
+		return stitched;
+	}
+
+	/**
+	 * Moves the timestamps of a transcript and drops the words recognized in
+	 * the overlap with a neighbor chunk.
+	 *
+	 * @param transcript
+	 *            the transcript
+	 * @param chunk
+	 *            the chunk it was recognized in
+	 * @param keepTimestamps
+	 *            whether the timestamps are kept
+	 * @return false if the whole transcript belongs to a neighbor chunk
+	 */
+	private static boolean clip(Transcript transcript, Chunk chunk, boolean keepTimestamps) {
+		final List<SpeechAlternative> alternatives = transcript.getAlternatives();
+		if (alternatives == null || alternatives.isEmpty())
+			return true;
+
+		boolean keep = true;
+		for (int i = 0; i < alternatives.size(); i++) {
+			final SpeechAlternative alternative = alternatives.get(i);
+			final List<SpeechTimestamp> timestamps = alternative.getTimestamps();
+			if (timestamps == null)
+				continue;
+
+			boolean dropped = false;
+			for (Iterator<SpeechTimestamp> it = timestamps.iterator(); it.hasNext();) {
+				final SpeechTimestamp timestamp = it.next();
+				timestamp.setStartTime(timestamp.getStartTime() + chunk.getStartTime());
+				timestamp.setEndTime(timestamp.getEndTime() + chunk.getStartTime());
+				if (timestamp.getStartTime() < chunk.getKeepFrom()
+						|| timestamp.getStartTime() >= chunk.getKeepUntil()) {
+					it.remove();
+					dropped = true;
+				}
+			}
+
+			if (dropped) {
+				StringBuilder text = new StringBuilder();
+				for (SpeechTimestamp timestamp : timestamps)
+					text.append(timestamp.getWord()).append(' ');
+				alternative.setTranscript(text.toString());
+			}
+			// the timestamps of the best alternative decide for the others
+			if (i == 0 && timestamps.isEmpty())
+				keep = false;
+			if (!keepTimestamps)
+				alternative.setTimestamps(null);
+		}
+		return keep;
+	}
+
+	/**
+	 * Checks if a content type is a WAV content type.
+	 *
+	 * @param contentType
+	 *            the content type
+	 * @return true, if is WAV
+	 */
+	private static boolean isWave(String contentType) {
+		final String type = contentType.toLowerCase().trim();
+		return type.startsWith("audio/wav") || type.startsWith("audio/x-wav") || type.startsWith("audio/wave");
+	}
+}
@@ -0,0 +1,425 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.ibm.watson.developer_cloud.service.WebSocket;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechResults;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.Transcript;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
+
+/**
+ * A streaming recognition over the WebSocket interface of the
+ * {@link SpeechToText} service. Audio is written in pieces as it becomes
+ * available, for example from a microphone or an RTP feed, and the interim and
+ * final transcripts are delivered to a {@link RecognizeCallback} while the
+ * audio is still being sent: <pre>
+ * {@code
+ *  RecognitionStream stream = service.recognizeUsingWebSocket(params, callback);
+ *  try {
+ *    while ((read = microphone.read(buffer)) != -1)
+ *      stream.write(buffer, 0, read);
+ *    stream.finish();
+ *  } finally {
+ *    stream.close();
+ *  }
+ * }</pre>
+ * Writes block while the service is not reading, and transcripts are handed
+ * to the callback instead of being accumulated, so memory stays flat for
+ * audio of any length. A stream is used by one writer thread at a time.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public class RecognitionStream implements Closeable {
+
+	/** The Constant BUFFER_SIZE used to copy input streams. (value is 8192) */
+	private static final int BUFFER_SIZE = 8192;
+
+	/** The Constant LISTENING. */
+	private static final String LISTENING = "listening";
+
+	/** The Constant STOP. */
+	private static final String STOP = "{\"action\": \"stop\"}";
+
+	/** The Constant log. */
+	private static final Logger log = Logger.getLogger(RecognitionStream.class.getName());
+
+	/** The callback. */
+	private final RecognizeCallback callback;
+
+	/** Counted down when the service is ready to receive audio. */
+	private final CountDownLatch listening = new CountDownLatch(1);
+
+	/** Counted down when the recognition completed or failed. */
+	private final CountDownLatch done = new CountDownLatch(1);
+
+	/** The web socket. */
+	private volatile WebSocket socket;
+
+	/** The error that ended the recognition. */
+	private volatile RuntimeException error;
+
+	/** Whether the end of the audio was signaled. */
+	private volatile boolean stopped;
+
+	/** Whether the stream was closed by the caller. */
+	private volatile boolean closed;
+
+	/** Whether the recognition ended, guarded by this. */
+	private boolean ended;
+
+	/** The number of listening states received, only used by the reader. */
+	private int listeningStates;
+
+	/** The copy buffer, created the first time an input stream is written. */
+	private byte[] buffer;
+
+	/**
+	 * Instantiates a new recognition stream.
+	 *
+	 * @param callback
+	 *            the callback
+	 */
+	private RecognitionStream(RecognizeCallback callback) {
+		this.callback = callback;
+	}
+
+	/**
+	 * Opens the WebSocket and sends the start message.
+	 *
+	 * @param uri
+	 *            the recognize WebSocket URI
+	 * @param headers
+	 *            the handshake headers
+	 * @param timeout
+	 *            the connect timeout in milliseconds
+	 * @param start
+	 *            the start message
+	 * @param callback
+	 *            the callback
+	 * @return the recognition stream
+	 */
+	static RecognitionStream open(URI uri, Map<String, String> headers, int timeout, String start,
+			RecognizeCallback callback) {
+		final RecognitionStream stream = new RecognitionStream(callback);
+		try {
+			stream.socket = WebSocket.connect(uri, headers, timeout, stream.new Listener());
+			stream.socket.sendText(start);
+		} catch (IOException e) {
+			if (stream.socket != null)
+				stream.socket.close();
+			throw new RuntimeException(e);
+		}
+		return stream;
+	}
+
+	/**
+	 * Sends a piece of audio. Blocks until the service is listening and while
+	 * the connection can not take more data.
+	 *
+	 * @param audio
+	 *            the audio
+	 * @param offset
+	 *            the offset
+	 * @param length
+	 *            the length
+	 */
+	public void write(byte[] audio, int offset, int length) {
+		awaitListening();
+		try {
+			socket.sendBinary(audio, offset, length);
+		} catch (IOException e) {
+			throw failure(e);
+		}
+	}
+
+	/**
+	 * Sends the remaining bytes of a buffer. Blocks until the service is
+	 * listening and while the connection can not take more data.
+	 *
+	 * @param audio
+	 *            the audio
+	 */
+	public void write(ByteBuffer audio) {
+		awaitListening();
+		try {
+			socket.sendBinary(audio);
+		} catch (IOException e) {
+			throw failure(e);
+		}
+	}
+
+	/**
+	 * Sends the audio read from an input stream until its end, using a fixed
+	 * size buffer. The input stream is not closed.
+	 *
+	 * @param audio
+	 *            the audio
+	 */
+	public void write(InputStream audio) {
+		if (buffer == null)
+			buffer = new byte[BUFFER_SIZE];
+		try {
+			for (int read = audio.read(buffer); read != -1; read = audio.read(buffer)) {
+				if (read > 0)
+					write(buffer, 0, read);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Signals the end of the audio. The final transcripts are delivered to
+	 * the callback, followed by {@link RecognizeCallback#onCompleted()}.
+	 */
+	public void stop() {
+		if (stopped)
+			return;
+		awaitListening();
+		stopped = true;
+		try {
+			socket.sendText(STOP);
+		} catch (IOException e) {
+			throw failure(e);
+		}
+	}
+
+	/**
+	 * Signals the end of the audio and waits for the final transcripts.
+	 */
+	public void finish() {
+		stop();
+		try {
+			done.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+		if (error != null)
+			throw error;
+	}
+
+	/**
+	 * Waits for the recognition to complete.
+	 *
+	 * @param timeout
+	 *            the timeout
+	 * @param unit
+	 *            the unit of the timeout
+	 * @return true if the recognition completed, false if the timeout elapsed
+	 * @throws InterruptedException
+	 *             the interrupted exception
+	 */
+	public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+		final boolean completed = done.await(timeout, unit);
+		if (completed && error != null)
+			throw error;
+		return completed;
+	}
+
+	/**
+	 * Checks if the recognition completed or failed.
+	 *
+	 * @return true, if is done
+	 */
+	public boolean isDone() {
+		return done.getCount() == 0;
+	}
+
+	/**
+	 * Closes the connection. A recognition that did not complete is abandoned
+	 * and the callback is not notified.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		socket.close();
+	}
+
+	/**
+	 * Waits until the service is ready to receive audio.
+	 */
+	private void awaitListening() {
+		try {
+			listening.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+		if (error != null)
+			throw error;
+		if (stopped)
+			throw new IllegalStateException("the recognition was stopped");
+	}
+
+	/**
+	 * Records a write failure and ends the recognition with it, unless the
+	 * reader already received an error from the service, which is more
+	 * useful than the broken pipe.
+	 *
+	 * @param e
+	 *            the exception
+	 * @return the exception to throw
+	 */
+	private RuntimeException failure(IOException e) {
+		final RuntimeException failure = new RuntimeException(e);
+		fail(failure);
+		return error != null ? error : failure;
+	}
+
+	/**
+	 * Ends the recognition with an error. Only the first error is reported
+	 * to the callback, and not at all if the caller closed the stream. The
+	 * callback is notified before the waiting threads are released.
+	 *
+	 * @param e
+	 *            the error
+	 */
+	private void fail(RuntimeException e) {
+		if (!end())
+			return;
+		error = e;
+		if (!closed) {
+			try {
+				callback.onError(e);
+			} catch (RuntimeException ce) {
+				log.log(Level.WARNING, "RecognizeCallback.onError failed", ce);
+			}
+		}
+		release();
+		closeSocket();
+	}
+
+	/**
+	 * Marks the recognition as ended, unless it already ended.
+	 *
+	 * @return true if the recognition was ended by this call
+	 */
+	private synchronized boolean end() {
+		if (ended)
+			return false;
+		ended = true;
+		return true;
+	}
+
+	/**
+	 * Releases the threads waiting for the recognition.
+	 */
+	private void release() {
+		done.countDown();
+		listening.countDown();
+	}
+
+	/**
+	 * Closes the socket, which may not be assigned yet if the service answers
+	 * before {@link WebSocket#connect} returns.
+	 */
+	private void closeSocket() {
+		final WebSocket current = socket;
+		if (current != null)
+			current.close();
+	}
+
+	/**
+	 * Handles the messages sent by the service.
+	 */
+	private class Listener implements WebSocket.Listener {
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see com.ibm.watson.developer_cloud.service.WebSocket.Listener#onText(java.lang.String)
+		 */
+		@Override
+		public void onText(String text) {
+			final JsonObject message = new JsonParser().parse(text).getAsJsonObject();
+
+			if (message.has("error")) {
+				fail(new RuntimeException(message.get("error").getAsString()));
+			} else if (message.has("results")) {
+				final SpeechResults results = GsonSingleton.getGson().fromJson(message, SpeechResults.class);
+				final List<Transcript> transcripts = results.getResults();
+				if (transcripts == null)
+					return;
+				for (int i = 0; i < transcripts.size(); i++) {
+					try {
+						callback.onTranscript(results.getResultIndex() + i, transcripts.get(i));
+					} catch (RuntimeException e) {
+						log.log(Level.WARNING, "RecognizeCallback.onTranscript failed", e);
+					}
+				}
+			} else if (isListening(message.get("state"))) {
+				// the service listens once after start and again after stop
+				if (++listeningStates == 1) {
+					listening.countDown();
+				} else if (stopped && end()) {
+					try {
+						callback.onCompleted();
+					} catch (RuntimeException e) {
+						log.log(Level.WARNING, "RecognizeCallback.onCompleted failed", e);
+					}
+					release();
+					closeSocket();
+				}
+			}
+		}
+
+		/**
+		 * Checks if a state is the listening state.
+		 *
+		 * @param state
+		 *            the state, can be null
+		 * @return true, if is listening
+		 */
+		private boolean isListening(JsonElement state) {
+			return state != null && state.isJsonPrimitive() && LISTENING.equals(state.getAsString());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see com.ibm.watson.developer_cloud.service.WebSocket.Listener#onClose(int, java.lang.String, java.lang.Exception)
+		 */
+		@Override
+		public void onClose(int code, String reason, Exception e) {
+			if (isDone())
+				return;
+			if (closed) {
+				// abandoned by the caller
+				if (end())
+					release();
+				return;
+			}
+			fail(new RuntimeException("Connection closed before the recognition completed (" + code + "): "
+					+ reason, e));
+		}
+	}
+}
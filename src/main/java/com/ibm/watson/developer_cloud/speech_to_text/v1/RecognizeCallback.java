@@ -0,0 +1,57 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1;
+
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.Transcript;
+
+/**
+ * Receives the results of a {@link RecognitionStream}. The methods are called
+ * from the thread that reads the WebSocket, in the order the service sends
+ * the results. A slow callback slows down the connection instead of
+ * buffering results in memory.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ * @see SpeechToText#recognizeUsingWebSocket(java.util.Map, RecognizeCallback)
+ */
+public interface RecognizeCallback {
+
+	/**
+	 * Called for every interim and final transcript. Interim transcripts of
+	 * an utterance are replaced by the next transcript with the same index;
+	 * {@link Transcript#isFinal()} tells when an utterance will not change
+	 * anymore.
+	 *
+	 * @param index
+	 *            the index of the utterance in the recognition
+	 * @param transcript
+	 *            the transcript
+	 */
+	void onTranscript(int index, Transcript transcript);
+
+	/**
+	 * Called once if the recognition fails. {@link #onCompleted()} is not
+	 * called after an error.
+	 *
+	 * @param e
+	 *            the error
+	 */
+	void onError(Exception e);
+
+	/**
+	 * Called once when the final results of the audio have been received.
+	 */
+	void onCompleted();
+}
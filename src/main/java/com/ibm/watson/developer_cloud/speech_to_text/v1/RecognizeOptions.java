@@ -0,0 +1,417 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.NameValuePair;
+import org.apache.http.message.BasicNameValuePair;
+
+import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.util.GsonSingleton;
+import com.ibm.watson.developer_cloud.util.RequestUtil;
+
+/**
+ * Immutable options of a {@link SpeechToText} recognition. The options are
+ * validated when they are built, and the query string of the HTTP interface
+ * and the start message of the WebSocket interface are encoded once, so the
+ * same instance can be shared by any number of threads and reused for every
+ * recognition: <pre>
+ * {@code
+ *  RecognizeOptions options = new RecognizeOptions.Builder(MediaType.AUDIO_WAV)
+ *     .withContinuous(true)
+ *     .withTimestamps(true)
+ *     .build();
+ *
+ *  for (Path audio : recordings)
+ *    SpeechResults results = service.recognize(audio, options);
+ * }</pre>
+ * 
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ * @see SpeechToText
+ */
+public final class RecognizeOptions {
+
+	/**
+	 * Builds {@link RecognizeOptions}. Every value is checked when it is set.
+	 */
+	public static class Builder {
+
+		/** The content type. */
+		private final String contentType;
+
+		/** The model. */
+		private String model;
+
+		/** The continuous. */
+		private Boolean continuous;
+
+		/** The max alternatives. */
+		private Integer maxAlternatives;
+
+		/** The word confidence. */
+		private Boolean wordConfidence;
+
+		/** The timestamps. */
+		private Boolean timestamps;
+
+		/** The inactivity timeout. */
+		private Integer inactivityTimeout;
+
+		/** The interim results. */
+		private Boolean interimResults;
+
+		/**
+		 * Instantiates a new builder.
+		 * 
+		 * @param contentType
+		 *            the content type of the audio, e.g. "audio/wav"
+		 */
+		public Builder(String contentType) {
+			if (contentType == null || contentType.isEmpty())
+				throw new IllegalArgumentException("contentType was not specified");
+			this.contentType = contentType;
+		}
+
+		/**
+		 * Builds the options.
+		 * 
+		 * @return the options
+		 */
+		public RecognizeOptions build() {
+			return new RecognizeOptions(this);
+		}
+
+		/**
+		 * Sets the model used for the recognition.
+		 * 
+		 * @param model
+		 *            the model name
+		 * @return the builder
+		 */
+		public Builder withModel(String model) {
+			if (model == null || model.isEmpty())
+				throw new IllegalArgumentException("model was not specified");
+			this.model = model;
+			return this;
+		}
+
+		/**
+		 * Sets whether the recognition continues after a pause in the audio.
+		 * 
+		 * @param continuous
+		 *            the continuous
+		 * @return the builder
+		 */
+		public Builder withContinuous(boolean continuous) {
+			this.continuous = continuous;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of alternative transcripts.
+		 * 
+		 * @param maxAlternatives
+		 *            the max alternatives, greater than 0
+		 * @return the builder
+		 */
+		public Builder withMaxAlternatives(int maxAlternatives) {
+			if (maxAlternatives < 1)
+				throw new IllegalArgumentException("maxAlternatives should be greater than 0");
+			this.maxAlternatives = maxAlternatives;
+			return this;
+		}
+
+		/**
+		 * Sets whether the confidence of every word is returned.
+		 * 
+		 * @param wordConfidence
+		 *            the word confidence
+		 * @return the builder
+		 */
+		public Builder withWordConfidence(boolean wordConfidence) {
+			this.wordConfidence = wordConfidence;
+			return this;
+		}
+
+		/**
+		 * Sets whether the time alignment of every word is returned.
+		 * 
+		 * @param timestamps
+		 *            the timestamps
+		 * @return the builder
+		 */
+		public Builder withTimestamps(boolean timestamps) {
+			this.timestamps = timestamps;
+			return this;
+		}
+
+		/**
+		 * Sets the seconds of silence after which the recognition ends.
+		 * 
+		 * @param inactivityTimeout
+		 *            the inactivity timeout in seconds, or -1 for no timeout
+		 * @return the builder
+		 */
+		public Builder withInactivityTimeout(int inactivityTimeout) {
+			if (inactivityTimeout < 1 && inactivityTimeout != -1)
+				throw new IllegalArgumentException("inactivityTimeout should be greater than 0 or -1");
+			this.inactivityTimeout = inactivityTimeout;
+			return this;
+		}
+
+		/**
+		 * Sets whether interim transcripts are sent. Only used by the
+		 * WebSocket interface, where they are sent by default.
+		 * 
+		 * @param interimResults
+		 *            the interim results
+		 * @return the builder
+		 */
+		public Builder withInterimResults(boolean interimResults) {
+			this.interimResults = interimResults;
+			return this;
+		}
+	}
+
+	/** The Constant UTF_8. */
+	private static final String UTF_8 = "UTF-8";
+
+	/** The content type. */
+	private final String contentType;
+
+	/** The model. */
+	private final String model;
+
+	/** The continuous. */
+	private final Boolean continuous;
+
+	/** The max alternatives. */
+	private final Integer maxAlternatives;
+
+	/** The word confidence. */
+	private final Boolean wordConfidence;
+
+	/** The timestamps. */
+	private final Boolean timestamps;
+
+	/** The inactivity timeout. */
+	private final Integer inactivityTimeout;
+
+	/** The interim results. */
+	private final Boolean interimResults;
+
+	/** The query string of the HTTP interface, empty or starting with "?". */
+	private final String query;
+
+	/** The query string of the WebSocket URI, empty or starting with "?". */
+	private final String webSocketQuery;
+
+	/** The start message of the WebSocket interface. */
+	private final String startMessage;
+
+	/**
+	 * Instantiates new options.
+	 * 
+	 * @param builder
+	 *            the builder
+	 */
+	private RecognizeOptions(Builder builder) {
+		contentType = builder.contentType;
+		model = builder.model;
+		continuous = builder.continuous;
+		maxAlternatives = builder.maxAlternatives;
+		wordConfidence = builder.wordConfidence;
+		timestamps = builder.timestamps;
+		inactivityTimeout = builder.inactivityTimeout;
+		interimResults = builder.interimResults;
+
+		final List<NameValuePair> parameters = new ArrayList<NameValuePair>();
+		addParameter(parameters, SpeechToText.WORD_CONFIDENCE, wordConfidence);
+		addParameter(parameters, SpeechToText.CONTINUOUS, continuous);
+		addParameter(parameters, SpeechToText.MAX_ALTERNATIVES, maxAlternatives);
+		addParameter(parameters, SpeechToText.TIMESTAMPS, timestamps);
+		addParameter(parameters, SpeechToText.INACTIVITY_TIMEOUT, inactivityTimeout);
+		addParameter(parameters, SpeechToText.MODEL, model);
+		query = toQuery(parameters);
+
+		final List<NameValuePair> webSocketParameters = new ArrayList<NameValuePair>();
+		addParameter(webSocketParameters, SpeechToText.MODEL, model);
+		webSocketQuery = toQuery(webSocketParameters);
+
+		final JsonObject start = new JsonObject();
+		start.addProperty("action", "start");
+		start.addProperty("content-type", contentType);
+		start.addProperty(SpeechToText.INTERIM_RESULTS, interimResults != null ? interimResults : true);
+		addProperty(start, SpeechToText.WORD_CONFIDENCE, wordConfidence);
+		addProperty(start, SpeechToText.CONTINUOUS, continuous);
+		addProperty(start, SpeechToText.MAX_ALTERNATIVES, maxAlternatives);
+		addProperty(start, SpeechToText.TIMESTAMPS, timestamps);
+		addProperty(start, SpeechToText.INACTIVITY_TIMEOUT, inactivityTimeout);
+		startMessage = start.toString();
+	}
+
+	/**
+	 * Adds a parameter to the list if it was set.
+	 * 
+	 * @param parameters
+	 *            the parameters
+	 * @param name
+	 *            the name
+	 * @param value
+	 *            the value, can be null
+	 */
+	private static void addParameter(List<NameValuePair> parameters, String name, Object value) {
+		if (value != null)
+			parameters.add(new BasicNameValuePair(name, value.toString()));
+	}
+
+	/**
+	 * Adds a property to the start message if it was set.
+	 * 
+	 * @param start
+	 *            the start message
+	 * @param name
+	 *            the name
+	 * @param value
+	 *            the value, can be null
+	 */
+	private static void addProperty(JsonObject start, String name, Object value) {
+		if (value != null)
+			start.add(name, GsonSingleton.getGson().toJsonTree(value));
+	}
+
+	/**
+	 * Formats the query string of the parameters.
+	 * 
+	 * @param parameters
+	 *            the parameters
+	 * @return the query string, empty or starting with "?"
+	 */
+	private static String toQuery(List<NameValuePair> parameters) {
+		return parameters.isEmpty() ? "" : "?" + RequestUtil.formatQueryString(parameters, UTF_8);
+	}
+
+	/**
+	 * Gets the content type.
+	 * 
+	 * @return the content type
+	 */
+	public String getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * Gets the model.
+	 * 
+	 * @return the model, or null for the default model
+	 */
+	public String getModel() {
+		return model;
+	}
+
+	/**
+	 * Gets the continuous.
+	 * 
+	 * @return the continuous, or null if not set
+	 */
+	public Boolean getContinuous() {
+		return continuous;
+	}
+
+	/**
+	 * Gets the max alternatives.
+	 * 
+	 * @return the max alternatives, or null if not set
+	 */
+	public Integer getMaxAlternatives() {
+		return maxAlternatives;
+	}
+
+	/**
+	 * Gets the word confidence.
+	 * 
+	 * @return the word confidence, or null if not set
+	 */
+	public Boolean getWordConfidence() {
+		return wordConfidence;
+	}
+
+	/**
+	 * Gets the timestamps.
+	 * 
+	 * @return the timestamps, or null if not set
+	 */
+	public Boolean getTimestamps() {
+		return timestamps;
+	}
+
+	/**
+	 * Gets the inactivity timeout.
+	 * 
+	 * @return the inactivity timeout, or null if not set
+	 */
+	public Integer getInactivityTimeout() {
+		return inactivityTimeout;
+	}
+
+	/**
+	 * Gets the interim results.
+	 * 
+	 * @return the interim results, or null if not set
+	 */
+	public Boolean getInterimResults() {
+		return interimResults;
+	}
+
+	/**
+	 * Gets the query string of the HTTP interface.
+	 * 
+	 * @return the query string, empty or starting with "?"
+	 */
+	String getQuery() {
+		return query;
+	}
+
+	/**
+	 * Gets the query string of the WebSocket URI.
+	 * 
+	 * @return the query string, empty or starting with "?"
+	 */
+	String getWebSocketQuery() {
+		return webSocketQuery;
+	}
+
+	/**
+	 * Gets the start message of the WebSocket interface.
+	 * 
+	 * @return the start message
+	 */
+	String getStartMessage() {
+		return startMessage;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "RecognizeOptions [contentType=" + contentType + ", query=" + query + "]";
+	}
+}
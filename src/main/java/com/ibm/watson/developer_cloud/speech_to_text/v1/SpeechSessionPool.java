@@ -0,0 +1,685 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SessionStatus;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechResults;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechSession;
+
+/**
+ * Pool of {@link SpeechSession}s, kept per model. A session locks a
+ * speech-to-text engine with the model already loaded, so a recognition that
+ * borrows an idle session only costs the recognize round trip: <pre>
+ * {@code
+ *  SpeechSessionPool pool = new SpeechSessionPool(service).withMinIdle(4);
+ *  pool.prewarm("en-US_NarrowbandModel");
+ *  ...
+ *  SpeechResults results = pool.recognize("en-US_NarrowbandModel", params);
+ *  ...
+ *  pool.close();
+ * }</pre>
+ * A session is only used by one recognition at a time. The service deletes
+ * sessions that are idle for {@link #SESSION_TIMEOUT}, so idle sessions are
+ * kept alive by checking their status with
+ * {@link SpeechToText#getRecognizeStatus(SpeechSession)} before they expire;
+ * sessions that are not in the "initialized" state or fail the check are
+ * deleted and replaced. Instances are thread safe.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public class SpeechSessionPool implements Closeable {
+
+	/** The Constant DEFAULT_MAX_SESSIONS per model. (value is 10) */
+	public static final int DEFAULT_MAX_SESSIONS = 10;
+
+	/** The Constant DEFAULT_MIN_IDLE per prewarmed model. (value is 1) */
+	public static final int DEFAULT_MIN_IDLE = 1;
+
+	/**
+	 * The Constant SESSION_TIMEOUT, in milliseconds, after which the service
+	 * deletes an idle session. (value is 30 seconds)
+	 */
+	public static final long SESSION_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+	/**
+	 * The Constant DEFAULT_KEEP_ALIVE, in milliseconds. Idle sessions are
+	 * checked every half interval, so they are checked at the latest after
+	 * 15 seconds. (value is 10 seconds)
+	 */
+	public static final long DEFAULT_KEEP_ALIVE = TimeUnit.SECONDS.toMillis(10);
+
+	/** The Constant DEFAULT_MAX_WAIT, in milliseconds. (value is 60 seconds) */
+	public static final long DEFAULT_MAX_WAIT = TimeUnit.SECONDS.toMillis(60);
+
+	/** The state of a session that can accept a recognition. */
+	private static final String INITIALIZED = "initialized";
+
+	/** The key of the default model. */
+	private static final String DEFAULT_MODEL = "";
+
+	/** The Constant log. */
+	private static final Logger log = Logger.getLogger(SpeechSessionPool.class.getName());
+
+	/** The service. */
+	private final SpeechToText service;
+
+	/** The sessions of every model. */
+	private final ConcurrentMap<String, ModelPool> pools = new ConcurrentHashMap<String, ModelPool>();
+
+	/** The borrowed sessions, by session id. */
+	private final ConcurrentMap<String, PooledSession> borrowed = new ConcurrentHashMap<String, PooledSession>();
+
+	/** The scheduler of the keep alive task, created by the first prewarm. */
+	private ScheduledExecutorService scheduler;
+
+	/** The max sessions per model. */
+	private volatile int maxSessions = DEFAULT_MAX_SESSIONS;
+
+	/** The min idle sessions of prewarmed models. */
+	private volatile int minIdle = DEFAULT_MIN_IDLE;
+
+	/** The keep alive interval in milliseconds. */
+	private volatile long keepAliveTime = DEFAULT_KEEP_ALIVE;
+
+	/** The max time to wait for a session in milliseconds. */
+	private volatile long maxWait = DEFAULT_MAX_WAIT;
+
+	/** The closed. */
+	private volatile boolean closed;
+
+	/**
+	 * Instantiates a new speech session pool.
+	 *
+	 * @param service
+	 *            the speech to text service used to manage the sessions
+	 */
+	public SpeechSessionPool(SpeechToText service) {
+		if (service == null)
+			throw new IllegalArgumentException("service can not be null");
+		this.service = service;
+	}
+
+	/**
+	 * Sets the maximum number of sessions of a model, borrowed or idle.
+	 *
+	 * @param maxSessions
+	 *            the max sessions
+	 * @return the speech session pool
+	 */
+	public SpeechSessionPool withMaxSessions(int maxSessions) {
+		if (maxSessions < 1)
+			throw new IllegalArgumentException("maxSessions should be greater than 0");
+		this.maxSessions = maxSessions;
+		return this;
+	}
+
+	/**
+	 * Sets the number of idle sessions kept ready for the prewarmed models.
+	 *
+	 * @param minIdle
+	 *            the min idle sessions
+	 * @return the speech session pool
+	 */
+	public SpeechSessionPool withMinIdle(int minIdle) {
+		if (minIdle < 0)
+			throw new IllegalArgumentException("minIdle can not be negative");
+		this.minIdle = minIdle;
+		return this;
+	}
+
+	/**
+	 * Sets how long a session can stay idle before its status is checked.
+	 * Idle sessions are checked every half interval, so one and a half
+	 * intervals must be shorter than {@link #SESSION_TIMEOUT}.
+	 *
+	 * @param keepAlive
+	 *            the keep alive interval
+	 * @param unit
+	 *            the unit
+	 * @return the speech session pool
+	 */
+	public SpeechSessionPool withKeepAlive(long keepAlive, TimeUnit unit) {
+		if (keepAlive <= 0)
+			throw new IllegalArgumentException("keepAlive should be greater than 0");
+		this.keepAliveTime = unit.toMillis(keepAlive);
+		return this;
+	}
+
+	/**
+	 * Sets how long {@link #acquire(String)} waits when all the sessions of a
+	 * model are borrowed.
+	 *
+	 * @param maxWait
+	 *            the max wait
+	 * @param unit
+	 *            the unit
+	 * @return the speech session pool
+	 */
+	public SpeechSessionPool withMaxWait(long maxWait, TimeUnit unit) {
+		if (maxWait < 0)
+			throw new IllegalArgumentException("maxWait can not be negative");
+		this.maxWait = unit.toMillis(maxWait);
+		return this;
+	}
+
+	/**
+	 * Creates the idle sessions of a model and keeps them alive until the
+	 * pool is closed.
+	 *
+	 * @param model
+	 *            the model, or null for the default model
+	 */
+	public void prewarm(String model) {
+		final ModelPool pool = getPool(model);
+		pool.prewarmed = true;
+		startKeepAlive();
+		pool.fill();
+	}
+
+	/**
+	 * Borrows a session of a model. An idle session is returned when there is
+	 * one, otherwise a session is created, unless the maximum is reached; in
+	 * that case this method waits for a session to be released. The session
+	 * must be given back with {@link #release(SpeechSession)} or
+	 * {@link #invalidate(SpeechSession)}.
+	 *
+	 * @param model
+	 *            the model, or null for the default model
+	 * @return the speech session
+	 */
+	public SpeechSession acquire(String model) {
+		final PooledSession pooled = getPool(model).borrow();
+		borrowed.put(pooled.session.getSessionId(), pooled);
+		return pooled.session;
+	}
+
+	/**
+	 * Gives back a session after a successful recognition.
+	 *
+	 * @param session
+	 *            the session
+	 */
+	public void release(SpeechSession session) {
+		final PooledSession pooled = borrowed.remove(session.getSessionId());
+		if (pooled == null)
+			throw new IllegalArgumentException("the session was not borrowed from this pool");
+		pooled.pool.giveBack(pooled, true);
+	}
+
+	/**
+	 * Deletes a broken session instead of giving it back.
+	 *
+	 * @param session
+	 *            the session
+	 */
+	public void invalidate(SpeechSession session) {
+		final PooledSession pooled = borrowed.remove(session.getSessionId());
+		if (pooled == null)
+			throw new IllegalArgumentException("the session was not borrowed from this pool");
+		pooled.pool.giveBack(pooled, false);
+	}
+
+	/**
+	 * Recognizes audio with a session of the model. The session is
+	 * invalidated if the recognition fails.
+	 *
+	 * @param model
+	 *            the model, or null for the default model
+	 * @param params
+	 *            the parameters of {@link SpeechToText#recognize(Map)}
+	 * @return the speech results
+	 */
+	public SpeechResults recognize(String model, Map<String, Object> params) {
+		final SpeechSession session = acquire(model);
+		boolean healthy = false;
+		try {
+			final SpeechResults results = service.recognize(session, params);
+			healthy = true;
+			return results;
+		} finally {
+			if (healthy)
+				release(session);
+			else
+				invalidate(session);
+		}
+	}
+
+	/**
+	 * Gets the number of idle sessions of a model.
+	 *
+	 * @param model
+	 *            the model, or null for the default model
+	 * @return the idle count
+	 */
+	public int getIdleCount(String model) {
+		final ModelPool pool = pools.get(key(model));
+		return pool == null ? 0 : pool.getIdleCount();
+	}
+
+	/**
+	 * Gets the number of sessions of a model, borrowed or idle.
+	 *
+	 * @param model
+	 *            the model, or null for the default model
+	 * @return the session count
+	 */
+	public int getSessionCount(String model) {
+		final ModelPool pool = pools.get(key(model));
+		return pool == null ? 0 : pool.getSessionCount();
+	}
+
+	/**
+	 * Checks the idle sessions that have not been used for the keep alive
+	 * interval and replaces the broken ones. This is called periodically
+	 * once a model was prewarmed.
+	 */
+	public void keepAlive() {
+		for (ModelPool pool : pools.values()) {
+			try {
+				pool.keepAlive();
+				if (pool.prewarmed)
+					pool.fill();
+			} catch (RuntimeException e) {
+				log.log(Level.WARNING, "Error keeping the " + pool.model + " sessions alive", e);
+			}
+		}
+	}
+
+	/**
+	 * Deletes the idle sessions and stops keeping them alive. Borrowed
+	 * sessions are deleted when they are given back.
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			if (closed)
+				return;
+			closed = true;
+			if (scheduler != null)
+				scheduler.shutdownNow();
+		}
+		for (ModelPool pool : pools.values())
+			pool.clear();
+	}
+
+	/**
+	 * Starts the keep alive task if it is not running.
+	 */
+	private synchronized void startKeepAlive() {
+		if (closed)
+			throw new IllegalStateException("the session pool has been closed");
+		if (scheduler != null)
+			return;
+
+		scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+				.setDaemon(true).setNameFormat("watson-speech-sessions-%d").build());
+		final long interval = Math.max(1, keepAliveTime / 2);
+		scheduler.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				keepAlive();
+			}
+		}, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Gets the pool of a model, creating it the first time.
+	 *
+	 * @param model
+	 *            the model
+	 * @return the pool
+	 */
+	private ModelPool getPool(String model) {
+		final String key = key(model);
+		ModelPool pool = pools.get(key);
+		if (pool == null) {
+			final ModelPool created = new ModelPool(key);
+			pool = pools.putIfAbsent(key, created);
+			if (pool == null)
+				pool = created;
+		}
+		return pool;
+	}
+
+	/**
+	 * Gets the key of a model.
+	 *
+	 * @param model
+	 *            the model
+	 * @return the key
+	 */
+	private static String key(String model) {
+		return model == null ? DEFAULT_MODEL : model;
+	}
+
+	/**
+	 * Deletes a session, ignoring errors since a broken session may already
+	 * be gone.
+	 *
+	 * @param session
+	 *            the session
+	 */
+	private void delete(SpeechSession session) {
+		try {
+			service.deleteSession(session);
+		} catch (RuntimeException e) {
+			log.log(Level.FINE, "Error deleting the session " + session.getSessionId(), e);
+		}
+	}
+
+	/**
+	 * Checks if a session can accept a recognition.
+	 *
+	 * @param session
+	 *            the session
+	 * @return true, if is healthy
+	 */
+	private boolean isHealthy(SpeechSession session) {
+		try {
+			final SessionStatus status = service.getRecognizeStatus(session);
+			return status != null && INITIALIZED.equals(status.getState());
+		} catch (RuntimeException e) {
+			log.log(Level.FINE, "Error checking the session " + session.getSessionId(), e);
+			return false;
+		}
+	}
+
+	/**
+	 * A session and the pool it belongs to.
+	 */
+	private static class PooledSession {
+
+		/** The pool. */
+		private final ModelPool pool;
+
+		/** The session. */
+		private final SpeechSession session;
+
+		/** The last time the session was used, from System.nanoTime(). */
+		private volatile long lastUsed = System.nanoTime();
+
+		/**
+		 * Instantiates a new pooled session.
+		 *
+		 * @param pool
+		 *            the pool
+		 * @param session
+		 *            the session
+		 */
+		PooledSession(ModelPool pool, SpeechSession session) {
+			this.pool = pool;
+			this.session = session;
+		}
+
+		/**
+		 * Gets the time since the session was used.
+		 *
+		 * @return the idle time in milliseconds
+		 */
+		long getIdleTime() {
+			return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastUsed);
+		}
+	}
+
+	/**
+	 * The sessions of one model. Sessions are created and checked outside
+	 * of the lock, after reserving their slot.
+	 */
+	private class ModelPool {
+
+		/** The model. */
+		private final String model;
+
+		/** The lock. */
+		private final ReentrantLock lock = new ReentrantLock();
+
+		/** Signaled when a slot or an idle session becomes available. */
+		private final Condition available = lock.newCondition();
+
+		/** The idle sessions, most recently used first. */
+		private final Deque<PooledSession> idle = new ArrayDeque<PooledSession>();
+
+		/** The number of sessions, borrowed, idle or being created. */
+		private int total;
+
+		/** Whether idle sessions are kept ready for this model. */
+		private volatile boolean prewarmed;
+
+		/**
+		 * Instantiates a new model pool.
+		 *
+		 * @param model
+		 *            the model
+		 */
+		ModelPool(String model) {
+			this.model = model;
+		}
+
+		/**
+		 * Borrows an idle session or creates one.
+		 *
+		 * @return the pooled session
+		 */
+		PooledSession borrow() {
+			final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWait);
+			while (true) {
+				PooledSession pooled = null;
+				lock.lock();
+				try {
+					while (idle.isEmpty() && total >= maxSessions) {
+						if (closed)
+							throw new IllegalStateException("the session pool has been closed");
+						final long remaining = deadline - System.nanoTime();
+						if (remaining <= 0)
+							throw new RuntimeException("Timed out waiting for a " + model + " speech session");
+						available.awaitNanos(remaining);
+					}
+					if (closed)
+						throw new IllegalStateException("the session pool has been closed");
+					pooled = idle.pollFirst();
+					if (pooled == null)
+						total++;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new RuntimeException(e);
+				} finally {
+					lock.unlock();
+				}
+
+				if (pooled == null)
+					return create();
+				// a session idle for too long may have expired
+				if (pooled.getIdleTime() < keepAliveTime || isHealthy(pooled.session))
+					return pooled;
+				discard(pooled);
+			}
+		}
+
+		/**
+		 * Creates a session in a slot that was already reserved.
+		 *
+		 * @return the pooled session
+		 */
+		private PooledSession create() {
+			try {
+				return new PooledSession(this, service.createSession(model.isEmpty() ? null : model));
+			} catch (RuntimeException e) {
+				freeSlot();
+				throw e;
+			}
+		}
+
+		/**
+		 * Gives back a borrowed session.
+		 *
+		 * @param pooled
+		 *            the pooled session
+		 * @param healthy
+		 *            whether the session can be reused
+		 */
+		void giveBack(PooledSession pooled, boolean healthy) {
+			if (!healthy || closed) {
+				discard(pooled);
+				return;
+			}
+			pooled.lastUsed = System.nanoTime();
+			lock.lock();
+			try {
+				idle.addFirst(pooled);
+				available.signal();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Deletes a session and frees its slot.
+		 *
+		 * @param pooled
+		 *            the pooled session
+		 */
+		private void discard(PooledSession pooled) {
+			freeSlot();
+			delete(pooled.session);
+		}
+
+		/**
+		 * Frees the slot of a session.
+		 */
+		private void freeSlot() {
+			lock.lock();
+			try {
+				total--;
+				available.signal();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Creates sessions until there are min idle sessions.
+		 */
+		void fill() {
+			while (!closed) {
+				lock.lock();
+				try {
+					if (idle.size() >= minIdle || total >= maxSessions)
+						return;
+					total++;
+				} finally {
+					lock.unlock();
+				}
+				giveBack(create(), true);
+			}
+		}
+
+		/**
+		 * Checks the sessions that have been idle for the keep alive
+		 * interval. They are taken out of the pool while being checked.
+		 */
+		void keepAlive() {
+			final List<PooledSession> stale = new ArrayList<PooledSession>();
+			lock.lock();
+			try {
+				for (PooledSession pooled : idle) {
+					if (pooled.getIdleTime() >= keepAliveTime)
+						stale.add(pooled);
+				}
+				idle.removeAll(stale);
+			} finally {
+				lock.unlock();
+			}
+
+			for (PooledSession pooled : stale) {
+				if (isHealthy(pooled.session)) {
+					lock.lock();
+					try {
+						pooled.lastUsed = System.nanoTime();
+						idle.addLast(pooled);
+						available.signal();
+					} finally {
+						lock.unlock();
+					}
+				} else {
+					log.fine("Evicting the speech session " + pooled.session.getSessionId());
+					discard(pooled);
+				}
+			}
+		}
+
+		/**
+		 * Deletes the idle sessions.
+		 */
+		void clear() {
+			final List<PooledSession> sessions;
+			lock.lock();
+			try {
+				sessions = new ArrayList<PooledSession>(idle);
+				idle.clear();
+				available.signalAll();
+			} finally {
+				lock.unlock();
+			}
+			for (PooledSession pooled : sessions)
+				discard(pooled);
+		}
+
+		/**
+		 * Gets the idle count.
+		 *
+		 * @return the idle count
+		 */
+		int getIdleCount() {
+			lock.lock();
+			try {
+				return idle.size();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Gets the session count.
+		 *
+		 * @return the session count
+		 */
+		int getSessionCount() {
+			lock.lock();
+			try {
+				return total;
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
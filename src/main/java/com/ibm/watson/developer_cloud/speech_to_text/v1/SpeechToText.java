@@ -16,16 +16,30 @@
 package com.ibm.watson.developer_cloud.speech_to_text.v1;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.InputStreamEntity;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.service.HttpTransport;
 import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SessionStatus;
@@ -33,6 +47,8 @@ import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechModel;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechModelSet;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechResults;
 import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechSession;
+import com.ibm.watson.developer_cloud.util.ByteBufferEntity;
+import com.ibm.watson.developer_cloud.util.FileRegionEntity;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
 
@@ -76,6 +92,9 @@ public class SpeechToText extends WatsonService {
 	
 	/** The Constant AUDIO. */
 	public static final String AUDIO = "audio";
+
+	/** The Constant INTERIM_RESULTS. */
+	public static final String INTERIM_RESULTS = "interim_results";
 	
 	/** The url. */
 	private final static String URL = "https://stream.watsonplatform.net/speech-to-text/api";
@@ -113,23 +132,65 @@ public class SpeechToText extends WatsonService {
 	 * @return the {@link SpeechSession}
 	 */
 	public SpeechSession createSession(final String model) {
-		String path = "/v1/sessions";
-
-		if (model != null && !model.isEmpty())
-			path += "?model=" + model;
-
-		HttpRequestBase request = Request.Post(path).build();
+		HttpRequestBase request = buildCreateSessionRequest(model);
 		try {
 			HttpResponse response = execute(request);
-			SpeechSession speechSession = ResponseUtil.getObject(response, SpeechSession.class);
-			speechSession.setCookieSession(response.getFirstHeader("set-cookie").getValue());
-			return speechSession;
+			return toSpeechSession(response);
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
 
 	}
 
+	/**
+	 * Create a session without blocking the calling thread.
+	 *
+	 * @param model the model
+	 * @return the future {@link SpeechSession}
+	 * @see #createSession(String)
+	 */
+	public ListenableFuture<SpeechSession> createSessionAsync(final String model) {
+		return Futures.transform(executeAsync(buildCreateSessionRequest(model)),
+				new Function<HttpResponse, SpeechSession>() {
+					@Override
+					public SpeechSession apply(HttpResponse response) {
+						try {
+							return toSpeechSession(response);
+						} catch (IOException e) {
+							throw new RuntimeException(e);
+						}
+					}
+				});
+	}
+
+	/**
+	 * Builds the create session request.
+	 *
+	 * @param model the model, can be null
+	 * @return the request
+	 */
+	private HttpRequestBase buildCreateSessionRequest(final String model) {
+		String path = "/v1/sessions";
+
+		if (model != null && !model.isEmpty())
+			path += "?model=" + model;
+
+		return Request.Post(path).build();
+	}
+
+	/**
+	 * Reads the session and its cookie from the create session response.
+	 *
+	 * @param response the response
+	 * @return the {@link SpeechSession}
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private static SpeechSession toSpeechSession(HttpResponse response) throws IOException {
+		SpeechSession speechSession = ResponseUtil.getObject(response, SpeechSession.class);
+		speechSession.setCookieSession(response.getFirstHeader("set-cookie").getValue());
+		return speechSession;
+	}
+
 	/**
 	 * Delete a session.
 	 * 
@@ -173,16 +234,33 @@ public class SpeechToText extends WatsonService {
 	 * @return the model
 	 */
 	public SpeechModel getModel(final String name) {
+		return executeRequest(buildModelRequest(name), SpeechModel.class);
+	}
+
+	/**
+	 * Gets the speech model without blocking the calling thread.
+	 * 
+	 * @param name
+	 *            the name
+	 * @return the future model
+	 * @see #getModel(String)
+	 */
+	public ListenableFuture<SpeechModel> getModelAsync(final String name) {
+		return executeRequestAsync(buildModelRequest(name), SpeechModel.class);
+	}
+
+	/**
+	 * Builds the model request.
+	 * 
+	 * @param name
+	 *            the name
+	 * @return the request
+	 */
+	private Request buildModelRequest(final String name) {
 		if (name == null)
 			throw new IllegalArgumentException("name was not specified");
 
-		HttpRequestBase request = Request.Get("/v1/models/" + name).build();
-		try {
-			HttpResponse response = execute(request);
-			return ResponseUtil.getObject(response,SpeechModel.class);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		return Request.Get("/v1/models/" + name);
 	}
 
 	/**
@@ -200,6 +278,22 @@ public class SpeechToText extends WatsonService {
 		}
 	}
 
+	/**
+	 * Gets the models without blocking the calling thread.
+	 * 
+	 * @return the future models
+	 * @see #getModels()
+	 */
+	public ListenableFuture<List<SpeechModel>> getModelsAsync() {
+		return Futures.transform(executeRequestAsync(Request.Get("/v1/models"), SpeechModelSet.class),
+				new Function<SpeechModelSet, List<SpeechModel>>() {
+					@Override
+					public List<SpeechModel> apply(SpeechModelSet modelSet) {
+						return modelSet.getModels();
+					}
+				});
+	}
+
 	/**
 	 * Gets the session status. Concurrent recognition tasks during the same
 	 * session are not allowed. This method offers a way to check whether the
@@ -211,13 +305,7 @@ public class SpeechToText extends WatsonService {
 	 * @return the model
 	 */
 	public SessionStatus getRecognizeStatus(final SpeechSession session) {
-		if (session == null)
-			throw new IllegalArgumentException("session was not specified");
-
-		HttpRequestBase request = Request
-				.Get("/v1/sessions/" + session.getSessionId() + "/recognize")
-				.withHeader("Cookie", session.getCookieSession())
-				.build();
+		HttpRequestBase request = buildRecognizeStatusRequest(session).build();
 		try {
 			HttpResponse response = execute(request);
 			String resultJson = ResponseUtil.getString(response);
@@ -229,6 +317,34 @@ public class SpeechToText extends WatsonService {
 		}
 	}
 
+	/**
+	 * Gets the session status without blocking the calling thread.
+	 * 
+	 * @param session
+	 *            the speech session
+	 * @return the future session status
+	 * @see #getRecognizeStatus(SpeechSession)
+	 */
+	public ListenableFuture<SessionStatus> getRecognizeStatusAsync(final SpeechSession session) {
+		return executeRequestAsync(buildRecognizeStatusRequest(session), SessionStatus.class);
+	}
+
+	/**
+	 * Builds the session status request.
+	 * 
+	 * @param session
+	 *            the speech session
+	 * @return the request
+	 */
+	private Request buildRecognizeStatusRequest(final SpeechSession session) {
+		if (session == null)
+			throw new IllegalArgumentException("session was not specified");
+
+		return Request
+				.Get("/v1/sessions/" + session.getSessionId() + "/recognize")
+				.withHeader("Cookie", session.getCookieSession());
+	}
+
 	/**
 	 * Recognize.
 	 * 
@@ -245,6 +361,166 @@ public class SpeechToText extends WatsonService {
 		return recognize(params);
 	}
 
+	/**
+	 * Recognize an audio file.
+	 * 
+	 * @param audio
+	 *            the path of the audio file
+	 * @param contentType
+	 *            the content type
+	 * @return the speech results
+	 */
+	public SpeechResults recognize(final Path audio, final String contentType) {
+		return recognize(audioParams(audio, contentType));
+	}
+
+	/**
+	 * Recognize audio that is already in memory.
+	 * 
+	 * @param audio
+	 *            the audio
+	 * @param contentType
+	 *            the content type
+	 * @return the speech results
+	 */
+	public SpeechResults recognize(final byte[] audio, final String contentType) {
+		return recognize(audioParams(audio, contentType));
+	}
+
+	/**
+	 * Recognize the remaining bytes of a buffer. The position of the buffer is
+	 * not changed, and the request can be retried.
+	 * 
+	 * @param audio
+	 *            the audio
+	 * @param contentType
+	 *            the content type
+	 * @return the speech results
+	 */
+	public SpeechResults recognize(final ByteBuffer audio, final String contentType) {
+		return recognize(audioParams(audio, contentType));
+	}
+
+	/**
+	 * Recognize the audio read from an input stream, for example a
+	 * microphone. The audio is sent while it is read and the request is not
+	 * retried. The input stream is closed when the request completes.
+	 * 
+	 * @param audio
+	 *            the audio
+	 * @param contentType
+	 *            the content type
+	 * @return the speech results
+	 */
+	public SpeechResults recognize(final InputStream audio, final String contentType) {
+		return recognize(audioParams(audio, contentType));
+	}
+
+	/**
+	 * Recognize an audio file with prebuilt options.
+	 * 
+	 * @param audio
+	 *            the audio file
+	 * @param options
+	 *            the options
+	 * @return the speech results
+	 */
+	public SpeechResults recognize(final File audio, final RecognizeOptions options) {
+		return recognize(getAudioEntity(audio), options);
+	}
+
+	/**
+	 * Recognize an audio file with prebuilt options.
+	 * 
+	 * @param audio
+	 *            the path of the audio file
+	 * @param options
+	 *            the options
+	 * @return the speech results
+	 */
+	public SpeechResults recognize(final Path audio, final RecognizeOptions options) {
+		return recognize(getAudioEntity(audio), options);
+	}
+
+	/**
+	 * Recognize audio that is already in memory with prebuilt options.
+	 * 
+	 * @param audio
+	 *            the audio
+	 * @param options
+	 *            the options
+	 * @return the speech results
+	 */
+	public SpeechResults recognize(final byte[] audio, final RecognizeOptions options) {
+		return recognize(getAudioEntity(audio), options);
+	}
+
+	/**
+	 * Recognize the remaining bytes of a buffer with prebuilt options. The
+	 * position of the buffer is not changed.
+	 * 
+	 * @param audio
+	 *            the audio
+	 * @param options
+	 *            the options
+	 * @return the speech results
+	 */
+	public SpeechResults recognize(final ByteBuffer audio, final RecognizeOptions options) {
+		return recognize(getAudioEntity(audio), options);
+	}
+
+	/**
+	 * Recognize the audio read from an input stream with prebuilt options. The
+	 * input stream is closed when the request completes.
+	 * 
+	 * @param audio
+	 *            the audio
+	 * @param options
+	 *            the options
+	 * @return the speech results
+	 */
+	public SpeechResults recognize(final InputStream audio, final RecognizeOptions options) {
+		return recognize(getAudioEntity(audio), options);
+	}
+
+	/**
+	 * Recognize an audio entity with prebuilt options. The query string was
+	 * encoded when the options were built.
+	 * 
+	 * @param audio
+	 *            the audio entity
+	 * @param options
+	 *            the options
+	 * @return the speech results
+	 */
+	private SpeechResults recognize(final HttpEntity audio, final RecognizeOptions options) {
+		if (options == null)
+			throw new IllegalArgumentException("options were not specified");
+
+		if (audio instanceof AbstractHttpEntity)
+			((AbstractHttpEntity) audio).setContentType(options.getContentType());
+		Request request = Request.Post("/v1/recognize" + options.getQuery())
+				.withHeader("Content-Type", options.getContentType())
+				.withEntity(audio);
+		return executeRequest(request, SpeechResults.class);
+	}
+
+	/**
+	 * Creates the parameters of a recognition with an audio and a content type.
+	 * 
+	 * @param audio
+	 *            the audio
+	 * @param contentType
+	 *            the content type
+	 * @return the parameters
+	 */
+	private static Map<String, Object> audioParams(final Object audio, final String contentType) {
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(AUDIO, audio);
+		params.put(CONTENT_TYPE, contentType);
+		return params;
+	}
+
 	/**
 	 * Recognize.
 	 * 
@@ -252,16 +528,131 @@ public class SpeechToText extends WatsonService {
 	 *            the parameters to use for the recognition. for example:
 	 *            "word_confidence", "continuous", "max_alternatives",
 	 *            "timestamps", "inactivity_timeout", "model", "session_id",
-	 *            content_type
+	 *            content_type. The audio can be a {@link File}, a
+	 *            {@link Path}, a byte array, a {@link ByteBuffer} or an
+	 *            {@link InputStream}
 	 * @return the speech results
 	 */
 	public SpeechResults recognize(Map<String, Object> params) {
+		return executeRequest(buildRecognizeRequest(params, null, getAudioEntity(params.get(AUDIO))), SpeechResults.class);
+	}
+
+	/**
+	 * Recognize using a session, so that the request is processed by the
+	 * engine locked to the session and the model is already loaded. The
+	 * session must not be used by another recognition at the same time.
+	 * 
+	 * @param session
+	 *            the speech session
+	 * @param params
+	 *            the parameters to use for the recognition
+	 * @return the speech results
+	 * @see SpeechSessionPool
+	 */
+	public SpeechResults recognize(final SpeechSession session, Map<String, Object> params) {
+		if (session == null)
+			throw new IllegalArgumentException("session was not specified");
+		return executeRequest(buildRecognizeRequest(params, session, getAudioEntity(params.get(AUDIO))), SpeechResults.class);
+	}
+
+	/**
+	 * Recognize without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            the parameters to use for the recognition
+	 * @return the future speech results
+	 * @see #recognize(Map)
+	 */
+	public ListenableFuture<SpeechResults> recognizeAsync(Map<String, Object> params) {
+		return recognizeAsync(params, getAudioEntity(params.get(AUDIO)));
+	}
+
+	/**
+	 * Recognize an audio entity without blocking the calling thread.
+	 * 
+	 * @param params
+	 *            the parameters to use for the recognition
+	 * @param audio
+	 *            the audio entity, should be repeatable so that the request
+	 *            can be retried
+	 * @return the future speech results
+	 */
+	ListenableFuture<SpeechResults> recognizeAsync(Map<String, Object> params, HttpEntity audio) {
+		return executeRequestAsync(buildRecognizeRequest(params, null, audio), SpeechResults.class);
+	}
+
+	/**
+	 * Recognize using a session without blocking the calling thread. The
+	 * session must not be used by another recognition until the future
+	 * completes.
+	 * 
+	 * @param session
+	 *            the speech session
+	 * @param params
+	 *            the parameters to use for the recognition
+	 * @return the future speech results
+	 * @see #recognize(SpeechSession, Map)
+	 */
+	public ListenableFuture<SpeechResults> recognizeAsync(final SpeechSession session, Map<String, Object> params) {
+		if (session == null)
+			throw new IllegalArgumentException("session was not specified");
+		return executeRequestAsync(buildRecognizeRequest(params, session, getAudioEntity(params.get(AUDIO))),
+				SpeechResults.class);
+	}
 
-		File audio = (File) params.get(AUDIO);
-		if (audio == null || !audio.exists() || !audio.isFile())
-			throw new IllegalArgumentException(
-					"audio is not a valid audio file");
+	/**
+	 * Gets the entity of an audio. Files and paths are streamed
+	 * from the file system without being loaded in memory, and byte
+	 * arrays and buffers are sent in place, so none of them is written to a
+	 * temporary file. Input streams are sent as they are read, which makes
+	 * the request not repeatable: it is not retried if it fails.
+	 * 
+	 * @param audio
+	 *            the audio
+	 * @return the audio entity
+	 */
+	private HttpEntity getAudioEntity(final Object audio) {
+		try {
+			if (audio instanceof File) {
+				final File file = (File) audio;
+				if (!file.isFile())
+					throw new IllegalArgumentException("audio is not a valid audio file");
+				return new FileRegionEntity(file.toPath());
+			} else if (audio instanceof Path) {
+				final Path path = (Path) audio;
+				if (!Files.isRegularFile(path))
+					throw new IllegalArgumentException("audio is not a valid audio file");
+				return new FileRegionEntity(path);
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
 
+		if (audio instanceof byte[]) {
+			return new ByteArrayEntity((byte[]) audio);
+		} else if (audio instanceof ByteBuffer) {
+			return new ByteBufferEntity((ByteBuffer) audio);
+		} else if (audio instanceof InputStream) {
+			final InputStreamEntity reqEntity = new InputStreamEntity((InputStream) audio, -1);
+			reqEntity.setChunked(true);
+			return reqEntity;
+		}
+		throw new IllegalArgumentException(
+				"audio must be a File, Path, byte[], ByteBuffer or InputStream");
+	}
+
+	/**
+	 * Builds the recognize request.
+	 * 
+	 * @param params
+	 *            the parameters
+	 * @param session
+	 *            the session, can be null
+	 * @param audio
+	 *            the audio entity
+	 * @return the request
+	 */
+	private Request buildRecognizeRequest(Map<String, Object> params, SpeechSession session, HttpEntity audio) {
 		String contentType = (String) params.get(CONTENT_TYPE);
 		if (contentType == null)
 			throw new IllegalArgumentException("contentType was not specified");
@@ -269,12 +660,17 @@ public class SpeechToText extends WatsonService {
 		// Build the recognize url
 		StringBuilder urlBuider = new StringBuilder();
 		urlBuider.append("/v1");
-		urlBuider.append(params.containsKey(SESSION_ID) ? "/sessions/"
-				+ params.get(SESSION_ID) : "");
+		if (session != null)
+			urlBuider.append("/sessions/" + session.getSessionId());
+		else
+			urlBuider.append(params.containsKey(SESSION_ID) ? "/sessions/"
+					+ params.get(SESSION_ID) : "");
 		urlBuider.append("/recognize");
 
 		Request request = Request.Post(urlBuider.toString());
 		request.withHeader("Content-Type", contentType);
+		if (session != null)
+			request.withHeader("Cookie", session.getCookieSession());
 
 		String[] queryParameters = new String[] { WORD_CONFIDENCE,
 				CONTINUOUS, MAX_ALTERNATIVES, TIMESTAMPS,
@@ -285,18 +681,141 @@ public class SpeechToText extends WatsonService {
 				request.withQuery(param, params.get(param));
 		}
 
-		InputStreamEntity reqEntity = null;
-		try {
-			reqEntity = new InputStreamEntity(new FileInputStream(audio), -1);
+		if (audio instanceof AbstractHttpEntity)
+			((AbstractHttpEntity) audio).setContentType(contentType);
+		request.withEntity(audio);
+		return request;
+	}
 
-			reqEntity.setContentType(contentType);
-			reqEntity.setChunked(true);
-			request.withEntity(reqEntity);
+	/**
+	 * Starts a streaming recognition using the WebSocket interface of the
+	 * service. The audio is written to the returned {@link RecognitionStream}
+	 * as it becomes available, and the interim and final transcripts are
+	 * delivered to the callback as they are recognized.
+	 *
+	 * @param params
+	 *            the parameters to use for the recognition. for example:
+	 *            "content_type", "interim_results" (true by default),
+	 *            "word_confidence", "continuous", "max_alternatives",
+	 *            "timestamps", "inactivity_timeout", "model"
+	 * @param callback
+	 *            the callback notified of the transcripts
+	 * @return the recognition stream, which must be closed
+	 */
+	public RecognitionStream recognizeUsingWebSocket(Map<String, Object> params, RecognizeCallback callback) {
+		if (callback == null)
+			throw new IllegalArgumentException("callback was not specified");
 
-			HttpResponse response = execute(request.build());
-			return ResponseUtil.getObject(response,SpeechResults.class);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
+		String contentType = (String) params.get(CONTENT_TYPE);
+		if (contentType == null)
+			throw new IllegalArgumentException("contentType was not specified");
+
+		JsonObject start = new JsonObject();
+		start.addProperty("action", "start");
+		start.addProperty("content-type", contentType);
+		start.addProperty(INTERIM_RESULTS, true);
+
+		String[] startParameters = new String[] { INTERIM_RESULTS, WORD_CONFIDENCE,
+				CONTINUOUS, MAX_ALTERNATIVES, TIMESTAMPS, INACTIVITY_TIMEOUT };
+
+		for (String param : startParameters) {
+			if (params.get(param) != null)
+				start.add(param, GsonSingleton.getGson().toJsonTree(params.get(param)));
+		}
+
+		return openRecognitionStream(getWebSocketURI(params), start.toString(), callback);
+	}
+
+	/**
+	 * Starts a streaming recognition with prebuilt options using the WebSocket
+	 * interface of the service. The start message was encoded when the
+	 * options were built.
+	 *
+	 * @param options
+	 *            the options
+	 * @param callback
+	 *            the callback notified of the transcripts
+	 * @return the recognition stream, which must be closed
+	 * @see #recognizeUsingWebSocket(Map, RecognizeCallback)
+	 */
+	public RecognitionStream recognizeUsingWebSocket(RecognizeOptions options, RecognizeCallback callback) {
+		if (callback == null)
+			throw new IllegalArgumentException("callback was not specified");
+		if (options == null)
+			throw new IllegalArgumentException("options were not specified");
+
+		URI uri = URI.create(getEndPoint().replaceFirst("^http", "ws") + "/v1/recognize"
+				+ options.getWebSocketQuery());
+		return openRecognitionStream(uri, options.getStartMessage(), callback);
+	}
+
+	/**
+	 * Opens a recognition stream authenticated with the credentials of the
+	 * service.
+	 *
+	 * @param uri
+	 *            the recognize WebSocket URI
+	 * @param start
+	 *            the start message
+	 * @param callback
+	 *            the callback
+	 * @return the recognition stream
+	 */
+	private RecognitionStream openRecognitionStream(URI uri, String start, RecognizeCallback callback) {
+		if (getApiKey() == null)
+			throw new IllegalArgumentException("apiKey or username and password were not specified");
+
+		Map<String, String> headers = new HashMap<String, String>();
+		headers.put("Authorization", getApiKey().startsWith("Basic ") ? getApiKey() : "Basic " + getApiKey());
+
+		return RecognitionStream.open(uri, headers, HttpTransport.DEFAULT_CONNECTION_TIMEOUT, start, callback);
+	}
+
+	/**
+	 * Recognizes the audio read from an input stream using the WebSocket
+	 * interface of the service. The transcripts are delivered to the callback
+	 * while the audio is being sent, and this method returns once the final
+	 * results were received. The input stream is not closed.
+	 *
+	 * @param audio
+	 *            the audio
+	 * @param params
+	 *            the parameters to use for the recognition
+	 * @param callback
+	 *            the callback notified of the transcripts
+	 * @see #recognizeUsingWebSocket(Map, RecognizeCallback)
+	 */
+	public void recognizeUsingWebSocket(InputStream audio, Map<String, Object> params, RecognizeCallback callback) {
+		if (audio == null)
+			throw new IllegalArgumentException("audio was not specified");
+
+		RecognitionStream stream = recognizeUsingWebSocket(params, callback);
+		try {
+			stream.write(audio);
+			stream.finish();
+		} finally {
+			stream.close();
+		}
+	}
+
+	/**
+	 * Gets the URI of the recognize WebSocket.<br>
+	 * <b>From:</b> https://host/speech-to-text/api <br>
+	 * <b>to:</b> wss://host/speech-to-text/api/v1/recognize?model=...
+	 *
+	 * @param params
+	 *            the parameters
+	 * @return the WebSocket URI
+	 */
+	private URI getWebSocketURI(Map<String, Object> params) {
+		String url = getEndPoint().replaceFirst("^http", "ws") + "/v1/recognize";
+		if (params.get(MODEL) != null) {
+			try {
+				url += "?" + MODEL + "=" + URLEncoder.encode(params.get(MODEL).toString(), "UTF-8");
+			} catch (UnsupportedEncodingException e) {
+				throw new RuntimeException(e);
+			}
 		}
+		return URI.create(url);
 	}
 }
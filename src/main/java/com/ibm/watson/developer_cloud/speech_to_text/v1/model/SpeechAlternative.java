@@ -16,6 +16,8 @@
 
 package com.ibm.watson.developer_cloud.speech_to_text.v1.model;
 
+import java.util.List;
+
 import com.ibm.watson.developer_cloud.service.model.GenericModel;
 
 /**
@@ -26,6 +28,31 @@ public class SpeechAlternative extends GenericModel {
 	/** The transcript. */
 	private String transcript;
 
+	/** The confidence. */
+	private Double confidence;
+
+	/** The timestamps. */
+	private List<SpeechTimestamp> timestamps;
+
+	/**
+	 * Gets the confidence.
+	 * 
+	 * @return The confidence or null if it was not returned
+	 */
+	public Double getConfidence() {
+		return confidence;
+	}
+
+	/**
+	 * Gets the word timestamps, only returned when they were requested with
+	 * "timestamps".
+	 * 
+	 * @return The timestamps
+	 */
+	public List<SpeechTimestamp> getTimestamps() {
+		return timestamps;
+	}
+
 	/**
 	 * Gets the transcript.
 	 * 
@@ -45,4 +72,23 @@ public class SpeechAlternative extends GenericModel {
 		this.transcript = transcript;
 	}
 
+	/**
+	 * Sets the confidence.
+	 * 
+	 * @param confidence
+	 *            The confidence
+	 */
+	public void setConfidence(final Double confidence) {
+		this.confidence = confidence;
+	}
+
+	/**
+	 * Sets the timestamps.
+	 * 
+	 * @param timestamps
+	 *            The timestamps
+	 */
+	public void setTimestamps(final List<SpeechTimestamp> timestamps) {
+		this.timestamps = timestamps;
+	}
 }
@@ -0,0 +1,117 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1.model;
+
+import com.google.gson.annotations.JsonAdapter;
+import com.ibm.watson.developer_cloud.service.model.GenericModel;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.util.SpeechTimestampTypeAdapter;
+
+/**
+ * The time span of a recognized word. The service returns it as a
+ * <code>["word", start, end]</code> array, with the times in seconds from
+ * the beginning of the audio.
+ */
+@JsonAdapter(SpeechTimestampTypeAdapter.class)
+public class SpeechTimestamp extends GenericModel {
+
+	/** The word. */
+	private String word;
+
+	/** The start time. */
+	private double startTime;
+
+	/** The end time. */
+	private double endTime;
+
+	/**
+	 * Instantiates a new speech timestamp.
+	 */
+	public SpeechTimestamp() {
+	}
+
+	/**
+	 * Instantiates a new speech timestamp.
+	 * 
+	 * @param word
+	 *            the word
+	 * @param startTime
+	 *            the start time in seconds
+	 * @param endTime
+	 *            the end time in seconds
+	 */
+	public SpeechTimestamp(final String word, final double startTime, final double endTime) {
+		this.word = word;
+		this.startTime = startTime;
+		this.endTime = endTime;
+	}
+
+	/**
+	 * Gets the word.
+	 * 
+	 * @return The word
+	 */
+	public String getWord() {
+		return word;
+	}
+
+	/**
+	 * Gets the start time.
+	 * 
+	 * @return The start time in seconds
+	 */
+	public double getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * Gets the end time.
+	 * 
+	 * @return The end time in seconds
+	 */
+	public double getEndTime() {
+		return endTime;
+	}
+
+	/**
+	 * Sets the word.
+	 * 
+	 * @param word
+	 *            The word
+	 */
+	public void setWord(final String word) {
+		this.word = word;
+	}
+
+	/**
+	 * Sets the start time.
+	 * 
+	 * @param startTime
+	 *            The start time in seconds
+	 */
+	public void setStartTime(final double startTime) {
+		this.startTime = startTime;
+	}
+
+	/**
+	 * Sets the end time.
+	 * 
+	 * @param endTime
+	 *            The end time in seconds
+	 */
+	public void setEndTime(final double endTime) {
+		this.endTime = endTime;
+	}
+}
@@ -0,0 +1,166 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechAlternative;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechTimestamp;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.Transcript;
+
+/**
+ * Reads and writes a {@link Transcript} and its alternatives without
+ * reflection. A streaming recognition parses one transcript for every interim
+ * result, so this is the model the service parses most often.
+ */
+public class TranscriptTypeAdapter extends TypeAdapter<Transcript> {
+
+	/** The timestamp adapter. */
+	private final SpeechTimestampTypeAdapter timestampAdapter = new SpeechTimestampTypeAdapter();
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+	 */
+	@Override
+	public Transcript read(JsonReader reader) throws IOException {
+		if (reader.peek() == JsonToken.NULL) {
+			reader.nextNull();
+			return null;
+		}
+
+		Transcript transcript = new Transcript();
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+			if (name.equals("final")) {
+				transcript.setFinal(reader.nextBoolean());
+			} else if (name.equals("alternatives") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+				List<SpeechAlternative> alternatives = new ArrayList<SpeechAlternative>();
+				reader.beginArray();
+				while (reader.hasNext())
+					alternatives.add(readAlternative(reader));
+				reader.endArray();
+				transcript.setAlternatives(alternatives);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return transcript;
+	}
+
+	/**
+	 * Read an alternative.
+	 * 
+	 * @param reader
+	 *            the reader
+	 * @return the speech alternative
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private SpeechAlternative readAlternative(JsonReader reader) throws IOException {
+		if (reader.peek() == JsonToken.NULL) {
+			reader.nextNull();
+			return null;
+		}
+
+		SpeechAlternative alternative = new SpeechAlternative();
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String name = reader.nextName();
+			if (reader.peek() == JsonToken.NULL) {
+				reader.nextNull();
+			} else if (name.equals("transcript")) {
+				alternative.setTranscript(reader.nextString());
+			} else if (name.equals("confidence")) {
+				alternative.setConfidence(reader.nextDouble());
+			} else if (name.equals("timestamps")) {
+				List<SpeechTimestamp> timestamps = new ArrayList<SpeechTimestamp>();
+				reader.beginArray();
+				while (reader.hasNext())
+					timestamps.add(timestampAdapter.read(reader));
+				reader.endArray();
+				alternative.setTimestamps(timestamps);
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return alternative;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter,
+	 * java.lang.Object)
+	 */
+	@Override
+	public void write(JsonWriter writer, Transcript transcript) throws IOException {
+		if (transcript == null) {
+			writer.nullValue();
+			return;
+		}
+
+		writer.beginObject();
+		writer.name("final").value(transcript.isFinal());
+		if (transcript.getAlternatives() != null) {
+			writer.name("alternatives").beginArray();
+			for (SpeechAlternative alternative : transcript.getAlternatives())
+				writeAlternative(writer, alternative);
+			writer.endArray();
+		}
+		writer.endObject();
+	}
+
+	/**
+	 * Write an alternative.
+	 * 
+	 * @param writer
+	 *            the writer
+	 * @param alternative
+	 *            the alternative
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private void writeAlternative(JsonWriter writer, SpeechAlternative alternative) throws IOException {
+		if (alternative == null) {
+			writer.nullValue();
+			return;
+		}
+
+		writer.beginObject();
+		if (alternative.getTranscript() != null)
+			writer.name("transcript").value(alternative.getTranscript());
+		if (alternative.getConfidence() != null)
+			writer.name("confidence").value(alternative.getConfidence());
+		if (alternative.getTimestamps() != null) {
+			writer.name("timestamps").beginArray();
+			for (SpeechTimestamp timestamp : alternative.getTimestamps())
+				timestampAdapter.write(writer, timestamp);
+			writer.endArray();
+		}
+		writer.endObject();
+	}
+}
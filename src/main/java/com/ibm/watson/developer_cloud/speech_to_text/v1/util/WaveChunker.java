@@ -0,0 +1,427 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpEntity;
+
+import com.ibm.watson.developer_cloud.util.FileRegionEntity;
+
+/**
+ * Splits a PCM WAV file into chunks that can be recognized independently.
+ * Chunks are cut in the quietest part of the audio near the requested chunk
+ * duration. When no silence is found, the chunk is cut at the requested
+ * duration and both neighbors get half of the overlap, so that a word cut in
+ * two is complete in at least one of them.<br>
+ * Every chunk knows the part of the timeline it is responsible for
+ * ({@link Chunk#getKeepFrom()} to {@link Chunk#getKeepUntil()}), which is
+ * used to drop the words recognized twice in an overlap. The audio is never
+ * loaded in memory: the chunk entities are {@link FileRegionEntity}s that
+ * send their part of the file after a generated WAV header.
+ */
+public class WaveChunker {
+
+	/** The Constant HEADER_SIZE. (value is 44) */
+	private static final int HEADER_SIZE = 44;
+
+	/** The Constant US_ASCII. */
+	private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+	/** The Constant FORMAT_PCM. */
+	private static final int FORMAT_PCM = 1;
+
+	/** The Constant FORMAT_EXTENSIBLE. */
+	private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+
+	/** The length of the windows compared when looking for silence. (value is 0.02s) */
+	private static final double SILENCE_WINDOW = 0.02;
+
+	/** The longest stretch of audio searched for silence before a cut. (value is 10s) */
+	private static final double MAX_SILENCE_SEARCH = 10;
+
+	/**
+	 * A part of the audio file.
+	 */
+	public static class Chunk {
+
+		/** The index. */
+		private final int index;
+
+		/** The start time. */
+		private final double startTime;
+
+		/** The keep from. */
+		private final double keepFrom;
+
+		/** The keep until. */
+		private final double keepUntil;
+
+		/** The entity. */
+		private final HttpEntity entity;
+
+		/**
+		 * Instantiates a new chunk.
+		 *
+		 * @param index
+		 *            the index
+		 * @param startTime
+		 *            the start time
+		 * @param keepFrom
+		 *            the keep from
+		 * @param keepUntil
+		 *            the keep until
+		 * @param entity
+		 *            the entity
+		 */
+		Chunk(int index, double startTime, double keepFrom, double keepUntil, HttpEntity entity) {
+			this.index = index;
+			this.startTime = startTime;
+			this.keepFrom = keepFrom;
+			this.keepUntil = keepUntil;
+			this.entity = entity;
+		}
+
+		/**
+		 * Gets the position of the chunk in the file.
+		 *
+		 * @return the index
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		/**
+		 * Gets the time in the file where the audio of the chunk starts. It
+		 * has to be added to the timestamps recognized in the chunk.
+		 *
+		 * @return the start time in seconds
+		 */
+		public double getStartTime() {
+			return startTime;
+		}
+
+		/**
+		 * Gets the time from which the words recognized in this chunk are
+		 * kept.
+		 *
+		 * @return the time in seconds
+		 */
+		public double getKeepFrom() {
+			return keepFrom;
+		}
+
+		/**
+		 * Gets the time until which the words recognized in this chunk are
+		 * kept.
+		 *
+		 * @return the time in seconds
+		 */
+		public double getKeepUntil() {
+			return keepUntil;
+		}
+
+		/**
+		 * Gets a repeatable entity with the audio of the chunk as a WAV file.
+		 *
+		 * @return the entity
+		 */
+		public HttpEntity getEntity() {
+			return entity;
+		}
+	}
+
+	/** The file. */
+	private final File file;
+
+	/** The audio format. */
+	private int audioFormat;
+
+	/** The channels. */
+	private int channels;
+
+	/** The sample rate. */
+	private int sampleRate;
+
+	/** The block align. */
+	private int blockAlign;
+
+	/** The bits per sample. */
+	private int bitsPerSample;
+
+	/** The offset of the samples in the file. */
+	private long dataStart;
+
+	/** The length of the samples in bytes. */
+	private long dataLength;
+
+	/**
+	 * Instantiates a new chunker by reading the header of a WAV file.
+	 *
+	 * @param file
+	 *            the WAV file
+	 * @throws IOException
+	 *             if the file can not be read or is not a PCM WAV file
+	 */
+	public WaveChunker(File file) throws IOException {
+		this.file = file;
+		RandomAccessFile input = new RandomAccessFile(file, "r");
+		try {
+			readHeader(input);
+		} finally {
+			input.close();
+		}
+	}
+
+	/**
+	 * Reads the RIFF header and the fmt chunk and finds the data chunk.
+	 *
+	 * @param input
+	 *            the input
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private void readHeader(RandomAccessFile input) throws IOException {
+		final long fileLength = input.length();
+		final byte[] riff = new byte[12];
+		input.readFully(riff);
+		if (!tag(riff, 0).equals("RIFF") || !tag(riff, 8).equals("WAVE"))
+			throw new IOException(file + " is not a WAV file");
+
+		final byte[] header = new byte[8];
+		long position = 12;
+		while (position + 8 <= fileLength) {
+			input.seek(position);
+			input.readFully(header);
+			final String id = tag(header, 0);
+			final long size = ByteBuffer.wrap(header, 4, 4).order(ByteOrder.LITTLE_ENDIAN).getInt() & 0xFFFFFFFFL;
+
+			if (id.equals("fmt ")) {
+				final byte[] fmt = new byte[16];
+				input.readFully(fmt);
+				final ByteBuffer buffer = ByteBuffer.wrap(fmt).order(ByteOrder.LITTLE_ENDIAN);
+				audioFormat = buffer.getShort() & 0xFFFF;
+				channels = buffer.getShort() & 0xFFFF;
+				sampleRate = buffer.getInt();
+				buffer.getInt(); // byte rate
+				blockAlign = buffer.getShort() & 0xFFFF;
+				bitsPerSample = buffer.getShort() & 0xFFFF;
+			} else if (id.equals("data")) {
+				dataStart = position + 8;
+				// streamed files leave the size empty or at its maximum
+				dataLength = size == 0 || size > fileLength - dataStart ? fileLength - dataStart : size;
+				break;
+			}
+			position += 8 + size + (size & 1);
+		}
+
+		if (audioFormat != FORMAT_PCM && audioFormat != FORMAT_EXTENSIBLE)
+			throw new IOException(file + " is not a PCM WAV file");
+		if (dataStart == 0 || blockAlign == 0 || sampleRate == 0)
+			throw new IOException(file + " has no audio data");
+		dataLength -= dataLength % blockAlign;
+	}
+
+	/**
+	 * Reads a four character tag.
+	 *
+	 * @param bytes
+	 *            the bytes
+	 * @param offset
+	 *            the offset
+	 * @return the tag
+	 */
+	private static String tag(byte[] bytes, int offset) {
+		return new String(bytes, offset, 4, US_ASCII);
+	}
+
+	/**
+	 * Gets the duration of the audio.
+	 *
+	 * @return the duration in seconds
+	 */
+	public double getDuration() {
+		return toSeconds(dataLength);
+	}
+
+	/**
+	 * Splits the audio in chunks.
+	 *
+	 * @param chunkDuration
+	 *            the target duration of a chunk in seconds
+	 * @param overlap
+	 *            the overlap between two chunks that could not be cut in a
+	 *            silence, in seconds
+	 * @param silenceThreshold
+	 *            the loudness, as a fraction of the full scale, below which
+	 *            audio is considered silence; 0 to always cut at the target
+	 *            duration
+	 * @return the chunks, in order
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	public List<Chunk> split(double chunkDuration, double overlap, double silenceThreshold) throws IOException {
+		if (chunkDuration <= 0)
+			throw new IllegalArgumentException("chunkDuration should be greater than 0");
+		if (overlap < 0 || overlap >= chunkDuration)
+			throw new IllegalArgumentException("overlap should be between 0 and chunkDuration");
+
+		final long target = toBytes(chunkDuration);
+		final long halfOverlap = toBytes(overlap / 2);
+		final long search = toBytes(Math.min(chunkDuration / 4, MAX_SILENCE_SEARCH));
+
+		// cut positions, negative when the cut is not in a silence
+		final List<Long> cuts = new ArrayList<Long>();
+		RandomAccessFile input = new RandomAccessFile(file, "r");
+		try {
+			long position = 0;
+			// the last chunk can be a quarter longer to avoid a tiny chunk
+			while (dataLength - position > target + target / 4) {
+				final long nominal = position + target;
+				final long silence = silenceThreshold > 0 ? findSilence(input, nominal - search, nominal,
+						silenceThreshold) : -1;
+				if (silence > position) {
+					cuts.add(silence);
+					position = silence;
+				} else {
+					cuts.add(-nominal);
+					position = nominal;
+				}
+			}
+		} finally {
+			input.close();
+		}
+
+		final List<Chunk> chunks = new ArrayList<Chunk>(cuts.size() + 1);
+		for (int i = 0; i <= cuts.size(); i++) {
+			final long startCut = i == 0 ? 0 : cuts.get(i - 1);
+			final long endCut = i == cuts.size() ? dataLength : cuts.get(i);
+			final long start = Math.abs(startCut);
+			final long end = Math.abs(endCut);
+
+			final long from = startCut < 0 ? Math.max(0, start - halfOverlap) : start;
+			final long until = endCut < 0 ? Math.min(dataLength, end + halfOverlap) : end;
+
+			chunks.add(new Chunk(i, toSeconds(from),
+					i == 0 ? 0 : toSeconds(start),
+					i == cuts.size() ? Double.POSITIVE_INFINITY : toSeconds(end),
+					new FileRegionEntity(file.toPath(), createHeader(until - from), dataStart + from, until - from)));
+		}
+		return chunks;
+	}
+
+	/**
+	 * Finds the quietest window in a part of the audio.
+	 *
+	 * @param input
+	 *            the input
+	 * @param from
+	 *            the start of the part, in bytes from the start of the samples
+	 * @param to
+	 *            the end of the part
+	 * @param threshold
+	 *            the silence threshold
+	 * @return the middle of the quietest window or -1 if no window is quiet
+	 *         enough
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private long findSilence(RandomAccessFile input, long from, long to, double threshold) throws IOException {
+		if (bitsPerSample != 8 && bitsPerSample != 16)
+			return -1;
+
+		from = Math.max(0, from);
+		final int window = (int) Math.max(blockAlign, toBytes(SILENCE_WINDOW));
+		final byte[] samples = new byte[(int) (to - from)];
+		input.seek(dataStart + from);
+		input.readFully(samples);
+
+		final double fullScale = bitsPerSample == 8 ? 128 : 32768;
+		final double limit = threshold * threshold * fullScale * fullScale;
+		final int bytesPerSample = bitsPerSample / 8;
+
+		double quietest = Double.MAX_VALUE;
+		long best = -1;
+		for (int offset = 0; offset + window <= samples.length; offset += window) {
+			double sum = 0;
+			for (int i = offset; i < offset + window; i += bytesPerSample) {
+				final int sample = bytesPerSample == 1 ? (samples[i] & 0xFF) - 128
+						: (short) ((samples[i] & 0xFF) | (samples[i + 1] << 8));
+				sum += (double) sample * sample;
+			}
+			final double power = sum / (window / bytesPerSample);
+			if (power < limit && power <= quietest) {
+				quietest = power;
+				best = from + offset + window / 2;
+			}
+		}
+		return best < 0 ? -1 : best - best % blockAlign;
+	}
+
+	/**
+	 * Creates the WAV header of a chunk.
+	 *
+	 * @param length
+	 *            the length of the samples
+	 * @return the header
+	 */
+	private byte[] createHeader(long length) {
+		final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		header.put("RIFF".getBytes(US_ASCII));
+		header.putInt((int) (36 + length));
+		header.put("WAVEfmt ".getBytes(US_ASCII));
+		header.putInt(16);
+		header.putShort((short) FORMAT_PCM);
+		header.putShort((short) channels);
+		header.putInt(sampleRate);
+		header.putInt(sampleRate * blockAlign);
+		header.putShort((short) blockAlign);
+		header.putShort((short) bitsPerSample);
+		header.put("data".getBytes(US_ASCII));
+		header.putInt((int) length);
+		return header.array();
+	}
+
+	/**
+	 * Converts a duration to a number of bytes aligned to a sample frame.
+	 *
+	 * @param seconds
+	 *            the seconds
+	 * @return the bytes
+	 */
+	private long toBytes(double seconds) {
+		final long frames = (long) (seconds * sampleRate);
+		return frames * blockAlign;
+	}
+
+	/**
+	 * Converts a number of bytes to a duration.
+	 *
+	 * @param bytes
+	 *            the bytes
+	 * @return the seconds
+	 */
+	private double toSeconds(long bytes) {
+		return (double) (bytes / blockAlign) / sampleRate;
+	}
+}
@@ -0,0 +1,459 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.text_to_speech.v1;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.commons.codec.binary.Hex;
+
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.SettableFuture;
+import com.ibm.watson.developer_cloud.text_to_speech.v1.model.Voice;
+import com.ibm.watson.developer_cloud.util.ByteBufferInputStream;
+
+/**
+ * Keeps synthesized audio on disk so that prompts played over and over, like
+ * the ones of an IVR system, are synthesized once: <pre>
+ * {@code
+ *  service.setAudioCache(new AudioCache(new File("/var/cache/tts"), 1024 * 1024 * 1024));
+ *  InputStream prompt = service.synthesize("Press 1 for sales", Voice.EN_LISA, MediaType.AUDIO_WAV);
+ * }</pre>
+ * The audio is addressed by its text, voice and format. Files are
+ * memory-mapped and hits are read straight from the page cache, without
+ * copying the audio into the heap. Concurrent requests for audio that is
+ * not cached wait for a single synthesis. The directory is bounded and the
+ * least recently used audio is deleted first; audio already in the directory
+ * is used.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ * @see TextToSpeech#setAudioCache(AudioCache)
+ */
+public class AudioCache {
+
+	/**
+	 * A cached audio file.
+	 */
+	private static class Entry {
+
+		/** The size of the file. */
+		private final long size;
+
+		/** The mapped file, null until it is used. */
+		private volatile ByteBuffer audio;
+
+		/**
+		 * Instantiates a new entry.
+		 *
+		 * @param size
+		 *            the size
+		 * @param audio
+		 *            the mapped file or null
+		 */
+		Entry(long size, ByteBuffer audio) {
+			this.size = size;
+			this.audio = audio;
+		}
+	}
+
+	/** The Constant log. */
+	private static final Logger log = Logger.getLogger(AudioCache.class.getName());
+
+	/** The suffix of the audio files. */
+	private static final String SUFFIX = ".audio";
+
+	/** The Constant UTF_8. */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/** The directory. */
+	private final File directory;
+
+	/** The max bytes. */
+	private final long maxBytes;
+
+	/** The cached audio in access order. */
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+
+	/** The bytes. */
+	private long bytes;
+
+	/** The syntheses in flight. */
+	private final ConcurrentMap<String, SettableFuture<ByteBuffer>> inFlight = new ConcurrentHashMap<String, SettableFuture<ByteBuffer>>();
+
+	/** The hits. */
+	private final AtomicLong hits = new AtomicLong();
+
+	/** The misses. */
+	private final AtomicLong misses = new AtomicLong();
+
+	/** The requests that waited for a synthesis in flight. */
+	private final AtomicLong coalesced = new AtomicLong();
+
+	/**
+	 * Instantiates a new audio cache.
+	 *
+	 * @param directory
+	 *            the directory, created if it doesn't exist
+	 * @param maxBytes
+	 *            the maximum size of the audio in the directory
+	 */
+	public AudioCache(File directory, long maxBytes) {
+		if (maxBytes < 1)
+			throw new IllegalArgumentException("maxBytes should be greater than 0");
+		if (!directory.isDirectory() && !directory.mkdirs())
+			throw new IllegalArgumentException(directory + " is not a directory");
+
+		final File[] files = directory.listFiles();
+		if (files == null)
+			throw new IllegalArgumentException(directory + " can not be read");
+		Arrays.sort(files, new Comparator<File>() {
+			@Override
+			public int compare(File a, File b) {
+				return Long.compare(a.lastModified(), b.lastModified());
+			}
+		});
+
+		this.directory = directory;
+		this.maxBytes = maxBytes;
+		synchronized (this) {
+			for (File file : files) {
+				final String name = file.getName();
+				if (file.isFile() && name.endsWith(SUFFIX)) {
+					entries.put(name.substring(0, name.length() - SUFFIX.length()), new Entry(file.length(), null));
+					bytes += file.length();
+				}
+			}
+			evict();
+		}
+	}
+
+	/**
+	 * Gets the key of an audio.
+	 *
+	 * @param text
+	 *            the text
+	 * @param voice
+	 *            the voice
+	 * @param format
+	 *            the format
+	 * @return the key
+	 */
+	static String getKey(String text, Voice voice, String format) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+		digest.update(text.getBytes(UTF_8));
+		digest.update((byte) '\n');
+		digest.update(voice.getName().getBytes(UTF_8));
+		digest.update((byte) '\n');
+		digest.update(format.getBytes(UTF_8));
+		return Hex.encodeHexString(digest.digest());
+	}
+
+	/**
+	 * Gets the cached audio, or synthesizes and caches it. If the same audio
+	 * is being synthesized by another thread, waits for it instead.
+	 *
+	 * @param text
+	 *            the text
+	 * @param voice
+	 *            the voice
+	 * @param format
+	 *            the format
+	 * @param synthesis
+	 *            synthesizes the audio on a miss
+	 * @return the audio
+	 */
+	InputStream get(String text, Voice voice, String format, Supplier<InputStream> synthesis) {
+		final String key = getKey(text, voice, format);
+		ByteBuffer audio = lookup(key);
+		if (audio != null) {
+			hits.incrementAndGet();
+			return new ByteBufferInputStream(audio.duplicate());
+		}
+
+		final SettableFuture<ByteBuffer> future = SettableFuture.create();
+		final SettableFuture<ByteBuffer> running = inFlight.putIfAbsent(key, future);
+		if (running != null) {
+			coalesced.incrementAndGet();
+			return new ByteBufferInputStream(await(running).duplicate());
+		}
+
+		try {
+			// the audio may have been stored since the lookup
+			audio = lookup(key);
+			if (audio != null) {
+				hits.incrementAndGet();
+			} else {
+				misses.incrementAndGet();
+				audio = store(key, synthesis.get());
+			}
+			future.set(audio);
+		} catch (RuntimeException e) {
+			future.setException(e);
+			throw e;
+		} catch (Error e) {
+			// the callers waiting for this synthesis must not hang
+			future.setException(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, future);
+		}
+		return new ByteBufferInputStream(audio.duplicate());
+	}
+
+	/**
+	 * Waits for a synthesis in flight.
+	 *
+	 * @param future
+	 *            the future audio
+	 * @return the audio
+	 */
+	private static ByteBuffer await(SettableFuture<ByteBuffer> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			if (e.getCause() instanceof Error)
+				throw (Error) e.getCause();
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	/**
+	 * Gets the mapped audio of a key, mapping the file the first time.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the audio or null if it is not cached
+	 */
+	private ByteBuffer lookup(String key) {
+		final Entry entry;
+		synchronized (this) {
+			entry = entries.get(key);
+		}
+		if (entry == null)
+			return null;
+		if (entry.audio != null)
+			return entry.audio;
+
+		final File file = getFile(key);
+		try {
+			entry.audio = map(file);
+			file.setLastModified(System.currentTimeMillis());
+			return entry.audio;
+		} catch (IOException e) {
+			log.log(Level.WARNING, "Error reading " + file, e);
+			remove(key, entry);
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the synthesized audio to the directory and maps it. The file is
+	 * written under a temporary name and then renamed so readers never see a
+	 * partial file.
+	 *
+	 * @param key
+	 *            the key
+	 * @param in
+	 *            the synthesized audio, closed by this method
+	 * @return the mapped audio
+	 */
+	private ByteBuffer store(String key, InputStream in) {
+		if (in == null)
+			throw new RuntimeException("The service returned no audio");
+
+		final File file = getFile(key);
+		final File temp = new File(directory, key + '.' + Thread.currentThread().getId() + ".tmp");
+		final ByteBuffer audio;
+		try {
+			try {
+				Files.copy(in, temp.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				in.close();
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+			audio = map(file);
+		} catch (IOException e) {
+			temp.delete();
+			throw new RuntimeException(e);
+		}
+
+		synchronized (this) {
+			final Entry previous = entries.put(key, new Entry(audio.capacity(), audio));
+			if (previous != null)
+				bytes -= previous.size;
+			bytes += audio.capacity();
+			evict();
+		}
+		return audio;
+	}
+
+	/**
+	 * Maps a file. The mapping stays valid after the file is closed, and after
+	 * it is deleted on most platforms.
+	 *
+	 * @param file
+	 *            the file
+	 * @return the mapped file
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static ByteBuffer map(File file) throws IOException {
+		final RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			final FileChannel channel = raf.getChannel();
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} finally {
+			raf.close();
+		}
+	}
+
+	/**
+	 * Gets the file of a key.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the file
+	 */
+	private File getFile(String key) {
+		return new File(directory, key + SUFFIX);
+	}
+
+	/**
+	 * Removes an entry if it was not replaced.
+	 *
+	 * @param key
+	 *            the key
+	 * @param entry
+	 *            the entry
+	 */
+	private synchronized void remove(String key, Entry entry) {
+		if (entries.get(key) == entry) {
+			entries.remove(key);
+			bytes -= entry.size;
+			getFile(key).delete();
+		}
+	}
+
+	/**
+	 * Deletes the least recently used audio until the directory fits its
+	 * maximum size. Must be called holding the lock.
+	 */
+	private void evict() {
+		final Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+		while (bytes > maxBytes && iterator.hasNext()) {
+			final Map.Entry<String, Entry> entry = iterator.next();
+			bytes -= entry.getValue().size;
+			iterator.remove();
+			if (!getFile(entry.getKey()).delete())
+				log.fine("Could not delete the audio " + entry.getKey());
+		}
+	}
+
+	/**
+	 * Removes all the audio from the directory.
+	 */
+	public synchronized void clear() {
+		for (String key : entries.keySet())
+			getFile(key).delete();
+		entries.clear();
+		bytes = 0;
+	}
+
+	/**
+	 * Gets the number of syntheses answered with cached audio.
+	 *
+	 * @return the hit count
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Gets the number of syntheses sent to the service.
+	 *
+	 * @return the miss count
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Gets the number of syntheses that waited for the same synthesis in
+	 * flight instead of calling the service.
+	 *
+	 * @return the coalesced count
+	 */
+	public long getCoalescedCount() {
+		return coalesced.get();
+	}
+
+	/**
+	 * Gets the size of the cached audio.
+	 *
+	 * @return the bytes
+	 */
+	public synchronized long getBytes() {
+		return bytes;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("AudioCache [directory=").append(directory);
+		builder.append(", bytes=").append(getBytes());
+		builder.append(", hits=").append(hits.get());
+		builder.append(", misses=").append(misses.get());
+		builder.append(", coalesced=").append(coalesced.get());
+		builder.append("]");
+		return builder.toString();
+	}
+}
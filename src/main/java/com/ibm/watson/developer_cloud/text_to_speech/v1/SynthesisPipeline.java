@@ -0,0 +1,519 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.text_to_speech.v1;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.text.BreakIterator;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.ibm.watson.developer_cloud.text_to_speech.v1.model.Voice;
+import com.ibm.watson.developer_cloud.util.MediaType;
+
+/**
+ * Synthesizes long texts by splitting them at sentence boundaries and
+ * synthesizing the pieces concurrently over the transport of the
+ * {@link TextToSpeech} service. The audio of the pieces is stitched in order
+ * into a single stream, which can be played as soon as the first piece is
+ * received: <pre>
+ * {@code
+ *  SynthesisPipeline pipeline = new SynthesisPipeline(service)
+ *    .withConcurrency(8);
+ *  InputStream audio = pipeline.synthesize(document, Voice.EN_LISA, MediaType.AUDIO_WAV);
+ * }</pre>
+ * The first piece is kept short so that playback starts early, and only
+ * {@link #concurrency} pieces are requested ahead of the one being read, so
+ * memory stays bounded for texts of any length.<br>
+ * SSML documents are split only between the top level elements of the
+ * {@code speak} element, and every piece is wrapped in the original
+ * {@code speak} tag. WAV pieces are joined into one WAV stream with an
+ * unknown length; Ogg and raw formats are concatenated. FLAC can not be
+ * concatenated, so it is synthesized with a single request.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public class SynthesisPipeline {
+
+	/** The Constant DEFAULT_MAX_CHUNK_LENGTH. (value is 1000 characters) */
+	public static final int DEFAULT_MAX_CHUNK_LENGTH = 1000;
+
+	/** The Constant DEFAULT_CONCURRENCY. (value is 4) */
+	public static final int DEFAULT_CONCURRENCY = 4;
+
+	/** The Constant SPEAK_END. */
+	private static final String SPEAK_END = "</speak>";
+
+	/** The Constant US_ASCII. */
+	private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+	/** The Constant UNKNOWN_LENGTH written in the sizes of a stitched WAV. */
+	private static final int UNKNOWN_LENGTH = 0xFFFFFFFF;
+
+	/** The service. */
+	private final TextToSpeech service;
+
+	/** The max length of a chunk in characters. */
+	private int maxChunkLength = DEFAULT_MAX_CHUNK_LENGTH;
+
+	/** The number of chunks synthesized at the same time. */
+	private int concurrency = DEFAULT_CONCURRENCY;
+
+	/**
+	 * Instantiates a new synthesis pipeline.
+	 *
+	 * @param service
+	 *            the text to speech service
+	 */
+	public SynthesisPipeline(TextToSpeech service) {
+		if (service == null)
+			throw new IllegalArgumentException("service can not be null");
+		this.service = service;
+	}
+
+	/**
+	 * Sets the max length of the chunks. A sentence longer than this is split
+	 * between words.
+	 *
+	 * @param length
+	 *            the max chunk length in characters
+	 * @return the synthesis pipeline
+	 */
+	public SynthesisPipeline withMaxChunkLength(int length) {
+		if (length <= 0)
+			throw new IllegalArgumentException("maxChunkLength should be greater than 0");
+		maxChunkLength = length;
+		return this;
+	}
+
+	/**
+	 * Sets the number of chunks synthesized at the same time.
+	 *
+	 * @param concurrency
+	 *            the concurrency
+	 * @return the synthesis pipeline
+	 */
+	public SynthesisPipeline withConcurrency(int concurrency) {
+		if (concurrency <= 0)
+			throw new IllegalArgumentException("concurrency should be greater than 0");
+		this.concurrency = concurrency;
+		return this;
+	}
+
+	/**
+	 * Synthesizes a text. The returned stream must be closed, which cancels
+	 * the chunks that were not read yet.
+	 *
+	 * @param text
+	 *            the text or SSML document
+	 * @param voice
+	 *            the voice
+	 * @param format
+	 *            the output format, for example: audio/wav or audio/ogg;
+	 *            codecs=opus
+	 * @return the input stream with the synthesized audio
+	 */
+	public InputStream synthesize(final String text, final Voice voice, final String format) {
+		if (text == null)
+			throw new IllegalArgumentException("text can not be null");
+		if (voice == null)
+			throw new IllegalArgumentException("voice can not be null");
+		final String accept = format != null ? format : MediaType.AUDIO_WAV;
+		if (accept.startsWith("audio/flac"))
+			return service.synthesize(text, voice, accept);
+
+		final List<String> chunks = split(text, getLocale(voice), maxChunkLength);
+		if (chunks.size() <= 1)
+			return service.synthesize(text, voice, accept);
+		return new AudioStream(chunks, voice, accept);
+	}
+
+	/**
+	 * Gets the locale used to find the sentences.
+	 *
+	 * @param voice
+	 *            the voice
+	 * @return the locale
+	 */
+	private static Locale getLocale(Voice voice) {
+		return voice.getLanguage() != null ? Locale.forLanguageTag(voice.getLanguage()) : Locale.getDefault();
+	}
+
+	/**
+	 * Splits a text in chunks of whole sentences. Sentences are added to the
+	 * first chunk only while it is shorter than a quarter of the max length,
+	 * so that its audio arrives quickly.
+	 *
+	 * @param text
+	 *            the text or SSML document
+	 * @param locale
+	 *            the locale of the text
+	 * @param maxLength
+	 *            the max length of a chunk
+	 * @return the chunks
+	 */
+	static List<String> split(String text, Locale locale, int maxLength) {
+		String prefix = "";
+		String suffix = "";
+		String body = text;
+
+		final String trimmed = text.trim();
+		final int speakStart = trimmed.indexOf('>');
+		if (trimmed.startsWith("<speak") && trimmed.endsWith(SPEAK_END) && speakStart > 0
+				&& trimmed.charAt(speakStart - 1) != '/') {
+			prefix = trimmed.substring(0, speakStart + 1);
+			suffix = SPEAK_END;
+			body = trimmed.substring(speakStart + 1, trimmed.length() - SPEAK_END.length());
+		}
+		final boolean[] splittable = getSplittable(body, !prefix.isEmpty());
+
+		final List<Integer> breaks = new ArrayList<Integer>();
+		final BreakIterator sentences = BreakIterator.getSentenceInstance(locale);
+		sentences.setText(body);
+		for (int b = sentences.next(); b != BreakIterator.DONE; b = sentences.next()) {
+			if (splittable[b])
+				breaks.add(b);
+		}
+		breaks.add(body.length());
+
+		final List<String> chunks = new ArrayList<String>();
+		final int firstLength = Math.max(1, maxLength / 4);
+		int start = 0;
+		int last = 0;
+		for (int b : breaks) {
+			if (b - start > (chunks.isEmpty() ? firstLength : maxLength) && last > start) {
+				addChunk(chunks, prefix, body.substring(start, last), suffix);
+				start = last;
+			}
+			while (b - start > maxLength) {
+				final int space = findSpace(body, splittable, start, start + maxLength, b);
+				if (space < 0)
+					break;
+				addChunk(chunks, prefix, body.substring(start, space), suffix);
+				start = space;
+			}
+			last = b;
+		}
+		if (start < body.length())
+			addChunk(chunks, prefix, body.substring(start), suffix);
+		return chunks;
+	}
+
+	/**
+	 * Finds the positions where the text can be split. In SSML, those are the
+	 * positions outside of the tags and the elements.
+	 *
+	 * @param body
+	 *            the text or the content of the speak element
+	 * @param ssml
+	 *            whether the body is SSML
+	 * @return the splittable flag of every position, including the end
+	 */
+	private static boolean[] getSplittable(String body, boolean ssml) {
+		final boolean[] splittable = new boolean[body.length() + 1];
+		int depth = 0;
+		int tagStart = -1;
+		for (int i = 0; i < body.length(); i++) {
+			splittable[i] = tagStart < 0 && depth == 0;
+			if (!ssml)
+				continue;
+
+			final char c = body.charAt(i);
+			if (c == '<' && tagStart < 0) {
+				tagStart = i;
+			} else if (c == '>' && tagStart >= 0) {
+				if (body.charAt(tagStart + 1) == '/')
+					depth = Math.max(0, depth - 1);
+				else if (body.charAt(i - 1) != '/' && body.charAt(tagStart + 1) != '!'
+						&& body.charAt(tagStart + 1) != '?')
+					depth++;
+				tagStart = -1;
+			}
+		}
+		splittable[body.length()] = true;
+		return splittable;
+	}
+
+	/**
+	 * Finds the whitespace where a long sentence can be split: the last one
+	 * that keeps the chunk short enough or, inside a long SSML element, the
+	 * first one after it.
+	 *
+	 * @param body
+	 *            the body
+	 * @param splittable
+	 *            the splittable positions
+	 * @param from
+	 *            the start of the sentence
+	 * @param to
+	 *            the last position that keeps the chunk short enough
+	 * @param end
+	 *            the end of the sentence
+	 * @return the position of the whitespace, or -1 if there is none
+	 */
+	private static int findSpace(String body, boolean[] splittable, int from, int to, int end) {
+		for (int i = to; i > from; i--) {
+			if (splittable[i] && Character.isWhitespace(body.charAt(i)))
+				return i;
+		}
+		for (int i = to + 1; i < end; i++) {
+			if (splittable[i] && Character.isWhitespace(body.charAt(i)))
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Adds a chunk if it contains something to say.
+	 *
+	 * @param chunks
+	 *            the chunks
+	 * @param prefix
+	 *            the opening speak tag or an empty string
+	 * @param text
+	 *            the text of the chunk
+	 * @param suffix
+	 *            the closing speak tag or an empty string
+	 */
+	private static void addChunk(List<String> chunks, String prefix, String text, String suffix) {
+		final String trimmed = text.trim();
+		if (!trimmed.isEmpty())
+			chunks.add(prefix + trimmed + suffix);
+	}
+
+	/**
+	 * Reads the header of a WAV stream up to the start of the audio data. The
+	 * header of the first chunk is kept with its sizes set to unknown, the
+	 * headers of the others are dropped so that the data is contiguous.
+	 *
+	 * @param in
+	 *            the WAV stream
+	 * @param first
+	 *            whether this is the first chunk
+	 * @return the stream of the chunk to append to the output
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	static InputStream stitchWave(InputStream in, boolean first) throws IOException {
+		final ByteArrayOutputStream header = new ByteArrayOutputStream();
+		final byte[] riff = new byte[12];
+		ByteStreams.readFully(in, riff);
+		if (!"RIFF".equals(new String(riff, 0, 4, US_ASCII)) || !"WAVE".equals(new String(riff, 8, 4, US_ASCII)))
+			throw new IOException("The synthesized audio is not a WAV stream");
+		header.write(riff);
+
+		final byte[] chunkHeader = new byte[8];
+		while (true) {
+			ByteStreams.readFully(in, chunkHeader);
+			header.write(chunkHeader);
+			if ("data".equals(new String(chunkHeader, 0, 4, US_ASCII)))
+				break;
+			final long size = (chunkHeader[4] & 0xFFL) | (chunkHeader[5] & 0xFFL) << 8
+					| (chunkHeader[6] & 0xFFL) << 16 | (chunkHeader[7] & 0xFFL) << 24;
+			final long padded = size + (size & 1);
+			if (ByteStreams.copy(ByteStreams.limit(in, padded), header) != padded)
+				throw new IOException("The synthesized WAV header is truncated");
+		}
+		if (!first)
+			return in;
+
+		final byte[] bytes = header.toByteArray();
+		writeInt(bytes, 4, UNKNOWN_LENGTH);
+		writeInt(bytes, bytes.length - 4, UNKNOWN_LENGTH);
+		return new SequenceInputStream(new ByteArrayInputStream(bytes), in);
+	}
+
+	/**
+	 * Writes a little endian integer.
+	 *
+	 * @param bytes
+	 *            the bytes
+	 * @param offset
+	 *            the offset
+	 * @param value
+	 *            the value
+	 */
+	private static void writeInt(byte[] bytes, int offset, int value) {
+		bytes[offset] = (byte) value;
+		bytes[offset + 1] = (byte) (value >> 8);
+		bytes[offset + 2] = (byte) (value >> 16);
+		bytes[offset + 3] = (byte) (value >> 24);
+	}
+
+	/**
+	 * The stitched audio of the chunks. Reading a chunk requests the next one,
+	 * keeping {@link SynthesisPipeline#concurrency} requests ahead of the
+	 * reader.
+	 */
+	private class AudioStream extends InputStream {
+
+		/** The chunks. */
+		private final List<String> chunks;
+
+		/** The voice. */
+		private final Voice voice;
+
+		/** The format. */
+		private final String format;
+
+		/** Whether the chunks are WAV streams. */
+		private final boolean wave;
+
+		/** The requests of the chunks after the current one, in order. */
+		private final ArrayDeque<ListenableFuture<InputStream>> pending = new ArrayDeque<ListenableFuture<InputStream>>();
+
+		/** The index of the next chunk to request. */
+		private int next;
+
+		/** The index of the current chunk. */
+		private int index;
+
+		/** The audio of the current chunk. */
+		private InputStream current;
+
+		/** Whether the stream was closed. */
+		private boolean closed;
+
+		/**
+		 * Instantiates a new audio stream and requests the first chunks.
+		 *
+		 * @param chunks
+		 *            the chunks
+		 * @param voice
+		 *            the voice
+		 * @param format
+		 *            the format
+		 */
+		AudioStream(List<String> chunks, Voice voice, String format) {
+			this.chunks = chunks;
+			this.voice = voice;
+			this.format = format;
+			wave = format.startsWith(MediaType.AUDIO_WAV);
+			try {
+				while (next < chunks.size() && pending.size() < concurrency)
+					requestNext();
+			} catch (RuntimeException e) {
+				cancelPending();
+				throw e;
+			}
+		}
+
+		/**
+		 * Requests the next chunk.
+		 */
+		private void requestNext() {
+			pending.add(service.synthesizeAsync(chunks.get(next), voice, format));
+			next++;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.io.InputStream#read()
+		 */
+		@Override
+		public int read() throws IOException {
+			final byte[] b = new byte[1];
+			final int read = read(b, 0, 1);
+			return read == -1 ? -1 : b[0] & 0xFF;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.io.InputStream#read(byte[], int, int)
+		 */
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (closed)
+				throw new IOException("Stream closed");
+			if (len == 0)
+				return 0;
+			while (true) {
+				if (current == null) {
+					if (index == chunks.size())
+						return -1;
+					current = openChunk();
+				}
+				final int read = current.read(b, off, len);
+				if (read != -1)
+					return read;
+				current.close();
+				current = null;
+				index++;
+			}
+		}
+
+		/**
+		 * Waits for the audio of the current chunk and requests the next one.
+		 *
+		 * @return the audio of the current chunk
+		 * @throws IOException
+		 *             Signals that an I/O exception has occurred.
+		 */
+		private InputStream openChunk() throws IOException {
+			final ListenableFuture<InputStream> future = pending.poll();
+			if (next < chunks.size())
+				requestNext();
+
+			final InputStream audio;
+			try {
+				audio = future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			} catch (ExecutionException e) {
+				throw new IOException("Synthesis of chunk " + index + " failed", e.getCause());
+			}
+			if (audio == null)
+				return new ByteArrayInputStream(new byte[0]);
+			return wave ? stitchWave(audio, index == 0) : audio;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.io.InputStream#close()
+		 */
+		@Override
+		public void close() throws IOException {
+			if (closed)
+				return;
+			closed = true;
+			cancelPending();
+			if (current != null)
+				current.close();
+		}
+
+		/**
+		 * Cancels the chunks that were requested and not read.
+		 */
+		private void cancelPending() {
+			for (ListenableFuture<InputStream> future : pending)
+				future.cancel(false);
+			pending.clear();
+		}
+	}
+}
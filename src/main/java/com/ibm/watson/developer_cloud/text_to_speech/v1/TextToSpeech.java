@@ -23,12 +23,15 @@ import java.util.List;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 
+import com.google.common.base.Function;
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.text_to_speech.v1.model.Voice;
-import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.MediaType;
 import com.ibm.watson.developer_cloud.util.ResponseUtil;
 
@@ -48,9 +51,18 @@ public class TextToSpeech extends WatsonService {
 	/** The url. */
 	private final static String URL = "https://stream.watsonplatform.net/text-to-speech/api";
 
+	/**
+	 * The Constant MAX_QUERY_TEXT_LENGTH. Longer texts are sent in the body of
+	 * a POST request. (value is 1000)
+	 */
+	static final int MAX_QUERY_TEXT_LENGTH = 1000;
+
 	/** The list voice type. */
 	private final static Type listVoiceType = new TypeToken<List<Voice>>() {}.getType();
 
+	/** The audio cache, null if audio is not cached. */
+	private volatile AudioCache audioCache;
+
 	/**
 	 * Instantiates a new text to speech.
 	 */
@@ -67,29 +79,92 @@ public class TextToSpeech extends WatsonService {
 	 * @return the input stream
 	 */
 	public InputStream synthesize(final String text, final Voice voice, final String format) {
+		final HttpRequestBase request = buildSynthesizeRequest(text, voice, format);
+		final AudioCache cache = audioCache;
+		if (cache == null)
+			return synthesize(request);
+
+		return cache.get(text, voice, format != null ? format : MediaType.AUDIO_WAV, new Supplier<InputStream>() {
+			@Override
+			public InputStream get() {
+				return synthesize(request);
+			}
+		});
+	}
+
+	/**
+	 * Executes a synthesize request.
+	 *
+	 * @param request            the synthesize request
+	 * @return the input stream
+	 */
+	private InputStream synthesize(final HttpRequestBase request) {
+		try {
+			HttpResponse response = execute(request);
+			InputStream is = ResponseUtil.getInputStream(response);
+			return is;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Synthesize text without blocking the calling thread. The audio is
+	 * received completely before the future completes.
+	 *
+	 * @param text            the text
+	 * @param voice            the voice
+	 * @param format            the output format
+	 * @return the future input stream
+	 * @see SynthesisPipeline
+	 */
+	public ListenableFuture<InputStream> synthesizeAsync(final String text, final Voice voice, final String format) {
+		return Futures.transform(executeAsync(buildSynthesizeRequest(text, voice, format)),
+				new Function<HttpResponse, InputStream>() {
+					@Override
+					public InputStream apply(HttpResponse response) {
+						try {
+							return ResponseUtil.getInputStream(response);
+						} catch (IOException e) {
+							throw new RuntimeException(e);
+						}
+					}
+				});
+	}
+
+	/**
+	 * Builds the synthesize request. Short texts are sent in the query string;
+	 * longer ones are sent in a JSON body so they are not limited by the
+	 * length of the URL.
+	 *
+	 * @param text            the text
+	 * @param voice            the voice
+	 * @param format            the output format
+	 * @return the http request
+	 */
+	private HttpRequestBase buildSynthesizeRequest(final String text, final Voice voice, final String format) {
 		if (text == null)
 			throw new IllegalArgumentException("text can not be null");
 		if (voice == null)
 			throw new IllegalArgumentException("voice can not be null");
 
-		Request request = Request.Get("/v1/synthesize");
-		request.withQuery("text", text);
-		request.withQuery("voice", voice.getName());
-
 		if (format != null && !format.startsWith("audio/"))
 			throw new IllegalArgumentException(
 					"format needs to be an audio mime type, for example: audio/wav or audio/ogg; codecs=opus");
 
+		Request request;
+		if (text.length() > MAX_QUERY_TEXT_LENGTH) {
+			JsonObject content = new JsonObject();
+			content.addProperty("text", text);
+			request = Request.Post("/v1/synthesize").withContent(content);
+		} else {
+			request = Request.Get("/v1/synthesize");
+			request.withQuery("text", text);
+		}
+		request.withQuery("voice", voice.getName());
 		request.withQuery("accept", format != null ? format
 				: MediaType.AUDIO_WAV);
-
-		try {
-			HttpResponse response = execute(request.build());
-			InputStream is = ResponseUtil.getInputStream(response);
-			return is;
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		return request.build();
 	}
 
 	/**
@@ -115,6 +190,27 @@ public class TextToSpeech extends WatsonService {
 		return synthesize(text, Voice.EN_MICHAEL, format);
 	}
 
+	/**
+	 * Gets the audio cache.
+	 *
+	 * @return the audio cache or null if audio is not cached
+	 */
+	public AudioCache getAudioCache() {
+		return audioCache;
+	}
+
+	/**
+	 * Sets the audio cache used by
+	 * {@link #synthesize(String, Voice, String)}, or null to synthesize every
+	 * text.
+	 *
+	 * @param audioCache
+	 *            the audio cache
+	 */
+	public void setAudioCache(AudioCache audioCache) {
+		this.audioCache = audioCache;
+	}
+
 	/**
 	 * Gets the voices.
 	 * 
@@ -124,12 +220,20 @@ public class TextToSpeech extends WatsonService {
 		HttpRequestBase request = Request.Get("/v1/voices").build();
 		try {
 			HttpResponse response = execute(request);
-			JsonObject jsonObject = ResponseUtil.getJsonObject(response);
-			List<Voice> voices = GsonSingleton.getGson().fromJson(
-					jsonObject.get("voices"), listVoiceType);
+			List<Voice> voices = ResponseUtil.getObject(response, "voices", listVoiceType);
 			return voices;
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
 	}
+
+	/**
+	 * Gets the voices without blocking the calling thread.
+	 * 
+	 * @return the future list of {@link Voice}
+	 * @see #getVoices()
+	 */
+	public ListenableFuture<List<Voice>> getVoicesAsync() {
+		return executeRequestAsync(Request.Get("/v1/voices"), "voices", listVoiceType);
+	}
 }
@@ -23,6 +23,9 @@ import java.util.Map;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
@@ -113,7 +116,47 @@ public class ToneAnalyzer extends WatsonService {
 	 * 
 	 */
 	public Tone getTone(final String text, final Scorecard scorecard) {
+		return executeRequest(buildToneRequest(text, scorecard), Tone.class);
+	}
+
+	/**
+	 * Analyzes the "tone" of a piece of text using the default scorecard without
+	 * blocking the calling thread.
+	 *
+	 * @param text
+	 *            The text to analyze
+	 * @return the future {@link Tone} with the response
+	 * @see #getTone(String)
+	 */
+	public ListenableFuture<Tone> getToneAsync(final String text) {
+		return getToneAsync(text, null);
+	}
+
+	/**
+	 * Analyzes the "tone" of a piece of text without blocking the calling thread.
+	 *
+	 * @param text
+	 *            The text to analyze
+	 * @param scorecard
+	 *            Name of the scorecard used to compute the tone. (business messages by
+	 *            default)
+	 * @return the future {@link Tone} with the response
+	 * @see #getTone(String, Scorecard)
+	 */
+	public ListenableFuture<Tone> getToneAsync(final String text, final Scorecard scorecard) {
+		return executeRequestAsync(buildToneRequest(text, scorecard), Tone.class);
+	}
 
+	/**
+	 * Builds the tone request.
+	 *
+	 * @param text
+	 *            The text to analyze
+	 * @param scorecard
+	 *            the scorecard
+	 * @return the request
+	 */
+	private Request buildToneRequest(final String text, final Scorecard scorecard) {
 		if (text == null || text.isEmpty())
 			throw new IllegalArgumentException("text can not be null or empty");
 
@@ -123,16 +166,7 @@ public class ToneAnalyzer extends WatsonService {
 		if (scorecard != null)
 			contentJson.addProperty(SCORECARD, scorecard.getId());
 
-		HttpRequestBase request = Request.Post("/v1/tone").withContent(contentJson).build();
-
-		try {
-			HttpResponse response = execute(request);
-			String toneAsJson = ResponseUtil.getString(response);
-			Tone tone = GsonSingleton.getGson().fromJson(toneAsJson, Tone.class);
-			return tone;
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		return Request.Post("/v1/tone").withContent(contentJson);
 	}
 
 	/**
@@ -143,6 +177,38 @@ public class ToneAnalyzer extends WatsonService {
 	 * @return {@link SynonymResult}
 	 */
 	public List<SynonymResult> getSynonyms(Map<String, Object> params) {
+		HttpRequestBase request = buildSynonymRequest(params).build();
+
+		HttpResponse response = execute(request);
+		return getSynonymResults(response);
+	}
+
+	/**
+	 * Retrieves the synonyms without blocking the calling thread.
+	 *
+	 * @param params
+	 *            The map with the parameters described above
+	 * @return the future {@link SynonymResult} list
+	 * @see #getSynonyms(Map)
+	 */
+	public ListenableFuture<List<SynonymResult>> getSynonymsAsync(Map<String, Object> params) {
+		HttpRequestBase request = buildSynonymRequest(params).build();
+		return Futures.transform(executeAsync(request), new Function<HttpResponse, List<SynonymResult>>() {
+			@Override
+			public List<SynonymResult> apply(HttpResponse response) {
+				return getSynonymResults(response);
+			}
+		});
+	}
+
+	/**
+	 * Builds the synonym request.
+	 *
+	 * @param params
+	 *            The map with the parameters
+	 * @return the request
+	 */
+	private Request buildSynonymRequest(Map<String, Object> params) {
 		String[] words = (String[]) params.get(WORDS);
 		String[] traits = (String[]) params.get(TRAITS);
 		String[] contexts = (String[]) params.get(CONTEXT);
@@ -183,9 +249,17 @@ public class ToneAnalyzer extends WatsonService {
 		if (params.containsKey(HOPS))
 			contentJson.addProperty(HOPS, (Integer) params.get(HOPS));
 
-		HttpRequestBase request = Request.Post("/v1/synonym").withContent(contentJson).build();
+		return Request.Post("/v1/synonym").withContent(contentJson);
+	}
 
-		HttpResponse response = execute(request);
+	/**
+	 * Parses the synonyms from the response.
+	 *
+	 * @param response
+	 *            the response
+	 * @return the {@link SynonymResult} list
+	 */
+	private List<SynonymResult> getSynonymResults(HttpResponse response) {
 		try {
 			String synonymResultJson = ResponseUtil.getString(response);
 			List<SynonymResult> synonyms = GsonSingleton.getGson().fromJson(synonymResultJson, synonymListType);
@@ -15,17 +15,13 @@
  */
 package com.ibm.watson.developer_cloud.tradeoff_analytics.v1;
 
-import java.io.IOException;
-
-import org.apache.http.HttpResponse;
-
+import com.google.common.util.concurrent.ListenableFuture;
 import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.tradeoff_analytics.v1.model.Dilemma;
 import com.ibm.watson.developer_cloud.tradeoff_analytics.v1.model.Problem;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.MediaType;
-import com.ibm.watson.developer_cloud.util.ResponseUtil;
 
 /**
  * The Class TradeoffAnalytics.
@@ -55,6 +51,19 @@ public class TradeoffAnalytics extends WatsonService {
 	public Dilemma dilemmas(final Problem problem) {
 		return dilemmas(problem, null);
 	}
+
+	/**
+	 * Dilemmas without blocking the calling thread.
+	 * 
+	 * @param problem
+	 *            the problem
+	 * @return the future dilemma
+	 * @see #dilemmas(Problem)
+	 */
+	public ListenableFuture<Dilemma> dilemmasAsync(final Problem problem) {
+		return dilemmasAsync(problem, null);
+	}
+
 	/**
 	 * Dilemmas.
 	 *
@@ -63,6 +72,29 @@ public class TradeoffAnalytics extends WatsonService {
 	 * @return the dilemma
 	 */
 	public Dilemma dilemmas(final Problem problem,final Boolean generateVisualization) {
+		return executeRequest(buildDilemmasRequest(problem, generateVisualization), Dilemma.class);
+	}
+
+	/**
+	 * Dilemmas without blocking the calling thread.
+	 *
+	 * @param problem the problem
+	 * @param generateVisualization the generate visualization
+	 * @return the future dilemma
+	 * @see #dilemmas(Problem, Boolean)
+	 */
+	public ListenableFuture<Dilemma> dilemmasAsync(final Problem problem, final Boolean generateVisualization) {
+		return executeRequestAsync(buildDilemmasRequest(problem, generateVisualization), Dilemma.class);
+	}
+
+	/**
+	 * Builds the dilemmas request.
+	 *
+	 * @param problem the problem
+	 * @param generateVisualization the generate visualization
+	 * @return the request
+	 */
+	private Request buildDilemmasRequest(final Problem problem, final Boolean generateVisualization) {
 		if (problem == null)
 			throw new IllegalArgumentException("problem was not specified");
 	
@@ -74,14 +106,6 @@ public class TradeoffAnalytics extends WatsonService {
 		if (generateVisualization != null)
 			request.withQuery(GENERATE_VISUALIZATION,generateVisualization);
 		
-		try {
-			HttpResponse response = execute(request.build());
-			String dilemmaJson = ResponseUtil.getString(response);
-
-			Dilemma dilemma = GsonSingleton.getGson().fromJson(dilemmaJson, Dilemma.class);
-			return dilemma;
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		return request;
 	}
 }
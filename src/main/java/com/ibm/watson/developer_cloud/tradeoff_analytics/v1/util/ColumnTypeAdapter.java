@@ -16,9 +16,7 @@
 package com.ibm.watson.developer_cloud.tradeoff_analytics.v1.util;
 
 import java.io.IOException;
-import java.text.DateFormat;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -35,6 +33,7 @@ import com.ibm.watson.developer_cloud.tradeoff_analytics.v1.model.column.Column.
 import com.ibm.watson.developer_cloud.tradeoff_analytics.v1.model.column.DateColumn;
 import com.ibm.watson.developer_cloud.tradeoff_analytics.v1.model.column.NumericColumn;
 import com.ibm.watson.developer_cloud.tradeoff_analytics.v1.model.column.TextColumn;
+import com.ibm.watson.developer_cloud.util.DateCodec;
 
 /**
  * The Class ColumnTypeAdapter.
@@ -44,8 +43,8 @@ public class ColumnTypeAdapter extends TypeAdapter<Column> {
 	/** The Constant log. */
 	private static final Logger log = Logger.getLogger(ColumnTypeAdapter.class.getName());
 
-	/** The df. */
-	private final DateFormat df = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm'Z'");
+	/** The Constant DATE, the format of the range of the date columns. */
+	private static final DateCodec DATE = new DateCodec("yyyy-MM-dd'T'HH:mm'Z'");
 
 	/*
 	 * (non-Javadoc)
@@ -139,7 +138,7 @@ public class ColumnTypeAdapter extends TypeAdapter<Column> {
 			column = new DateColumn();
 			if (low != null) {
 				try {
-					((DateColumn) column).withRange(df.parse(low), df.parse(high));
+					((DateColumn) column).withRange(DATE.parse(low), DATE.parse(high));
 				} catch (ParseException e) {
 					log.log(Level.SEVERE, "Error parsing the date", e);
 				}
@@ -291,8 +290,8 @@ public class ColumnTypeAdapter extends TypeAdapter<Column> {
 	private void writeDateColumn(DateColumn dateCol, JsonWriter writer) throws IOException {
 		if (dateCol.getLow() != null) {
 			writer.name("range").beginObject();
-			writer.name("low").value(df.format(dateCol.getLow()));
-			writer.name("high").value(df.format(dateCol.getHigh()));
+			writer.name("low").value(DATE.format(dateCol.getLow()));
+			writer.name("high").value(DATE.format(dateCol.getHigh()));
 			writer.endObject();
 		}
 	}
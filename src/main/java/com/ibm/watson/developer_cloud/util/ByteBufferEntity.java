@@ -0,0 +1,110 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.apache.http.entity.AbstractHttpEntity;
+
+/**
+ * Repeatable entity that sends the remaining bytes of a {@link ByteBuffer},
+ * heap or direct, without copying them to an array first. The position of
+ * the buffer is not changed.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public class ByteBufferEntity extends AbstractHttpEntity {
+
+	/** The buffer. */
+	private final ByteBuffer buffer;
+
+	/**
+	 * Instantiates a new byte buffer entity.
+	 *
+	 * @param buffer
+	 *            the buffer
+	 */
+	public ByteBufferEntity(ByteBuffer buffer) {
+		if (buffer == null)
+			throw new IllegalArgumentException("buffer can not be null");
+		this.buffer = buffer.slice();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.apache.http.HttpEntity#isRepeatable()
+	 */
+	@Override
+	public boolean isRepeatable() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.apache.http.HttpEntity#getContentLength()
+	 */
+	@Override
+	public long getContentLength() {
+		return buffer.remaining();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.apache.http.HttpEntity#getContent()
+	 */
+	@Override
+	public InputStream getContent() throws IOException {
+		return new ByteBufferInputStream(buffer.duplicate());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.apache.http.HttpEntity#writeTo(java.io.OutputStream)
+	 */
+	@Override
+	public void writeTo(OutputStream out) throws IOException {
+		if (out == null)
+			throw new IllegalArgumentException("Output stream may not be null");
+		if (buffer.hasArray()) {
+			out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+		} else {
+			final ByteBuffer content = buffer.duplicate();
+			final WritableByteChannel target = Channels.newChannel(out);
+			while (content.hasRemaining())
+				target.write(content);
+		}
+		out.flush();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.apache.http.HttpEntity#isStreaming()
+	 */
+	@Override
+	public boolean isStreaming() {
+		return false;
+	}
+}
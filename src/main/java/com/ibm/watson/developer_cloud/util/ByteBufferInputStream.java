@@ -0,0 +1,93 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Input stream that reads the remaining bytes of a {@link ByteBuffer}. Reading
+ * a memory-mapped buffer copies the bytes straight from the page cache,
+ * without a system call or an intermediate buffer. The stream advances the
+ * position of the buffer, so pass a duplicate of a shared buffer.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public class ByteBufferInputStream extends InputStream {
+
+	/** The buffer. */
+	private final ByteBuffer buffer;
+
+	/**
+	 * Instantiates a new byte buffer input stream.
+	 *
+	 * @param buffer
+	 *            the buffer
+	 */
+	public ByteBufferInputStream(ByteBuffer buffer) {
+		if (buffer == null)
+			throw new IllegalArgumentException("buffer can not be null");
+		this.buffer = buffer;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.io.InputStream#read()
+	 */
+	@Override
+	public int read() {
+		return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.io.InputStream#read(byte[], int, int)
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) {
+		if (len == 0)
+			return 0;
+		if (!buffer.hasRemaining())
+			return -1;
+		final int count = Math.min(len, buffer.remaining());
+		buffer.get(b, off, count);
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.io.InputStream#skip(long)
+	 */
+	@Override
+	public long skip(long n) {
+		final int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+		buffer.position(buffer.position() + count);
+		return count;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.io.InputStream#available()
+	 */
+	@Override
+	public int available() {
+		return buffer.remaining();
+	}
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.apache.commons.lang3.time.FastDateFormat;
+
+/**
+ * Formats and parses the dates sent and returned by the services with a
+ * {@link java.text.SimpleDateFormat} pattern. Unlike a
+ * {@link java.text.SimpleDateFormat}, a codec is immutable and thread-safe, so
+ * a single instance is kept in a constant and shared by all the threads, and
+ * no formatter is created for each date: <pre>
+ * {@code
+ *  private static final DateCodec DATE = new DateCodec("yyyy-MM-dd HH:mm:ss");
+ *  ...
+ *  Date date = DATE.parse("2015-07-23 14:53:28");
+ * }</pre>
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public final class DateCodec {
+
+	/** The format. */
+	private final FastDateFormat format;
+
+	/**
+	 * Instantiates a new date codec in the default time zone.
+	 *
+	 * @param pattern
+	 *            the {@link java.text.SimpleDateFormat} pattern
+	 */
+	public DateCodec(String pattern) {
+		this(pattern, TimeZone.getDefault());
+	}
+
+	/**
+	 * Instantiates a new date codec.
+	 *
+	 * @param pattern
+	 *            the {@link java.text.SimpleDateFormat} pattern
+	 * @param timeZone
+	 *            the time zone of the dates without one
+	 */
+	public DateCodec(String pattern, TimeZone timeZone) {
+		Validate.notNull(pattern, "pattern can not be null");
+		Validate.notNull(timeZone, "timeZone can not be null");
+		this.format = FastDateFormat.getInstance(pattern, timeZone);
+	}
+
+	/**
+	 * Formats a date.
+	 *
+	 * @param date
+	 *            the date
+	 * @return the formatted date
+	 */
+	public String format(Date date) {
+		return format.format(date);
+	}
+
+	/**
+	 * Parses a date from the beginning of a text. Like
+	 * {@link java.text.DateFormat#parse(String)}, the rest of the text is
+	 * ignored.
+	 *
+	 * @param text
+	 *            the text
+	 * @return the date
+	 * @throws ParseException
+	 *             if the beginning of the text is not a date
+	 */
+	public Date parse(String text) throws ParseException {
+		return format.parse(text);
+	}
+
+	/**
+	 * Gets the pattern.
+	 *
+	 * @return the pattern
+	 */
+	public String getPattern() {
+		return format.getPattern();
+	}
+
+	/**
+	 * Gets the time zone.
+	 *
+	 * @return the time zone
+	 */
+	public TimeZone getTimeZone() {
+		return format.getTimeZone();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "DateCodec [pattern=" + getPattern() + ", timeZone=" + getTimeZone().getID() + "]";
+	}
+}
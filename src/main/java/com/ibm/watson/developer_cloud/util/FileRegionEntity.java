@@ -0,0 +1,152 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.http.entity.AbstractHttpEntity;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * Repeatable entity that sends a file, or a region of it, without loading
+ * it in memory: the region is read from the file through a small buffer
+ * every time the entity is written. An optional prefix, like a generated
+ * header, is sent before the region.
+ *
+ * @author German Attanasio Ruiz (germanatt@us.ibm.com)
+ */
+public class FileRegionEntity extends AbstractHttpEntity {
+
+	/** The file. */
+	private final Path file;
+
+	/** The prefix. */
+	private final byte[] prefix;
+
+	/** The offset of the region. */
+	private final long offset;
+
+	/** The length of the region. */
+	private final long length;
+
+	/**
+	 * Instantiates a new entity with the whole file.
+	 *
+	 * @param file
+	 *            the file
+	 * @throws IOException
+	 *             if the size of the file can not be read
+	 */
+	public FileRegionEntity(Path file) throws IOException {
+		this(file, null, 0, Files.size(file));
+	}
+
+	/**
+	 * Instantiates a new entity with a region of a file.
+	 *
+	 * @param file
+	 *            the file
+	 * @param prefix
+	 *            the bytes sent before the region, can be null
+	 * @param offset
+	 *            the offset of the region
+	 * @param length
+	 *            the length of the region
+	 */
+	public FileRegionEntity(Path file, byte[] prefix, long offset, long length) {
+		if (file == null)
+			throw new IllegalArgumentException("file can not be null");
+		if (offset < 0 || length < 0)
+			throw new IllegalArgumentException("offset and length can not be negative");
+		this.file = file;
+		this.prefix = prefix == null ? new byte[0] : prefix;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.apache.http.HttpEntity#isRepeatable()
+	 */
+	@Override
+	public boolean isRepeatable() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.apache.http.HttpEntity#getContentLength()
+	 */
+	@Override
+	public long getContentLength() {
+		return prefix.length + length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.apache.http.HttpEntity#getContent()
+	 */
+	@Override
+	public InputStream getContent() throws IOException {
+		final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		channel.position(offset);
+		final InputStream region = ByteStreams.limit(Channels.newInputStream(channel), length);
+		return prefix.length == 0 ? region : new SequenceInputStream(new ByteArrayInputStream(prefix), region);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.apache.http.HttpEntity#writeTo(java.io.OutputStream)
+	 */
+	@Override
+	public void writeTo(OutputStream out) throws IOException {
+		if (out == null)
+			throw new IllegalArgumentException("Output stream may not be null");
+
+		final InputStream in = getContent();
+		try {
+			if (ByteStreams.copy(in, out) < getContentLength())
+				throw new IOException("Unexpected end of " + file);
+		} finally {
+			in.close();
+		}
+		out.flush();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.apache.http.HttpEntity#isStreaming()
+	 */
+	@Override
+	public boolean isStreaming() {
+		return false;
+	}
+}
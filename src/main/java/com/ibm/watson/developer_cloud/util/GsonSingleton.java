@@ -19,37 +19,44 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
 /**
- * The Class GsonSingleton.
+ * The Class GsonSingleton. Holds the {@link Gson} shared by all the services
+ * to serialize the requests and parse the responses. It writes compact JSON,
+ * so request bodies are not padded with white space, and the models that are
+ * parsed most often have their own streaming type adapters, registered with
+ * {@link com.google.gson.annotations.JsonAdapter}. Gson is thread-safe and the
+ * instance is created when the class is initialized, so it is safely
+ * published to every thread.
  */
 public class GsonSingleton {
 
 	/** The Constant DATE_FORMAT_UTC. */
 	private static final String DATE_FORMAT_UTC = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+
 	/** The gson. */
-	private static Gson gson;
-	
+	private static final Gson gson = createGsonBuilder().create();
+
+	/**
+	 * Instantiates a new gson singleton.
+	 */
+	private GsonSingleton() {}
+
 	/**
 	 * Gets the gson.
 	 *
 	 * @return the gson
 	 */
 	public static Gson getGson() {
-		if (gson == null) {
-			gson = createGson();
-		}
 		return gson;
 	}
 
 	/**
-	 * Creates a {@link com.google.gson.Gson} object that can be use to serialize 
-	 * and deserialize Java objects}
+	 * Creates a {@link GsonBuilder} with the configuration of the shared
+	 * {@link Gson}, for the few services that need to register more type
+	 * adapters.
 	 *
-	 * @return the gson
+	 * @return the gson builder
 	 */
-	private static Gson createGson() {
-		return new GsonBuilder()
-			.setPrettyPrinting()
-			.setDateFormat(DATE_FORMAT_UTC)
-			.create();
-	};
+	public static GsonBuilder createGsonBuilder() {
+		return new GsonBuilder().setDateFormat(DATE_FORMAT_UTC);
+	}
 }
@@ -15,8 +15,9 @@
  */
 package com.ibm.watson.developer_cloud.util;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,8 +25,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.http.Consts;
 import org.apache.http.NameValuePair;
-import org.apache.http.protocol.HTTP;
 
 /**
  * Utility functions to use when creating a {@link com.ibm.watson.developer_cloud.service.Request }
@@ -38,25 +39,100 @@ public class RequestUtil {
 	private static final Logger log = Logger.getLogger(RequestUtil.class
 			.getName());
 	
+	/** The hexadecimal digits used to percent-encode a byte. */
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
 	/**
-	 * Encode the <code>content</code> with the given <code>encoding</code>.
+	 * The ASCII characters that are not encoded, the same ones as
+	 * {@link java.net.URLEncoder}: letters, digits and ".-*_".
+	 */
+	private static final boolean[] UNRESERVED = new boolean[128];
+
+	static {
+		for (char c = 'a'; c <= 'z'; c++)
+			UNRESERVED[c] = true;
+		for (char c = 'A'; c <= 'Z'; c++)
+			UNRESERVED[c] = true;
+		for (char c = '0'; c <= '9'; c++)
+			UNRESERVED[c] = true;
+		UNRESERVED['.'] = true;
+		UNRESERVED['-'] = true;
+		UNRESERVED['*'] = true;
+		UNRESERVED['_'] = true;
+	}
+
+	/**
+	 * Gets the charset of an encoding name.
 	 * 
-	 * @param content
-	 *            the string content to encode
 	 * @param encoding
-	 *            the character encoding
-	 * @return the string encoded
+	 *            the character encoding, ISO-8859-1 if null
+	 * @return the charset
 	 */
-	private static String encode(final String content, final String encoding) {
+	private static Charset getCharset(final String encoding) {
+		if (encoding == null)
+			return Consts.ISO_8859_1;
+		if (encoding.equalsIgnoreCase("UTF-8"))
+			return Consts.UTF_8;
 		try {
-			return URLEncoder.encode(content, encoding != null ? encoding
-					: HTTP.DEFAULT_CONTENT_CHARSET);
-		} catch (UnsupportedEncodingException e) {
+			return Charset.forName(encoding);
+		} catch (IllegalCharsetNameException e) {
+			log.log(Level.SEVERE, encoding + " is not supported", e);
+			throw new IllegalArgumentException(e);
+		} catch (UnsupportedCharsetException e) {
 			log.log(Level.SEVERE, encoding + " is not supported", e);
 			throw new IllegalArgumentException(e);
 		}
 	}
 
+	/**
+	 * Checks if a character is written as it is.
+	 * 
+	 * @param c
+	 *            the character
+	 * @return true, if the character is not encoded
+	 */
+	private static boolean isUnreserved(final char c) {
+		return c < 128 && UNRESERVED[c];
+	}
+
+	/**
+	 * Appends the <code>content</code> encoded with the given
+	 * <code>charset</code>, in the same way as {@link java.net.URLEncoder}.
+	 * Characters that do not need to be encoded are appended as they are, so
+	 * most names and values are copied without creating other objects.
+	 * 
+	 * @param result
+	 *            the builder the content is appended to
+	 * @param content
+	 *            the string content to encode
+	 * @param charset
+	 *            the character encoding
+	 */
+	private static void encode(final StringBuilder result, final String content, final Charset charset) {
+		final int length = content.length();
+		int i = 0;
+		while (i < length) {
+			final char c = content.charAt(i);
+			if (isUnreserved(c)) {
+				result.append(c);
+				i++;
+			} else if (c == ' ') {
+				result.append('+');
+				i++;
+			} else {
+				// encode the whole run, so that surrogate pairs stay together
+				final int start = i;
+				do {
+					i++;
+				} while (i < length && !isUnreserved(content.charAt(i)) && content.charAt(i) != ' ');
+
+				for (byte b : content.substring(start, i).getBytes(charset)) {
+					result.append('%').append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Returns a String that is suitable for use as an
 	 * <code>application/x-www-form-urlencoded</code> list of parameters in an
@@ -73,22 +149,59 @@ public class RequestUtil {
 	public static String formatQueryString(
 			final List<? extends NameValuePair> parameters,
 			final String encoding) {
-		final StringBuilder result = new StringBuilder();
+		return formatQueryString(parameters, getCharset(encoding));
+	}
+
+	/**
+	 * Returns a String that is suitable for use as an
+	 * <code>application/x-www-form-urlencoded</code> list of parameters in an
+	 * HTTP PUT or HTTP POST. It can also be used as query string in a GET
+	 * request
+	 * 
+	 * @param parameters
+	 *            The parameters to include.
+	 * @param charset
+	 *            The charset to use.
+	 * 
+	 * @return the formated string
+	 */
+	public static String formatQueryString(
+			final List<? extends NameValuePair> parameters,
+			final Charset charset) {
+		return appendQueryString(new StringBuilder(), parameters, charset)
+				.toString();
+	}
+
+	/**
+	 * Appends the parameters encoded as a query string to a builder, for
+	 * example after the path of an URL, so that the URL is created in a
+	 * single pass.
+	 * 
+	 * @param result
+	 *            the builder the query string is appended to
+	 * @param parameters
+	 *            The parameters to include.
+	 * @param charset
+	 *            The charset to use.
+	 * 
+	 * @return the builder
+	 */
+	public static StringBuilder appendQueryString(final StringBuilder result,
+			final List<? extends NameValuePair> parameters,
+			final Charset charset) {
+		final int start = result.length();
 		for (final NameValuePair parameter : parameters) {
-			final String encodedName = encode(parameter.getName(), encoding);
-			final String value = parameter.getValue();
-			final String encodedValue = value != null ? encode(value, encoding)
-					: "";
-			if (result.length() > 0) {
+			if (result.length() > start) {
 				result.append("&");
 			}
-			result.append(encodedName);
+			encode(result, parameter.getName(), charset);
+			final String value = parameter.getValue();
 			if (value != null) {
 				result.append("=");
-				result.append(encodedValue);
+				encode(result, value, charset);
 			}
 		}
-		return result.toString();
+		return result;
 	}
 
 	
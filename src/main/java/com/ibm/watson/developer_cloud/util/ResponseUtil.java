@@ -17,19 +17,28 @@ package com.ibm.watson.developer_cloud.util;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.ParseException;
+import org.apache.http.entity.ContentType;
 import org.apache.http.util.EntityUtils;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * Utility class to manage service responses.
@@ -46,6 +55,9 @@ public class ResponseUtil {
 	/** The Constant BUFFER_SIZE. */
 	public static final int BUFFER_SIZE = 8192; // 8 kb
 
+	/** The Constant UTF_8. */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
 	/**
 	 * Returns a Json {@link String} in human-readable form.
 	 * 
@@ -74,12 +86,20 @@ public class ResponseUtil {
 	 *             Signals that an I/O exception has occurred.
 	 */
 	public static JsonElement getJsonElement(HttpResponse response) throws IOException {
-		final String json = getString(response);
-		if (json == null || json.length() == 0)
+		final Reader reader = getReader(response);
+		if (reader == null)
 			throw new IOException("JSON response is empty");
 
-		JsonElement element = new JsonParser().parse(json);
-		return element;
+		try {
+			JsonElement element = new JsonParser().parse(reader);
+			if (element.isJsonNull())
+				throw new IOException("JSON response is empty");
+			return element;
+		} catch (JsonIOException e) {
+			throw toIOException(e);
+		} finally {
+			closeQuietly(reader);
+		}
 	}
 
 	/**
@@ -160,7 +180,10 @@ public class ResponseUtil {
 	
 	
 	/**
-	 * Returns <T> after parsing the string response.
+	 * Returns <T> after parsing the response. The response body is decoded
+	 * while it is read from the connection, without being copied into a
+	 * {@link String} first. The connection is released once the object is
+	 * parsed.
 	 *
 	 * @param <T> the generic type to use when parsing the response
 	 * @param response the http response
@@ -169,10 +192,137 @@ public class ResponseUtil {
 	 * @throws IOException Signals that an I/O exception has occurred.
 	 */
 	public static <T> T getObject(HttpResponse response, Class<T> type) throws IOException {
-		String jsonString = getString(response);
-		
-		T pojo = (T) GsonSingleton.getGson().fromJson(jsonString, type);
-		return pojo;
+		return getObject(response, (Type) type);
+	}
+
+	/**
+	 * Returns <T> after parsing the response. Use this method with generic
+	 * types, for example <code>List&lt;Voice&gt;</code>.
+	 *
+	 * @param <T> the generic type to use when parsing the response
+	 * @param response the http response
+	 * @param type the type of the response
+	 * @return the object
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 * @see #getObject(HttpResponse, Class)
+	 */
+	public static <T> T getObject(HttpResponse response, Type type) throws IOException {
+		final Reader reader = getReader(response);
+		if (reader == null)
+			return null;
+
+		try {
+			return GsonSingleton.getGson().fromJson(reader, type);
+		} catch (JsonIOException e) {
+			throw toIOException(e);
+		} finally {
+			closeQuietly(reader);
+		}
+	}
+
+	/**
+	 * Returns <T> after parsing a property of the JSON object in the
+	 * response. The other properties are skipped while reading, so the rest of
+	 * the response is never materialized. For example, using
+	 * <code>"conversations"</code> with:
+	 * 
+	 * <pre>
+	 * {
+	 *   "conversations": [ ... ]
+	 * }
+	 * </pre>
+	 *
+	 * @param <T> the generic type to use when parsing the property
+	 * @param response the http response
+	 * @param property the name of the property to parse
+	 * @param type the type of the property
+	 * @return the object or null if the property is not in the response
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public static <T> T getObject(HttpResponse response, String property, Type type) throws IOException {
+		final Reader reader = getReader(response);
+		if (reader == null)
+			return null;
+
+		final Gson gson = GsonSingleton.getGson();
+		try {
+			final JsonReader jsonReader = new JsonReader(reader);
+			T value = null;
+			jsonReader.beginObject();
+			while (jsonReader.hasNext()) {
+				if (jsonReader.nextName().equals(property) && jsonReader.peek() != JsonToken.NULL) {
+					@SuppressWarnings("unchecked")
+					TypeToken<T> typeToken = (TypeToken<T>) TypeToken.get(type);
+					value = gson.getAdapter(typeToken).read(jsonReader);
+				} else {
+					jsonReader.skipValue();
+				}
+			}
+			jsonReader.endObject();
+			return value;
+		} catch (IllegalStateException e) {
+			throw new IOException("Could not parse service response:" + e.getMessage());
+		} finally {
+			closeQuietly(reader);
+		}
+	}
+
+	/**
+	 * Returns a {@link Reader} over the response body using the charset
+	 * declared by the response or UTF-8.
+	 *
+	 * @param response the http response
+	 * @return the reader or null if the response has no body
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private static Reader getReader(HttpResponse response) throws IOException {
+		final HttpEntity entity = response.getEntity();
+		if (entity == null)
+			return null;
+
+		try {
+			final InputStream is = entity.getContent();
+			if (is == null)
+				return null;
+
+			Charset charset = null;
+			try {
+				ContentType contentType = ContentType.get(entity);
+				charset = contentType != null ? contentType.getCharset() : null;
+			} catch (Exception e) {
+				log.log(Level.FINEST, "Could not read the response charset", e);
+			}
+			return new InputStreamReader(is, charset != null ? charset : UTF_8);
+		} catch (IOException e) {
+			log.log(Level.SEVERE,"Could not read service response", e);
+			throw new IOException("Could not read service response:" + e.getMessage());
+		}
+	}
+
+	/**
+	 * Closes the reader. Closing the response stream releases the underlying
+	 * connection.
+	 *
+	 * @param reader the reader
+	 */
+	private static void closeQuietly(Reader reader) {
+		try {
+			reader.close();
+		} catch (IOException e) {
+			log.log(Level.FINEST, "Could not close the service response", e);
+		}
+	}
+
+	/**
+	 * Unwraps the {@link IOException} thrown while streaming the response.
+	 *
+	 * @param e the Gson exception
+	 * @return the IO exception
+	 */
+	private static IOException toIOException(JsonIOException e) {
+		log.log(Level.SEVERE,"Could not read service response", e);
+		return new IOException("Could not read service response:"
+				+ (e.getCause() != null ? e.getCause().getMessage() : e.getMessage()));
 	}
 
 }
@@ -22,6 +22,7 @@ import java.util.Map;
 import org.apache.http.entity.mime.MultipartEntity;
 import org.apache.http.entity.mime.content.FileBody;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.visual_insights.v1.model.Classifiers;
@@ -80,6 +81,17 @@ public class VisualInsights extends WatsonService {
         return executeRequest(request, Classifiers.class);
     }
 
+    /**
+     * Returns a summary of the collection's visual classifiers without
+     * blocking the calling thread.
+     *
+     * @return the future Summary
+     * @see #getClassifiers()
+     */
+    public ListenableFuture<Classifiers> getClassifiersAsync() {
+        return executeRequestAsync(Request.Get(CLASSIFIERS_PATH), Classifiers.class);
+    }
+
     /**
      * Returns a summary of the collection's visual classifiers, filtered by name
      *
@@ -87,6 +99,28 @@ public class VisualInsights extends WatsonService {
      * @return the Summary
      */
     public Classifiers getClassifiers(final String filterName) {
+        return executeRequest(buildClassifiersRequest(filterName), Classifiers.class);
+    }
+
+    /**
+     * Returns a summary of the collection's visual classifiers, filtered by
+     * name, without blocking the calling thread.
+     *
+     * @param filterName the images File
+     * @return the future Summary
+     * @see #getClassifiers(String)
+     */
+    public ListenableFuture<Classifiers> getClassifiersAsync(final String filterName) {
+        return executeRequestAsync(buildClassifiersRequest(filterName), Classifiers.class);
+    }
+
+    /**
+     * Builds the classifiers request.
+     *
+     * @param filterName the filter name
+     * @return the request
+     */
+    private Request buildClassifiersRequest(final String filterName) {
 
         Request request = Request.Get(CLASSIFIERS_PATH);
 
@@ -96,7 +130,7 @@ public class VisualInsights extends WatsonService {
             request.withQuery(queryParameters);
         }
 
-        return executeRequest(request, Classifiers.class);
+        return request;
     }
 
     /**
@@ -106,17 +140,36 @@ public class VisualInsights extends WatsonService {
      * @return the Summary of the collection's visual attributes
      */
     public Summary getSummary(final File imagesFile) {
+        return executeRequest(buildSummaryRequest(imagesFile), Summary.class);
+    }
+
+    /**
+     * Upload a set of images as a zip file for visual insight extraction
+     * without blocking the calling thread.
+     *
+     * @param imagesFile the images File
+     * @return the future Summary of the collection's visual attributes
+     * @see #getSummary(File)
+     */
+    public ListenableFuture<Summary> getSummaryAsync(final File imagesFile) {
+        return executeRequestAsync(buildSummaryRequest(imagesFile), Summary.class);
+    }
+
+    /**
+     * Builds the summary request.
+     *
+     * @param imagesFile the images File
+     * @return the request
+     */
+    private Request buildSummaryRequest(final File imagesFile) {
         if (imagesFile == null || !imagesFile.exists())
             throw new IllegalArgumentException(
                     "imagesFile can not be null or empty");
 
         MultipartEntity reqEntity = new MultipartEntity();
         reqEntity.addPart(FILE, new FileBody(imagesFile));
-        Request request = Request.Post(SUMMARY_PATH)
+        return Request.Post(SUMMARY_PATH)
                 .withEntity(reqEntity);
-
-        return executeRequest(request, Summary.class);
-
     }
 
 }
@@ -20,11 +20,13 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 
 import org.apache.http.HttpResponse;
-import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.entity.mime.MultipartEntity;
 import org.apache.http.entity.mime.content.FileBody;
 import org.apache.http.entity.mime.content.StringBody;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.ibm.watson.developer_cloud.service.Request;
 import com.ibm.watson.developer_cloud.service.WatsonService;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
@@ -73,6 +75,50 @@ public class VisualRecognition extends WatsonService {
 	 * @return the visual recognition images
 	 */
 	public RecognizedImage recognize(final File image,final LabelSet labelSet) {
+		Request request = buildRecognizeRequest(image, labelSet);
+		try {
+			HttpResponse response = execute(request.build());
+			String resultJson = ResponseUtil.getString(response);
+			VisualRecognitionImages recognizedImages = GsonSingleton.getGson().fromJson(
+					resultJson, VisualRecognitionImages.class);
+			return recognizedImages.getImages().get(0);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Classifies the images against the label groups and labels without
+	 * blocking the calling thread.
+	 * 
+	 * @param image
+	 *            the file image
+	 * @param labelSet
+	 *            the labels to classify against
+	 * @return the future visual recognition images
+	 * @see #recognize(File, LabelSet)
+	 */
+	public ListenableFuture<RecognizedImage> recognizeAsync(final File image, final LabelSet labelSet) {
+		ListenableFuture<VisualRecognitionImages> future = executeRequestAsync(
+				buildRecognizeRequest(image, labelSet), VisualRecognitionImages.class);
+		return Futures.transform(future, new Function<VisualRecognitionImages, RecognizedImage>() {
+			@Override
+			public RecognizedImage apply(VisualRecognitionImages recognizedImages) {
+				return recognizedImages.getImages().get(0);
+			}
+		});
+	}
+
+	/**
+	 * Builds the recognize request.
+	 * 
+	 * @param image
+	 *            the file image
+	 * @param labelSet
+	 *            the labels to classify against
+	 * @return the request
+	 */
+	private Request buildRecognizeRequest(final File image, final LabelSet labelSet) {
 		if (image == null)
 			throw new IllegalArgumentException("image can not be null");
 		try {
@@ -92,13 +138,7 @@ public class VisualRecognition extends WatsonService {
 				// Set the labels_to_check
 				reqEntity.addPart(LABELS_TO_CHECK, labels);
 			}
-			request.withEntity(reqEntity);
-
-			HttpResponse response = execute(request.build());
-			String resultJson = ResponseUtil.getString(response);
-			VisualRecognitionImages recognizedImages = GsonSingleton.getGson().fromJson(
-					resultJson, VisualRecognitionImages.class);
-			return recognizedImages.getImages().get(0);
+			return request.withEntity(reqEntity);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
@@ -110,9 +150,8 @@ public class VisualRecognition extends WatsonService {
 	 * @return the labels and label groups
 	 */
 	public LabelSet getLabelSet() {
-		HttpRequestBase request = Request.Get("/v1/tag/labels").build();
 		try {
-			HttpResponse response = execute(request);
+			HttpResponse response = execute(Request.Get("/v1/tag/labels").build());
 			String jsonLabelSet = ResponseUtil.getString(response);
 			return GsonSingleton.getGson().fromJson(jsonLabelSet, LabelSet.class);
 		} catch (IOException e) {
@@ -120,6 +159,16 @@ public class VisualRecognition extends WatsonService {
 		}
 	}
 
+	/**
+	 * Gets the labels and label groups without blocking the calling thread.
+	 * 
+	 * @return the future labels and label groups
+	 * @see #getLabelSet()
+	 */
+	public ListenableFuture<LabelSet> getLabelSetAsync() {
+		return executeRequestAsync(Request.Get("/v1/tag/labels"), LabelSet.class);
+	}
+
 	/**
 	 * Classifies the images against all the label groups and labels. The
 	 * response includes a score for a label if the score meets the minimum
@@ -133,4 +182,17 @@ public class VisualRecognition extends WatsonService {
 	public RecognizedImage recognize(final File image) {
 		return recognize(image, null);
 	}
+
+	/**
+	 * Classifies the images against all the label groups and labels without
+	 * blocking the calling thread.
+	 * 
+	 * @param image
+	 *            the image file
+	 * @return the future visual recognition images
+	 * @see #recognize(File)
+	 */
+	public ListenableFuture<RecognizedImage> recognizeAsync(final File image) {
+		return recognizeAsync(image, null);
+	}
 }
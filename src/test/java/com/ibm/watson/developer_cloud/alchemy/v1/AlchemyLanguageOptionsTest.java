@@ -0,0 +1,140 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.alchemy.v1;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The Class AlchemyLanguageOptionsTest.
+ */
+public class AlchemyLanguageOptionsTest {
+
+	/**
+	 * Test that the parameters are encoded once and the content is appended.
+	 */
+	@Test
+	public void testEncode() {
+		AlchemyLanguageOptions options = new AlchemyLanguageOptions.Builder(AlchemyLanguage.TEXT)
+				.withMaxRetrieve(10).withSentiment(true).withLinkedData(false).build();
+
+		Assert.assertEquals("maxRetrieve=10&sentiment=1&linkedData=0&outputMode=json&text=IBM+%26+Watson",
+				options.encode("IBM & Watson"));
+		Assert.assertEquals("maxRetrieve=10&sentiment=1&linkedData=0&outputMode=json&text=",
+				options.encode(""));
+	}
+
+	/**
+	 * Test that options without parameters only set the output mode.
+	 */
+	@Test
+	public void testEncodeWithoutParameters() {
+		AlchemyLanguageOptions options = new AlchemyLanguageOptions.Builder(AlchemyLanguage.URL).build();
+		Assert.assertEquals("outputMode=json&url=http%3A%2F%2Fwww.ibm.com%2F",
+				options.encode("http://www.ibm.com/"));
+		Assert.assertTrue(options.getParameters().isEmpty());
+	}
+
+	/**
+	 * Test that the target and raw flags select the operation.
+	 */
+	@Test
+	public void testTargetedAndRaw() {
+		AlchemyLanguageOptions options = new AlchemyLanguageOptions.Builder(AlchemyLanguage.HTML).build();
+		Assert.assertFalse(options.isTargeted());
+		Assert.assertFalse(options.isRaw());
+
+		options = new AlchemyLanguageOptions.Builder(AlchemyLanguage.HTML).withTarget("Walmart").withRaw(true)
+				.build();
+		Assert.assertTrue(options.isTargeted());
+		Assert.assertTrue(options.isRaw());
+		Assert.assertFalse(options.encode("").contains(AlchemyLanguage.RAW));
+	}
+
+	/**
+	 * Test that new options can be derived without changing the original.
+	 */
+	@Test
+	public void testNewBuilder() {
+		AlchemyLanguageOptions options = new AlchemyLanguageOptions.Builder(AlchemyLanguage.TEXT)
+				.withMaxRetrieve(5).build();
+		AlchemyLanguageOptions derived = options.newBuilder().withMaxRetrieve(50).withKnowledgeGraph(true).build();
+
+		Assert.assertEquals("5", options.getParameters().get(AlchemyLanguage.MAX_RETRIEVE));
+		Assert.assertEquals(1, options.getParameters().size());
+		Assert.assertEquals("50", derived.getParameters().get(AlchemyLanguage.MAX_RETRIEVE));
+		Assert.assertEquals("1", derived.getParameters().get(AlchemyLanguage.KNOWLEDGE_GRAPH));
+		Assert.assertEquals(AlchemyLanguage.TEXT, derived.getInputFormat());
+	}
+
+	/**
+	 * Test that the parameters can not be modified.
+	 */
+	@Test(expected = UnsupportedOperationException.class)
+	public void testParametersAreUnmodifiable() {
+		new AlchemyLanguageOptions.Builder(AlchemyLanguage.TEXT).build().getParameters().put("jsonp", "callback");
+	}
+
+	/**
+	 * Test an invalid input format.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidInputFormat() {
+		new AlchemyLanguageOptions.Builder("image");
+	}
+
+	/**
+	 * Test that the content and the output mode can not be set as parameters.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testReservedParameter() {
+		new AlchemyLanguageOptions.Builder(AlchemyLanguage.TEXT).withParameter("outputMode", "xml");
+	}
+
+	/**
+	 * Test an invalid max retrieve.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidMaxRetrieve() {
+		new AlchemyLanguageOptions.Builder(AlchemyLanguage.TEXT).withMaxRetrieve(0);
+	}
+
+	/**
+	 * Test an invalid keyword extract mode.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidKeywordExtractMode() {
+		new AlchemyLanguageOptions.Builder(AlchemyLanguage.TEXT).withKeywordExtractMode("loose");
+	}
+
+	/**
+	 * Test that a xpath source text requires a xpath query when it is built.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testSourceTextWithoutXPath() {
+		new AlchemyLanguageOptions.Builder(AlchemyLanguage.URL).withSourceText("xpath_or_raw").build();
+	}
+
+	/**
+	 * Test that the input format of the options is checked against the operation.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnsupportedInputFormat() {
+		AlchemyLanguage service = new AlchemyLanguage();
+		service.setApiKey("apikey");
+		service.getTitle("some text", new AlchemyLanguageOptions.Builder(AlchemyLanguage.TEXT).build());
+	}
+}
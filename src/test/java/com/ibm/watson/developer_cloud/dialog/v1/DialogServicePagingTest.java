@@ -0,0 +1,99 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.dialog.v1;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ibm.watson.developer_cloud.dialog.v1.model.ConversationData;
+import com.ibm.watson.developer_cloud.service.PagedIterator;
+
+/**
+ * The Class DialogServicePagingTest.
+ */
+public class DialogServicePagingTest {
+
+	/**
+	 * Dialog service that returns the page sizes given in the constructor.
+	 */
+	private static class PagedDialogService extends DialogService {
+
+		/** The page sizes. */
+		private final int[] pageSizes;
+
+		/** The offsets requested. */
+		private final List<Integer> offsets = Collections.synchronizedList(new ArrayList<Integer>());
+
+		/**
+		 * Instantiates a new paged dialog service.
+		 *
+		 * @param pageSizes the page sizes
+		 */
+		PagedDialogService(int... pageSizes) {
+			this.pageSizes = pageSizes;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.ibm.watson.developer_cloud.dialog.v1.DialogService#getConversationData(java.util.Map)
+		 */
+		@Override
+		public List<ConversationData> getConversationData(Map<String, Object> params) {
+			int page = offsets.size();
+			offsets.add((Integer) params.get(OFFSET));
+			List<ConversationData> conversations = new ArrayList<ConversationData>();
+			for (int i = 0; page < pageSizes.length && i < pageSizes[page]; i++) {
+				conversations.add(new ConversationData());
+			}
+			return conversations;
+		}
+	}
+
+	/**
+	 * A page shorter than the limit does not end the iteration, the first
+	 * empty page does.
+	 */
+	@Test
+	public void testShortPageDoesNotEndIteration() {
+		PagedDialogService service = new PagedDialogService(3, 1, 2, 0);
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(DialogService.LIMIT, 3);
+
+		PagedIterator<ConversationData> it = service.getConversationDataIterator(params);
+		int count = 0;
+		try {
+			while (it.hasNext()) {
+				Assert.assertNotNull(it.next());
+				count++;
+			}
+		} finally {
+			it.close();
+		}
+
+		Assert.assertEquals(6, count);
+		Assert.assertEquals(4, service.offsets.size());
+		Assert.assertEquals(Integer.valueOf(0), service.offsets.get(0));
+		Assert.assertEquals(Integer.valueOf(3), service.offsets.get(1));
+		Assert.assertEquals(Integer.valueOf(4), service.offsets.get(2));
+		Assert.assertEquals(Integer.valueOf(6), service.offsets.get(3));
+	}
+}
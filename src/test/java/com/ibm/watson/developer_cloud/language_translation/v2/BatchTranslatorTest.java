@@ -0,0 +1,184 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.language_translation.v2;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.gson.stream.JsonWriter;
+import com.ibm.watson.developer_cloud.language_translation.v2.model.Translation;
+import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationResult;
+
+/**
+ * The Class BatchTranslatorTest.
+ */
+public class BatchTranslatorTest {
+
+	/**
+	 * A service that translates paragraphs to upper case.
+	 */
+	private static class FakeLanguageTranslation extends LanguageTranslation {
+
+		/** The batches. */
+		private final List<List<String>> batches = new ArrayList<List<String>>();
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see com.ibm.watson.developer_cloud.language_translation.v2.LanguageTranslation#translateAsync(java.util.Map,
+		 * java.util.List)
+		 */
+		@Override
+		ListenableFuture<TranslationResult> translateAsync(Map<String, Object> params, List<String> paragraphs) {
+			batches.add(paragraphs);
+			List<Translation> translations = new ArrayList<Translation>();
+			for (String paragraph : paragraphs)
+				translations.add(new Translation().withTranslation(paragraph.toUpperCase()));
+			TranslationResult result = new TranslationResult();
+			result.setTranslations(translations);
+			result.setWordCount(paragraphs.size());
+			return Futures.immediateFuture(result);
+		}
+	}
+
+	/**
+	 * Creates the paragraphs.
+	 *
+	 * @param count the count
+	 * @return the paragraphs
+	 */
+	private static List<String> createParagraphs(int count) {
+		List<String> paragraphs = new ArrayList<String>();
+		for (int i = 0; i < count; i++)
+			paragraphs.add("paragraph number " + i + " with \"quotes\", \u00e9 and\nnew lines");
+		return paragraphs;
+	}
+
+	/**
+	 * Writes the JSON body of a batch.
+	 *
+	 * @param paragraphs the paragraphs
+	 * @return the body size in bytes
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private static int getBodySize(List<String> paragraphs) throws IOException {
+		StringWriter content = new StringWriter();
+		JsonWriter writer = new JsonWriter(content);
+		writer.beginObject().name("text").beginArray();
+		for (String paragraph : paragraphs)
+			writer.value(paragraph);
+		writer.endArray().endObject().close();
+		return content.toString().getBytes("UTF-8").length;
+	}
+
+	/**
+	 * Test that the paragraphs are packed under the byte budget and the
+	 * translations are joined in order.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testTranslate() throws IOException {
+		FakeLanguageTranslation service = new FakeLanguageTranslation();
+		List<String> paragraphs = createParagraphs(100);
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(LanguageTranslation.SOURCE, "en");
+		params.put(LanguageTranslation.TARGET, "es");
+		params.put(LanguageTranslation.TEXT, paragraphs.toArray(new String[0]));
+
+		TranslationResult result = new BatchTranslator(service).withMaxBatchBytes(1024).translate(params);
+
+		Assert.assertEquals(100, result.getTranslations().size());
+		for (int i = 0; i < paragraphs.size(); i++)
+			Assert.assertEquals(paragraphs.get(i).toUpperCase(), result.getTranslations().get(i).getTranslation());
+		Assert.assertEquals(100, result.getWordCount());
+		Assert.assertTrue(service.batches.size() > 1);
+		for (List<String> batch : service.batches)
+			Assert.assertTrue(getBodySize(batch) <= 1024);
+	}
+
+	/**
+	 * Test that paragraphs are read lazily when the translations are streamed.
+	 */
+	@Test
+	public void testStreaming() {
+		FakeLanguageTranslation service = new FakeLanguageTranslation();
+		final List<String> paragraphs = createParagraphs(1000);
+		final int[] read = new int[1];
+		Iterable<String> input = new Iterable<String>() {
+			@Override
+			public Iterator<String> iterator() {
+				final Iterator<String> iterator = paragraphs.iterator();
+				return new Iterator<String>() {
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+
+					@Override
+					public String next() {
+						read[0]++;
+						return iterator.next();
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+		};
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(LanguageTranslation.MODEL_ID, "en-es");
+
+		Iterator<Translation> translations = new BatchTranslator(service).withMaxBatchBytes(1024)
+				.withConcurrency(2).translate(input, params);
+		Assert.assertEquals(paragraphs.get(0).toUpperCase(), translations.next().getTranslation());
+		Assert.assertTrue(read[0] < 100);
+
+		int count = 1;
+		while (translations.hasNext()) {
+			Assert.assertEquals(paragraphs.get(count).toUpperCase(), translations.next().getTranslation());
+			count++;
+		}
+		Assert.assertEquals(1000, count);
+	}
+
+	/**
+	 * Test that the size estimate is never lower than the JSON size.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testGetSize() throws IOException {
+		String[] paragraphs = { "", "plain", "\"\\\t\u0001", "\u00f1and\u00fa", "\u2028\u4e2d\ud83d\ude00" };
+		for (String paragraph : paragraphs) {
+			List<String> single = new ArrayList<String>();
+			single.add(paragraph);
+			Assert.assertTrue(paragraph, getBodySize(single) <= 11 + BatchTranslator.getSize(paragraph));
+		}
+	}
+}
@@ -24,6 +24,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -36,6 +38,8 @@ import org.mockserver.model.Header;
 import org.mockserver.model.Parameter;
 import org.mockserver.verify.VerificationTimes;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
@@ -45,6 +49,7 @@ import com.ibm.watson.developer_cloud.language_translation.v2.model.IdentifiedLa
 import com.ibm.watson.developer_cloud.language_translation.v2.model.Translation;
 import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationModel;
 import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationResult;
+import com.ibm.watson.developer_cloud.service.NotFoundException;
 import com.ibm.watson.developer_cloud.util.GsonSingleton;
 import com.ibm.watson.developer_cloud.util.MediaType;
 
@@ -163,6 +168,57 @@ public class LanguageTranslationTest extends WatsonServiceTest {
 		testTranslationResult(text, translationResult);
 	}
 
+	/**
+	 * Test translate without blocking the calling thread.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void testTranslateAsync() throws Exception {
+		Map<String, Object> response = new HashMap<String, Object>();
+		List<Translation> translations = new ArrayList<Translation>();
+		translations.add(new Translation().withTranslation("El equipo es increible IBM Watson"));
+
+		response.put("word_count", 6);
+		response.put("character_count", 20);
+		response.put("translations", translations);
+
+		mockServer.when(
+				request().withMethod("POST").withPath(LANGUAGE_TRANSLATION_PATH)
+						.withQueryStringParameter(new Parameter(LanguageTranslation.MODEL_ID, modelId)))
+		.respond(
+				response().withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+						.withBody(GsonSingleton.getGson().toJson(response)));
+
+		List<ListenableFuture<TranslationResult>> futures = new ArrayList<ListenableFuture<TranslationResult>>();
+		for (int i = 0; i < 10; i++) {
+			futures.add(service.translateAsync(text, modelId));
+		}
+		for (TranslationResult translationResult : Futures.allAsList(futures).get(10, TimeUnit.SECONDS)) {
+			testTranslationResult(text, translationResult);
+		}
+	}
+
+	/**
+	 * Test that an asynchronous call fails with the service exception.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void testTranslateAsyncNotFound() throws Exception {
+		mockServer.when(request().withMethod("POST").withPath(LANGUAGE_TRANSLATION_PATH)).respond(
+				response().withStatusCode(404)
+						.withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+						.withBody("{\"error\": \"model not found\"}"));
+		try {
+			service.translateAsync(text, modelId).get(10, TimeUnit.SECONDS);
+			Assert.fail("the future should fail");
+		} catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof NotFoundException);
+			Assert.assertEquals("model not found", e.getCause().getMessage());
+		}
+	}
+
 	/**
 	 * Test translation result.
 	 * 
@@ -0,0 +1,192 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.message_resonance.v1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.ibm.watson.developer_cloud.message_resonance.v1.model.Message;
+import com.ibm.watson.developer_cloud.message_resonance.v1.model.MessageResonanceDataset;
+import com.ibm.watson.developer_cloud.message_resonance.v1.model.Resonance;
+
+/**
+ * The Class WordScoreTest.
+ */
+public class WordScoreTest {
+
+	/** The executor that answers the word scores. */
+	private final ListeningExecutorService executor = MoreExecutors.listeningDecorator(Executors
+			.newFixedThreadPool(16));
+
+	/**
+	 * A service that scores a word with its length after a short delay.
+	 */
+	private class FakeMessageResonance extends MessageResonance {
+
+		/** The scored words. */
+		private final List<String> words = new CopyOnWriteArrayList<String>();
+
+		/** The requests in flight. */
+		private final AtomicInteger inFlight = new AtomicInteger();
+
+		/** The maximum number of requests in flight. */
+		private final AtomicInteger maxInFlight = new AtomicInteger();
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see com.ibm.watson.developer_cloud.message_resonance.v1.MessageResonance#getResonanceForWordAsync(com.ibm.watson.developer_cloud.message_resonance.v1.model.MessageResonanceDataset,
+		 * java.lang.String)
+		 */
+		@Override
+		ListenableFuture<Resonance> getResonanceForWordAsync(final MessageResonanceDataset dataset, final String word) {
+			words.add(dataset.getId() + ":" + word);
+			final int current = inFlight.incrementAndGet();
+			for (int max = maxInFlight.get(); current > max; max = maxInFlight.get())
+				maxInFlight.compareAndSet(max, current);
+			return executor.submit(new Callable<Resonance>() {
+				@Override
+				public Resonance call() throws Exception {
+					Thread.sleep(20);
+					inFlight.decrementAndGet();
+					if (word.equals("fail"))
+						throw new IllegalStateException("no score for " + word);
+					Resonance resonance = new Resonance();
+					resonance.setWord(word);
+					resonance.setOverall(word.length());
+					return resonance;
+				}
+			});
+		}
+	}
+
+	/**
+	 * Stops the executor.
+	 */
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Test that repeated words are scored once and the resonances keep the
+	 * order of the words.
+	 */
+	@Test
+	public void testDeduplicatesAndKeepsOrder() {
+		FakeMessageResonance service = new FakeMessageResonance();
+		service.setDataset(MessageResonanceDataset.BIG_DATA);
+		service.setConcurrency(3);
+
+		String text = "the cloud and the data and the analytics of the cloud";
+		Message message = service.getResonance(text);
+
+		String[] words = text.split(" ");
+		Assert.assertEquals(words.length, message.getResonances().size());
+		for (int i = 0; i < words.length; i++) {
+			Resonance resonance = message.getResonances().get(i);
+			Assert.assertEquals(words[i], resonance.getWord());
+			Assert.assertEquals(words[i].length(), resonance.getOverall());
+		}
+		Assert.assertEquals(text.lastIndexOf("cloud"), message.getResonances().get(words.length - 1)
+				.getWordOffset());
+		Assert.assertEquals(6, service.words.size());
+		Assert.assertTrue(service.maxInFlight.get() <= 3);
+	}
+
+	/**
+	 * Test that the scores are cached per dataset.
+	 */
+	@Test
+	public void testCachePerDataset() {
+		FakeMessageResonance service = new FakeMessageResonance();
+		service.setDataset(MessageResonanceDataset.BIG_DATA);
+		service.getResonance("big data cloud");
+		service.getResonance("cloud data");
+		Assert.assertEquals(3, service.words.size());
+
+		service.setDataset(MessageResonanceDataset.CLOUD);
+		service.getResonance("cloud data");
+		Assert.assertEquals(5, service.words.size());
+		Assert.assertTrue(service.words.contains(MessageResonanceDataset.CLOUD.getId() + ":cloud"));
+
+		service.clearWordCache();
+		service.getResonance("cloud");
+		Assert.assertEquals(6, service.words.size());
+	}
+
+	/**
+	 * Test that messages scored at the same time share the requests of their
+	 * common words, even while they wait for a permit.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testConcurrentMessagesShareRequests() throws Exception {
+		final FakeMessageResonance service = new FakeMessageResonance();
+		service.setDataset(MessageResonanceDataset.BIG_DATA);
+		service.setConcurrency(1);
+
+		final String text = "the cloud of big data";
+		List<ListenableFuture<Message>> messages = new ArrayList<ListenableFuture<Message>>();
+		ListeningExecutorService callers = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(4));
+		try {
+			for (int i = 0; i < 4; i++) {
+				messages.add(callers.submit(new Callable<Message>() {
+					@Override
+					public Message call() {
+						return service.getResonance(text);
+					}
+				}));
+			}
+			for (ListenableFuture<Message> message : messages)
+				Assert.assertEquals(5, message.get().getResonances().size());
+		} finally {
+			callers.shutdownNow();
+		}
+		Assert.assertEquals(5, service.words.size());
+	}
+
+	/**
+	 * Test that a failed score is reported and not cached.
+	 */
+	@Test
+	public void testFailureIsNotCached() {
+		FakeMessageResonance service = new FakeMessageResonance();
+		service.setDataset(MessageResonanceDataset.BIG_DATA);
+		for (int i = 0; i < 2; i++) {
+			try {
+				service.getResonance("this will fail");
+				Assert.fail();
+			} catch (IllegalStateException e) {
+				Assert.assertEquals("no score for fail", e.getMessage());
+			}
+		}
+		Assert.assertEquals(4, service.words.size());
+	}
+}
@@ -151,6 +151,50 @@ public class NaturalLanguageClassifierTest extends WatsonServiceTest {
 
     }
 
+    /**
+     * Test that classifyAll keeps the order of the texts and reports the
+     * failures without stopping the batch.
+     */
+    @Test
+    public void testClassifyAll() {
+        String path = String.format(LANGUAGE_CLASSIFY_PATH, classifierId);
+        List<String> texts = new ArrayList<String>();
+        for (int i = 0; i < 20; i++) {
+            String text = "text " + i;
+            texts.add(text);
+            JsonObject contentJson = new JsonObject();
+            contentJson.addProperty("text", text);
+
+            Classification response = new Classification();
+            response.setText(text);
+            response.setTopClass("class" + i);
+            mockServer.when(request().withMethod("POST").withPath(path).withBody(contentJson.toString())).respond(
+                    response().withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+                            .withBody(GsonSingleton.getGson().toJson(response)));
+        }
+        texts.add(5, "");
+        texts.add("not trained");
+        mockServer.when(request().withMethod("POST").withPath(path).withBody("{\"text\":\"not trained\"}")).respond(
+                response().withStatusCode(404)
+                        .withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+                        .withBody("{\"error\":\"Not found\",\"code\":404}"));
+
+        BulkClassification bulk = service.classifyAll(classifierId, texts, 4);
+
+        Assert.assertEquals(texts.size(), bulk.getCount());
+        Assert.assertEquals(2, bulk.getFailureCount());
+        for (BulkClassification.Result result : bulk.getResults()) {
+            Assert.assertEquals(texts.get(result.getIndex()), result.getText());
+            if (result.isSuccessful()) {
+                Assert.assertEquals(result.getText(), result.getClassification().getText());
+                Assert.assertEquals("class" + result.getText().substring(5), result.getClassification().getTopClass());
+            }
+        }
+        Assert.assertTrue(bulk.getResults().get(5).getError() instanceof IllegalArgumentException);
+        Assert.assertEquals("not trained", bulk.getFailures().get(1).getText());
+        Assert.assertTrue(bulk.getThroughput() > 0);
+    }
+
     /**
      * Test get classifier.
      */
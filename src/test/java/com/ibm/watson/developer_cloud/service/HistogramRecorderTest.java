@@ -0,0 +1,212 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Header;
+
+import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.WatsonServiceTest;
+import com.ibm.watson.developer_cloud.service.HistogramRecorder.Histogram;
+import com.ibm.watson.developer_cloud.util.MediaType;
+
+/**
+ * The Class HistogramRecorderTest.
+ */
+public class HistogramRecorderTest extends WatsonServiceTest {
+
+	/** The Constant log. */
+	private static final Logger log = Logger.getLogger(HistogramRecorderTest.class.getName());
+
+	/** The Constant PING_PATH. (value is "/v1/ping") */
+	private final static String PING_PATH = "/v1/ping";
+
+	/** The Constant MISSING_PATH. (value is "/v1/missing") */
+	private final static String MISSING_PATH = "/v1/missing";
+
+	/** Mock Server *. */
+	private ClientAndServer mockServer;
+
+	/** The service. */
+	private WatsonService service;
+
+	/**
+	 * Start mock server.
+	 */
+	@Before
+	public void startMockServer() {
+		try {
+			mockServer = startClientAndServer(Integer.parseInt(prop.getProperty("mock.server.port")));
+			service = new WatsonService() {};
+			service.setApiKey("");
+			service.setEndPoint("http://" + prop.getProperty("mock.server.host") + ":"
+					+ prop.getProperty("mock.server.port"));
+		} catch (NumberFormatException e) {
+			log.log(Level.SEVERE, "Error mocking the service", e);
+		}
+	}
+
+	/**
+	 * Stop mock server.
+	 */
+	@After
+	public void stopMockServer() {
+		service.close();
+		mockServer.stop();
+	}
+
+	/**
+	 * Test that successful and failed calls are recorded.
+	 */
+	@Test
+	public void testRecordCalls() {
+		JsonObject pong = new JsonObject();
+		pong.addProperty("status", "ok");
+
+		mockServer.when(request().withPath(PING_PATH)).respond(
+				response().withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+						.withBody(pong.toString()));
+		mockServer.when(request().withPath(MISSING_PATH)).respond(
+				response().withStatusCode(404)
+						.withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+						.withBody("{\"error\":\"not found\"}"));
+
+		final List<String> events = new ArrayList<String>();
+		HistogramRecorder recorder = new HistogramRecorder();
+		service.addListener(recorder);
+		service.addListener(new ServiceCallListener() {
+			@Override
+			public void onRequest(ServiceCall call) {
+				events.add("request");
+			}
+
+			@Override
+			public void onResponse(ServiceCall call, HttpResponse response) {
+				events.add("response " + call.getStatusCode());
+			}
+
+			@Override
+			public void onError(ServiceCall call, Exception e) {
+				events.add("error " + call.getStatusCode());
+			}
+		});
+
+		for (int i = 0; i < 3; i++)
+			service.executeRequest(Request.Get(PING_PATH), JsonObject.class);
+
+		try {
+			service.executeRequest(Request.Get(MISSING_PATH), JsonObject.class);
+			Assert.fail("NotFoundException expected");
+		} catch (NotFoundException e) {
+			// expected
+		}
+
+		Assert.assertEquals(8, events.size());
+		Assert.assertEquals("response 200", events.get(1));
+		Assert.assertEquals("error 404", events.get(7));
+
+		Histogram ping = recorder.getHistogram("WatsonService", "GET " + PING_PATH);
+		Assert.assertNotNull(ping);
+		Assert.assertEquals(3, ping.getCount());
+		Assert.assertEquals(0, ping.getErrorCount());
+		Assert.assertEquals(Long.valueOf(3), ping.getStatusCodes().get(200));
+		Assert.assertTrue(ping.getBytesReceived() > 0);
+
+		Histogram missing = recorder.getHistogram("WatsonService", "GET " + MISSING_PATH);
+		Assert.assertEquals(1, missing.getErrorCount());
+		Assert.assertEquals(Long.valueOf(1), missing.getStatusCodes().get(404));
+
+		Assert.assertEquals(2, recorder.getHistograms().size());
+		Assert.assertTrue(recorder.dump().contains("GET " + PING_PATH + " count=3"));
+
+		recorder.reset();
+		Assert.assertTrue(recorder.getHistograms().isEmpty());
+	}
+
+	/**
+	 * Test that identifiers in the path share one operation.
+	 */
+	@Test
+	public void testNormalizePath() {
+		Assert.assertEquals("/natural-language-classifier/api/v1/classifiers/{id}",
+				ServiceCall.normalizePath("/natural-language-classifier/api/v1/classifiers/563C46x19-nlc-377"));
+		Assert.assertEquals("/dialog/api/v1/dialogs/{id}/conversation",
+				ServiceCall.normalizePath("/dialog/api/v1/dialogs/3d4b5ecc-f957-4a9e-a2c1-2ed1fe6a3c5e/conversation"));
+		Assert.assertEquals("/v2/models/en-es", ServiceCall.normalizePath("/v2/models/en-es"));
+		Assert.assertEquals("/v1/words/{id}", ServiceCall.normalizePath("/v1/words/caf%C3%A9"));
+		Assert.assertEquals("/v12/{id}/", ServiceCall.normalizePath("/v12/v1a/"));
+		Assert.assertEquals("/", ServiceCall.normalizePath("/"));
+	}
+
+	/**
+	 * Test that the number of histograms is bounded.
+	 */
+	@Test
+	public void testMaxHistograms() {
+		HistogramRecorder recorder = new HistogramRecorder();
+		for (int i = 0; i < HistogramRecorder.MAX_HISTOGRAMS + 10; i++) {
+			// names without digits, so that they are not normalized
+			StringBuilder path = new StringBuilder("/v1/names/");
+			int n = i;
+			do {
+				path.append((char) ('a' + n % 26));
+				n /= 26;
+			} while (n > 0);
+			recorder.onError(new ServiceCall("service", new HttpGet(path.toString())), new RuntimeException());
+		}
+
+		Assert.assertEquals(HistogramRecorder.MAX_HISTOGRAMS + 1, recorder.getHistograms().size());
+		Histogram other = recorder.getHistogram("service", HistogramRecorder.OTHER_OPERATION);
+		Assert.assertEquals(10, other.getCount());
+	}
+
+	/**
+	 * Test percentiles.
+	 */
+	@Test
+	public void testPercentiles() {
+		Histogram histogram = new Histogram("service", "GET /");
+		Assert.assertEquals(0, histogram.getPercentile(99, TimeUnit.MICROSECONDS));
+
+		for (long value = 1; value <= 1000; value++)
+			Assert.assertTrue(value <= Histogram.getBucketLimit(Histogram.getBucket(value)));
+
+		Assert.assertEquals(15, Histogram.getBucketLimit(Histogram.getBucket(15)));
+		Assert.assertEquals(Long.MAX_VALUE, Histogram.getBucketLimit(Histogram.getBucket(Long.MAX_VALUE)));
+
+		// the bucket limit is at most 12.5% higher than the value
+		long limit = Histogram.getBucketLimit(Histogram.getBucket(10000));
+		Assert.assertTrue(limit >= 10000 && limit <= 11250);
+	}
+
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Header;
+
+import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.WatsonServiceTest;
+import com.ibm.watson.developer_cloud.util.MediaType;
+
+/**
+ * The Class HttpTransportTest.
+ */
+public class HttpTransportTest extends WatsonServiceTest {
+
+	/** The Constant log. */
+	private static final Logger log = Logger.getLogger(HttpTransportTest.class.getName());
+
+	/** The Constant PING_PATH. (value is "/v1/ping") */
+	private final static String PING_PATH = "/v1/ping";
+
+	/** Mock Server *. */
+	private ClientAndServer mockServer;
+
+	/** The service. */
+	private WatsonService service;
+
+	/**
+	 * Start mock server.
+	 */
+	@Before
+	public void startMockServer() {
+		try {
+			mockServer = startClientAndServer(Integer.parseInt(prop.getProperty("mock.server.port")));
+			service = new WatsonService() {};
+			service.setApiKey("");
+			service.setEndPoint("http://" + prop.getProperty("mock.server.host") + ":"
+					+ prop.getProperty("mock.server.port"));
+		} catch (NumberFormatException e) {
+			log.log(Level.SEVERE, "Error mocking the service", e);
+		}
+	}
+
+	/**
+	 * Stop mock server.
+	 */
+	@After
+	public void stopMockServer() {
+		service.close();
+		mockServer.stop();
+	}
+
+	/**
+	 * Test that connections are returned to the pool and reused.
+	 */
+	@Test
+	public void testConnectionsAreReleased() {
+		JsonObject pong = new JsonObject();
+		pong.addProperty("status", "ok");
+
+		mockServer.when(request().withPath(PING_PATH)).respond(
+				response().withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+						.withBody(pong.toString()));
+
+		HttpTransport transport = new HttpTransport(1, 1, 5000);
+		service.setTransport(transport);
+		try {
+			// a single connection in the pool: each call must release it
+			for (int i = 0; i < 5; i++) {
+				JsonObject response = service.executeRequest(Request.Get(PING_PATH), JsonObject.class);
+				Assert.assertEquals("ok", response.get("status").getAsString());
+			}
+			Assert.assertEquals(0, transport.getPoolStats().getLeased());
+			Assert.assertEquals(1, transport.getPoolStats().getAvailable());
+		} finally {
+			transport.close();
+		}
+	}
+
+	/**
+	 * Test pool configuration.
+	 */
+	@Test
+	public void testPoolConfiguration() {
+		HttpTransport transport = new HttpTransport(20, 5);
+		Assert.assertEquals(20, transport.getMaxTotalConnections());
+		Assert.assertEquals(5, transport.getMaxConnectionsPerRoute());
+
+		transport.setMaxTotalConnections(40);
+		transport.setMaxConnectionsPerRoute(10);
+		transport.setMaxIdleTime(1000);
+		Assert.assertEquals(40, transport.getMaxTotalConnections());
+		Assert.assertEquals(10, transport.getMaxConnectionsPerRoute());
+		Assert.assertEquals(1000, transport.getMaxIdleTime());
+		Assert.assertEquals(40, transport.getPoolStats().getMax());
+
+		transport.close();
+		Assert.assertTrue(transport.isClosed());
+	}
+
+	/**
+	 * Test that a shared transport is not closed by the service.
+	 */
+	@Test
+	public void testSharedTransport() {
+		HttpTransport shared = new HttpTransport();
+		service.setTransport(shared);
+		service.close();
+		Assert.assertFalse(shared.isClosed());
+		Assert.assertSame(shared, service.getTransport());
+		shared.close();
+
+		WatsonService other = new WatsonService() {};
+		HttpTransport owned = other.getTransport();
+		Assert.assertSame(owned, other.getTransport());
+		other.close();
+		Assert.assertTrue(owned.isClosed());
+	}
+
+	/**
+	 * Test that invalid pool sizes are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidPoolSize() {
+		new HttpTransport(0, 1);
+	}
+}
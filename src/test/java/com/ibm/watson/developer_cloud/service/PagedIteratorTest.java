@@ -0,0 +1,134 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * The Class PagedIteratorTest.
+ */
+public class PagedIteratorTest {
+
+	/**
+	 * Iterator over pages of integers, the cursor is the page index.
+	 */
+	private static class NumberIterator extends PagedIterator<Integer> {
+
+		/** The pages. */
+		private final List<List<Integer>> pages;
+
+		/** The threads that requested each page. */
+		private final List<Thread> threads = new CopyOnWriteArrayList<Thread>();
+
+		/**
+		 * Instantiates a new number iterator.
+		 *
+		 * @param pages the pages
+		 */
+		NumberIterator(List<List<Integer>> pages) {
+			this.pages = pages;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.ibm.watson.developer_cloud.service.PagedIterator#getPage(java.lang.String)
+		 */
+		@Override
+		protected Page<Integer> getPage(String cursor) {
+			threads.add(Thread.currentThread());
+			int index = cursor == null ? 0 : Integer.parseInt(cursor);
+			if (pages.get(index) == null)
+				throw new IllegalStateException("page " + index + " failed");
+
+			String next = index + 1 < pages.size() ? String.valueOf(index + 1) : null;
+			return new Page<Integer>(pages.get(index), next);
+		}
+	}
+
+	/**
+	 * Test that the records are returned in order across pages.
+	 */
+	@Test
+	public void testIteratePages() {
+		List<List<Integer>> pages = new ArrayList<List<Integer>>();
+		pages.add(Lists.newArrayList(1, 2, 3));
+		pages.add(Collections.<Integer> emptyList());
+		pages.add(Lists.newArrayList(4));
+		pages.add(Lists.newArrayList(5, 6));
+
+		NumberIterator iterator = new NumberIterator(pages);
+		List<Integer> numbers = new ArrayList<Integer>();
+		while (iterator.hasNext())
+			numbers.add(iterator.next());
+
+		Assert.assertEquals(Lists.newArrayList(1, 2, 3, 4, 5, 6), numbers);
+		Assert.assertEquals(4, iterator.threads.size());
+		Assert.assertEquals(Thread.currentThread(), iterator.threads.get(0));
+		Assert.assertNotEquals(Thread.currentThread(), iterator.threads.get(1));
+		Assert.assertFalse(iterator.hasNext());
+
+		try {
+			iterator.next();
+			Assert.fail("next() should fail after the last record");
+		} catch (NoSuchElementException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Test that errors in background requests are thrown to the caller.
+	 */
+	@Test
+	public void testPageError() {
+		List<List<Integer>> pages = new ArrayList<List<Integer>>();
+		pages.add(Lists.newArrayList(1));
+		pages.add(null);
+
+		NumberIterator iterator = new NumberIterator(pages);
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		try {
+			iterator.hasNext();
+			Assert.fail("hasNext() should fail when a page can't be requested");
+		} catch (IllegalStateException e) {
+			Assert.assertEquals("page 1 failed", e.getMessage());
+		}
+	}
+
+	/**
+	 * Test close.
+	 */
+	@Test
+	public void testClose() {
+		List<List<Integer>> pages = new ArrayList<List<Integer>>();
+		pages.add(Lists.newArrayList(1, 2));
+		pages.add(Lists.newArrayList(3));
+
+		NumberIterator iterator = new NumberIterator(pages);
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		iterator.close();
+		Assert.assertFalse(iterator.hasNext());
+	}
+
+}
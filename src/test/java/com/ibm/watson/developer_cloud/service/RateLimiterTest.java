@@ -0,0 +1,136 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * The Class RateLimiterTest.
+ */
+public class RateLimiterTest {
+
+	/**
+	 * Test that requests beyond the burst wait for the rate.
+	 *
+	 * @throws InterruptedException
+	 *             the interrupted exception
+	 */
+	@Test
+	public void testRate() throws InterruptedException {
+		RateLimiter limiter = new RateLimiter().withRate(20).withBurst(2);
+
+		final long start = System.nanoTime();
+		for (int i = 0; i < 6; i++) {
+			limiter.acquire();
+			limiter.release();
+		}
+		final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// 2 requests are sent right away, the other 4 wait 50ms each
+		Assert.assertTrue("elapsed " + elapsed, elapsed >= 190);
+		Assert.assertTrue(limiter.getWaitTime(TimeUnit.MILLISECONDS) >= 190);
+	}
+
+	/**
+	 * Test that callers wait for a request in flight to finish.
+	 *
+	 * @throws InterruptedException
+	 *             the interrupted exception
+	 */
+	@Test
+	public void testMaxInFlight() throws InterruptedException {
+		final RateLimiter limiter = new RateLimiter().withMaxInFlight(1);
+		limiter.acquire();
+		Assert.assertEquals(1, limiter.getInFlight());
+
+		final CountDownLatch acquired = new CountDownLatch(1);
+		Thread waiting = new Thread() {
+			@Override
+			public void run() {
+				try {
+					limiter.acquire();
+					acquired.countDown();
+				} catch (InterruptedException e) {
+					// the test fails
+				}
+			}
+		};
+		waiting.start();
+
+		Assert.assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+		limiter.release();
+		Assert.assertTrue(acquired.await(5, TimeUnit.SECONDS));
+		limiter.release();
+		Assert.assertEquals(0, limiter.getInFlight());
+	}
+
+	/**
+	 * Test that asynchronous callers wait for the rate and for the requests
+	 * in flight without blocking, in order with the blocking callers.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testAcquireAsync() throws Exception {
+		RateLimiter limiter = new RateLimiter().withRate(20).withBurst(1).withMaxInFlight(1);
+		limiter.acquire();
+
+		// waits for the rate and then for the request in flight
+		ListenableFuture<Void> first = limiter.acquireAsync();
+		ListenableFuture<Void> cancelled = limiter.acquireAsync();
+		ListenableFuture<Void> last = limiter.acquireAsync();
+		Thread.sleep(200);
+		Assert.assertFalse(first.isDone());
+		Assert.assertTrue(cancelled.cancel(false));
+
+		limiter.release();
+		first.get(5, TimeUnit.SECONDS);
+		Assert.assertFalse(last.isDone());
+		Assert.assertEquals(1, limiter.getInFlight());
+
+		// the cancelled permit gives its turn to the next caller
+		limiter.release();
+		last.get(5, TimeUnit.SECONDS);
+		limiter.release();
+		Assert.assertEquals(0, limiter.getInFlight());
+	}
+
+	/**
+	 * Test that services with the same credentials share the limiter.
+	 */
+	@Test
+	public void testShareRateLimiter() {
+		WatsonService first = new WatsonService() {};
+		first.setUsernameAndPassword("user", "password");
+		WatsonService second = new WatsonService() {};
+		second.setUsernameAndPassword("user", "password");
+		WatsonService other = new WatsonService() {};
+		other.setUsernameAndPassword("other", "password");
+
+		RateLimiter limiter = first.shareRateLimiter(new RateLimiter().withRate(5));
+		Assert.assertSame(limiter, second.shareRateLimiter(new RateLimiter().withRate(10)));
+		Assert.assertNotSame(limiter, other.shareRateLimiter(new RateLimiter().withRate(5)));
+		Assert.assertSame(limiter, second.getRateLimiter());
+	}
+
+}
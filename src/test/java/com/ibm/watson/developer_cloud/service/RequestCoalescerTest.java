@@ -0,0 +1,202 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Delay;
+import org.mockserver.model.Header;
+import org.mockserver.verify.VerificationTimes;
+
+import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.WatsonServiceTest;
+import com.ibm.watson.developer_cloud.util.MediaType;
+
+/**
+ * The Class RequestCoalescerTest.
+ */
+public class RequestCoalescerTest extends WatsonServiceTest {
+
+	/** The Constant log. */
+	private static final Logger log = Logger.getLogger(RequestCoalescerTest.class.getName());
+
+	/** The Constant MODEL_PATH. (value is "/v2/models/en-es") */
+	private final static String MODEL_PATH = "/v2/models/en-es";
+
+	/** The Constant MISSING_PATH. (value is "/v2/models/missing") */
+	private final static String MISSING_PATH = "/v2/models/missing";
+
+	/** The Constant MODEL. */
+	private final static String MODEL = "{\"model_id\":\"en-es\",\"source\":\"en\",\"target\":\"es\"}";
+
+	/** The number of concurrent requests. */
+	private final static int THREADS = 8;
+
+	/** Mock Server *. */
+	private static ClientAndServer mockServer;
+
+	/** The service. */
+	private WatsonService service;
+
+	/** The request coalescer. */
+	private RequestCoalescer coalescer;
+
+	/** The executor. */
+	private ExecutorService executor;
+
+	/**
+	 * Start mock server, once for all the tests since stopping it and starting
+	 * it again right away can fail to bind the port.
+	 */
+	@Before
+	public void startMockServer() {
+		try {
+			if (mockServer == null)
+				mockServer = startClientAndServer(Integer.parseInt(prop.getProperty("mock.server.port")));
+		} catch (NumberFormatException e) {
+			log.log(Level.SEVERE, "Error mocking the service", e);
+		}
+
+		coalescer = new RequestCoalescer();
+		service = new WatsonService() {};
+		service.setApiKey("");
+		service.setEndPoint("http://" + prop.getProperty("mock.server.host") + ":"
+				+ prop.getProperty("mock.server.port"));
+		service.setRequestCoalescer(coalescer);
+		executor = Executors.newFixedThreadPool(THREADS);
+
+		mockServer.when(request().withPath(MODEL_PATH)).respond(
+				response().withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+						.withBody(MODEL).withDelay(new Delay(TimeUnit.MILLISECONDS, 500)));
+		mockServer.when(request().withPath(MISSING_PATH)).respond(
+				response().withStatusCode(404)
+						.withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+						.withBody("{\"error\":\"Model not found\",\"code\":404}")
+						.withDelay(new Delay(TimeUnit.MILLISECONDS, 500)));
+	}
+
+	/**
+	 * Closes the service and clears the expectations.
+	 */
+	@After
+	public void resetMockServer() {
+		executor.shutdownNow();
+		service.close();
+		mockServer.reset();
+	}
+
+	/**
+	 * Stop mock server.
+	 */
+	@AfterClass
+	public static void stopMockServer() {
+		if (mockServer != null)
+			mockServer.stop();
+		mockServer = null;
+	}
+
+	/**
+	 * Sends the same GET from several threads at the same time.
+	 *
+	 * @param path
+	 *            the path
+	 * @return the futures of the responses
+	 */
+	private List<Future<JsonObject>> getConcurrently(final String path) {
+		final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+		final List<Future<JsonObject>> futures = new ArrayList<Future<JsonObject>>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executor.submit(new Callable<JsonObject>() {
+				@Override
+				public JsonObject call() throws Exception {
+					barrier.await();
+					return service.executeRequest(Request.Get(path), JsonObject.class);
+				}
+			}));
+		}
+		return futures;
+	}
+
+	/**
+	 * Test that identical GETs in flight make a single call.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testCoalesce() throws Exception {
+		for (Future<JsonObject> future : getConcurrently(MODEL_PATH))
+			Assert.assertEquals("en-es", future.get(10, TimeUnit.SECONDS).get("model_id").getAsString());
+
+		mockServer.verify(request().withPath(MODEL_PATH), VerificationTimes.exactly(1));
+		Assert.assertEquals(1, coalescer.getCallCount());
+		Assert.assertEquals(THREADS - 1, coalescer.getCoalescedCount());
+
+		// the flight landed, so the next GET calls the service again
+		service.executeRequest(Request.Get(MODEL_PATH), JsonObject.class);
+		Assert.assertEquals(2, coalescer.getCallCount());
+	}
+
+	/**
+	 * Test that the failure of the call is thrown to every waiting request.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testFailure() throws Exception {
+		for (Future<JsonObject> future : getConcurrently(MISSING_PATH)) {
+			try {
+				future.get(10, TimeUnit.SECONDS);
+				Assert.fail("the request should fail");
+			} catch (ExecutionException e) {
+				Assert.assertTrue(e.getCause() instanceof NotFoundException);
+			}
+		}
+		mockServer.verify(request().withPath(MISSING_PATH), VerificationTimes.exactly(1));
+	}
+
+	/**
+	 * Test that only GET requests are coalesced.
+	 */
+	@Test
+	public void testOnlyGet() {
+		Assert.assertNotNull(RequestCoalescer.getKey(Request.Get(MODEL_PATH).build()));
+		Assert.assertNull(RequestCoalescer.getKey(Request.Post(MODEL_PATH).build()));
+		Assert.assertNull(RequestCoalescer.getKey(Request.Delete(MODEL_PATH).build()));
+	}
+}
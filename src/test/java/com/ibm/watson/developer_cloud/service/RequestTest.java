@@ -0,0 +1,132 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.IOException;
+
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.util.EntityUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The Class RequestTest.
+ */
+public class RequestTest {
+
+	/**
+	 * Test that the requests use the right HTTP method.
+	 */
+	@Test
+	public void testMethods() {
+		Assert.assertTrue(Request.Get("/v1/foo").build() instanceof HttpGet);
+		Assert.assertTrue(Request.Post("/v1/foo").build() instanceof HttpPost);
+		Assert.assertTrue(Request.Put("/v1/foo").build() instanceof HttpPut);
+		Assert.assertTrue(Request.Delete("/v1/foo").build() instanceof HttpDelete);
+	}
+
+	/**
+	 * Test URL templates, compiled or formatted with {@link String#format}.
+	 */
+	@Test
+	public void testTemplates() {
+		Assert.assertEquals("/v1/dialogs/1234/conversation",
+				Request.Get("/v1/dialogs/%s/conversation", "1234").toUrl());
+		Assert.assertEquals("/v1/dialogs/1234/conversation",
+				Request.Get("/v1/dialogs/%s/conversation", 1234).toUrl());
+		Assert.assertEquals("/v1/a/b/c", Request.Get("/v1/%s/%s/%s", "a", "b", "c").toUrl());
+		Assert.assertEquals("/v1/a", Request.Get("%s", "/v1/a").toUrl());
+		Assert.assertEquals("/v1/0042", Request.Get("/v1/%04d", 42).toUrl());
+		Assert.assertEquals("/v1/null", Request.Get("/v1/%s", (Object) null).toUrl());
+		Assert.assertEquals("/v1/a", Request.Get("/v1/%s", "a", "ignored").toUrl());
+	}
+
+	/**
+	 * Test that a template with missing arguments fails like {@link String#format}.
+	 */
+	@Test(expected = java.util.MissingFormatArgumentException.class)
+	public void testTemplateMissingArgument() {
+		Request.Get("/v1/%s/%s", "a");
+	}
+
+	/**
+	 * Test that the query string of the URL is parsed and encoded again.
+	 */
+	@Test
+	public void testQueryInUrl() {
+		Request request = Request.Get("/v1/foo?a=1&b=hello+world&c=%C3%A9&d&&e=x=y")
+				.withQuery("f", "a b");
+		Assert.assertEquals("/v1/foo?a=1&b=hello+world&c=%C3%A9&d&e=x%3Dy&f=a+b", request.toUrl());
+		Assert.assertEquals("/v1/foo", Request.Get("/v1/foo?").toUrl());
+	}
+
+	/**
+	 * Test that the URI is built with the query parameters.
+	 */
+	@Test
+	public void testBuild() {
+		HttpRequestBase request = Request.Get("/v2/models")
+				.withQuery("source", "en", "target", "es", "default", true)
+				.withQuery("tags", new String[] { "a", "b" })
+				.build();
+		Assert.assertEquals("/v2/models?source=en&target=es&default=true&tags=a&tags=b",
+				request.getURI().toString());
+	}
+
+	/**
+	 * Test that the form parameters are sent encoded as UTF-8.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testForm() throws IOException {
+		HttpEntityEnclosingRequestBase request = (HttpEntityEnclosingRequestBase) Request.Post("/v1/foo")
+				.withForm("text", "caf\u00e9 & cr\u00e8me", "n", 1)
+				.build();
+		Assert.assertEquals("text=caf%C3%A9+%26+cr%C3%A8me&n=1", EntityUtils.toString(request.getEntity()));
+		Assert.assertTrue(request.getEntity().getContentType().getValue()
+				.startsWith("application/x-www-form-urlencoded"));
+	}
+
+	/**
+	 * Test that the Alchemy services add the end point and the api key in a
+	 * single URI.
+	 */
+	@Test
+	public void testAlchemyApiKey() {
+		AlchemyService service = new AlchemyService() {};
+		service.setApiKey("key");
+
+		HttpRequestBase request = Request.Post("/text/TextGetRankedKeywords").build();
+		service.setAuthentication(request);
+		Assert.assertEquals("https://access.alchemyapi.com/calls/text/TextGetRankedKeywords?apikey=key",
+				request.getURI().toString());
+
+		request = Request.Get("/data/GetNews?start=now-1d").build();
+		service.setAuthentication(request);
+		Assert.assertEquals("https://access.alchemyapi.com/calls/data/GetNews?start=now-1d&apikey=key",
+				request.getURI().toString());
+
+		request = Request.Get("http://example.com/calls/foo").build();
+		service.setAuthentication(request);
+		Assert.assertEquals("http://example.com/calls/foo?apikey=key", request.getURI().toString());
+	}
+}
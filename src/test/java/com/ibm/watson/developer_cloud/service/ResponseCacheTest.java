@@ -0,0 +1,234 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Header;
+import org.mockserver.verify.VerificationTimes;
+
+import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.WatsonServiceTest;
+import com.ibm.watson.developer_cloud.util.MediaType;
+
+/**
+ * The Class ResponseCacheTest.
+ */
+public class ResponseCacheTest extends WatsonServiceTest {
+
+	/** The Constant log. */
+	private static final Logger log = Logger.getLogger(ResponseCacheTest.class.getName());
+
+	/** The Constant VOICES_PATH. (value is "/v1/voices") */
+	private final static String VOICES_PATH = "/v1/voices";
+
+	/** The Constant ETAG. (value is "\"v1\"") */
+	private final static String ETAG = "\"v1\"";
+
+	/** Mock Server *. */
+	private static ClientAndServer mockServer;
+
+	/** The service. */
+	private WatsonService service;
+
+	/**
+	 * Start mock server, once for all the tests since stopping it and starting
+	 * it again right away can fail to bind the port.
+	 */
+	@Before
+	public void startMockServer() {
+		try {
+			if (mockServer == null)
+				mockServer = startClientAndServer(Integer.parseInt(prop.getProperty("mock.server.port")));
+		} catch (NumberFormatException e) {
+			log.log(Level.SEVERE, "Error mocking the service", e);
+		}
+
+		service = new WatsonService() {};
+		service.setApiKey("");
+		service.setEndPoint("http://" + prop.getProperty("mock.server.host") + ":"
+				+ prop.getProperty("mock.server.port"));
+	}
+
+	/**
+	 * Closes the service and clears the expectations.
+	 */
+	@After
+	public void resetMockServer() {
+		service.close();
+		mockServer.reset();
+	}
+
+	/**
+	 * Stop mock server.
+	 */
+	@AfterClass
+	public static void stopMockServer() {
+		if (mockServer != null)
+			mockServer.stop();
+		mockServer = null;
+	}
+
+	/**
+	 * Mocks a JSON response.
+	 *
+	 * @param path
+	 *            the path
+	 * @param body
+	 *            the body
+	 * @param headers
+	 *            the extra headers
+	 */
+	private void mockResponse(String path, String body, Header... headers) {
+		org.mockserver.model.HttpResponse response = response()
+				.withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+				.withBody(body);
+		for (Header header : headers)
+			response.withHeader(header);
+		mockServer.when(request().withMethod("GET").withPath(path)).respond(response);
+	}
+
+	/**
+	 * Test that fresh responses don't call the service.
+	 */
+	@Test
+	public void testTtl() {
+		ResponseCache cache = new ResponseCache().withTtl(VOICES_PATH, 1, TimeUnit.HOURS);
+		service.setResponseCache(cache);
+		mockResponse(VOICES_PATH, "{\"voices\":[]}");
+
+		for (int i = 0; i < 3; i++) {
+			JsonObject voices = service.executeRequest(Request.Get(VOICES_PATH), JsonObject.class);
+			Assert.assertTrue(voices.has("voices"));
+		}
+
+		mockServer.verify(request().withPath(VOICES_PATH), VerificationTimes.exactly(1));
+		Assert.assertEquals(2, cache.getHitCount());
+		Assert.assertEquals(1, cache.getMissCount());
+	}
+
+	/**
+	 * Test that stale responses are revalidated with their ETag.
+	 */
+	@Test
+	public void testRevalidation() {
+		ResponseCache cache = new ResponseCache();
+		service.setResponseCache(cache);
+		mockServer.when(request().withPath(VOICES_PATH).withHeader(new Header("If-None-Match", ETAG))).respond(
+				response().withStatusCode(304));
+		mockResponse(VOICES_PATH, "{\"voices\":[]}", new Header("ETag", ETAG));
+
+		service.executeRequest(Request.Get(VOICES_PATH), JsonObject.class);
+		JsonObject voices = service.executeRequest(Request.Get(VOICES_PATH), JsonObject.class);
+
+		Assert.assertTrue(voices.has("voices"));
+		Assert.assertEquals(0, cache.getHitCount());
+		Assert.assertEquals(1, cache.getRevalidationCount());
+	}
+
+	/**
+	 * Test that other methods invalidate the cached responses.
+	 */
+	@Test
+	public void testInvalidation() {
+		ResponseCache cache = new ResponseCache().withDefaultTtl(1, TimeUnit.HOURS);
+		service.setResponseCache(cache);
+		mockResponse(VOICES_PATH, "{\"voices\":[]}");
+		mockServer.when(request().withMethod("DELETE").withPath(VOICES_PATH + "/en-US_AllisonVoice")).respond(
+				response().withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+						.withBody("{}"));
+
+		service.executeRequest(Request.Get(VOICES_PATH), JsonObject.class);
+		Assert.assertEquals(1, cache.size());
+
+		service.executeRequest(Request.Delete(VOICES_PATH + "/en-US_AllisonVoice"), JsonObject.class);
+		Assert.assertEquals(0, cache.size());
+
+		service.executeRequest(Request.Get(VOICES_PATH), JsonObject.class);
+		Assert.assertEquals(2, cache.getMissCount());
+	}
+
+	/**
+	 * Test that a POST only invalidates the cached responses of the paths
+	 * registered as creating resources.
+	 */
+	@Test
+	public void testPostInvalidation() {
+		final String classifiers = "/v1/classifiers";
+		ResponseCache cache = new ResponseCache().withDefaultTtl(1, TimeUnit.HOURS)
+				.withInvalidatingPost(classifiers);
+		service.setResponseCache(cache);
+		mockResponse(classifiers, "{\"classifiers\":[]}");
+		mockResponse(classifiers + "/abc", "{\"classifier_id\":\"abc\"}");
+		mockServer.when(request().withMethod("POST")).respond(
+				response().withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+						.withBody("{}"));
+
+		service.executeRequest(Request.Get(classifiers), JsonObject.class);
+		service.executeRequest(Request.Get(classifiers + "/abc"), JsonObject.class);
+		Assert.assertEquals(2, cache.size());
+
+		// analysis requests leave the cache untouched
+		service.executeRequest(Request.Post(classifiers + "/abc/classify").withContent("{}",
+				MediaType.APPLICATION_JSON), JsonObject.class);
+		Assert.assertEquals(2, cache.size());
+
+		// creating a classifier invalidates the list and its children
+		service.executeRequest(Request.Post(classifiers).withContent("{}", MediaType.APPLICATION_JSON),
+				JsonObject.class);
+		Assert.assertEquals(0, cache.size());
+	}
+
+	/**
+	 * Test that the least recently used responses are evicted.
+	 */
+	@Test
+	public void testEviction() {
+		ResponseCache cache = new ResponseCache(2, ResponseCache.DEFAULT_MAX_BYTES)
+				.withDefaultTtl(1, TimeUnit.HOURS);
+		service.setResponseCache(cache);
+		for (String name : new String[] { "a", "b", "c" })
+			mockResponse("/v1/" + name, "{\"name\":\"" + name + "\"}");
+
+		service.executeRequest(Request.Get("/v1/a"), JsonObject.class);
+		service.executeRequest(Request.Get("/v1/b"), JsonObject.class);
+		service.executeRequest(Request.Get("/v1/a"), JsonObject.class);
+		service.executeRequest(Request.Get("/v1/c"), JsonObject.class);
+
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(1, cache.getEvictionCount());
+
+		// "b" was the least recently used
+		service.executeRequest(Request.Get("/v1/a"), JsonObject.class);
+		service.executeRequest(Request.Get("/v1/b"), JsonObject.class);
+		Assert.assertEquals(2, cache.getHitCount());
+		Assert.assertEquals(4, cache.getMissCount());
+	}
+
+}
@@ -0,0 +1,257 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.io.File;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.http.HttpResponse;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Header;
+import org.mockserver.verify.VerificationTimes;
+
+import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.WatsonServiceTest;
+import com.ibm.watson.developer_cloud.util.MediaType;
+
+/**
+ * The Class ResultCacheTest.
+ */
+public class ResultCacheTest extends WatsonServiceTest {
+
+	/** The Constant log. */
+	private static final Logger log = Logger.getLogger(ResultCacheTest.class.getName());
+
+	/** The Constant TRANSLATE_PATH. (value is "/v2/translate") */
+	private final static String TRANSLATE_PATH = "/v2/translate";
+
+	/** The Constant MODEL_ID_HEADER. (value is "X-Model-Id") */
+	private final static String MODEL_ID_HEADER = "X-Model-Id";
+
+	/** The Constant TRANSLATION. */
+	private final static String TRANSLATION = "{\"translations\":[{\"translation\":\"hola\"}]}";
+
+	/** Mock Server *. */
+	private static ClientAndServer mockServer;
+
+	/** The temporary folder. */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/** The service. */
+	private WatsonService service;
+
+	/**
+	 * Start mock server, once for all the tests since stopping it and starting
+	 * it again right away can fail to bind the port.
+	 */
+	@Before
+	public void startMockServer() {
+		try {
+			if (mockServer == null)
+				mockServer = startClientAndServer(Integer.parseInt(prop.getProperty("mock.server.port")));
+		} catch (NumberFormatException e) {
+			log.log(Level.SEVERE, "Error mocking the service", e);
+		}
+
+		service = new WatsonService() {};
+		service.setApiKey("");
+		service.setEndPoint("http://" + prop.getProperty("mock.server.host") + ":"
+				+ prop.getProperty("mock.server.port"));
+		mockServer.when(request().withPath(TRANSLATE_PATH)).respond(
+				response().withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON),
+						new Header(MODEL_ID_HEADER, "en-es")).withBody(TRANSLATION));
+	}
+
+	/**
+	 * Closes the service and clears the expectations.
+	 */
+	@After
+	public void resetMockServer() {
+		service.close();
+		mockServer.reset();
+	}
+
+	/**
+	 * Stop mock server.
+	 */
+	@AfterClass
+	public static void stopMockServer() {
+		if (mockServer != null)
+			mockServer.stop();
+		mockServer = null;
+	}
+
+	/**
+	 * Translates a text.
+	 *
+	 * @param text
+	 *            the text
+	 * @return the translation
+	 */
+	private JsonObject translate(String text) {
+		JsonObject body = new JsonObject();
+		body.addProperty("text", text);
+		return service.executeRequest(Request.Post(TRANSLATE_PATH).withContent(body), JsonObject.class);
+	}
+
+	/**
+	 * Test that the same body is only sent once.
+	 */
+	@Test
+	public void testMemoize() {
+		ResultCache cache = new ResultCache().withOperations(TRANSLATE_PATH);
+		service.setResultCache(cache);
+
+		for (int i = 0; i < 3; i++)
+			Assert.assertTrue(translate("hello").has("translations"));
+		translate("bye");
+
+		mockServer.verify(request().withPath(TRANSLATE_PATH), VerificationTimes.exactly(2));
+		Assert.assertEquals(2, cache.getHitCount());
+		Assert.assertEquals(2, cache.getMissCount());
+		Assert.assertEquals(0.5, cache.getHitRatio(), 0.001);
+		Assert.assertEquals(2 * TRANSLATION.length(), cache.getBytesSaved());
+	}
+
+	/**
+	 * Test that errors reported with a 200 status, like the ones of Alchemy,
+	 * are not memoized.
+	 */
+	@Test
+	public void testErrorsNotMemoized() {
+		final String errorPath = "/v1/error";
+		service = new WatsonService() {
+			@Override
+			protected HttpResponse processResponse(HttpResponse response) {
+				if (response.getFirstHeader("X-AlchemyAPI-Status") != null)
+					throw new BadRequestException("error");
+				return super.processResponse(response);
+			}
+		};
+		service.setApiKey("");
+		service.setEndPoint("http://" + prop.getProperty("mock.server.host") + ":"
+				+ prop.getProperty("mock.server.port"));
+		mockServer.when(request().withPath(errorPath)).respond(
+				response().withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON),
+						new Header("X-AlchemyAPI-Status", "ERROR")).withBody("{}"));
+
+		ResultCache cache = new ResultCache().withOperations(errorPath);
+		service.setResultCache(cache);
+		for (int i = 0; i < 2; i++) {
+			try {
+				service.executeRequest(Request.Post(errorPath).withContent("{}", MediaType.APPLICATION_JSON),
+						JsonObject.class);
+				Assert.fail("BadRequestException expected");
+			} catch (BadRequestException e) {
+				// expected
+			}
+		}
+
+		mockServer.verify(request().withPath(errorPath), VerificationTimes.exactly(2));
+		Assert.assertEquals(0, cache.getHitCount());
+		Assert.assertEquals(0, cache.getHeapBytes());
+	}
+
+	/**
+	 * Test that the headers of the response are replayed, from the heap and
+	 * the disk tiers.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testHeadersReplayed() throws Exception {
+		File directory = folder.newFolder("headers");
+		ResultCache cache = new ResultCache().withOperations(TRANSLATE_PATH).withDiskTier(directory, 1024 * 1024);
+		service.setResultCache(cache);
+		HttpResponse first = service.execute(Request.Post(TRANSLATE_PATH).withContent("{}",
+				MediaType.APPLICATION_JSON).build());
+		HttpResponse memoized = service.execute(Request.Post(TRANSLATE_PATH).withContent("{}",
+				MediaType.APPLICATION_JSON).build());
+		Assert.assertEquals("en-es", first.getFirstHeader(MODEL_ID_HEADER).getValue());
+		Assert.assertEquals("en-es", memoized.getFirstHeader(MODEL_ID_HEADER).getValue());
+		Assert.assertTrue(memoized.getEntity().getContentType().getValue().startsWith(MediaType.APPLICATION_JSON));
+		cache.flush();
+
+		ResultCache restarted = new ResultCache().withOperations(TRANSLATE_PATH).withDiskTier(directory, 1024 * 1024);
+		service.setResultCache(restarted);
+		HttpResponse fromDisk = service.execute(Request.Post(TRANSLATE_PATH).withContent("{}",
+				MediaType.APPLICATION_JSON).build());
+		Assert.assertEquals(1, restarted.getDiskHitCount());
+		Assert.assertEquals("en-es", fromDisk.getFirstHeader(MODEL_ID_HEADER).getValue());
+		mockServer.verify(request().withPath(TRANSLATE_PATH), VerificationTimes.exactly(1));
+	}
+
+	/**
+	 * Test that operations that were not listed are not memoized.
+	 */
+	@Test
+	public void testOtherOperations() {
+		ResultCache cache = new ResultCache().withOperations("/v2/identify");
+		service.setResultCache(cache);
+
+		translate("hello");
+		translate("hello");
+
+		mockServer.verify(request().withPath(TRANSLATE_PATH), VerificationTimes.exactly(2));
+		Assert.assertEquals(0, cache.getMissCount());
+	}
+
+	/**
+	 * Test that the disk tier survives a new cache.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testDiskTier() throws Exception {
+		File directory = folder.newFolder("results");
+		ResultCache cache = new ResultCache().withOperations(TRANSLATE_PATH).withDiskTier(directory, 1024 * 1024);
+		service.setResultCache(cache);
+		translate("hello");
+		cache.flush();
+
+		ResultCache restarted = new ResultCache().withOperations(TRANSLATE_PATH).withDiskTier(directory, 1024 * 1024);
+		Assert.assertTrue(restarted.getDiskBytes() > TRANSLATION.length());
+		service.setResultCache(restarted);
+
+		JsonObject translation = translate("hello");
+		Assert.assertEquals("hola", translation.getAsJsonArray("translations").get(0).getAsJsonObject()
+				.get("translation").getAsString());
+		Assert.assertEquals(1, restarted.getDiskHitCount());
+		mockServer.verify(request().withPath(TRANSLATE_PATH), VerificationTimes.exactly(1));
+
+		// a tier that is too small evicts the oldest results
+		ResultCache small = new ResultCache().withDiskTier(directory, 10);
+		Assert.assertEquals(0, small.getDiskBytes());
+		Assert.assertEquals(0, directory.list().length);
+	}
+
+}
@@ -0,0 +1,286 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.Header;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.gson.JsonObject;
+import com.ibm.watson.developer_cloud.WatsonServiceTest;
+import com.ibm.watson.developer_cloud.util.MediaType;
+
+/**
+ * The Class RetryPolicyTest.
+ */
+public class RetryPolicyTest extends WatsonServiceTest {
+
+	/** The Constant log. */
+	private static final Logger log = Logger.getLogger(RetryPolicyTest.class.getName());
+
+	/** The Constant PING_PATH. (value is "/v1/ping") */
+	private final static String PING_PATH = "/v1/ping";
+
+	/** Mock Server *. */
+	private static ClientAndServer mockServer;
+
+	/** The service. */
+	private WatsonService service;
+
+	/** The retry policy. */
+	private RetryPolicy policy;
+
+	/**
+	 * Start mock server, once for all the tests since stopping it and starting
+	 * it again right away can fail to bind the port.
+	 */
+	@Before
+	public void startMockServer() {
+		try {
+			if (mockServer == null)
+				mockServer = startClientAndServer(Integer.parseInt(prop.getProperty("mock.server.port")));
+		} catch (NumberFormatException e) {
+			log.log(Level.SEVERE, "Error mocking the service", e);
+		}
+
+		service = new WatsonService() {};
+		service.setApiKey("");
+		service.setEndPoint("http://" + prop.getProperty("mock.server.host") + ":"
+				+ prop.getProperty("mock.server.port"));
+		policy = new RetryPolicy().withBackoff(10, 1000);
+		service.getTransport().setRetryPolicy(policy);
+	}
+
+	/**
+	 * Closes the service and clears the expectations.
+	 */
+	@After
+	public void resetMockServer() {
+		service.close();
+		mockServer.reset();
+	}
+
+	/**
+	 * Stop mock server.
+	 */
+	@AfterClass
+	public static void stopMockServer() {
+		if (mockServer != null)
+			mockServer.stop();
+		mockServer = null;
+	}
+
+	/**
+	 * Responds once with the given status code and then with a successful
+	 * response.
+	 *
+	 * @param statusCode
+	 *            the status code of the first response
+	 * @param retryAfter
+	 *            the Retry-After header of the first response, or null
+	 */
+	private void mockFailureThenSuccess(int statusCode, String retryAfter) {
+		org.mockserver.model.HttpResponse failure = response().withStatusCode(statusCode)
+				.withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+				.withBody("{\"error\":\"try again\"}");
+		if (retryAfter != null)
+			failure.withHeader(new Header("Retry-After", retryAfter));
+
+		mockServer.when(request().withPath(PING_PATH), Times.exactly(1)).respond(failure);
+		mockServer.when(request().withPath(PING_PATH)).respond(
+				response().withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+						.withBody("{\"status\":\"ok\"}"));
+	}
+
+	/**
+	 * Test that throttled requests are retried.
+	 */
+	@Test
+	public void testRetryTooManyRequests() {
+		mockFailureThenSuccess(429, "0");
+
+		JsonObject pong = service.executeRequest(Request.Post(PING_PATH).withContent("{}",
+				MediaType.APPLICATION_JSON), JsonObject.class);
+		Assert.assertEquals("ok", pong.get("status").getAsString());
+		Assert.assertEquals(1, policy.getRetryCount());
+	}
+
+	/**
+	 * Test that idempotent requests are retried when the service is
+	 * unavailable.
+	 */
+	@Test
+	public void testRetryServiceUnavailable() {
+		mockFailureThenSuccess(503, null);
+
+		JsonObject pong = service.executeRequest(Request.Get(PING_PATH), JsonObject.class);
+		Assert.assertEquals("ok", pong.get("status").getAsString());
+		Assert.assertEquals(1, policy.getRetryCount());
+	}
+
+	/**
+	 * Test that non idempotent requests are not retried when the service is
+	 * unavailable.
+	 */
+	@Test(expected = ServiceUnavailableException.class)
+	public void testNoRetryForPostWhenUnavailable() {
+		mockFailureThenSuccess(503, null);
+		service.executeRequest(Request.Post(PING_PATH).withContent("{}", MediaType.APPLICATION_JSON),
+				JsonObject.class);
+	}
+
+	/**
+	 * Test that a Retry-After longer than the max backoff is not honored.
+	 */
+	@Test
+	public void testRetryAfterTooLong() {
+		mockFailureThenSuccess(429, "3600");
+		try {
+			service.executeRequest(Request.Get(PING_PATH), JsonObject.class);
+			Assert.fail("TooManyRequestsException expected");
+		} catch (TooManyRequestsException e) {
+			Assert.assertEquals(0, policy.getRetryCount());
+		}
+	}
+
+	/**
+	 * Test that asynchronous requests are retried.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testRetryAsync() throws Exception {
+		mockFailureThenSuccess(429, null);
+
+		JsonObject pong = service.executeRequestAsync(Request.Get(PING_PATH), JsonObject.class)
+				.get(10, TimeUnit.SECONDS);
+		Assert.assertEquals("ok", pong.get("status").getAsString());
+		Assert.assertEquals(1, policy.getRetryCount());
+	}
+
+	/**
+	 * Test that the retries are reported to the listeners, for synchronous
+	 * and asynchronous requests.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testRetryCountReportedToListeners() throws Exception {
+		HistogramRecorder recorder = new HistogramRecorder();
+		service.addListener(recorder);
+
+		mockFailureThenSuccess(429, "0");
+		service.executeRequest(Request.Get(PING_PATH), JsonObject.class);
+		mockServer.reset();
+		mockFailureThenSuccess(429, "0");
+		service.executeRequestAsync(Request.Get(PING_PATH), JsonObject.class).get(10, TimeUnit.SECONDS);
+
+		HistogramRecorder.Histogram ping = recorder.getHistogram("WatsonService", "GET " + PING_PATH);
+		Assert.assertEquals(2, ping.getCount());
+		Assert.assertEquals(2, ping.getRetryCount());
+		Assert.assertEquals(Long.valueOf(2), ping.getStatusCodes().get(200));
+	}
+
+	/**
+	 * Test that an asynchronous request waiting for the rate limiter does not
+	 * block the calling thread and is sent once a permit is released.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testRateLimitedAsync() throws Exception {
+		mockServer.when(request().withPath(PING_PATH)).respond(
+				response().withHeaders(new Header(HttpHeaders.Names.CONTENT_TYPE, MediaType.APPLICATION_JSON))
+						.withBody("{\"status\":\"ok\"}"));
+		RateLimiter limiter = new RateLimiter().withMaxInFlight(1);
+		service.setRateLimiter(limiter);
+		limiter.acquire();
+
+		ListenableFuture<JsonObject> pong = service.executeRequestAsync(Request.Get(PING_PATH), JsonObject.class);
+		Thread.sleep(100);
+		Assert.assertFalse(pong.isDone());
+
+		limiter.release();
+		Assert.assertEquals("ok", pong.get(10, TimeUnit.SECONDS).get("status").getAsString());
+		Assert.assertEquals(0, limiter.getInFlight());
+	}
+
+	/**
+	 * Test that requests with a body that can't be replayed are not retried.
+	 */
+	@Test(expected = TooManyRequestsException.class)
+	public void testNoRetryForStreamedBody() {
+		mockFailureThenSuccess(429, "0");
+		service.executeRequest(Request.Post(PING_PATH).withEntity(
+				new InputStreamEntity(new ByteArrayInputStream(new byte[10]), -1)), JsonObject.class);
+	}
+
+	/**
+	 * Test the retry budget and the Retry-After parsing.
+	 */
+	@Test
+	public void testRetryDelay() {
+		RetryPolicy limited = new RetryPolicy().withBackoff(0, 10000).withRetryBudget(0, 1);
+		BasicHttpResponse throttled = new BasicHttpResponse(HttpVersion.HTTP_1_1, 429, "Too Many Requests");
+		throttled.setHeader("Retry-After", "2");
+
+		Assert.assertEquals(2000, RetryPolicy.getRetryAfter(throttled));
+		Assert.assertEquals(2000, limited.getRetryDelay(Request.Get(PING_PATH).build(), throttled, 0));
+		// the budget only allows one retry
+		Assert.assertEquals(-1, limited.getRetryDelay(Request.Get(PING_PATH).build(), throttled, 0));
+
+		throttled.setHeader("Retry-After", DateUtils.formatDate(new Date(System.currentTimeMillis() + 5000)));
+		long delay = RetryPolicy.getRetryAfter(throttled);
+		Assert.assertTrue(delay > 3000 && delay <= 5000);
+
+		throttled.setHeader("Retry-After", "soon");
+		Assert.assertEquals(-1, RetryPolicy.getRetryAfter(throttled));
+
+		// the delay never exceeds the max backoff
+		RetryPolicy policy = new RetryPolicy().withBackoff(100, 400);
+		throttled.removeHeaders("Retry-After");
+		for (int attempt = 0; attempt < 3; attempt++) {
+			delay = policy.getRetryDelay(Request.Get(PING_PATH).build(), throttled, attempt);
+			Assert.assertTrue(delay >= 0 && delay <= 400);
+		}
+		Assert.assertEquals(-1, policy.getRetryDelay(Request.Get(PING_PATH).build(), throttled, 3));
+	}
+
+}
@@ -0,0 +1,223 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class WebSocketTest. Checks that a silent peer is pinged and that the
+ * connection fails when the peer does not answer.
+ */
+public class WebSocketTest {
+
+	/** The read timeout used by the tests, in milliseconds. */
+	private static final int READ_TIMEOUT = 200;
+
+	/** The server socket. */
+	private ServerSocket server;
+
+	/** The number of pings received by the server. */
+	private final AtomicInteger pings = new AtomicInteger();
+
+	/** Whether the server answers the pings. */
+	private volatile boolean answerPings;
+
+	/** The error the connection was closed with. */
+	private final AtomicReference<Exception> error = new AtomicReference<Exception>();
+
+	/** Counted down when the connection is closed. */
+	private final CountDownLatch closed = new CountDownLatch(1);
+
+	/** The listener. */
+	private final WebSocket.Listener listener = new WebSocket.Listener() {
+		@Override
+		public void onText(String text) {
+			// no messages are sent by the server
+		}
+
+		@Override
+		public void onClose(int code, String reason, Exception e) {
+			error.set(e);
+			closed.countDown();
+		}
+	};
+
+	/**
+	 * Starts the fake server.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Before
+	public void setUp() throws IOException {
+		server = new ServerSocket(0);
+		Thread thread = new Thread() {
+			@Override
+			public void run() {
+				try {
+					serve(server.accept());
+				} catch (Exception e) {
+					// the test fails on the client side
+				}
+			}
+		};
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Stops the fake server.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@After
+	public void tearDown() throws IOException {
+		server.close();
+	}
+
+	/**
+	 * Test that the connection fails when the peer does not answer the ping.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testSilentPeer() throws Exception {
+		WebSocket socket = connect();
+		try {
+			Assert.assertTrue(closed.await(10, TimeUnit.SECONDS));
+			Assert.assertTrue(error.get() instanceof SocketTimeoutException);
+			Assert.assertEquals(1, pings.get());
+			Assert.assertFalse(socket.isOpen());
+		} finally {
+			socket.close();
+		}
+	}
+
+	/**
+	 * Test that the connection stays open while the peer answers the pings.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testPeerAnswersPings() throws Exception {
+		answerPings = true;
+		WebSocket socket = connect();
+		try {
+			Assert.assertFalse(closed.await(READ_TIMEOUT * 6, TimeUnit.MILLISECONDS));
+			Assert.assertTrue(socket.isOpen());
+			Assert.assertTrue(pings.get() >= 2);
+		} finally {
+			socket.close();
+		}
+	}
+
+	/**
+	 * Connects to the fake server.
+	 *
+	 * @return the WebSocket
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private WebSocket connect() throws IOException {
+		return WebSocket.connect(URI.create("ws://localhost:" + server.getLocalPort() + "/"), null, 5000,
+				READ_TIMEOUT, listener);
+	}
+
+	/**
+	 * Answers the handshake and reads the frames of the client, answering the
+	 * pings when asked to.
+	 *
+	 * @param socket
+	 *            the socket
+	 * @throws Exception
+	 *             the exception
+	 */
+	private void serve(Socket socket) throws Exception {
+		DataInputStream in = new DataInputStream(socket.getInputStream());
+		OutputStream out = socket.getOutputStream();
+
+		String key = null;
+		for (String line = readLine(in); !line.isEmpty(); line = readLine(in)) {
+			if (line.startsWith("Sec-WebSocket-Key:"))
+				key = line.substring("Sec-WebSocket-Key:".length()).trim();
+		}
+		MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+		String accept = Base64.encodeBase64String(sha1.digest((key + "258EAFA5-E914-47DA-95CA-C5AB0DC85B11")
+				.getBytes("ISO-8859-1")));
+		out.write(("HTTP/1.1 101 Switching Protocols\r\nUpgrade: websocket\r\nConnection: Upgrade\r\n"
+				+ "Sec-WebSocket-Accept: " + accept + "\r\n\r\n").getBytes("ISO-8859-1"));
+		out.flush();
+
+		while (true) {
+			int opcode = in.readUnsignedByte() & 0x0F;
+			int length = in.readUnsignedByte() & 0x7F;
+			byte[] mask = new byte[4];
+			in.readFully(mask);
+			byte[] payload = new byte[length];
+			in.readFully(payload);
+
+			if (opcode == 0x9) {
+				pings.incrementAndGet();
+				if (answerPings) {
+					out.write(new byte[] { (byte) 0x8A, 0 });
+					out.flush();
+				}
+			} else if (opcode == 0x8) {
+				socket.close();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Reads a header line.
+	 *
+	 * @param in
+	 *            the input
+	 * @return the line
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static String readLine(InputStream in) throws IOException {
+		StringBuilder line = new StringBuilder();
+		for (int c = in.read(); c != '\n' && c != -1; c = in.read()) {
+			if (c != '\r')
+				line.append((char) c);
+		}
+		return line.toString();
+	}
+}
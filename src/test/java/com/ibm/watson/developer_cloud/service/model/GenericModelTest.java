@@ -0,0 +1,122 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.service.model;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ibm.watson.developer_cloud.dialog.v1.model.ConversationData;
+import com.ibm.watson.developer_cloud.dialog.v1.model.NameValue;
+
+/**
+ * The Class GenericModelTest.
+ */
+public class GenericModelTest {
+
+	/**
+	 * A model with primitive, array and transient fields.
+	 */
+	private static class Sample extends GenericModel {
+
+		/** The score. */
+		private double score;
+
+		/** The count. */
+		private int count;
+
+		/** The tags. */
+		private String[] tags;
+
+		/** A value that is not serialized. */
+		private transient Object ignored;
+	}
+
+	/**
+	 * Creates a conversation.
+	 *
+	 * @param value
+	 *            the value of the profile
+	 * @return the conversation data
+	 */
+	private static ConversationData createConversation(String value) {
+		ConversationData conversation = new ConversationData();
+		conversation.setConversationId(1);
+		conversation.setProfile(Arrays.asList(new NameValue("size", value), new NameValue("crust", "thin")));
+		return conversation;
+	}
+
+	/**
+	 * Test that nested models are compared and hashed by their fields.
+	 */
+	@Test
+	public void testNestedModels() {
+		ConversationData conversation = createConversation("large");
+		ConversationData same = createConversation("large");
+		ConversationData other = createConversation("small");
+
+		Assert.assertEquals(conversation, same);
+		Assert.assertEquals(conversation.hashCode(), same.hashCode());
+		Assert.assertNotEquals(conversation, other);
+
+		Set<ConversationData> set = new HashSet<ConversationData>();
+		set.add(conversation);
+		Assert.assertTrue(set.contains(same));
+		Assert.assertFalse(set.contains(other));
+
+		same.setClientId(2);
+		Assert.assertNotEquals(conversation, same);
+		Assert.assertNotEquals(conversation, new NameValue("size", "large"));
+	}
+
+	/**
+	 * Test primitive, array and transient fields.
+	 */
+	@Test
+	public void testFields() {
+		Sample a = new Sample();
+		a.score = 0.5;
+		a.count = 3;
+		a.tags = new String[] { "a", "b" };
+		a.ignored = "a";
+
+		Sample b = new Sample();
+		b.score = 0.5;
+		b.count = 3;
+		b.tags = new String[] { "a", "b" };
+		b.ignored = "b";
+
+		Assert.assertEquals(a, b);
+		Assert.assertEquals(a.hashCode(), b.hashCode());
+
+		b.tags[1] = "c";
+		Assert.assertNotEquals(a, b);
+		b.tags[1] = "b";
+		b.score = 0.25;
+		Assert.assertNotEquals(a, b);
+	}
+
+	/**
+	 * Test that toString renders compact JSON.
+	 */
+	@Test
+	public void testToString() {
+		Assert.assertEquals("{\"name\":\"size\",\"value\":\"large\"}", new NameValue("size", "large").toString());
+	}
+}
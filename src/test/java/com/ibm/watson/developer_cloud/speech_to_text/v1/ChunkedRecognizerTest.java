@@ -0,0 +1,213 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechAlternative;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechResults;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechTimestamp;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.Transcript;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.util.WaveChunker;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.util.WaveChunker.Chunk;
+import com.ibm.watson.developer_cloud.util.MediaType;
+
+/**
+ * The Class ChunkedRecognizerTest.
+ */
+public class ChunkedRecognizerTest {
+
+	/** The Constant SAMPLE_RATE. */
+	private static final int SAMPLE_RATE = 16000;
+
+	/** The wave file. */
+	private File wave;
+
+	/**
+	 * Creates 10 seconds of tone with a silence between 2.5s and 2.9s.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Before
+	public void setUp() throws IOException {
+		final int frames = SAMPLE_RATE * 10;
+		ByteBuffer buffer = ByteBuffer.allocate(44 + frames * 2).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put("RIFF".getBytes("US-ASCII")).putInt(36 + frames * 2).put("WAVEfmt ".getBytes("US-ASCII"));
+		buffer.putInt(16).putShort((short) 1).putShort((short) 1).putInt(SAMPLE_RATE).putInt(SAMPLE_RATE * 2);
+		buffer.putShort((short) 2).putShort((short) 16).put("data".getBytes("US-ASCII")).putInt(frames * 2);
+		for (int i = 0; i < frames; i++) {
+			final double time = (double) i / SAMPLE_RATE;
+			final boolean silent = time >= 2.5 && time < 2.9;
+			buffer.putShort(silent ? 0 : (short) (10000 * Math.sin(2 * Math.PI * 440 * time)));
+		}
+
+		wave = File.createTempFile("chunked", ".wav");
+		FileOutputStream out = new FileOutputStream(wave);
+		try {
+			out.write(buffer.array());
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * Deletes the wave file.
+	 */
+	@After
+	public void tearDown() {
+		wave.delete();
+	}
+
+	/**
+	 * Test that chunks are cut in silences or overlap.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testSplit() throws IOException {
+		WaveChunker chunker = new WaveChunker(wave);
+		Assert.assertEquals(10, chunker.getDuration(), 0.001);
+
+		List<Chunk> chunks = chunker.split(3, 0.5, ChunkedRecognizer.DEFAULT_SILENCE_THRESHOLD);
+		Assert.assertEquals(4, chunks.size());
+
+		// cut in the silence, without overlap
+		final double cut = chunks.get(0).getKeepUntil();
+		Assert.assertTrue("cut at " + cut, cut > 2.5 && cut < 2.9);
+		Assert.assertEquals(0, chunks.get(0).getStartTime(), 0.001);
+		Assert.assertEquals(cut, chunks.get(1).getStartTime(), 0.001);
+		Assert.assertEquals(cut, chunks.get(1).getKeepFrom(), 0.001);
+
+		// cut in the tone, with half of the overlap on each side
+		Assert.assertEquals(cut + 3, chunks.get(1).getKeepUntil(), 0.001);
+		Assert.assertEquals(cut + 2.75, chunks.get(2).getStartTime(), 0.001);
+		Assert.assertEquals(cut + 3, chunks.get(2).getKeepFrom(), 0.001);
+		Assert.assertEquals(Double.POSITIVE_INFINITY, chunks.get(3).getKeepUntil(), 0);
+
+		// every chunk is a valid wave file
+		Assert.assertTrue(chunks.get(0).getEntity().isRepeatable());
+		Assert.assertEquals(44 + 2 * Math.round(cut * SAMPLE_RATE), chunks.get(0).getEntity().getContentLength());
+		InputStream content = chunks.get(2).getEntity().getContent();
+		try {
+			byte[] header = new byte[44];
+			new DataInputStream(content).readFully(header);
+			Assert.assertEquals("RIFF", new String(header, 0, 4, "US-ASCII"));
+			Assert.assertEquals(chunks.get(2).getEntity().getContentLength() - 44,
+					ByteBuffer.wrap(header, 40, 4).order(ByteOrder.LITTLE_ENDIAN).getInt());
+		} finally {
+			content.close();
+		}
+	}
+
+	/**
+	 * Test that timestamps are corrected and overlapping words dropped.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testStitch() throws IOException {
+		List<Chunk> chunks = new WaveChunker(wave).split(4, 0.5, 0);
+		Assert.assertEquals(3, chunks.size());
+
+		List<SpeechResults> results = new ArrayList<SpeechResults>();
+		results.add(results("one two", new SpeechTimestamp("one", 0.5, 0.9), new SpeechTimestamp("two", 3.9, 4.2)));
+		results.add(results("two three", new SpeechTimestamp("two", 0.15, 0.45), new SpeechTimestamp("three", 1, 1.4)));
+		results.add(results("four", new SpeechTimestamp("four", 1, 1.5)));
+
+		SpeechResults stitched = ChunkedRecognizer.stitch(chunks, results, true);
+		Assert.assertEquals(3, stitched.getResults().size());
+
+		SpeechAlternative second = stitched.getResults().get(1).getAlternatives().get(0);
+		Assert.assertEquals("three ", second.getTranscript());
+		Assert.assertEquals(1, second.getTimestamps().size());
+		Assert.assertEquals(chunks.get(1).getStartTime() + 1, second.getTimestamps().get(0).getStartTime(), 0.001);
+
+		SpeechAlternative first = stitched.getResults().get(0).getAlternatives().get(0);
+		Assert.assertEquals("one two", first.getTranscript());
+	}
+
+	/**
+	 * Test that audio that is not in a file is recognized in one request.
+	 */
+	@Test
+	public void testAudioNotInFile() {
+		final List<Object> recognized = new ArrayList<Object>();
+		SpeechToText service = new SpeechToText() {
+			@Override
+			public SpeechResults recognize(Map<String, Object> params) {
+				recognized.add(params.get(AUDIO));
+				return results("hello");
+			}
+		};
+		ChunkedRecognizer recognizer = new ChunkedRecognizer(service);
+
+		byte[] audio = new byte[1000];
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(SpeechToText.AUDIO, audio);
+		params.put(SpeechToText.CONTENT_TYPE, MediaType.AUDIO_WAV);
+		Assert.assertEquals("hello", recognizer.recognize(params).getResults().get(0).getAlternatives().get(0)
+				.getTranscript());
+
+		params.put(SpeechToText.AUDIO, ByteBuffer.wrap(audio));
+		recognizer.recognize(params);
+		params.put(SpeechToText.AUDIO, new ByteArrayInputStream(audio));
+		recognizer.recognize(params);
+		Assert.assertEquals(3, recognized.size());
+		Assert.assertSame(audio, recognized.get(0));
+	}
+
+	/**
+	 * Creates the results of a chunk with a single final transcript.
+	 *
+	 * @param text
+	 *            the text
+	 * @param timestamps
+	 *            the timestamps
+	 * @return the speech results
+	 */
+	private static SpeechResults results(String text, SpeechTimestamp... timestamps) {
+		SpeechAlternative alternative = new SpeechAlternative();
+		alternative.setTranscript(text);
+		alternative.setTimestamps(new ArrayList<SpeechTimestamp>(Arrays.asList(timestamps)));
+		Transcript transcript = new Transcript();
+		transcript.setFinal(true);
+		transcript.setAlternatives(Collections.singletonList(alternative));
+		SpeechResults results = new SpeechResults();
+		results.setResults(Collections.singletonList(transcript));
+		return results;
+	}
+}
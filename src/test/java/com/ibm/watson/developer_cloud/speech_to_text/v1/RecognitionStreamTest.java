@@ -0,0 +1,478 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.Transcript;
+import com.ibm.watson.developer_cloud.util.MediaType;
+
+/**
+ * The Class RecognitionStreamTest. Runs the recognition against a local
+ * server that speaks the WebSocket protocol of the service.
+ */
+public class RecognitionStreamTest {
+
+	/** The server socket. */
+	private ServerSocket server;
+
+	/** The audio bytes received by the server. */
+	private final AtomicLong received = new AtomicLong();
+
+	/** The start message received by the server. */
+	private final AtomicReference<String> startMessage = new AtomicReference<String>();
+
+	/** The payload lengths of the binary frames received by the server. */
+	private final List<Integer> frameLengths = new CopyOnWriteArrayList<Integer>();
+
+	/** The payload of the pong received by the server. */
+	private final AtomicReference<String> pong = new AtomicReference<String>();
+
+	/** The error the server answers to the start message, if any. */
+	private volatile String startError;
+
+	/** The audio bytes after which the server drops the connection, if positive. */
+	private volatile long dropAfter;
+
+	/** Whether the server pings the client once it is listening. */
+	private volatile boolean ping;
+
+	/** The final transcript sent by the server. */
+	private volatile String finalTranscript = "hello world";
+
+	/** The service. */
+	private SpeechToText service;
+
+	/**
+	 * Starts the fake service.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@Before
+	public void setUp() throws IOException {
+		server = new ServerSocket(0);
+		Thread thread = new Thread() {
+			@Override
+			public void run() {
+				try {
+					serve(server.accept());
+				} catch (Exception e) {
+					// the test fails on the client side
+				}
+			}
+		};
+		thread.setDaemon(true);
+		thread.start();
+
+		service = new SpeechToText();
+		service.setUsernameAndPassword("user", "password");
+		service.setEndPoint("http://localhost:" + server.getLocalPort());
+	}
+
+	/**
+	 * Stops the fake service.
+	 *
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	@After
+	public void tearDown() throws IOException {
+		server.close();
+	}
+
+	/**
+	 * Test that interim and final transcripts are delivered while streaming.
+	 */
+	@Test
+	public void testRecognizeUsingWebSocket() {
+		final List<Transcript> transcripts = new ArrayList<Transcript>();
+		final AtomicReference<Exception> error = new AtomicReference<Exception>();
+		final boolean[] completed = new boolean[1];
+
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(SpeechToText.CONTENT_TYPE, MediaType.AUDIO_WAV);
+		params.put(SpeechToText.CONTINUOUS, true);
+
+		byte[] audio = new byte[100000];
+		service.recognizeUsingWebSocket(new ByteArrayInputStream(audio), params, new RecognizeCallback() {
+			@Override
+			public void onTranscript(int index, Transcript transcript) {
+				transcripts.add(transcript);
+			}
+
+			@Override
+			public void onError(Exception e) {
+				error.set(e);
+			}
+
+			@Override
+			public void onCompleted() {
+				completed[0] = true;
+			}
+		});
+
+		Assert.assertNull(error.get());
+		Assert.assertTrue(completed[0]);
+		Assert.assertEquals(audio.length, received.get());
+		Assert.assertTrue(startMessage.get().contains("\"continuous\":true"));
+		Assert.assertEquals(2, transcripts.size());
+		Assert.assertFalse(transcripts.get(0).isFinal());
+		Assert.assertTrue(transcripts.get(1).isFinal());
+		Assert.assertEquals("hello world", transcripts.get(1).getAlternatives().get(0).getTranscript());
+	}
+
+	/**
+	 * Test that an error sent by the service reaches the callback and is
+	 * thrown by {@link RecognitionStream#finish()}.
+	 */
+	@Test
+	public void testServiceError() {
+		startError = "unsupported audio format";
+		RecordingCallback callback = new RecordingCallback();
+
+		RecognitionStream stream = service.recognizeUsingWebSocket(getParams(), callback);
+		try {
+			stream.finish();
+			Assert.fail("RuntimeException expected");
+		} catch (RuntimeException e) {
+			Assert.assertEquals(startError, e.getMessage());
+			Assert.assertSame(e, callback.error);
+		} finally {
+			stream.close();
+		}
+
+		Assert.assertEquals(1, callback.errors.get());
+		Assert.assertFalse(callback.completed);
+		Assert.assertTrue(stream.isDone());
+	}
+
+	/**
+	 * Test that a connection dropped by the server in the middle of the audio
+	 * fails the recognition and notifies the callback once.
+	 */
+	@Test
+	public void testServerClosesMidStream() {
+		dropAfter = 20000;
+		RecordingCallback callback = new RecordingCallback();
+
+		try {
+			service.recognizeUsingWebSocket(new ByteArrayInputStream(new byte[4 * 1024 * 1024]), getParams(),
+					callback);
+			Assert.fail("RuntimeException expected");
+		} catch (RuntimeException e) {
+			Assert.assertSame(e, callback.error);
+		}
+
+		Assert.assertEquals(1, callback.errors.get());
+		Assert.assertFalse(callback.completed);
+		Assert.assertTrue(received.get() < 4 * 1024 * 1024);
+	}
+
+	/**
+	 * Test that a ping of the server is answered with a pong with the same
+	 * payload.
+	 */
+	@Test
+	public void testPingPong() {
+		ping = true;
+		RecordingCallback callback = new RecordingCallback();
+
+		service.recognizeUsingWebSocket(new ByteArrayInputStream(new byte[1000]), getParams(), callback);
+
+		Assert.assertNull(callback.error);
+		Assert.assertTrue(callback.completed);
+		Assert.assertEquals("are you there?", pong.get());
+	}
+
+	/**
+	 * Test payloads that need the 7 bit, 16 bit and 64 bit lengths, in both
+	 * directions.
+	 */
+	@Test
+	public void testFrameLengths() {
+		StringBuilder transcript = new StringBuilder();
+		while (transcript.length() < 70000)
+			transcript.append("hello world ");
+		finalTranscript = transcript.toString();
+		RecordingCallback callback = new RecordingCallback();
+
+		RecognitionStream stream = service.recognizeUsingWebSocket(getParams(), callback);
+		try {
+			stream.write(new byte[125], 0, 125);
+			stream.write(new byte[126], 0, 126);
+			stream.write(ByteBuffer.wrap(new byte[65535]));
+			stream.write(ByteBuffer.allocateDirect(65536));
+			stream.write(new byte[200000], 0, 200000);
+			stream.finish();
+		} finally {
+			stream.close();
+		}
+
+		Assert.assertNull(callback.error);
+		Assert.assertTrue(callback.completed);
+		Assert.assertEquals(Arrays.asList(125, 126, 65535, 65536, 200000), frameLengths);
+		Assert.assertEquals(2, callback.transcripts.size());
+		Assert.assertEquals(finalTranscript, callback.transcripts.get(1).getAlternatives().get(0).getTranscript());
+	}
+
+	/**
+	 * Test that a callback that throws does not break the recognition: every
+	 * transcript is still delivered and the recognition completes.
+	 */
+	@Test
+	public void testCallbackThrows() {
+		RecordingCallback callback = new RecordingCallback() {
+			@Override
+			public void onTranscript(int index, Transcript transcript) {
+				super.onTranscript(index, transcript);
+				throw new IllegalStateException("transcript rejected");
+			}
+
+			@Override
+			public void onCompleted() {
+				super.onCompleted();
+				throw new IllegalStateException("completion rejected");
+			}
+		};
+
+		RecognitionStream stream = service.recognizeUsingWebSocket(getParams(), callback);
+		try {
+			stream.write(new byte[1000], 0, 1000);
+			stream.finish();
+		} finally {
+			stream.close();
+		}
+
+		Assert.assertNull(callback.error);
+		Assert.assertTrue(callback.completed);
+		Assert.assertEquals(2, callback.transcripts.size());
+		Assert.assertTrue(stream.isDone());
+	}
+
+	/**
+	 * Gets the parameters of a continuous recognition.
+	 *
+	 * @return the params
+	 */
+	private static Map<String, Object> getParams() {
+		Map<String, Object> params = new HashMap<String, Object>();
+		params.put(SpeechToText.CONTENT_TYPE, MediaType.AUDIO_WAV);
+		params.put(SpeechToText.CONTINUOUS, true);
+		return params;
+	}
+
+	/**
+	 * Callback that records what it receives.
+	 */
+	private static class RecordingCallback implements RecognizeCallback {
+
+		/** The transcripts. */
+		final List<Transcript> transcripts = new CopyOnWriteArrayList<Transcript>();
+
+		/** The number of errors. */
+		final AtomicInteger errors = new AtomicInteger();
+
+		/** The last error. */
+		volatile Exception error;
+
+		/** Whether the recognition completed. */
+		volatile boolean completed;
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.ibm.watson.developer_cloud.speech_to_text.v1.RecognizeCallback#onTranscript(int, com.ibm.watson.developer_cloud.speech_to_text.v1.model.Transcript)
+		 */
+		@Override
+		public void onTranscript(int index, Transcript transcript) {
+			transcripts.add(transcript);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.ibm.watson.developer_cloud.speech_to_text.v1.RecognizeCallback#onError(java.lang.Exception)
+		 */
+		@Override
+		public void onError(Exception e) {
+			errors.incrementAndGet();
+			error = e;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.ibm.watson.developer_cloud.speech_to_text.v1.RecognizeCallback#onCompleted()
+		 */
+		@Override
+		public void onCompleted() {
+			completed = true;
+		}
+	}
+
+	/**
+	 * Serves one recognition.
+	 *
+	 * @param socket
+	 *            the socket
+	 * @throws Exception
+	 *             the exception
+	 */
+	private void serve(Socket socket) throws Exception {
+		DataInputStream in = new DataInputStream(socket.getInputStream());
+		OutputStream out = socket.getOutputStream();
+
+		String key = null;
+		for (String line = readLine(in); !line.isEmpty(); line = readLine(in)) {
+			if (line.startsWith("Sec-WebSocket-Key:"))
+				key = line.substring("Sec-WebSocket-Key:".length()).trim();
+		}
+		MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+		String accept = Base64.encodeBase64String(sha1.digest((key + "258EAFA5-E914-47DA-95CA-C5AB0DC85B11")
+				.getBytes("ISO-8859-1")));
+		out.write(("HTTP/1.1 101 Switching Protocols\r\nUpgrade: websocket\r\nConnection: Upgrade\r\n"
+				+ "Sec-WebSocket-Accept: " + accept + "\r\n\r\n").getBytes("ISO-8859-1"));
+
+		while (true) {
+			int opcode = in.readUnsignedByte() & 0x0F;
+			long length = in.readUnsignedByte() & 0x7F;
+			if (length == 126)
+				length = in.readUnsignedShort();
+			else if (length == 127)
+				length = in.readLong();
+			byte[] mask = new byte[4];
+			in.readFully(mask);
+			byte[] payload = new byte[(int) length];
+			in.readFully(payload);
+			for (int i = 0; i < payload.length; i++)
+				payload[i] ^= mask[i & 3];
+
+			if (opcode == 0x2) {
+				frameLengths.add(payload.length);
+				if (received.addAndGet(payload.length) >= dropAfter && dropAfter > 0) {
+					// drop the connection without a close frame
+					socket.close();
+					return;
+				}
+			} else if (opcode == 0x1) {
+				String text = new String(payload, "UTF-8");
+				if (text.contains("start")) {
+					startMessage.set(text);
+					if (startError != null) {
+						sendText(out, "{\"error\": \"" + startError + "\"}");
+						continue;
+					}
+					sendText(out, "{\"state\": \"listening\"}");
+					if (ping)
+						sendFrame(out, 0x89, "are you there?".getBytes("UTF-8"));
+				} else if (text.contains("stop")) {
+					sendText(out, "{\"results\": [{\"alternatives\": [{\"transcript\": \"hello\"}], \"final\": false}], \"result_index\": 0}");
+					sendText(out, "{\"results\": [{\"alternatives\": [{\"transcript\": \"" + finalTranscript
+							+ "\"}], \"final\": true}], \"result_index\": 0}");
+					sendText(out, "{\"state\": \"listening\"}");
+				}
+			} else if (opcode == 0xA) {
+				pong.set(new String(payload, "UTF-8"));
+			} else if (opcode == 0x8) {
+				out.write(new byte[] { (byte) 0x88, 0 });
+				socket.close();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Sends an unmasked text frame.
+	 *
+	 * @param out
+	 *            the output
+	 * @param text
+	 *            the text
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static void sendText(OutputStream out, String text) throws IOException {
+		sendFrame(out, 0x81, text.getBytes("UTF-8"));
+	}
+
+	/**
+	 * Sends an unmasked frame with the shortest length encoding.
+	 *
+	 * @param out
+	 *            the output
+	 * @param header
+	 *            the first byte of the frame, FIN and opcode
+	 * @param payload
+	 *            the payload
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static void sendFrame(OutputStream out, int header, byte[] payload) throws IOException {
+		out.write(header);
+		if (payload.length < 126) {
+			out.write(payload.length);
+		} else if (payload.length <= 0xFFFF) {
+			out.write(126);
+			out.write(payload.length >> 8);
+			out.write(payload.length);
+		} else {
+			out.write(127);
+			new DataOutputStream(out).writeLong(payload.length);
+		}
+		out.write(payload);
+		out.flush();
+	}
+
+	/**
+	 * Reads a header line.
+	 *
+	 * @param in
+	 *            the input
+	 * @return the line
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred.
+	 */
+	private static String readLine(InputStream in) throws IOException {
+		StringBuilder line = new StringBuilder();
+		for (int c = in.read(); c != '\n' && c != -1; c = in.read()) {
+			if (c != '\r')
+				line.append((char) c);
+		}
+		return line.toString();
+	}
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ibm.watson.developer_cloud.util.MediaType;
+
+/**
+ * The Class RecognizeOptionsTest.
+ */
+public class RecognizeOptionsTest {
+
+	/**
+	 * Test that the query string and the start message are encoded once.
+	 */
+	@Test
+	public void testEncoding() {
+		RecognizeOptions options = new RecognizeOptions.Builder(MediaType.AUDIO_WAV).withContinuous(true)
+				.withMaxAlternatives(3).withModel("es-ES_BroadbandModel").build();
+
+		Assert.assertEquals("?continuous=true&max_alternatives=3&model=es-ES_BroadbandModel", options.getQuery());
+		Assert.assertEquals("?model=es-ES_BroadbandModel", options.getWebSocketQuery());
+		Assert.assertEquals("{\"action\":\"start\",\"content-type\":\"audio/wav\",\"interim_results\":true,"
+				+ "\"continuous\":true,\"max_alternatives\":3}", options.getStartMessage());
+	}
+
+	/**
+	 * Test the options without parameters.
+	 */
+	@Test
+	public void testDefaults() {
+		RecognizeOptions options = new RecognizeOptions.Builder(MediaType.AUDIO_WAV).withInterimResults(false)
+				.build();
+
+		Assert.assertEquals("", options.getQuery());
+		Assert.assertEquals("", options.getWebSocketQuery());
+		Assert.assertNull(options.getContinuous());
+		Assert.assertEquals("{\"action\":\"start\",\"content-type\":\"audio/wav\",\"interim_results\":false}",
+				options.getStartMessage());
+	}
+
+	/**
+	 * Test that the content type is required.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testMissingContentType() {
+		new RecognizeOptions.Builder(null);
+	}
+
+	/**
+	 * Test an invalid inactivity timeout.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidInactivityTimeout() {
+		new RecognizeOptions.Builder(MediaType.AUDIO_WAV).withInactivityTimeout(0);
+	}
+}
@@ -0,0 +1,202 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.speech_to_text.v1;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SessionStatus;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechSession;
+
+/**
+ * The Class SpeechSessionPoolTest.
+ */
+public class SpeechSessionPoolTest {
+
+	/**
+	 * Speech to text service that keeps its sessions in memory.
+	 */
+	private static class FakeSpeechToText extends SpeechToText {
+
+		/** The created. */
+		private final AtomicInteger created = new AtomicInteger();
+
+		/** The live sessions. */
+		private final Set<String> live = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+		/** The broken sessions. */
+		private final Set<String> broken = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+		/** The last time each session was used, from System.nanoTime(). */
+		private final ConcurrentMap<String, Long> lastUsed = new ConcurrentHashMap<String, Long>();
+
+		/** The number of status checks. */
+		private final AtomicInteger checks = new AtomicInteger();
+
+		/** The longest time a session was idle, in milliseconds. */
+		private volatile long maxIdle;
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see com.ibm.watson.developer_cloud.speech_to_text.v1.SpeechToText#createSession(java.lang.String)
+		 */
+		@Override
+		public SpeechSession createSession(String model) {
+			SpeechSession session = new SpeechSession();
+			session.setSessionId(model + "-" + created.incrementAndGet());
+			session.setCookieSession("cookie");
+			live.add(session.getSessionId());
+			lastUsed.put(session.getSessionId(), System.nanoTime());
+			return session;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see com.ibm.watson.developer_cloud.speech_to_text.v1.SpeechToText#deleteSession(com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechSession)
+		 */
+		@Override
+		public void deleteSession(SpeechSession session) {
+			live.remove(session.getSessionId());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see com.ibm.watson.developer_cloud.speech_to_text.v1.SpeechToText#getRecognizeStatus(com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechSession)
+		 */
+		@Override
+		public SessionStatus getRecognizeStatus(SpeechSession session) {
+			long idle = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastUsed.get(session.getSessionId()));
+			maxIdle = Math.max(maxIdle, idle);
+			checks.incrementAndGet();
+			// like the service, expire the sessions idle for too long
+			if (idle >= SpeechSessionPool.SESSION_TIMEOUT)
+				broken.add(session.getSessionId());
+			else
+				lastUsed.put(session.getSessionId(), System.nanoTime());
+
+			SessionStatus status = new SessionStatus();
+			status.setState(broken.contains(session.getSessionId()) ? "closed" : "initialized");
+			return status;
+		}
+	}
+
+	/**
+	 * Test that prewarmed sessions are reused.
+	 */
+	@Test
+	public void testPrewarmAndReuse() {
+		FakeSpeechToText service = new FakeSpeechToText();
+		SpeechSessionPool pool = new SpeechSessionPool(service).withMinIdle(2);
+		pool.prewarm("model");
+		Assert.assertEquals(2, service.created.get());
+		Assert.assertEquals(2, pool.getIdleCount("model"));
+
+		SpeechSession session = pool.acquire("model");
+		Assert.assertEquals(1, pool.getIdleCount("model"));
+		pool.release(session);
+		Assert.assertSame(session, pool.acquire("model"));
+		pool.release(session);
+		Assert.assertEquals(2, service.created.get());
+
+		// other models get their own sessions
+		SpeechSession other = pool.acquire("other");
+		Assert.assertTrue(other.getSessionId().startsWith("other"));
+		pool.invalidate(other);
+		Assert.assertEquals(0, pool.getSessionCount("other"));
+
+		pool.close();
+		Assert.assertTrue(service.live.isEmpty());
+	}
+
+	/**
+	 * Test that callers wait when all the sessions are borrowed.
+	 */
+	@Test
+	public void testMaxSessions() {
+		SpeechSessionPool pool = new SpeechSessionPool(new FakeSpeechToText())
+				.withMaxSessions(1).withMaxWait(50, TimeUnit.MILLISECONDS);
+		pool.acquire(null);
+		try {
+			pool.acquire(null);
+			Assert.fail("the pool should be exhausted");
+		} catch (RuntimeException e) {
+			Assert.assertTrue(e.getMessage().contains("Timed out"));
+		}
+		Assert.assertEquals(1, pool.getSessionCount(null));
+		pool.close();
+	}
+
+	/**
+	 * Test that with the default timings, an idle session is checked before
+	 * the service deletes it.
+	 *
+	 * @throws InterruptedException
+	 *             the interrupted exception
+	 */
+	@Test
+	public void testDefaultKeepAlive() throws InterruptedException {
+		FakeSpeechToText service = new FakeSpeechToText();
+		SpeechSessionPool pool = new SpeechSessionPool(service);
+		pool.prewarm("model");
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SpeechSessionPool.SESSION_TIMEOUT);
+		while (service.checks.get() == 0 && System.nanoTime() < deadline)
+			Thread.sleep(100);
+
+		Assert.assertTrue(service.checks.get() > 0);
+		Assert.assertTrue(service.maxIdle < SpeechSessionPool.SESSION_TIMEOUT);
+		Assert.assertTrue(service.broken.isEmpty());
+		Assert.assertEquals("model-1", pool.acquire("model").getSessionId());
+		Assert.assertEquals(1, service.created.get());
+		pool.close();
+	}
+
+	/**
+	 * Test that broken idle sessions are evicted and replaced.
+	 *
+	 * @throws InterruptedException
+	 *             the interrupted exception
+	 */
+	@Test
+	public void testKeepAliveEvictsBrokenSessions() throws InterruptedException {
+		FakeSpeechToText service = new FakeSpeechToText();
+		SpeechSessionPool pool = new SpeechSessionPool(service).withMinIdle(1)
+				.withKeepAlive(1, TimeUnit.HOURS);
+		pool.prewarm("model");
+		SpeechSession session = pool.acquire("model");
+		pool.release(session);
+
+		pool.withKeepAlive(1, TimeUnit.MILLISECONDS);
+		Thread.sleep(5);
+		service.broken.add(session.getSessionId());
+		pool.keepAlive();
+
+		Assert.assertFalse(service.live.contains(session.getSessionId()));
+		Assert.assertEquals(1, pool.getIdleCount("model"));
+		Assert.assertNotSame(session, pool.acquire("model"));
+		pool.close();
+	}
+}
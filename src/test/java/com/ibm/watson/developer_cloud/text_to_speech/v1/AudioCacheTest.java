@@ -0,0 +1,261 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.text_to_speech.v1;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Supplier;
+import com.google.common.io.ByteStreams;
+import com.ibm.watson.developer_cloud.text_to_speech.v1.model.Voice;
+import com.ibm.watson.developer_cloud.util.MediaType;
+
+/**
+ * The Class AudioCacheTest.
+ */
+public class AudioCacheTest {
+
+	/** The directory. */
+	private File directory;
+
+	/** The number of syntheses. */
+	private final AtomicInteger syntheses = new AtomicInteger();
+
+	/**
+	 * Creates the directory.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("audio").toFile();
+	}
+
+	/**
+	 * Deletes the directory.
+	 */
+	@After
+	public void tearDown() {
+		for (File file : directory.listFiles())
+			file.delete();
+		directory.delete();
+	}
+
+	/**
+	 * Creates a synthesis that returns the text as audio.
+	 *
+	 * @param text the text
+	 * @return the synthesis
+	 */
+	private Supplier<InputStream> synthesis(final String text) {
+		return new Supplier<InputStream>() {
+			@Override
+			public InputStream get() {
+				syntheses.incrementAndGet();
+				return new ByteArrayInputStream(text.getBytes());
+			}
+		};
+	}
+
+	/**
+	 * Reads a stream.
+	 *
+	 * @param in the in
+	 * @return the string
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private static String read(InputStream in) throws IOException {
+		return new String(ByteStreams.toByteArray(in));
+	}
+
+	/**
+	 * Test that audio is synthesized once and survives a restart.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testHit() throws IOException {
+		AudioCache cache = new AudioCache(directory, 1024);
+		Assert.assertEquals("hello", read(cache.get("hello", Voice.EN_LISA, MediaType.AUDIO_WAV, synthesis("hello"))));
+		Assert.assertEquals("hello", read(cache.get("hello", Voice.EN_LISA, MediaType.AUDIO_WAV, synthesis("hello"))));
+		Assert.assertEquals(1, syntheses.get());
+		Assert.assertEquals(1, cache.getHitCount());
+
+		cache.get("hello", Voice.EN_MICHAEL, MediaType.AUDIO_WAV, synthesis("hello"));
+		cache.get("hello", Voice.EN_LISA, MediaType.AUDIO_OGG, synthesis("hello"));
+		Assert.assertEquals(3, syntheses.get());
+
+		AudioCache restarted = new AudioCache(directory, 1024);
+		Assert.assertEquals(15, restarted.getBytes());
+		Assert.assertEquals("hello",
+				read(restarted.get("hello", Voice.EN_LISA, MediaType.AUDIO_WAV, synthesis("hello"))));
+		Assert.assertEquals(3, syntheses.get());
+	}
+
+	/**
+	 * Test that the least recently used audio is evicted.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testEviction() throws IOException {
+		AudioCache cache = new AudioCache(directory, 10);
+		cache.get("aaaa", Voice.EN_LISA, MediaType.AUDIO_WAV, synthesis("aaaa"));
+		cache.get("bbbb", Voice.EN_LISA, MediaType.AUDIO_WAV, synthesis("bbbb"));
+		cache.get("aaaa", Voice.EN_LISA, MediaType.AUDIO_WAV, synthesis("aaaa"));
+		Assert.assertEquals("cccc",
+				read(cache.get("cccc", Voice.EN_LISA, MediaType.AUDIO_WAV, synthesis("cccc"))));
+
+		Assert.assertEquals(8, cache.getBytes());
+		Assert.assertEquals(2, directory.listFiles().length);
+		cache.get("aaaa", Voice.EN_LISA, MediaType.AUDIO_WAV, synthesis("aaaa"));
+		Assert.assertEquals(3, syntheses.get());
+		cache.get("bbbb", Voice.EN_LISA, MediaType.AUDIO_WAV, synthesis("bbbb"));
+		Assert.assertEquals(4, syntheses.get());
+	}
+
+	/**
+	 * Test that concurrent requests for the same audio trigger one synthesis.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void testConcurrentRequests() throws Exception {
+		final AudioCache cache = new AudioCache(directory, 1024);
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final Supplier<InputStream> slow = new Supplier<InputStream>() {
+			@Override
+			public InputStream get() {
+				syntheses.incrementAndGet();
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				return new ByteArrayInputStream("prompt".getBytes());
+			}
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> results = new ArrayList<Future<String>>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(new Callable<String>() {
+					@Override
+					public String call() throws Exception {
+						return read(cache.get("prompt", Voice.EN_LISA, MediaType.AUDIO_WAV, slow));
+					}
+				}));
+			}
+			Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+			while (cache.getCoalescedCount() + cache.getHitCount() < 7 && !allDone(results))
+				Thread.sleep(10);
+			release.countDown();
+
+			for (Future<String> result : results)
+				Assert.assertEquals("prompt", result.get(10, TimeUnit.SECONDS));
+			Assert.assertEquals(1, syntheses.get());
+			Assert.assertEquals(1, cache.getMissCount());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Test that an error thrown by the synthesis is reported to the callers
+	 * waiting for it instead of leaving them blocked.
+	 *
+	 * @throws Exception the exception
+	 */
+	@Test
+	public void testSynthesisError() throws Exception {
+		final AudioCache cache = new AudioCache(directory, 1024);
+		final CountDownLatch release = new CountDownLatch(1);
+		final Supplier<InputStream> failing = new Supplier<InputStream>() {
+			@Override
+			public InputStream get() {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				throw new OutOfMemoryError("no room for the audio");
+			}
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			List<Future<String>> results = new ArrayList<Future<String>>();
+			for (int i = 0; i < 2; i++) {
+				results.add(executor.submit(new Callable<String>() {
+					@Override
+					public String call() throws Exception {
+						return read(cache.get("prompt", Voice.EN_LISA, MediaType.AUDIO_WAV, failing));
+					}
+				}));
+			}
+			while (cache.getCoalescedCount() < 1)
+				Thread.sleep(10);
+			release.countDown();
+
+			for (Future<String> result : results) {
+				try {
+					result.get(10, TimeUnit.SECONDS);
+					Assert.fail("OutOfMemoryError expected");
+				} catch (ExecutionException e) {
+					Assert.assertTrue(e.getCause() instanceof OutOfMemoryError);
+				}
+			}
+			Assert.assertEquals(1, cache.getMissCount());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Checks if all the results are done.
+	 *
+	 * @param results the results
+	 * @return true, if all are done
+	 */
+	private static boolean allDone(List<Future<String>> results) {
+		for (Future<String> result : results) {
+			if (!result.isDone())
+				return false;
+		}
+		return true;
+	}
+}
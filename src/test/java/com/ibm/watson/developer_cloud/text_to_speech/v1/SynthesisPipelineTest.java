@@ -0,0 +1,163 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.text_to_speech.v1;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.ibm.watson.developer_cloud.text_to_speech.v1.model.Voice;
+import com.ibm.watson.developer_cloud.util.MediaType;
+
+/**
+ * The Class SynthesisPipelineTest.
+ */
+public class SynthesisPipelineTest {
+
+	/** The text. */
+	private static final String TEXT = "The first sentence is here. This is the second one. "
+			+ "And a third sentence follows it. The fourth sentence ends the text.";
+
+	/**
+	 * A service that synthesizes a WAV file whose data is the text.
+	 */
+	private static class FakeTextToSpeech extends TextToSpeech {
+
+		/** The synthesized texts. */
+		private final List<String> texts = new ArrayList<String>();
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see com.ibm.watson.developer_cloud.text_to_speech.v1.TextToSpeech#synthesizeAsync(java.lang.String,
+		 * com.ibm.watson.developer_cloud.text_to_speech.v1.model.Voice, java.lang.String)
+		 */
+		@Override
+		public synchronized ListenableFuture<InputStream> synthesizeAsync(String text, Voice voice, String format) {
+			texts.add(text);
+			return Futures.immediateFuture((InputStream) new ByteArrayInputStream(createWave(text.getBytes())));
+		}
+	}
+
+	/**
+	 * Creates a WAV file with a list chunk before the data.
+	 *
+	 * @param data the data
+	 * @return the bytes
+	 */
+	private static byte[] createWave(byte[] data) {
+		ByteBuffer wave = ByteBuffer.allocate(44 + 12 + data.length).order(ByteOrder.LITTLE_ENDIAN);
+		wave.put("RIFF".getBytes()).putInt(wave.capacity() - 8).put("WAVE".getBytes());
+		wave.put("fmt ".getBytes()).putInt(16).putShort((short) 1).putShort((short) 1).putInt(22050)
+				.putInt(44100).putShort((short) 2).putShort((short) 16);
+		wave.put("LIST".getBytes()).putInt(3).put(new byte[4]);
+		wave.put("data".getBytes()).putInt(data.length).put(data);
+		return wave.array();
+	}
+
+	/**
+	 * Test that the text is split at sentences and the first chunk is short.
+	 */
+	@Test
+	public void testSplit() {
+		List<String> chunks = SynthesisPipeline.split(TEXT, Locale.US, 80);
+		Assert.assertEquals(Arrays.asList("The first sentence is here.",
+				"This is the second one. And a third sentence follows it.",
+				"The fourth sentence ends the text."), chunks);
+	}
+
+	/**
+	 * Test that a sentence longer than the max length is split between words.
+	 */
+	@Test
+	public void testSplitLongSentence() {
+		List<String> chunks = SynthesisPipeline.split("one two three four five six seven", Locale.US, 12);
+		for (String chunk : chunks)
+			Assert.assertTrue(chunk, chunk.length() <= 12);
+		Assert.assertEquals("one two three four five six seven", join(chunks, " "));
+	}
+
+	/**
+	 * Test that SSML is split only between top level elements and every chunk
+	 * is a speak element.
+	 */
+	@Test
+	public void testSplitSsml() {
+		String ssml = "<speak version=\"1.0\">First sentence. <prosody rate=\"slow\">Slow one. Slow two.</prosody>"
+				+ " Last sentence.</speak>";
+		List<String> chunks = SynthesisPipeline.split(ssml, Locale.US, 20);
+		Assert.assertEquals(Arrays.asList("<speak version=\"1.0\">First sentence.</speak>",
+				"<speak version=\"1.0\"><prosody rate=\"slow\">Slow one. Slow two.</prosody></speak>",
+				"<speak version=\"1.0\">Last sentence.</speak>"), chunks);
+	}
+
+	/**
+	 * Test that the audio of the chunks is stitched in order into one WAV
+	 * stream.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testSynthesize() throws IOException {
+		FakeTextToSpeech service = new FakeTextToSpeech();
+		SynthesisPipeline pipeline = new SynthesisPipeline(service).withMaxChunkLength(60).withConcurrency(2);
+
+		InputStream in = pipeline.synthesize(TEXT, Voice.EN_LISA, MediaType.AUDIO_WAV);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			ByteStreams.copy(in, out);
+		} finally {
+			in.close();
+		}
+
+		Assert.assertTrue(service.texts.size() > 1);
+		ByteBuffer wave = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+		Assert.assertEquals(-1, wave.getInt(4));
+		Assert.assertEquals(-1, wave.getInt(52));
+		String data = new String(out.toByteArray(), 56, out.size() - 56);
+		Assert.assertEquals(join(service.texts, ""), data);
+	}
+
+	/**
+	 * Joins chunks.
+	 *
+	 * @param chunks the chunks
+	 * @param separator the separator
+	 * @return the text
+	 */
+	private static String join(List<String> chunks, String separator) {
+		StringBuilder text = new StringBuilder();
+		for (String chunk : chunks) {
+			if (text.length() > 0)
+				text.append(separator);
+			text.append(chunk);
+		}
+		return text.toString();
+	}
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.http.HttpEntity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * The Class AudioEntityTest. Tests the entities used to send audio without
+ * temporary files.
+ */
+public class AudioEntityTest {
+
+	/**
+	 * Creates test content.
+	 *
+	 * @param length the length
+	 * @return the bytes
+	 */
+	private static byte[] createContent(int length) {
+		byte[] content = new byte[length];
+		for (int i = 0; i < length; i++)
+			content[i] = (byte) (i * 31);
+		return content;
+	}
+
+	/**
+	 * Writes an entity to a byte array.
+	 *
+	 * @param entity the entity
+	 * @return the bytes
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private static byte[] write(HttpEntity entity) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		entity.writeTo(out);
+		return out.toByteArray();
+	}
+
+	/**
+	 * Test that a file region is sent after its prefix, repeatably.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testFileRegionEntity() throws IOException {
+		byte[] content = createContent(100000);
+		Path file = Files.createTempFile("audio", ".wav");
+		try {
+			Files.write(file, content);
+
+			FileRegionEntity whole = new FileRegionEntity(file);
+			Assert.assertTrue(whole.isRepeatable());
+			Assert.assertEquals(content.length, whole.getContentLength());
+			Assert.assertArrayEquals(content, write(whole));
+			Assert.assertArrayEquals(content, write(whole));
+
+			byte[] prefix = { 1, 2, 3 };
+			FileRegionEntity region = new FileRegionEntity(file, prefix, 1000, 5000);
+			byte[] expected = new byte[5003];
+			System.arraycopy(prefix, 0, expected, 0, 3);
+			System.arraycopy(content, 1000, expected, 3, 5000);
+			Assert.assertEquals(expected.length, region.getContentLength());
+			Assert.assertArrayEquals(expected, write(region));
+			Assert.assertArrayEquals(expected, ByteStreams.toByteArray(region.getContent()));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	/**
+	 * Test that the remaining bytes of heap and direct buffers are sent
+	 * without changing the buffer.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testByteBufferEntity() throws IOException {
+		byte[] content = createContent(20000);
+		byte[] expected = new byte[content.length - 100];
+		System.arraycopy(content, 100, expected, 0, expected.length);
+
+		ByteBuffer heap = ByteBuffer.wrap(content);
+		heap.position(100);
+		ByteBuffer direct = ByteBuffer.allocateDirect(content.length);
+		direct.put(content).position(100);
+
+		for (ByteBuffer buffer : new ByteBuffer[] { heap, direct }) {
+			ByteBufferEntity entity = new ByteBufferEntity(buffer);
+			Assert.assertTrue(entity.isRepeatable());
+			Assert.assertEquals(expected.length, entity.getContentLength());
+			Assert.assertArrayEquals(expected, write(entity));
+			Assert.assertArrayEquals(expected, ByteStreams.toByteArray(entity.getContent()));
+			Assert.assertEquals(100, buffer.position());
+		}
+	}
+}
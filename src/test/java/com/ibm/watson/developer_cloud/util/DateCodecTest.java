@@ -0,0 +1,127 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The Class DateCodecTest.
+ */
+public class DateCodecTest {
+
+	/** The number of threads of the stress test. */
+	private static final int THREADS = 8;
+
+	/** The number of dates decoded by every thread. */
+	private static final int DATES = 20000;
+
+	/** The Constant PATTERN. */
+	private static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS";
+
+	/**
+	 * Test that the dates are formatted and parsed like a SimpleDateFormat.
+	 *
+	 * @throws ParseException
+	 *             the parse exception
+	 */
+	@Test
+	public void testFormatAndParse() throws ParseException {
+		TimeZone utc = TimeZone.getTimeZone("UTC");
+		DateCodec codec = new DateCodec(PATTERN, utc);
+		SimpleDateFormat format = new SimpleDateFormat(PATTERN);
+		format.setTimeZone(utc);
+
+		Date date = new Date(1437663208123L);
+		Assert.assertEquals("2015-07-23T14:53:28.123", codec.format(date));
+		Assert.assertEquals(format.format(date), codec.format(date));
+		Assert.assertEquals(date, codec.parse("2015-07-23T14:53:28.123"));
+
+		// like DateFormat.parse(String), the rest of the text is ignored
+		Assert.assertEquals(date, codec.parse("2015-07-23T14:53:28.123Z"));
+		Assert.assertEquals(PATTERN, codec.getPattern());
+		Assert.assertEquals(utc, codec.getTimeZone());
+	}
+
+	/**
+	 * Test that a text that is not a date is not parsed.
+	 *
+	 * @throws ParseException
+	 *             the parse exception
+	 */
+	@Test(expected = ParseException.class)
+	public void testParseInvalid() throws ParseException {
+		new DateCodec(PATTERN).parse("yesterday");
+	}
+
+	/**
+	 * Test that a codec shared by many threads decodes every date correctly.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testConcurrentDecode() throws Exception {
+		final DateCodec codec = new DateCodec(PATTERN, TimeZone.getTimeZone("UTC"));
+		final String[] texts = new String[DATES];
+		final long[] expected = new long[DATES];
+		for (int i = 0; i < DATES; i++) {
+			// a different year, day, hour and millisecond for every date
+			expected[i] = 946684800000L + i * 86400000L * 7 + i * 3600123L;
+			texts[i] = codec.format(new Date(expected[i]));
+		}
+
+		final CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+			for (int t = 0; t < THREADS; t++) {
+				final int offset = t * (DATES / THREADS);
+				futures.add(executor.submit(new Callable<Integer>() {
+					@Override
+					public Integer call() throws Exception {
+						start.await();
+						int errors = 0;
+						for (int i = 0; i < DATES; i++) {
+							int index = (offset + i) % DATES;
+							if (codec.parse(texts[index]).getTime() != expected[index]
+									|| !codec.format(new Date(expected[index])).equals(texts[index]))
+								errors++;
+						}
+						return errors;
+					}
+				}));
+			}
+			start.countDown();
+			for (Future<Integer> future : futures)
+				Assert.assertEquals(0, future.get().intValue());
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
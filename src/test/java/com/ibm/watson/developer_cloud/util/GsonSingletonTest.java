@@ -0,0 +1,100 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.ibm.watson.developer_cloud.dialog.v1.model.NameValue;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.SpeechResults;
+import com.ibm.watson.developer_cloud.speech_to_text.v1.model.Transcript;
+
+/**
+ * The Class GsonSingletonTest.
+ */
+public class GsonSingletonTest {
+
+	/** The speech results sent by the service. */
+	private static final String RESULTS = "{\"results\": [{\"alternatives\": [{\"timestamps\": [[\"hello\", 0.1, 0.5], "
+			+ "[\"world\", 0.6, 1.0]], \"confidence\": 0.9, \"transcript\": \"hello world \", \"word_confidence\": "
+			+ "[[\"hello\", 0.9]]}, {\"transcript\": \"yellow world \"}], \"final\": true, \"keywords\": {}}], "
+			+ "\"result_index\": 2}";
+
+	/**
+	 * Test that the JSON is compact.
+	 */
+	@Test
+	public void testCompact() {
+		String json = GsonSingleton.getGson().toJson(new NameValue("size", "large"));
+		Assert.assertEquals("{\"name\":\"size\",\"value\":\"large\"}", json);
+	}
+
+	/**
+	 * Test that all the threads get the same gson.
+	 *
+	 * @throws Exception
+	 *             the exception
+	 */
+	@Test
+	public void testSameInstance() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Gson>> futures = new ArrayList<Future<Gson>>();
+			for (int i = 0; i < 16; i++) {
+				futures.add(executor.submit(new Callable<Gson>() {
+					@Override
+					public Gson call() {
+						return GsonSingleton.getGson();
+					}
+				}));
+			}
+			for (Future<Gson> future : futures)
+				Assert.assertSame(GsonSingleton.getGson(), future.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Test the streaming transcript adapter.
+	 */
+	@Test
+	public void testTranscript() {
+		Gson gson = GsonSingleton.getGson();
+		SpeechResults results = gson.fromJson(RESULTS, SpeechResults.class);
+		Assert.assertEquals(2, results.getResultIndex());
+
+		Transcript transcript = results.getResults().get(0);
+		Assert.assertTrue(transcript.isFinal());
+		Assert.assertEquals(2, transcript.getAlternatives().size());
+		Assert.assertEquals("hello world ", transcript.getAlternatives().get(0).getTranscript());
+		Assert.assertEquals(0.9, transcript.getAlternatives().get(0).getConfidence(), 0);
+		Assert.assertEquals("world", transcript.getAlternatives().get(0).getTimestamps().get(1).getWord());
+		Assert.assertEquals(1.0, transcript.getAlternatives().get(0).getTimestamps().get(1).getEndTime(), 0);
+		Assert.assertNull(transcript.getAlternatives().get(1).getConfidence());
+		Assert.assertNull(transcript.getAlternatives().get(1).getTimestamps());
+
+		Assert.assertEquals(transcript, gson.fromJson(gson.toJson(transcript), Transcript.class));
+	}
+}
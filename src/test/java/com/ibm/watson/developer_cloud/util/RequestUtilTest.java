@@ -15,11 +15,14 @@
  */
 package com.ibm.watson.developer_cloud.util;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.http.Consts;
 import org.apache.http.NameValuePair;
 import org.apache.http.message.BasicNameValuePair;
 import org.junit.Assert;
@@ -49,6 +52,61 @@ public class RequestUtilTest {
 		Assert.assertEquals("q=1&foo=bar",queryString);
 	}
 
+	/**
+	 * Test that names and values are encoded in the same way as
+	 * {@link URLEncoder}.
+	 *
+	 * @throws UnsupportedEncodingException the unsupported encoding exception
+	 */
+	@Test
+	public void testFormatQueryStringEncoding() throws UnsupportedEncodingException {
+		String[] values = { "Hello world, how are you today?", "a+b=c&d", "50% off", "caf\u00e9 cr\u00e8me",
+				"\u65e5\u672c\u8a9e", "emoji \ud83d\ude00!", "~'()!*-._", "" };
+		for (String value : values) {
+			List<NameValuePair> query = new ArrayList<NameValuePair>();
+			query.add(new BasicNameValuePair("text", value));
+			Assert.assertEquals("text=" + URLEncoder.encode(value, "UTF-8"),
+					RequestUtil.formatQueryString(query, "UTF-8"));
+			Assert.assertEquals("text=" + URLEncoder.encode(value, "ISO-8859-1"),
+					RequestUtil.formatQueryString(query, "ISO-8859-1"));
+		}
+	}
+
+	/**
+	 * Test that a parameter without value is formatted without "=".
+	 */
+	@Test
+	public void testFormatQueryStringWithoutValue() {
+		List<NameValuePair> query = new ArrayList<NameValuePair>();
+		query.add(new BasicNameValuePair("verbose", null));
+		query.add(new BasicNameValuePair("q", "1"));
+		Assert.assertEquals("verbose&q=1", RequestUtil.formatQueryString(query, Consts.UTF_8));
+	}
+
+	/**
+	 * Test that the query string is appended after the existing content.
+	 */
+	@Test
+	public void testAppendQueryString() {
+		List<NameValuePair> query = new ArrayList<NameValuePair>();
+		query.add(new BasicNameValuePair("q", "a b"));
+		query.add(new BasicNameValuePair("foo", "bar"));
+
+		StringBuilder url = new StringBuilder("/v1/foo?");
+		Assert.assertSame(url, RequestUtil.appendQueryString(url, query, Consts.UTF_8));
+		Assert.assertEquals("/v1/foo?q=a+b&foo=bar", url.toString());
+	}
+
+	/**
+	 * Test an unsupported encoding.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testFormatQueryStringUnsupportedEncoding() {
+		List<NameValuePair> query = new ArrayList<NameValuePair>();
+		query.add(new BasicNameValuePair("q", "1"));
+		RequestUtil.formatQueryString(query, "NOT-A-CHARSET");
+	}
+
 	/**
 	 * Test omit.
 	 */
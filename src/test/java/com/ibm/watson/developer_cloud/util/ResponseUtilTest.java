@@ -0,0 +1,135 @@
+/**
+ * Copyright 2015 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.watson.developer_cloud.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import com.ibm.watson.developer_cloud.language_translation.v2.model.TranslationModel;
+
+/**
+ * The Class ResponseUtilTest.
+ */
+public class ResponseUtilTest {
+
+	/** The models response. */
+	private static final String MODELS = "{\"other\":{\"a\":[1,2,3]},"
+			+ "\"models\":[{\"model_id\":\"en-es\",\"source\":\"en\",\"target\":\"es\"},"
+			+ "{\"model_id\":\"en-fr\",\"source\":\"en\",\"target\":\"fr\"}],"
+			+ "\"status\":\"ok\"}";
+
+	/**
+	 * Creates a response with a JSON body.
+	 *
+	 * @param json the json
+	 * @return the http response
+	 */
+	private HttpResponse createResponse(String json) {
+		HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+		response.setEntity(new StringEntity(json, ContentType.APPLICATION_JSON));
+		return response;
+	}
+
+	/**
+	 * Test get object.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testGetObject() throws IOException {
+		String json = "{\"model_id\":\"en-es\",\"source\":\"en\",\"target\":\"es\"}";
+		TranslationModel model = ResponseUtil.getObject(createResponse(json), TranslationModel.class);
+
+		Assert.assertNotNull(model);
+		Assert.assertEquals("en-es", model.getModelId());
+		Assert.assertEquals("es", model.getTarget());
+	}
+
+	/**
+	 * Test get object from a property.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testGetObjectProperty() throws IOException {
+		Type listType = new TypeToken<List<TranslationModel>>() {}.getType();
+		List<TranslationModel> models = ResponseUtil.getObject(createResponse(MODELS), "models", listType);
+
+		Assert.assertNotNull(models);
+		Assert.assertEquals(2, models.size());
+		Assert.assertEquals("en-fr", models.get(1).getModelId());
+
+		Assert.assertNull(ResponseUtil.getObject(createResponse(MODELS), "missing", listType));
+	}
+
+	/**
+	 * Test that the response stream is closed once parsed.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Test
+	public void testStreamIsConsumed() throws IOException {
+		final boolean[] closed = new boolean[1];
+		ByteArrayInputStream is = new ByteArrayInputStream(MODELS.getBytes("UTF-8")) {
+			@Override
+			public void close() throws IOException {
+				closed[0] = true;
+				super.close();
+			}
+		};
+		HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+		response.setEntity(new InputStreamEntity(is, ContentType.APPLICATION_JSON));
+
+		JsonObject object = ResponseUtil.getObject(response, JsonObject.class);
+		Assert.assertEquals("ok", object.get("status").getAsString());
+		Assert.assertTrue(closed[0]);
+	}
+
+	/**
+	 * Test empty and malformed responses.
+	 */
+	@Test
+	public void testInvalidResponses() {
+		try {
+			ResponseUtil.getJsonObject(createResponse(""));
+			Assert.fail("Empty response should fail");
+		} catch (IOException e) {
+			Assert.assertEquals("JSON response is empty", e.getMessage());
+		}
+
+		try {
+			ResponseUtil.getObject(createResponse("[1,2]"), "models", JsonObject.class);
+			Assert.fail("Non object response should fail");
+		} catch (IOException e) {
+			Assert.assertTrue(e.getMessage().startsWith("Could not parse service response"));
+		}
+	}
+
+}